@@ -25,7 +25,6 @@ import io.mosip.authentication.core.partner.dto.PartnerDTO;
 import io.mosip.kernel.core.exception.ParseException;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
-import io.mosip.kernel.core.util.HMACUtils;
 import io.mosip.kernel.core.util.UUIDUtils;
 
 /**
@@ -171,6 +170,12 @@ public class AuthTransactionBuilder {
 	 *
 	 * @param env
 	 *            the env
+	 * @param uinEncryptSaltRepo
+	 *            not used, the transaction does not store the encrypted UIN
+	 * @param uinHashSaltRepo
+	 *            not used, the ids are hashed by the security manager
+	 * @param securityManager
+	 *            the security manager
 	 * @return the instance of {@code AutnTxn}
 	 * @throws IdAuthenticationBusinessException
 	 *             the id authentication business exception
@@ -203,7 +208,7 @@ public class AuthTransactionBuilder {
 				String comment = isStatus ? requestType.getMessage() + " Success"
 						: requestType.getMessage() + " Failed";
 				AutnTxn autnTxn = new AutnTxn();
-				autnTxn.setRefId(HMACUtils.digestAsPlainText(HMACUtils.generateHash(idvId.getBytes())));
+				autnTxn.setRefId(securityManager.hashRefId(idvId));
 				autnTxn.setRefIdType(idvIdType);
 				String id = createId(token, env);
 				autnTxn.setToken(token);
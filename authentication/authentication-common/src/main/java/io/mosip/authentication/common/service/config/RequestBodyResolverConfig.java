@@ -0,0 +1,127 @@
+package io.mosip.authentication.common.service.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.common.service.filter.FilteredRequestBodyMethodProcessor;
+
+/**
+ * The configuration that registers the request mapping handler adapter, in
+ * place of the default one, whose {@code @RequestBody} argument resolver is
+ * {@link FilteredRequestBodyMethodProcessor}, so that the controllers receive
+ * the request body parsed once in the filter.
+ *
+ * @author Loganathan Sekar
+ */
+@Configuration
+public class RequestBodyResolverConfig implements WebMvcRegistrations {
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations#
+	 * getRequestMappingHandlerAdapter()
+	 */
+	@Override
+	public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+		return new FilteredRequestBodyHandlerAdapter(mapper);
+	}
+
+	/**
+	 * The request mapping handler adapter that resolves the {@code @RequestBody}
+	 * arguments with {@link FilteredRequestBodyMethodProcessor}, with the same
+	 * message converters and request and response body advice as the default
+	 * resolver.
+	 */
+	private static class FilteredRequestBodyHandlerAdapter extends RequestMappingHandlerAdapter {
+
+		/** The mapper. */
+		private final ObjectMapper mapper;
+
+		/** The request and response body advice set on the adapter. */
+		private final List<Object> requestResponseBodyAdvice = new ArrayList<>();
+
+		/**
+		 * Instantiates a new filtered request body handler adapter.
+		 *
+		 * @param mapper the mapper
+		 */
+		FilteredRequestBodyHandlerAdapter(ObjectMapper mapper) {
+			this.mapper = mapper;
+		}
+
+		@Override
+		public void setRequestBodyAdvice(List<RequestBodyAdvice> requestBodyAdvice) {
+			super.setRequestBodyAdvice(requestBodyAdvice);
+			if (requestBodyAdvice != null) {
+				requestResponseBodyAdvice.addAll(requestBodyAdvice);
+			}
+		}
+
+		@Override
+		public void setResponseBodyAdvice(List<ResponseBodyAdvice<?>> responseBodyAdvice) {
+			super.setResponseBodyAdvice(responseBodyAdvice);
+			if (responseBodyAdvice != null) {
+				requestResponseBodyAdvice.addAll(responseBodyAdvice);
+			}
+		}
+
+		/**
+		 * Initializes the adapter, replacing the default request body resolver as
+		 * part of the initialization, before the adapter is used.
+		 */
+		@Override
+		public void afterPropertiesSet() {
+			super.afterPropertiesSet();
+			List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>(getArgumentResolvers());
+			for (int i = 0; i < resolvers.size(); i++) {
+				if (resolvers.get(i).getClass().equals(RequestResponseBodyMethodProcessor.class)) {
+					resolvers.set(i, new FilteredRequestBodyMethodProcessor(getMessageConverters(),
+							getRequestResponseBodyAdvice(), mapper));
+				}
+			}
+			setArgumentResolvers(resolvers);
+		}
+
+		/**
+		 * Gets the request and response body advice in the order of the default
+		 * resolver: the controller advice beans, then the advice set on the
+		 * adapter.
+		 *
+		 * @return the request and response body advice
+		 */
+		private List<Object> getRequestResponseBodyAdvice() {
+			List<ControllerAdviceBean> adviceBeans = ControllerAdviceBean.findAnnotatedBeans(getApplicationContext());
+			AnnotationAwareOrderComparator.sort(adviceBeans);
+			List<Object> advice = new ArrayList<>();
+			for (ControllerAdviceBean adviceBean : adviceBeans) {
+				Class<?> beanType = adviceBean.getBeanType();
+				if (beanType != null && (RequestBodyAdvice.class.isAssignableFrom(beanType)
+						|| ResponseBodyAdvice.class.isAssignableFrom(beanType))) {
+					advice.add(adviceBean);
+				}
+			}
+			advice.addAll(requestResponseBodyAdvice);
+			return advice;
+		}
+
+	}
+
+}
@@ -124,6 +124,26 @@ public class AutnTxn {
 		this.entityName = entityName;
 	}
 	
+	/**
+	 * The constructor used in retrieval of the specific fields along with the
+	 * keys of the keyset pagination.
+	 *
+	 * @param requestTrnId
+	 * @param requestDTtimes
+	 * @param authTypeCode
+	 * @param statusCode
+	 * @param statusComment
+	 * @param refId
+	 * @param entityName
+	 * @param crDTimes
+	 * @param id
+	 */
+	public AutnTxn(String requestTrnId, LocalDateTime requestDTtimes, String authTypeCode, String statusCode, String statusComment, String refId, String entityName, LocalDateTime crDTimes, String id) {
+		this(requestTrnId, requestDTtimes, authTypeCode, statusCode, statusComment, refId, entityName);
+		this.crDTimes = crDTimes;
+		this.id = id;
+	}
+	
 	/**
 	 * The constructor used in retrieval of the specific fields.
 	 * 
@@ -149,11 +149,8 @@ public class AuthFacadeImpl implements AuthFacade {
 		logger.debug(IdAuthCommonConstants.SESSION_ID, "AuthFacedImpl", "authenticateIndividual: ",
 				idvIdType + "-" + idvid);
 
-		Map<String, Object> idResDTO = idService.processIdType(idvIdType, idvid,
+		Map<String, Object> idResDTO = idService.processIdTypeAndUpdateVIDstatus(idvIdType, idvid,
 				authRequestDTO.getRequestedAuth().isBio());
-		if (idvIdType.equalsIgnoreCase(IdType.VID.getType())) {
-			idService.updateVIDstatus(authRequestDTO.getIndividualId());
-		}
 		String token = idService.getToken(idResDTO);
 		validateAuthTypeStatus(authRequestDTO, token);
 		AuthResponseDTO authResponseDTO;
@@ -1,6 +1,5 @@
 package io.mosip.authentication.common.service.filter;
 
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
 import java.util.Map;
@@ -10,11 +9,13 @@ import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 
 import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
+import io.mosip.authentication.common.service.helper.JwsSignatureVerifier;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
@@ -51,6 +52,9 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 	
 	@Autowired
 	private CryptoCore cryptoCore;
+
+	/** The JWS signature verifier that caches the verified certificates. */
+	private JwsSignatureVerifier jwsSignatureVerifier;
 	
 	@Override
 	public void init(FilterConfig filterConfig) throws ServletException {
@@ -58,6 +62,13 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 		WebApplicationContext context = WebApplicationContextUtils
 				.getRequiredWebApplicationContext(filterConfig.getServletContext());
 		cryptoCore = context.getBean(CryptoCore.class);
+
+		// Signatures are verified by the crypto core without caching if the verifier is not configured
+		try {
+			jwsSignatureVerifier = context.getBean(JwsSignatureVerifier.class);
+		} catch (NoSuchBeanDefinitionException ex) {
+			//
+		}
 	}
 
 	/*
@@ -88,17 +99,12 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 	 */
 	protected void decipherAndValidateRequest(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {
-		try {
-			requestWrapper.resetInputStream();
-			Map<String, Object> decipherRequest = decipherRequest(requestBody);
-			validateDecipheredRequest(requestWrapper, decipherRequest);
-			String requestAsString = mapper.writeValueAsString(decipherRequest);
-//			mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_AUTH_FILTER, "Input Request: \n" + requestAsString);
-			requestWrapper.replaceData(requestAsString.getBytes());
-		} catch (IOException e) {
-			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_AUTH_FILTER, e.getMessage());
-			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS);
-		}
+		requestWrapper.resetInputStream();
+		Map<String, Object> decipherRequest = decipherRequest(requestBody);
+		validateDecipheredRequest(requestWrapper, decipherRequest);
+		// The deciphered request is handed over to the controllers as is, instead of
+		// writing it back to the input stream to be parsed again.
+		requestWrapper.setAttribute(IdAuthCommonConstants.REQUEST_BODY_ATTRIBUTE, decipherRequest);
 	}
 	
 	protected void verifyJwsData(String jwsSignature) throws IdAuthenticationAppException {
@@ -118,6 +124,9 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 
 	protected boolean verifySignature(String jwsSignature) {
 		try {
+			if (jwsSignatureVerifier != null) {
+				return jwsSignatureVerifier.verifySignature(jwsSignature);
+			}
 			return cryptoCore.verifySignature(jwsSignature);
 		} catch (Exception e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, "verifySignature", BASE_AUTH_FILTER, "Invalid JWS data: " + e.getMessage());
@@ -2,7 +2,9 @@ package io.mosip.authentication.common.service.filter;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -36,10 +38,15 @@ import org.springframework.http.MediaType;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.exception.IdAuthExceptionHandler;
+import io.mosip.authentication.common.service.filter.ResettableStreamHttpServletRequest.RequestBodyTooLargeException;
 import io.mosip.authentication.common.service.integration.KeyManager;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
@@ -73,6 +80,15 @@ public abstract class BaseIDAFilter implements Filter {
 	/** The Constant RES_TIME. */
 	private static final String RES_TIME = "responseTime";
 
+	/** The Constant RESPONSETIME, of the kernel error responses. */
+	private static final String RESPONSETIME = "responsetime";
+
+	/** The Constant METADATA, of the kernel error responses. */
+	private static final String METADATA = "metadata";
+
+	/** The Constant EMPTY_JSON_OBJECT. */
+	private static final String EMPTY_JSON_OBJECT = "{}";
+
 	/** The Constant BASE_IDA_FILTER. */
 	private static final String BASE_IDA_FILTER = "BaseIDAFilter";
 
@@ -137,47 +153,126 @@ public abstract class BaseIDAFilter implements Filter {
 				IdAuthCommonConstants.REQUEST + " at : " + requestTime);
 
 		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(
-				(HttpServletRequest) request);
-		CharResponseWrapper responseWrapper = new CharResponseWrapper((HttpServletResponse) response) {
+				(HttpServletRequest) request, getMaxBodySize());
+		CharResponseWrapper responseWrapper = new CharResponseWrapper((HttpServletResponse) response,
+				getStreamedContentType((HttpServletRequest) request)) {
 
 			@Override
 			public void flushBuffer() throws IOException {
 				// Avoiding flush and commit while data validation exception handling to set
 				// response header(response-signature) later in the filter.
 				// Positive response does not invoke this
-				// super.flushBuffer();
+				if (isStreamed()) {
+					super.flushBuffer();
+				}
 			}
 		};
 		try {
-			Map<String, Object> requestBody = getRequestBody(requestWrapper.getInputStream());
+			Map<String, Object> requestBody = getRequestBody(getRequestInputStream(requestWrapper));
 			if (requestBody == null) {
 				chain.doFilter(requestWrapper, responseWrapper);
-				String responseAsString = mapResponse(requestWrapper, responseWrapper, requestTime);
-				response.getWriter().write(responseAsString);
+				writeResponse(response, requestWrapper, responseWrapper, requestTime);
 				return;
 			}
 
+			requestWrapper.setAttribute(IdAuthCommonConstants.REQUEST_BODY_ATTRIBUTE, requestBody);
 			requestWrapper.resetInputStream();
 			consumeRequest(requestWrapper, requestBody);
 			requestWrapper.resetInputStream();
 			chain.doFilter(requestWrapper, responseWrapper);
-			String responseAsString = mapResponse(requestWrapper, responseWrapper, requestTime);
-			response.getWriter().write(responseAsString);
+			writeResponse(response, requestWrapper, responseWrapper, requestTime);
 		} catch (IdAuthenticationAppException  e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 					"\n" + ExceptionUtils.getStackTrace(e));
 			requestWrapper.resetInputStream();
 			sendErrorResponse(response, responseWrapper, requestWrapper, requestTime, e);
 		} finally {
-			logDataSize(responseWrapper.toString(), IdAuthCommonConstants.RESPONSE);
+			logDataSize(responseWrapper.size(), IdAuthCommonConstants.RESPONSE);
 		}
 
 	}
 
+	/**
+	 * writeResponse used to map the captured response and write it, unless the
+	 * response is streamed, in which case it is already written.
+	 *
+	 * @param response        where the response is written
+	 * @param requestWrapper  {@link ResettableStreamHttpServletRequest}
+	 * @param responseWrapper {@link CharResponseWrapper}
+	 * @param requestTime     the request time
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 * @throws IOException                  Signals that an I/O exception has
+	 *                                      occurred.
+	 */
+	private void writeResponse(ServletResponse response, ResettableStreamHttpServletRequest requestWrapper,
+			CharResponseWrapper responseWrapper, Temporal requestTime)
+			throws IdAuthenticationAppException, IOException {
+		if (responseWrapper.isStreamed()) {
+			return;
+		}
+		String responseAsString = mapResponse(requestWrapper, responseWrapper, requestTime);
+		response.getWriter().write(responseAsString);
+	}
+
+	/**
+	 * getStreamedContentType used to get the content type of the response of the
+	 * request that is streamed to the client, as it is produced, instead of being
+	 * captured to be mapped and signed. The responses of any other content type,
+	 * such as the error responses of the request, are still mapped and signed.
+	 * <p>
+	 * The streamed response is not signed, as the signature header would have to
+	 * be set before any of the response is written.
+	 *
+	 * @param request the request
+	 * @return the streamed content type, or null if the response is not streamed
+	 */
+	protected String getStreamedContentType(HttpServletRequest request) {
+		return null;
+	}
+
+	/**
+	 * getMaxBodySize used to get the configured max size of the request body in
+	 * bytes.
+	 *
+	 * @return the max body size
+	 */
+	private long getMaxBodySize() {
+		return env.getProperty(IdAuthConfigKeyConstants.REQUEST_MAX_BODY_SIZE, Long.class,
+				IdAuthCommonConstants.DEFAULT_REQUEST_MAX_BODY_SIZE);
+	}
+
+	/**
+	 * getRequestInputStream used to get the input stream of the request, rejecting
+	 * the request if its body exceeds the max body size.
+	 *
+	 * @param requestWrapper {@link ResettableStreamHttpServletRequest}
+	 * @return the request input stream
+	 * @throws IOException                  Signals that an I/O exception has
+	 *                                      occurred.
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private InputStream getRequestInputStream(ResettableStreamHttpServletRequest requestWrapper)
+			throws IOException, IdAuthenticationAppException {
+		try {
+			return requestWrapper.getInputStream();
+		} catch (RequestBodyTooLargeException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER, e.getMessage());
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.REQUEST_SIZE_EXCEEDED.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.REQUEST_SIZE_EXCEEDED.getErrorMessage(),
+							e.getMaxBodySize()),
+					e);
+		}
+	}
+
 	/**
 	 * sendErrorResponse method is used to construct error response when any
 	 * exception is thrown while deciphering or validating the authenticating
 	 * partner .
+	 * <p>
+	 * The error response is converted to a map for
+	 * {@link #transformResponse(Map)} and serialized once for both the signature
+	 * and the response written, unless the signing fails and the error for it
+	 * has to be added.
 	 *
 	 * @param response        where the response is written
 	 * @param responseWrapper {@link CharResponseWrapper}
@@ -197,8 +292,7 @@ public abstract class BaseIDAFilter implements Filter {
 		Map<String, Object> requestMap = null;
 		try {
 			responseMap = transformResponse(responseMap);
-			requestMap = getRequestBody(requestWrapper.getInputStream());
-			requestWrapper.resetInputStream();
+			requestMap = getParsedRequestBody(requestWrapper);
 		} catch (IdAuthenticationAppException e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 					"Cannot log time \n" + ExceptionUtils.getStackTrace(e));
@@ -230,9 +324,10 @@ public abstract class BaseIDAFilter implements Filter {
 		requestWrapper.resetInputStream();
 		responseMap.replace(VERSION,
 				env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_VERSION)));
+		String responseAsString = mapper.writeValueAsString(responseMap);
 		try {
 			responseWrapper.setHeader(env.getProperty(IdAuthConfigKeyConstants.SIGN_RESPONSE),
-					keyManager.signResponse(mapper.writeValueAsString(responseMap)));
+					keyManager.signResponse(responseAsString));
 		} catch (IdAuthenticationAppException e) {
 			if (responseMap.containsKey(IdAuthCommonConstants.ERRORS)
 					&& responseMap.get(IdAuthCommonConstants.ERRORS) instanceof List) {
@@ -246,13 +341,12 @@ public abstract class BaseIDAFilter implements Filter {
 				if (!hasUnableToProcessError) {
 					AuthError authError = new AuthError(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(),
 							IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorMessage());
-					String errStr = mapper.writeValueAsString(authError);
-					errors.add(mapper.readValue(errStr.getBytes(), Map.class));
+					errors.add(mapper.convertValue(authError, Map.class));
+					responseAsString = mapper.writeValueAsString(responseMap);
 				}
 			}
 		}
 
-		String responseAsString = mapper.writeValueAsString(responseMap);
 		response.getWriter().write(responseAsString);
 		responseWrapper.setResponse(response);
 		responseWrapper.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
@@ -277,11 +371,11 @@ public abstract class BaseIDAFilter implements Filter {
 	/**
 	 * logDataSize method is used to log the size of the request and response data
 	 *
-	 * @param data the request or response boby
+	 * @param dataSize the size of the request or response boby
 	 * @param type wither request or response
 	 */
-	private void logDataSize(String data, String type) {
-		double size = ((double) data.length()) / 1024;
+	private void logDataSize(int dataSize, String type) {
+		double size = ((double) dataSize) / 1024;
 		mosipLogger.info(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 				"Data size of " + type + " : " + ((size > 0) ? size : 1) + " kb");
 	}
@@ -321,8 +415,8 @@ public abstract class BaseIDAFilter implements Filter {
 	 * @throws IdAuthenticationAppException the id authentication app exception
 	 */
 	@SuppressWarnings("unchecked")
-	private Map<String, Object> getResponseBody(String responseBody) throws IdAuthenticationAppException {
-		if (responseBody != null && !responseBody.isEmpty()) {
+	private Map<String, Object> getResponseBody(byte[] responseBody) throws IdAuthenticationAppException {
+		if (responseBody != null && responseBody.length > 0) {
 			try {
 				return mapper.readValue(responseBody, Map.class);
 			} catch (IOException | ClassCastException e) {
@@ -347,9 +441,7 @@ public abstract class BaseIDAFilter implements Filter {
 	protected void consumeRequest(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {
 		try {
-			byte[] requestAsByte = IOUtils.toByteArray(requestWrapper.getInputStream());
-			logDataSize(new String(requestAsByte), IdAuthCommonConstants.REQUEST);
-			requestWrapper.resetInputStream();
+			logDataSize(requestWrapper.getContentSize(), IdAuthCommonConstants.REQUEST);
 			validateRequest(requestWrapper, requestBody);
 		} catch (IOException e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER, e.getMessage());
@@ -462,6 +554,15 @@ public abstract class BaseIDAFilter implements Filter {
 	/**
 	 * mapResponse method is used to construct the response for the successful
 	 * authentication.
+	 * <p>
+	 * Unless the filter maps the response (see {@link #isResponseMapped()}), the
+	 * response written by the controller is copied token by token to the final
+	 * response, replacing the id, version, responseTime and transactionID as they
+	 * are copied, without building a map of the response. Otherwise the response
+	 * is parsed into a map, as the subclass filters change it through
+	 * {@link #setResponseParams(Map, Map)} and {@link #transformResponse(Map)},
+	 * and serialized once. Either way the signature is computed on the final
+	 * string, which is then written as is.
 	 *
 	 * @param requestWrapper  {@link ResettableStreamHttpServletRequest}
 	 * @param responseWrapper {@link CharResponseWrapper}
@@ -472,13 +573,13 @@ public abstract class BaseIDAFilter implements Filter {
 	@SuppressWarnings("unchecked")
 	protected String mapResponse(ResettableStreamHttpServletRequest requestWrapper, CharResponseWrapper responseWrapper,
 			Temporal requestTime) throws IdAuthenticationAppException {
-		String respStr = responseWrapper.toString();
 		try {
-			requestWrapper.resetInputStream();
-			Map<String, Object> requestBody = getRequestBody(requestWrapper.getInputStream());
+			Map<String, Object> requestBody = getParsedRequestBody(requestWrapper);
+			if (!isResponseMapped()) {
+				return copyResponse(requestWrapper, responseWrapper, requestBody, requestTime);
+			}
 			Map<String, Object> responseMap = setResponseParams(requestBody,
-					getResponseBody(respStr));
-			requestWrapper.resetInputStream();
+					getResponseBody(responseWrapper.toByteArray()));
 			addIdAndVersionToRespons(requestWrapper, responseMap);
 			if (responseMap.containsKey(ERRORS)) {
 				List<AuthError> errorList = responseMap.get(ERRORS) instanceof List
@@ -488,17 +589,181 @@ public abstract class BaseIDAFilter implements Filter {
 					responseMap.put(ERRORS, null);
 				}
 			}
-			String responseAsString = mapper.writeValueAsString(transformResponse(responseMap));
+			Map<String, Object> transformedResponse = transformResponse(responseMap);
+			// The signature is computed on the same string that is written to the response
+			String responseAsString = mapper.writeValueAsString(transformedResponse);
 			responseWrapper.setHeader(env.getProperty(IdAuthConfigKeyConstants.SIGN_RESPONSE),
 					keyManager.signResponse(responseAsString));
-			logTime((String) getResponseBody(responseAsString).get(RES_TIME), IdAuthCommonConstants.RESPONSE,
-					requestTime);
+			logTime((String) transformedResponse.get(RES_TIME), IdAuthCommonConstants.RESPONSE, requestTime);
 			return responseAsString;
 		} catch (IdAuthenticationAppException | IOException e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER, e.getMessage());
 			//throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
-			return respStr;
+			return responseWrapper.toString();
+		}
+	}
+
+	/**
+	 * Checks if the response of the filter is parsed into a map to be changed by
+	 * {@link #setResponseParams(Map, Map)}, {@link #transformResponse(Map)} or
+	 * {@link #addIdAndVersionToRespons(ResettableStreamHttpServletRequest, Map)}.
+	 * The filters overriding them to change the response return true.
+	 *
+	 * @return true, if the response is mapped
+	 */
+	protected boolean isResponseMapped() {
+		return false;
+	}
+
+	/**
+	 * Copies the response written by the controller to the final response in a
+	 * single pass, setting the same fields as
+	 * {@link #setResponseParams(Map, Map)} and
+	 * {@link #addIdAndVersionToRespons(ResettableStreamHttpServletRequest, Map)}
+	 * and nulling the empty errors. The replaced fields keep their position and
+	 * the missing ones are appended, as in the map of the response.
+	 *
+	 * @param requestWrapper  {@link ResettableStreamHttpServletRequest}
+	 * @param responseWrapper {@link CharResponseWrapper}
+	 * @param requestBody     the request body
+	 * @param requestTime     the request time
+	 * @return the string response finally built
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 * @throws IOException                  Signals that an I/O exception has
+	 *                                      occurred.
+	 */
+	private String copyResponse(ResettableStreamHttpServletRequest requestWrapper, CharResponseWrapper responseWrapper,
+			Map<String, Object> requestBody, Temporal requestTime) throws IdAuthenticationAppException, IOException {
+		Object transactionId = Objects.nonNull(requestBody) ? requestBody.get(IdAuthCommonConstants.TRANSACTION_ID)
+				: null;
+		ZoneId zone = getRequestZone(requestBody);
+		String version = env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_VERSION));
+		requestWrapper.resetInputStream();
+		String id = env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_ID));
+
+		byte[] responseBody = responseWrapper.toByteArray();
+		String responseTime = null;
+		boolean hasResponseTime = false;
+		boolean hasVersion = false;
+		boolean hasId = false;
+		StringWriter writer = new StringWriter(responseBody.length + 256);
+		try (JsonParser parser = mapper.getFactory().createParser(responseBody.length > 0 ? responseBody
+				: EMPTY_JSON_OBJECT.getBytes(StandardCharsets.UTF_8));
+				JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Response is not a JSON object");
+			}
+			generator.writeStartObject();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (name.equals(IdAuthCommonConstants.TRANSACTION_ID) && Objects.nonNull(transactionId)) {
+					parser.skipChildren();
+					generator.writeObjectField(name, transactionId);
+				} else if (name.equals(RES_TIME)) {
+					hasResponseTime = true;
+					responseTime = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+					if (zone != null) {
+						parser.skipChildren();
+						responseTime = formatResponseTime(responseTime, zone);
+						generator.writeStringField(name, responseTime);
+					} else {
+						generator.writeFieldName(name);
+						generator.copyCurrentStructure(parser);
+					}
+				} else if (zone != null && (name.equals(RESPONSETIME) || name.equals(METADATA))) {
+					parser.skipChildren();
+				} else if (name.equals(VERSION)) {
+					hasVersion = true;
+					parser.skipChildren();
+					generator.writeStringField(name, version);
+				} else if (name.equals(IdAuthCommonConstants.ID)) {
+					hasId = true;
+					parser.skipChildren();
+					generator.writeStringField(name, id);
+				} else if (name.equals(ERRORS)) {
+					generator.writeFieldName(name);
+					copyErrors(parser, generator);
+				} else {
+					generator.writeFieldName(name);
+					generator.copyCurrentStructure(parser);
+				}
+			}
+			if (zone != null && !hasResponseTime) {
+				responseTime = formatResponseTime(null, zone);
+				generator.writeStringField(RES_TIME, responseTime);
+			}
+			if (!hasVersion) {
+				generator.writeStringField(VERSION, version);
+			}
+			if (!hasId) {
+				generator.writeStringField(IdAuthCommonConstants.ID, id);
+			}
+			generator.writeEndObject();
+		}
+		String responseAsString = writer.toString();
+		responseWrapper.setHeader(env.getProperty(IdAuthConfigKeyConstants.SIGN_RESPONSE),
+				keyManager.signResponse(responseAsString));
+		logTime(responseTime, IdAuthCommonConstants.RESPONSE, requestTime);
+		return responseAsString;
+	}
+
+	/**
+	 * Copies the errors of the response, writing null for the empty or invalid
+	 * errors.
+	 *
+	 * @param parser    the parser at the errors value
+	 * @param generator the generator
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static void copyErrors(JsonParser parser, JsonGenerator generator) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			generator.writeNull();
+			return;
+		}
+		JsonToken token = parser.nextToken();
+		if (token == JsonToken.END_ARRAY) {
+			generator.writeNull();
+			return;
+		}
+		generator.writeStartArray();
+		while (token != JsonToken.END_ARRAY) {
+			generator.copyCurrentStructure(parser);
+			token = parser.nextToken();
+		}
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Gets the time zone of the request time, to which the response time is
+	 * converted.
+	 *
+	 * @param requestBody the request body
+	 * @return the zone, or null if the request has no valid request time
+	 */
+	private ZoneId getRequestZone(Map<String, Object> requestBody) {
+		if (Objects.nonNull(requestBody) && Objects.nonNull(requestBody.get(IdAuthCommonConstants.REQ_TIME))
+				&& isDate((String) requestBody.get(IdAuthCommonConstants.REQ_TIME))) {
+			return ZonedDateTime.parse((CharSequence) requestBody.get(IdAuthCommonConstants.REQ_TIME)).getZone();
 		}
+		return null;
+	}
+
+	/**
+	 * Formats the response time in the time zone of the request.
+	 *
+	 * @param responseTime the response time, or null for the current time
+	 * @param zone         the zone
+	 * @return the formatted response time
+	 */
+	private String formatResponseTime(String responseTime, ZoneId zone) {
+		String time = Objects.nonNull(responseTime) ? responseTime
+				: DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime());
+		return DateUtils.formatDate(
+				DateUtils.parseToDate(time, env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN),
+						TimeZone.getTimeZone(zone)),
+				env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN), TimeZone.getTimeZone(zone));
 	}
 
 	protected void addIdAndVersionToRespons(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> responseMap) {
@@ -525,22 +790,14 @@ public abstract class BaseIDAFilter implements Filter {
 					requestBody.get(IdAuthCommonConstants.TRANSACTION_ID));
 		}
 
-		if (Objects.nonNull(requestBody) && Objects.nonNull(requestBody.get(IdAuthCommonConstants.REQ_TIME))
-				&& isDate((String) requestBody.get(IdAuthCommonConstants.REQ_TIME))) {
-			ZoneId zone = ZonedDateTime.parse((CharSequence) requestBody.get(IdAuthCommonConstants.REQ_TIME)).getZone();
-
-			String responseTime = Objects.nonNull(responseBody.get(RES_TIME)) ? (String) responseBody.get(RES_TIME)
-					: DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime());
-			responseBody.remove("responsetime");// Handled for forbidden error scenario
-			responseBody.remove("metadata");// Handled for forbidden error scenario
-			responseBody.put(RES_TIME,
-					DateUtils.formatDate(DateUtils.parseToDate(responseTime,
-							env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN), TimeZone.getTimeZone(zone)),
-							env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN), TimeZone.getTimeZone(zone)));
-			return responseBody;
-		} else {
-			return responseBody;
+		ZoneId zone = getRequestZone(requestBody);
+		if (zone != null) {
+			String responseTime = (String) responseBody.get(RES_TIME);
+			responseBody.remove(RESPONSETIME);// Handled for forbidden error scenario
+			responseBody.remove(METADATA);// Handled for forbidden error scenario
+			responseBody.put(RES_TIME, formatResponseTime(responseTime, zone));
 		}
+		return responseBody;
 	}
 
 	/**
@@ -575,6 +832,33 @@ public abstract class BaseIDAFilter implements Filter {
 		}
 	}
 
+	/**
+	 * getParsedRequestBody used to get the request body parsed once in
+	 * {@link #doFilter}, which is deciphered in place by the auth filters. Falls
+	 * back to parsing the input stream when it is not available.
+	 *
+	 * @param requestWrapper {@link ResettableStreamHttpServletRequest}
+	 * @return the request body
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<String, Object> getParsedRequestBody(ResettableStreamHttpServletRequest requestWrapper)
+			throws IdAuthenticationAppException {
+		Object requestBody = requestWrapper.getAttribute(IdAuthCommonConstants.REQUEST_BODY_ATTRIBUTE);
+		if (requestBody instanceof Map) {
+			return (Map<String, Object>) requestBody;
+		}
+		try {
+			requestWrapper.resetInputStream();
+			Map<String, Object> parsedRequestBody = getRequestBody(requestWrapper.getInputStream());
+			requestWrapper.resetInputStream();
+			return parsedRequestBody;
+		} catch (IOException e) {
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(),
+					IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorMessage(), e);
+		}
+	}
+
 	/**
 	 * To validate a string whether its a date or not.
 	 *
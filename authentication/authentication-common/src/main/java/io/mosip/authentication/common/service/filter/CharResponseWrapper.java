@@ -13,26 +13,75 @@ import javax.servlet.http.HttpServletResponseWrapper;
 /**
  * The response wrapper used in Auth filter to capture the response body in the
  * filter.
+ * <p>
+ * If a streamed content type is given, the response body is written through to
+ * the wrapped response once the handler sets that content type, and only the
+ * responses of any other type, such as the error responses, are captured.
  *
  * @author Loganathan Sekar
  */
 class CharResponseWrapper extends HttpServletResponseWrapper {
 
+	/** The Constant DEFAULT_BUFFER_SIZE. */
+	private static final int DEFAULT_BUFFER_SIZE = 4 * 1024;
+
 	/** The output. */
 	private ByteArrayOutputStream output;
 
 	/** The closed. */
 	private boolean closed;
 
+	/** The servlet output stream. */
+	private ServletOutputStream outputStream;
+
+	/** The writer. */
+	private PrintWriter writer;
+
+	/** The content type of the response written through, if any. */
+	private final String streamedContentType;
+
+	/** The flag to indicate that the response is written through. */
+	private boolean streamed;
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see java.lang.Object#toString()
 	 */
 	public String toString() {
+		flushWriter();
 		return output.toString();
 	}
 
+	/**
+	 * Gets the captured response body bytes.
+	 *
+	 * @return the byte array
+	 */
+	public byte[] toByteArray() {
+		flushWriter();
+		return output.toByteArray();
+	}
+
+	/**
+	 * Gets the size of the captured response body in bytes.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		flushWriter();
+		return output.size();
+	}
+
+	/**
+	 * Flushes the cached writer, if any, to the captured output.
+	 */
+	private void flushWriter() {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
 	/**
 	 * Instantiates a new char response wrapper.
 	 *
@@ -43,8 +92,49 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 	 */
 	public CharResponseWrapper(HttpServletResponse response)
 			throws IOException {
+		this(response, null);
+	}
+
+	/**
+	 * Instantiates a new char response wrapper that writes the response of the
+	 * streamed content type through to the wrapped response.
+	 *
+	 * @param response
+	 *            the response
+	 * @param streamedContentType
+	 *            the streamed content type, or null to capture all the
+	 *            responses
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public CharResponseWrapper(HttpServletResponse response, String streamedContentType)
+			throws IOException {
 		super(response);
-		this.output = new ByteArrayOutputStream();
+		this.output = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+		this.streamedContentType = streamedContentType;
+	}
+
+	/**
+	 * Checks if the response is written through to the wrapped response.
+	 *
+	 * @return true, if is streamed
+	 */
+	public boolean isStreamed() {
+		return streamed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see javax.servlet.ServletResponseWrapper#setContentType(java.lang.String)
+	 */
+	@Override
+	public void setContentType(String type) {
+		super.setContentType(type);
+		if (streamedContentType != null && type != null && outputStream == null && writer == null
+				&& type.startsWith(streamedContentType)) {
+			streamed = true;
+		}
 	}
 
 	/*
@@ -52,8 +142,11 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 	 * 
 	 * @see javax.servlet.ServletResponseWrapper#getWriter()
 	 */
-	public PrintWriter getWriter() {
-		return new PrintWriter(new OutputStreamWriter(output));
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			writer = streamed ? super.getWriter() : new PrintWriter(new OutputStreamWriter(output));
+		}
+		return writer;
 	}
 
 	/*
@@ -63,6 +156,18 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 	 */
 	@Override
 	public ServletOutputStream getOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = streamed ? super.getOutputStream() : createOutputStream();
+		}
+		return outputStream;
+	}
+
+	/**
+	 * Creates the servlet output stream that captures the response body.
+	 *
+	 * @return the servlet output stream
+	 */
+	private ServletOutputStream createOutputStream() {
 		return new ServletOutputStream() {
 
 			@Override
@@ -70,6 +175,11 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 				output.write(b);
 			}
 
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				output.write(b, off, len);
+			}
+
 			@Override
 			public void setWriteListener(WriteListener listener) {
 			    //override method
@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.filter;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,12 +9,25 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.WebApplicationContextUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
 
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
-import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
 import io.mosip.kernel.core.util.StringUtils;
 import io.netty.handler.codec.http.HttpMethod;
 
@@ -24,6 +38,26 @@ import io.netty.handler.codec.http.HttpMethod;
  */
 @Component
 public class DefaultInternalFilter extends IdAuthFilter {
+
+	/** The Constant REQUEST_MAPPING_HANDLER_MAPPING, the bean name of the handler mapping of the controllers. */
+	private static final String REQUEST_MAPPING_HANDLER_MAPPING = "requestMappingHandlerMapping";
+
+	/** The handler mapping to find the handler of the request. */
+	private HandlerMapping handlerMapping;
+
+	@Override
+	public void init(FilterConfig filterConfig) throws ServletException {
+		super.init(filterConfig);
+		WebApplicationContext context = WebApplicationContextUtils
+				.getRequiredWebApplicationContext(filterConfig.getServletContext());
+
+		// The responses are not streamed if the handler of the request cannot be found
+		try {
+			handlerMapping = context.getBean(REQUEST_MAPPING_HANDLER_MAPPING, HandlerMapping.class);
+		} catch (NoSuchBeanDefinitionException ex) {
+			//
+		}
+	}
 	
 	/* (non-Javadoc)
 	 * @see io.mosip.authentication.common.service.filter.BaseAuthFilter#decipherAndValidateRequest(io.mosip.authentication.common.service.filter.ResettableStreamHttpServletRequest, java.util.Map)
@@ -37,10 +71,10 @@ public class DefaultInternalFilter extends IdAuthFilter {
 	 * (non-Javadoc)
 	 * 
 	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#
-	 * checkAllowedAuthTypeBasedOnPolicy(java.util.Map, java.util.List)
+	 * checkAllowedAuthTypeBasedOnPolicy(java.util.Map, io.mosip.authentication.core.partner.policy.PolicyEvaluator)
 	 */
 	@Override
-	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
+	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, PolicyEvaluator policyEvaluator)
 			throws IdAuthenticationAppException {
 		// Nothing to do
 	}
@@ -72,14 +106,48 @@ public class DefaultInternalFilter extends IdAuthFilter {
 	 * (non-Javadoc)
 	 * 
 	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#
-	 * checkMandatoryAuthTypeBasedOnPolicy(java.util.Map, java.util.List)
+	 * checkMandatoryAuthTypeBasedOnPolicy(java.util.Map, io.mosip.authentication.core.partner.policy.PolicyEvaluator)
 	 */
 	@Override
 	protected void checkMandatoryAuthTypeBasedOnPolicy(Map<String, Object> requestBody,
-			List<AuthPolicy> mandatoryAuthPolicies) throws IdAuthenticationAppException {
+			PolicyEvaluator policyEvaluator) throws IdAuthenticationAppException {
 		// Nothing to do
 	}
 
+	/**
+	 * Gets the NDJSON content type if the handler the request is mapped to, as
+	 * negotiated with its accept header, produces NDJSON. The handler is looked
+	 * up only for the GET requests accepting NDJSON.
+	 *
+	 * @param request the request
+	 * @return the streamed content type, or null if the response is not streamed
+	 */
+	@Override
+	protected String getStreamedContentType(HttpServletRequest request) {
+		if (handlerMapping == null || !HttpMethod.GET.name().equals(request.getMethod())) {
+			return null;
+		}
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		if (accept == null || !accept.toLowerCase().contains(IdAuthCommonConstants.NDJSON_MEDIA_TYPE)) {
+			return null;
+		}
+		try {
+			HandlerExecutionChain handlerChain = handlerMapping.getHandler(request);
+			if (handlerChain != null && handlerChain.getHandler() instanceof HandlerMethod) {
+				RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(
+						((HandlerMethod) handlerChain.getHandler()).getMethod(), RequestMapping.class);
+				if (requestMapping != null
+						&& Arrays.asList(requestMapping.produces()).contains(IdAuthCommonConstants.NDJSON_MEDIA_TYPE)) {
+					return IdAuthCommonConstants.NDJSON_MEDIA_TYPE;
+				}
+			}
+		} catch (Exception e) {
+			// The request is not mapped, which the dispatcher servlet reports in the
+			// captured response
+		}
+		return null;
+	}
+
 	@Override
 	protected String fetchId(ResettableStreamHttpServletRequest requestWrapper, String attribute) {
 		String id = null;
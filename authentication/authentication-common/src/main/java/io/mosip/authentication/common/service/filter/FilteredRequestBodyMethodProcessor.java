@@ -0,0 +1,164 @@
+package io.mosip.authentication.common.service.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+
+/**
+ * The resolver for {@code @RequestBody} arguments that converts the request
+ * body already parsed (and deciphered) by {@link BaseIDAFilter} to the argument
+ * type, instead of parsing the request input stream again. Requests that did
+ * not pass through the filter are read with the message converters as usual.
+ * <p>
+ * The {@link RequestBodyAdvice} beans applicable to the argument are applied
+ * to the filtered body as well, as they are when the body is read with the
+ * message converters.
+ *
+ * @author Loganathan Sekar
+ */
+public class FilteredRequestBodyMethodProcessor extends RequestResponseBodyMethodProcessor {
+
+	/** The Constant CONVERTER_TYPE, the converter the filtered body is read as. */
+	private static final Class<? extends HttpMessageConverter<?>> CONVERTER_TYPE = MappingJackson2HttpMessageConverter.class;
+
+	/** The mapper. */
+	private final ObjectMapper mapper;
+
+	/** The request and response body advice. */
+	private final List<Object> requestResponseBodyAdvice;
+
+	/**
+	 * Instantiates a new filtered request body method processor.
+	 *
+	 * @param converters                the message converters
+	 * @param requestResponseBodyAdvice the request and response body advice
+	 * @param mapper                    the mapper
+	 */
+	public FilteredRequestBodyMethodProcessor(List<HttpMessageConverter<?>> converters,
+			List<Object> requestResponseBodyAdvice, ObjectMapper mapper) {
+		super(converters, requestResponseBodyAdvice);
+		this.mapper = mapper;
+		this.requestResponseBodyAdvice = requestResponseBodyAdvice == null ? new ArrayList<>()
+				: new ArrayList<>(requestResponseBodyAdvice);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.web.servlet.mvc.method.annotation.
+	 * RequestResponseBodyMethodProcessor#readWithMessageConverters(org.
+	 * springframework.web.context.request.NativeWebRequest,
+	 * org.springframework.core.MethodParameter, java.lang.reflect.Type)
+	 */
+	@Override
+	protected <T> Object readWithMessageConverters(NativeWebRequest webRequest, MethodParameter parameter,
+			Type paramType) throws IOException, HttpMediaTypeNotSupportedException, HttpMessageNotReadableException {
+		Object requestBody = webRequest.getAttribute(IdAuthCommonConstants.REQUEST_BODY_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+		if (requestBody instanceof Map && !String.class.equals(parameter.getNestedParameterType())) {
+			Type targetType = GenericTypeResolver.resolveType(paramType, parameter.getContainingClass());
+			JavaType javaType = mapper.getTypeFactory().constructType(targetType);
+			List<RequestBodyAdvice> advice = getRequestBodyAdvice(parameter, targetType);
+			try {
+				if (advice.isEmpty()) {
+					return mapper.convertValue(requestBody, javaType);
+				}
+				return readWithAdvice(webRequest, parameter, targetType, javaType, requestBody, advice);
+			} catch (IllegalArgumentException e) {
+				throw new HttpMessageNotReadableException("JSON conversion error: " + e.getMessage(), e.getCause());
+			}
+		}
+		return super.readWithMessageConverters(webRequest, parameter, paramType);
+	}
+
+	/**
+	 * Reads the filtered body through the request body advice, which may replace
+	 * the body before it is read and the argument after.
+	 *
+	 * @param webRequest  the web request
+	 * @param parameter   the parameter
+	 * @param targetType  the target type
+	 * @param javaType    the java type
+	 * @param requestBody the filtered request body
+	 * @param advice      the applicable request body advice
+	 * @return the argument
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Object readWithAdvice(NativeWebRequest webRequest, MethodParameter parameter, Type targetType,
+			JavaType javaType, Object requestBody, List<RequestBodyAdvice> advice) throws IOException {
+		HttpHeaders headers = new ServletServerHttpRequest(webRequest.getNativeRequest(HttpServletRequest.class))
+				.getHeaders();
+		byte[] body = mapper.writeValueAsBytes(requestBody);
+		HttpInputMessage inputMessage = new HttpInputMessage() {
+			@Override
+			public InputStream getBody() {
+				return new ByteArrayInputStream(body);
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+		};
+		for (RequestBodyAdvice bodyAdvice : advice) {
+			inputMessage = bodyAdvice.beforeBodyRead(inputMessage, parameter, targetType, CONVERTER_TYPE);
+		}
+		Object argument = mapper.readValue(inputMessage.getBody(), javaType);
+		for (RequestBodyAdvice bodyAdvice : advice) {
+			argument = bodyAdvice.afterBodyRead(argument, inputMessage, parameter, targetType, CONVERTER_TYPE);
+		}
+		return argument;
+	}
+
+	/**
+	 * Gets the request body advice applicable to the parameter, in order.
+	 *
+	 * @param parameter  the parameter
+	 * @param targetType the target type
+	 * @return the request body advice
+	 */
+	private List<RequestBodyAdvice> getRequestBodyAdvice(MethodParameter parameter, Type targetType) {
+		List<RequestBodyAdvice> applicableAdvice = new ArrayList<>();
+		for (Object advice : requestResponseBodyAdvice) {
+			if (advice instanceof ControllerAdviceBean) {
+				ControllerAdviceBean adviceBean = (ControllerAdviceBean) advice;
+				if (!adviceBean.isApplicableToBeanType(parameter.getContainingClass())) {
+					continue;
+				}
+				advice = adviceBean.resolveBean();
+			}
+			if (advice instanceof RequestBodyAdvice
+					&& ((RequestBodyAdvice) advice).supports(parameter, targetType, CONVERTER_TYPE)) {
+				applicableAdvice.add((RequestBodyAdvice) advice);
+			}
+		}
+		return applicableAdvice;
+	}
+
+}
@@ -31,7 +31,6 @@ import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.FMR
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,6 +38,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -54,6 +54,7 @@ import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import io.mosip.authentication.common.service.helper.BioDecipherExecutor;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
@@ -63,10 +64,11 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthTypeDTO;
 import io.mosip.authentication.core.indauth.dto.BioIdentityInfoDTO;
 import io.mosip.authentication.core.indauth.dto.DigitalId;
-import io.mosip.authentication.core.partner.dto.AuthPolicy;
-import io.mosip.authentication.core.partner.dto.KYCAttributes;
 import io.mosip.authentication.core.partner.dto.PartnerPolicyResponseDTO;
 import io.mosip.authentication.core.partner.dto.PolicyDTO;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.MandatoryAuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.PolicyAuthType;
 import io.mosip.authentication.core.spi.indauth.match.MatchType;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
 import io.mosip.authentication.core.util.BytesUtil;
@@ -89,6 +91,9 @@ public class IdAuthFilter extends BaseAuthFilter {
 	
 	private static final String TRANSACTION_ID = "transactionId";
 	protected PartnerService partnerService;
+
+	/** The executor for deciphering the biometric segments in parallel. */
+	protected BioDecipherExecutor bioDecipherExecutor;
 	
 	@Override
 	public void init(FilterConfig filterConfig) throws ServletException {
@@ -102,6 +107,13 @@ public class IdAuthFilter extends BaseAuthFilter {
 		 }catch(NoSuchBeanDefinitionException ex) {
 		  //
 		 }
+
+		// Biometric segments are deciphered sequentially if the executor is not configured
+		try {
+			bioDecipherExecutor = context.getBean(BioDecipherExecutor.class);
+		} catch (NoSuchBeanDefinitionException ex) {
+			//
+		}
 	}
 	
 	/*
@@ -161,30 +173,54 @@ public class IdAuthFilter extends BaseAuthFilter {
 		Object biometrics = request.get(BIOMETRICS);
 		if (Objects.nonNull(biometrics) && biometrics instanceof List) {
 			List<Object> bioIdentity = (List<Object>) biometrics;
-			List<Object> bioIdentityInfo = new ArrayList<>();
+			List<Callable<Map<String, Object>>> decipherTasks = new ArrayList<>();
 			for (int i = 0; i < bioIdentity.size(); i++) {
 				Object obj = bioIdentity.get(i);
 				if (obj instanceof Map) {
-					bioIdentityInfo.add(decipherBioData(obj, i));
+					int index = i;
+					validateBioSegment((Map<String, Object>) obj, index);
+					decipherTasks.add(() -> decipherBioData(obj, index));
 				}
 			}
-			request.replace(BIOMETRICS, bioIdentityInfo);
+			request.replace(BIOMETRICS, new ArrayList<Object>(decipherBioSegments(decipherTasks)));
 		}
 	}
 
 	/**
-	 * Decipher bio data.
+	 * Deciphers the biometric segments, in parallel when the executor is
+	 * available.
 	 *
-	 * @param obj the obj
-	 * @param index 
-	 * @return the map
+	 * @param decipherTasks the decipher tasks
+	 * @return the deciphered segments in the order of the tasks
 	 * @throws IdAuthenticationAppException the id authentication app exception
 	 */
-	@SuppressWarnings("unchecked")
-	private Map<String, Object> decipherBioData(Object obj, int index) throws IdAuthenticationAppException {
-		
-		Map<String, Object> map = (Map<String, Object>) obj;
+	private List<Map<String, Object>> decipherBioSegments(List<Callable<Map<String, Object>>> decipherTasks)
+			throws IdAuthenticationAppException {
+		if (bioDecipherExecutor != null) {
+			return bioDecipherExecutor.invokeAll(decipherTasks);
+		}
+		List<Map<String, Object>> bioIdentityInfo = new ArrayList<>();
+		for (Callable<Map<String, Object>> decipherTask : decipherTasks) {
+			try {
+				bioIdentityInfo.add(decipherTask.call());
+			} catch (IdAuthenticationAppException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+			}
+		}
+		return bioIdentityInfo;
+	}
 
+	/**
+	 * Validates the presence of the data and session key of the biometric
+	 * segment, before it is deciphered.
+	 *
+	 * @param map   the biometric segment
+	 * @param index the index of the segment
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private void validateBioSegment(Map<String, Object> map, int index) throws IdAuthenticationAppException {
 		if(!getStringValue(map, DATA).isPresent()) {
 			throwMissingInputParameter(String.format(BIO_DATA_INPUT_PARAM, index));
 		}
@@ -192,7 +228,21 @@ public class IdAuthFilter extends BaseAuthFilter {
 		if(!getStringValue(map, SESSION_KEY).isPresent()) {
 			throwMissingInputParameter(String.format(BIO_SESSIONKEY_INPUT_PARAM, index));
 		}
+	}
+
+	/**
+	 * Decipher bio data.
+	 *
+	 * @param obj the obj
+	 * @param index 
+	 * @return the map
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> decipherBioData(Object obj, int index) throws IdAuthenticationAppException {
 		
+		Map<String, Object> map = (Map<String, Object>) obj;
+
 		try {
 			byte[] decodedData = Objects.nonNull(map.get(DATA)) ? CryptoUtil.decodeBase64(getPayloadFromJwsSingature((String) map.get(DATA))) : new byte[0];
 			Map<String, Object> data = mapper.readValue(decodedData, Map.class);
@@ -222,12 +272,10 @@ public class IdAuthFilter extends BaseAuthFilter {
 			String transactionId = String.valueOf(data.get(TRANSACTION_ID));
 			byte[] xorBytes = BytesUtil.getXOR(timestamp, transactionId);
 			byte[] saltLastBytes = BytesUtil.getLastBytes(xorBytes, env.getProperty(IdAuthConfigKeyConstants.IDA_SALT_LASTBYTES_NUM, Integer.class, DEFAULT_SALT_LAST_BYTES_NUM));
-			String salt = CryptoUtil.encodeBase64(saltLastBytes);
 			byte[] aadLastBytes = BytesUtil.getLastBytes(xorBytes, env.getProperty(IdAuthConfigKeyConstants.IDA_AAD_LASTBYTES_NUM, Integer.class, DEFAULT_AAD_LAST_BYTES_NUM));
-			String aad = CryptoUtil.encodeBase64(aadLastBytes);
-			String combinedData = combineDataForDecryption(String.valueOf(bioValue), String.valueOf(sessionKey));
-			String decryptedData = keyManager.kernelDecrypt(combinedData, getBioRefId(), aad, salt);
-			data.replace(BIO_VALUE, decryptedData);
+			byte[] decryptedData = keyManager.kernelDecrypt(CryptoUtil.decodeBase64(String.valueOf(sessionKey)),
+					CryptoUtil.decodeBase64(String.valueOf(bioValue)), getBioRefId(), aadLastBytes, saltLastBytes);
+			data.replace(BIO_VALUE, CryptoUtil.encodeBase64(decryptedData));
 			map.replace(DATA, data);
 			return map;
 		} catch (IOException e) {
@@ -265,22 +313,6 @@ public class IdAuthFilter extends BaseAuthFilter {
 		}
 	}
 	
-	/**
-	 * Combine data for decryption.
-	 *
-	 * @param bioValue the bio value
-	 * @param sessionKey the session key
-	 * @return the string
-	 */
-	private String combineDataForDecryption(String bioValue, String sessionKey) {
-		byte[] combineByteArray = CryptoUtil.combineByteArray(
-				CryptoUtil.decodeBase64(bioValue),
-				CryptoUtil.decodeBase64(sessionKey),
-				env.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER));
-		return CryptoUtil.encodeBase64(
-				combineByteArray);
-	}
-
 	/**
 	 * Method to get the reference id.
 	 *
@@ -488,16 +520,14 @@ public class IdAuthFilter extends BaseAuthFilter {
 	protected void checkAllowedAuthTypeBasedOnPolicy(PolicyDTO policies, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {			
 			if(policies != null) {		
-				List<AuthPolicy> authPolicies = policies.getPolicies().getAuthPolicies();
-				List<KYCAttributes> allowedKycAttributes = policies.getPolicies().getAllowedKycAttributes();
-				List<String> allowedTypeList = Optional.ofNullable(allowedKycAttributes)
-								.stream().flatMap(Collection::stream)
-						.map(KYCAttributes::getAttributeName).collect(Collectors.toList());
-				requestBody.put("allowedKycAttributes", allowedTypeList);
-				checkAllowedAuthTypeBasedOnPolicy(requestBody, authPolicies);
-				List<AuthPolicy> mandatoryAuthPolicies = authPolicies.stream().filter(AuthPolicy::isMandatory)
-						.collect(Collectors.toList());
-				checkMandatoryAuthTypeBasedOnPolicy(requestBody, mandatoryAuthPolicies);
+				// The policy is compiled when it is cached in the partner service
+				PolicyEvaluator policyEvaluator = Optional.ofNullable(policies.getPolicyEvaluator())
+						.orElseGet(() -> PolicyEvaluator.compile(policies));
+				requestBody.put("allowedKycAttributes", policyEvaluator.getAllowedKycAttributes());
+				checkAllowedAuthTypeBasedOnPolicy(requestBody, policyEvaluator);
+				if (policyEvaluator.hasMandatoryAuthTypes()) {
+					checkMandatoryAuthTypeBasedOnPolicy(requestBody, policyEvaluator);
+				}
 			} else {
 				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_POLICY_ID);
 			}	
@@ -508,17 +538,16 @@ public class IdAuthFilter extends BaseAuthFilter {
 	 *
 	 * @param requestBody
 	 *            the request body
-	 * @param authPolicies
-	 *            the auth policies
+	 * @param policyEvaluator
+	 *            the compiled auth policies
 	 * @throws IdAuthenticationAppException
 	 *             the id authentication app exception
 	 */
-	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
+	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, PolicyEvaluator policyEvaluator)
 			throws IdAuthenticationAppException {
 		try {
-			AuthTypeDTO authType = mapper.readValue(mapper.writeValueAsBytes(requestBody.get("requestedAuth")),
-					AuthTypeDTO.class);
-			if (authType.isDemo() && !isAllowedAuthType(MatchType.Category.DEMO.getType(), authPolicies)) {
+			AuthTypeDTO authType = getRequestedAuthType(requestBody);
+			if (authType.isDemo() && !policyEvaluator.isAllowed(PolicyAuthType.DEMO)) {
 				throw new IdAuthenticationAppException(
 						IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorMessage(),
@@ -526,16 +555,16 @@ public class IdAuthFilter extends BaseAuthFilter {
 			}
 
 			if (authType.isBio()) {
-				checkAllowedAuthTypeForBio(requestBody, authPolicies);
+				checkAllowedAuthTypeForBio(requestBody, policyEvaluator);
 			}
 
-			if (authType.isPin() && !isAllowedAuthType(MatchType.Category.SPIN.getType(), authPolicies)) {
+			if (authType.isPin() && !policyEvaluator.isAllowed(PolicyAuthType.PIN)) {
 				throw new IdAuthenticationAppException(
 						IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorMessage(),
 								MatchType.Category.SPIN.name()));
 			}
-			if (authType.isOtp() && !isAllowedAuthType(MatchType.Category.OTP.getType(), authPolicies)) {
+			if (authType.isOtp() && !policyEvaluator.isAllowed(PolicyAuthType.OTP)) {
 				throw new IdAuthenticationAppException(
 						IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorMessage(),
@@ -546,16 +575,54 @@ public class IdAuthFilter extends BaseAuthFilter {
 		}
 	}
 
+	/**
+	 * Gets the requested auth types from the request body. The usual request,
+	 * with boolean flags, is read without converting it through JSON. Any other
+	 * value is converted as before, and rejected if it cannot be.
+	 *
+	 * @param requestBody
+	 *            the request body
+	 * @return the requested auth type
+	 * @throws IdAuthenticationAppException
+	 *             the id authentication app exception
+	 */
+	private AuthTypeDTO getRequestedAuthType(Map<String, Object> requestBody) throws IdAuthenticationAppException {
+		Object requestedAuth = requestBody.get(IdAuthCommonConstants.REQUESTEDAUTH);
+		if (requestedAuth == null) {
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorMessage(),
+							IdAuthCommonConstants.REQUESTEDAUTH));
+		}
+		if (requestedAuth instanceof Map && ((Map<?, ?>) requestedAuth).values().stream()
+				.allMatch(flag -> flag == null || flag instanceof Boolean)) {
+			Map<?, ?> requestedAuthMap = (Map<?, ?>) requestedAuth;
+			AuthTypeDTO authType = new AuthTypeDTO();
+			authType.setDemo(Boolean.TRUE.equals(requestedAuthMap.get(MatchType.Category.DEMO.getType())));
+			authType.setBio(Boolean.TRUE.equals(requestedAuthMap.get(MatchType.Category.BIO.getType())));
+			authType.setOtp(Boolean.TRUE.equals(requestedAuthMap.get(MatchType.Category.OTP.getType())));
+			authType.setPin(Boolean.TRUE.equals(requestedAuthMap.get(MatchType.Category.SPIN.getType())));
+			return authType;
+		}
+		try {
+			return mapper.readValue(mapper.writeValueAsBytes(requestedAuth), AuthTypeDTO.class);
+		} catch (IOException e) {
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorMessage(),
+							IdAuthCommonConstants.REQUESTEDAUTH),
+					e);
+		}
+	}
+
 	/**
 	 * Check allowed auth type for bio.
 	 *
 	 * @param requestBody            the request body
-	 * @param authPolicies            the auth policies
+	 * @param policyEvaluator            the compiled auth policies
 	 * @throws IdAuthenticationAppException             the id authentication app exception
 	 * @throws IOException             Signals that an I/O exception has occurred.
 	 */
 	@SuppressWarnings("unchecked")
-	private void checkAllowedAuthTypeForBio(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
+	private void checkAllowedAuthTypeForBio(Map<String, Object> requestBody, PolicyEvaluator policyEvaluator)
 			throws IdAuthenticationAppException, IOException {
 
 		Object value = Optional.ofNullable(requestBody.get(IdAuthCommonConstants.REQUEST))
@@ -596,27 +663,27 @@ public class IdAuthFilter extends BaseAuthFilter {
 				.collect(Collectors.toList());
 		
 		if (bioTypeList.isEmpty()) {
-			if (!isAllowedAuthType(MatchType.Category.BIO.getType(), authPolicies)) {
+			if (!policyEvaluator.isAllowed(PolicyAuthType.BIO)) {
 				throw new IdAuthenticationAppException(
 						IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorMessage(), "bio"));
 			}
 		} else {
-			checkAllowedAuthTypeForBio(authPolicies, bioTypeList, deviceTypeList);
+			checkAllowedAuthTypeForBio(policyEvaluator, bioTypeList, deviceTypeList);
 		}
 	}
 
 	/**
 	 * Check allowed auth type for bio.
 	 *
-	 * @param authPolicies
-	 *            the auth policies
+	 * @param policyEvaluator
+	 *            the compiled auth policies
 	 * @param bioTypeList
 	 *            the bio type list
 	 * @throws IdAuthenticationAppException
 	 *             the id authentication app exception
 	 */
-	private void checkAllowedAuthTypeForBio(List<AuthPolicy> authPolicies, List<String> bioTypeList, List<String> deviceTypeList)
+	private void checkAllowedAuthTypeForBio(PolicyEvaluator policyEvaluator, List<String> bioTypeList, List<String> deviceTypeList)
 			throws IdAuthenticationAppException {
 		String bioAuthType;
 		for (String bioType : bioTypeList) {
@@ -636,7 +703,7 @@ public class IdAuthFilter extends BaseAuthFilter {
 						IdAuthenticationErrorConstants.DEVICE_TYPE_BIO_TYPE_NOT_MATCH.getErrorMessage());
 			}
 			
-			if (!isAllowedAuthType(MatchType.Category.BIO.getType(), bioType, authPolicies)) {
+			if (!policyEvaluator.isBioSubTypeAllowed(bioType)) {
 				if (!BioAuthType.getSingleBioAuthTypeForType(bioAuthType).isPresent()) {
 					throw new IdAuthenticationAppException(
 							IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
@@ -666,17 +733,32 @@ public class IdAuthFilter extends BaseAuthFilter {
 	 *
 	 * @param requestBody
 	 *            the request body
-	 * @param mandatoryAuthPolicies
-	 *            the mandatory auth policies
+	 * @param policyEvaluator
+	 *            the compiled auth policies
 	 * @throws IdAuthenticationAppException
 	 *             the id authentication app exception
 	 */
-	@SuppressWarnings("unchecked")
 	protected void checkMandatoryAuthTypeBasedOnPolicy(Map<String, Object> requestBody,
-			List<AuthPolicy> mandatoryAuthPolicies) throws IdAuthenticationAppException {
+			PolicyEvaluator policyEvaluator) throws IdAuthenticationAppException {
+		AuthTypeDTO authType = getRequestedAuthType(requestBody);
+		List<String> bioTypeList = getBioTypes(requestBody);
+		for (MandatoryAuthPolicy mandatoryAuthPolicy : policyEvaluator.getMandatoryAuthPolicies()) {
+			validateAuthPolicy(requestBody, authType, bioTypeList, mandatoryAuthPolicy);
+		}
+	}
+
+	/**
+	 * Gets the bio types of the biometrics in the request.
+	 *
+	 * @param requestBody
+	 *            the request body
+	 * @return the bio type list
+	 * @throws IdAuthenticationAppException
+	 *             the id authentication app exception
+	 */
+	@SuppressWarnings("unchecked")
+	private List<String> getBioTypes(Map<String, Object> requestBody) throws IdAuthenticationAppException {
 		try {
-			AuthTypeDTO authType = mapper.readValue(mapper.writeValueAsBytes(requestBody.get("requestedAuth")),
-					AuthTypeDTO.class);
 			Object value = Optional.ofNullable(requestBody.get(IdAuthCommonConstants.REQUEST))
 					.filter(obj -> obj instanceof Map).map(obj -> ((Map<String, Object>) obj).get(BIOMETRICS))
 					.filter(obj -> obj instanceof List).orElse(Collections.emptyList());
@@ -688,9 +770,7 @@ public class IdAuthFilter extends BaseAuthFilter {
 			if (bioTypeList.contains("Finger")) {
 				bioTypeList.add("FINGER");
 			}
-			for (AuthPolicy mandatoryAuthPolicy : mandatoryAuthPolicies) {
-				validateAuthPolicy(requestBody, authType, bioTypeList, mandatoryAuthPolicy);
-			}
+			return bioTypeList;
 		} catch (IOException e) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
 		}
@@ -711,22 +791,21 @@ public class IdAuthFilter extends BaseAuthFilter {
 	 *             the id authentication app exception
 	 */
 	private void validateAuthPolicy(Map<String, Object> requestBody, AuthTypeDTO authType, List<String> bioTypeList,
-			AuthPolicy mandatoryAuthPolicy) throws IdAuthenticationAppException {
-		if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(MatchType.Category.OTP.getType()) && !authType.isOtp()) {
+			MandatoryAuthPolicy mandatoryAuthPolicy) throws IdAuthenticationAppException {
+		PolicyAuthType policyAuthType = mandatoryAuthPolicy.getAuthType();
+		if (policyAuthType == PolicyAuthType.OTP && !authType.isOtp()) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(),
 							MatchType.Category.OTP.getType()));
-		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(MatchType.Category.DEMO.getType())
-				&& !authType.isDemo()) {
+		} else if (policyAuthType == PolicyAuthType.DEMO && !authType.isDemo()) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(),
 							MatchType.Category.DEMO.getType()));
-		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(MatchType.Category.SPIN.getType())
-				&& !authType.isPin()) {
+		} else if (policyAuthType == PolicyAuthType.PIN && !authType.isPin()) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(),
 							MatchType.Category.SPIN.getType()));
-		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(MatchType.Category.BIO.getType())) {
+		} else if (policyAuthType == PolicyAuthType.BIO) {
 			if (!authType.isBio()) {
 				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(),
@@ -739,7 +818,7 @@ public class IdAuthFilter extends BaseAuthFilter {
 									MatchType.Category.BIO.getType() + "-" + mandatoryAuthPolicy.getAuthSubType()));
 				}
 			}
-		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(KYC)
+		} else if (policyAuthType == PolicyAuthType.KYC
 				&& !Optional.ofNullable(requestBody.get("id"))
 						.filter(id -> id.equals(env.getProperty(IdAuthConfigKeyConstants.MOSIP_IDA_API_IDS + EKYC)))
 						.isPresent()) {
@@ -748,39 +827,6 @@ public class IdAuthFilter extends BaseAuthFilter {
 		}
 	}
 
-	/**
-	 * Checks if is allowed auth type.
-	 *
-	 * @param authType
-	 *            the auth type
-	 * @param policies
-	 *            the policies
-	 * @return true, if is allowed auth type
-	 */
-	protected boolean isAllowedAuthType(String authType, List<AuthPolicy> policies) {
-		return isAllowedAuthType(authType, null, policies);
-	}
-
-	/**
-	 * Checks if is allowed auth type.
-	 *
-	 * @param authType
-	 *            the auth type
-	 * @param subAuthType
-	 *            the sub auth type
-	 * @param policies
-	 *            the policies
-	 * @return true, if is allowed auth type
-	 */
-	protected boolean isAllowedAuthType(String authType, String subAuthType, List<AuthPolicy> policies) {
-		if (subAuthType == null) {
-			return policies.stream().anyMatch(authPolicy -> authPolicy.getAuthType().equalsIgnoreCase(authType));
-		} else {
-			return policies.stream().anyMatch(authPolicy -> authPolicy.getAuthType().equalsIgnoreCase(authType)
-					&& authPolicy.getAuthSubType().equalsIgnoreCase(subAuthType));
-		}
-	}	
-
 	/**
 	 * Gets the auth part.
 	 *
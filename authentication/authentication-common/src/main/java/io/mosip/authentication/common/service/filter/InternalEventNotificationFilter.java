@@ -19,6 +19,16 @@ public class InternalEventNotificationFilter extends DefaultInternalFilter {
 		// Skip ID and Version Validation
 	}
 	
+	/**
+	 * The id and version are not added to the response.
+	 *
+	 * @return true
+	 */
+	@Override
+	protected boolean isResponseMapped() {
+		return true;
+	}
+
 	@Override
 	protected void addIdAndVersionToRespons(ResettableStreamHttpServletRequest requestWrapper,
 			Map<String, Object> responseMap) {
@@ -5,14 +5,13 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Arrays;
 
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 
-import org.springframework.util.StreamUtils;
-
 /**
  * The request wrapper used in Auth filter that allows to re-read the request
  * body.
@@ -21,23 +20,47 @@ import org.springframework.util.StreamUtils;
  */
 public class ResettableStreamHttpServletRequest extends HttpServletRequestWrapper {
 
+	/** The Constant NO_LIMIT - the max body size value for no limit. */
+	public static final long NO_LIMIT = -1;
+
+	/** The Constant DEFAULT_BUFFER_SIZE - used when Content-Length is unknown. */
+	private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+	/** The Constant MAX_ARRAY_SIZE. */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
 	/** The raw data. */
 	private byte[] rawData;
 
 	/** The request. */
 	private HttpServletRequest request;
 
+	/** The max body size in bytes, or {@link #NO_LIMIT}. */
+	private final long maxBodySize;
+
 	/** The servlet stream. */
 	private ResettableServletInputStream servletStream;
 
 	/**
 	 * Instantiates a new resettable stream http servlet request.
-	 *
+	 * 
 	 * @param request the request
 	 */
 	public ResettableStreamHttpServletRequest(HttpServletRequest request) {
+		this(request, NO_LIMIT);
+	}
+
+	/**
+	 * Instantiates a new resettable stream http servlet request that rejects
+	 * request bodies larger than the given size.
+	 * 
+	 * @param request     the request
+	 * @param maxBodySize the max body size in bytes, or {@link #NO_LIMIT}
+	 */
+	public ResettableStreamHttpServletRequest(HttpServletRequest request, long maxBodySize) {
 		super(request);
 		this.request = request;
+		this.maxBodySize = maxBodySize;
 		this.servletStream = new ResettableServletInputStream();
 	}
 
@@ -45,7 +68,12 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 * Reset input stream.
 	 */
 	public void resetInputStream() {
-		servletStream.stream = new ResettableServletInputStream(new ByteArrayInputStream(rawData));
+		if (servletStream.stream == null) {
+			servletStream.stream = new ByteArrayInputStream(rawData == null ? new byte[0] : rawData);
+		} else {
+			servletStream.stream.reset();
+		}
+		servletStream.eofReached = false;
 	}
 
 	/*
@@ -56,8 +84,7 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	@Override
 	public ServletInputStream getInputStream() throws IOException {
 		if (rawData == null) {
-			rawData = StreamUtils.copyToByteArray(this.request.getInputStream());
-			servletStream.stream = new ByteArrayInputStream(rawData);
+			replaceData(readRawData());
 		}
 		return servletStream;
 	}
@@ -69,11 +96,18 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 */
 	@Override
 	public BufferedReader getReader() throws IOException {
-		if (rawData == null) {
-			rawData = StreamUtils.copyToByteArray(this.request.getInputStream());
-			servletStream.stream = new ByteArrayInputStream(rawData);
-		}
-		return new BufferedReader(new InputStreamReader(servletStream));
+		return new BufferedReader(new InputStreamReader(getInputStream()));
+	}
+
+	/**
+	 * Gets the size of the request body in bytes.
+	 * 
+	 * @return the content size
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public int getContentSize() throws IOException {
+		getInputStream();
+		return rawData.length;
 	}
 
 	/**
@@ -84,6 +118,102 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	public void replaceData(byte[] newData) {
 		rawData = newData;
 		servletStream.stream = new ByteArrayInputStream(rawData);
+		servletStream.eofReached = false;
+	}
+
+	/**
+	 * Reads the request body in bulk into a buffer sized from the Content-Length
+	 * header, growing it only if the header is missing or wrong. The body is
+	 * rejected as soon as it exceeds the max body size, without copying the rest
+	 * of it.
+	 * 
+	 * @return the request body bytes
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private byte[] readRawData() throws IOException {
+		long contentLength = request.getContentLengthLong();
+		if (isTooLarge(contentLength)) {
+			throw requestBodyTooLarge();
+		}
+		byte[] buffer = new byte[contentLength > 0 && contentLength <= MAX_ARRAY_SIZE ? (int) contentLength
+				: DEFAULT_BUFFER_SIZE];
+		InputStream in = request.getInputStream();
+		int count = 0;
+		int read;
+		while ((read = in.read(buffer, count, buffer.length - count)) != -1) {
+			count += read;
+			if (isTooLarge(count)) {
+				throw requestBodyTooLarge();
+			}
+			if (count == buffer.length) {
+				int next = in.read();
+				if (next == -1) {
+					break;
+				}
+				if (count == MAX_ARRAY_SIZE) {
+					throw requestBodyTooLarge();
+				}
+				buffer = Arrays.copyOf(buffer, (int) Math.min((long) buffer.length * 2, MAX_ARRAY_SIZE));
+				buffer[count++] = (byte) next;
+				if (isTooLarge(count)) {
+					throw requestBodyTooLarge();
+				}
+			}
+		}
+		return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+	}
+
+	/**
+	 * Checks if the given body size exceeds the max body size.
+	 * 
+	 * @param size the size
+	 * @return true, if is too large
+	 */
+	private boolean isTooLarge(long size) {
+		return maxBodySize != NO_LIMIT && size > maxBodySize;
+	}
+
+	/**
+	 * Marks the request body as empty and creates the exception to be thrown when
+	 * the request body exceeds the max body size.
+	 * 
+	 * @return the request body too large exception
+	 */
+	private RequestBodyTooLargeException requestBodyTooLarge() {
+		replaceData(new byte[0]);
+		return new RequestBodyTooLargeException(maxBodySize);
+	}
+
+	/**
+	 * The Class RequestBodyTooLargeException - thrown while reading a request
+	 * body that exceeds the max body size.
+	 */
+	public static class RequestBodyTooLargeException extends IOException {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = 5183541925376640162L;
+
+		/** The max body size. */
+		private final long maxBodySize;
+
+		/**
+		 * Instantiates a new request body too large exception.
+		 * 
+		 * @param maxBodySize the max body size
+		 */
+		public RequestBodyTooLargeException(long maxBodySize) {
+			super("Request body exceeds the max size of " + maxBodySize + " bytes");
+			this.maxBodySize = maxBodySize;
+		}
+
+		/**
+		 * Gets the max body size.
+		 * 
+		 * @return the max body size
+		 */
+		public long getMaxBodySize() {
+			return maxBodySize;
+		}
 	}
 
 	/**
@@ -93,7 +223,7 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	private class ResettableServletInputStream extends ServletInputStream {
 
 		/** The stream. */
-		private InputStream stream;
+		private ByteArrayInputStream stream;
 
 		/** The eof reached. */
 		private boolean eofReached;
@@ -101,15 +231,6 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 		/** The closed. */
 		private boolean closed;
 
-		/**
-		 * Instantiates a new resettable servlet input stream.
-		 *
-		 * @param stream the stream
-		 */
-		public ResettableServletInputStream(InputStream stream) {
-			this.stream = stream;
-		}
-
 		/**
 		 * Instantiates a new resettable servlet input stream.
 		 */
@@ -130,6 +251,40 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 			return val;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = stream.read(b, off, len);
+			if (count == -1) {
+				eofReached = true;
+			}
+			return count;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+			return stream.skip(n);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#available()
+		 */
+		@Override
+		public int available() throws IOException {
+			return stream.available();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
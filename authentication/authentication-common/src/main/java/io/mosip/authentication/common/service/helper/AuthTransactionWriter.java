@@ -0,0 +1,307 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AuthTransactionWriter - writes the auth transactions to the
+ * auth_transaction table.
+ * <p>
+ * The write-behind is opt-in: by default, and when no JDBC template is
+ * available, the transactions are written in the request thread with
+ * {@code saveAndFlush}, as before. With the write-behind enabled, they are
+ * queued in a bounded in-memory queue and inserted with JDBC batch inserts by
+ * a dedicated thread, when a batch is queued or after the flush interval. The
+ * queue is flushed on a graceful shutdown, and a transaction queued while the
+ * writer is closing is flushed by the request thread that queued it.
+ * <p>
+ * The write-behind is best-effort and not durable: the queue is not
+ * persisted, and the queued transactions, up to the queue capacity and for
+ * about the flush interval, are lost if the instance crashes or is killed
+ * before they are flushed. The only fallback is the
+ * synchronous {@code saveAndFlush} above: a transaction that does not fit in
+ * the queue, or that is in a batch failed to insert, is written on its own
+ * with it, and a transaction that fails that too is logged and dropped. As the
+ * queued transactions are not yet visible to the readers of the table, such
+ * as the OTP request count check, enable the write-behind only where that loss
+ * window and that delay are acceptable.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class AuthTransactionWriter {
+
+	/** The Constant THREAD_NAME_PREFIX. */
+	private static final String THREAD_NAME_PREFIX = "ida-auth-txn-writer-";
+
+	/** The Constant QUEUE_DEPTH_METRIC. */
+	private static final String QUEUE_DEPTH_METRIC = "ida.auth.transaction.write-behind.queue.depth";
+
+	/** The Constant FALLBACK_METRIC. */
+	private static final String FALLBACK_METRIC = "ida.auth.transaction.write-behind.fallback";
+
+	/** The Constant AUTH_TRANSACTION_WRITER. */
+	private static final String AUTH_TRANSACTION_WRITER = "AuthTransactionWriter";
+
+	/** The Constant SHUTDOWN_TIMEOUT_SECS. */
+	private static final long SHUTDOWN_TIMEOUT_SECS = 30L;
+
+	/** The Constant INSERT_SQL. */
+	private static final String INSERT_SQL = "INSERT INTO ida.auth_transaction (id, request_dtimes, response_dtimes, "
+			+ "request_trn_id, auth_type_code, status_code, status_comment, lang_code, ref_id_type, ref_id, "
+			+ "token_id, requested_entity_type, requested_entity_id, requested_entity_name, static_tkn_id, "
+			+ "cr_by, cr_dtimes, upd_by, upd_dtimes, is_deleted, del_dtimes) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+			+ "ON CONFLICT (id, cr_dtimes) DO NOTHING";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(AuthTransactionWriter.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The auth transaction repository. */
+	@Autowired
+	private AutnTxnRepository autnTxnRepo;
+
+	/** The jdbc template. */
+	@Autowired(required = false)
+	private JdbcTemplate jdbcTemplate;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The write-behind enabled flag. */
+	private boolean enabled;
+
+	/** The batch size. */
+	private int batchSize;
+
+	/** The queued transactions. */
+	private BlockingQueue<AutnTxn> queue;
+
+	/** The flush scheduler. */
+	private ScheduledExecutorService scheduler;
+
+	/** The flag to indicate that a flush is requested for a queued batch. */
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+	/** The closed flag. */
+	private volatile boolean closed;
+
+	/** The counter of the transactions written on their own in the write-behind mode. */
+	private Counter fallbackWrites;
+
+	/**
+	 * Initializes the queue, the flush scheduler and the metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		enabled = env.getProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_ENABLED, Boolean.class, false)
+				&& jdbcTemplate != null;
+		if (!enabled) {
+			return;
+		}
+		int queueCapacity = env.getProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY,
+				Integer.class, IdAuthCommonConstants.DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY);
+		batchSize = env.getProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE, Integer.class,
+				IdAuthCommonConstants.DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE);
+		long flushIntervalMillis = env.getProperty(
+				IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS, Long.class,
+				IdAuthCommonConstants.DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS);
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+		scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+				.description("Auth transactions waiting to be written").register(registry);
+		fallbackWrites = Counter.builder(FALLBACK_METRIC)
+				.description("Auth transactions written on their own in the write-behind mode").register(registry);
+	}
+
+	/**
+	 * Flushes the queued transactions and shuts down the flush scheduler.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (!enabled) {
+			return;
+		}
+		closed = true;
+		scheduler.shutdown();
+		try {
+			scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	/**
+	 * Checks if the write-behind is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Writes the auth transaction, or queues it to be written in a batch if the
+	 * write-behind is enabled.
+	 *
+	 * @param autnTxn the auth transaction
+	 */
+	public void write(AutnTxn autnTxn) {
+		if (!enabled || closed) {
+			autnTxnRepo.saveAndFlush(autnTxn);
+			return;
+		}
+		if (!queue.offer(autnTxn)) {
+			fallbackWrites.increment();
+			autnTxnRepo.saveAndFlush(autnTxn);
+			return;
+		}
+		if (closed) {
+			// Closed after the check above, the final flush of destroy may have drained the queue before the offer
+			flush();
+			return;
+		}
+		if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+			try {
+				scheduler.execute(this::flush);
+			} catch (RejectedExecutionException e) {
+				// Shutting down, the queue is flushed by destroy
+				flushRequested.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Writes the queued transactions in batches.
+	 *
+	 * @return the number of transactions written
+	 */
+	public synchronized int flush() {
+		flushRequested.set(false);
+		if (!enabled) {
+			return 0;
+		}
+		int written = 0;
+		List<AutnTxn> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			written += insert(batch);
+			batch.clear();
+		}
+		return written;
+	}
+
+	/**
+	 * Inserts the batch, writing the transactions on their own if the batch
+	 * fails.
+	 *
+	 * @param batch the batch
+	 * @return the number of transactions written
+	 */
+	private int insert(List<AutnTxn> batch) {
+		try {
+			jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuthTransactionWriter::setValues);
+			return batch.size();
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, AUTH_TRANSACTION_WRITER, "insert",
+					"Batch insert failed, writing " + batch.size() + " transactions on their own: "
+							+ ExceptionUtils.getStackTrace(e));
+		}
+		int written = 0;
+		for (AutnTxn autnTxn : batch) {
+			try {
+				fallbackWrites.increment();
+				autnTxnRepo.saveAndFlush(autnTxn);
+				written++;
+			} catch (DataAccessException e) {
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, AUTH_TRANSACTION_WRITER, "insert",
+						"Auth transaction " + autnTxn.getId() + " not written: " + ExceptionUtils.getStackTrace(e));
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * Sets the insert parameters of the transaction.
+	 *
+	 * @param ps      the prepared statement
+	 * @param autnTxn the auth transaction
+	 * @throws SQLException the SQL exception
+	 */
+	private static void setValues(PreparedStatement ps, AutnTxn autnTxn) throws SQLException {
+		ps.setString(1, autnTxn.getId());
+		ps.setTimestamp(2, toTimestamp(autnTxn.getRequestDTtimes()));
+		ps.setTimestamp(3, toTimestamp(autnTxn.getResponseDTimes()));
+		ps.setString(4, autnTxn.getRequestTrnId());
+		ps.setString(5, autnTxn.getAuthTypeCode());
+		ps.setString(6, autnTxn.getStatusCode());
+		ps.setString(7, autnTxn.getStatusComment());
+		ps.setString(8, autnTxn.getLangCode());
+		ps.setString(9, autnTxn.getRefIdType());
+		ps.setString(10, autnTxn.getRefId());
+		ps.setString(11, autnTxn.getToken());
+		ps.setString(12, autnTxn.getEntitytype());
+		ps.setString(13, autnTxn.getEntityId());
+		ps.setString(14, autnTxn.getEntityName());
+		ps.setString(15, autnTxn.getAuthTknId());
+		ps.setString(16, autnTxn.getCrBy());
+		ps.setTimestamp(17, toTimestamp(autnTxn.getCrDTimes()));
+		ps.setString(18, autnTxn.getUpdBy());
+		ps.setTimestamp(19, toTimestamp(autnTxn.getUpdDTimes()));
+		ps.setBoolean(20, autnTxn.isDeleted());
+		ps.setTimestamp(21, toTimestamp(autnTxn.getDelDTimes()));
+	}
+
+	/**
+	 * Converts the date time to timestamp.
+	 *
+	 * @param dateTime the date time
+	 * @return the timestamp, or null
+	 */
+	private static Timestamp toTimestamp(LocalDateTime dateTime) {
+		return dateTime == null ? null : Timestamp.valueOf(dateTime);
+	}
+
+}
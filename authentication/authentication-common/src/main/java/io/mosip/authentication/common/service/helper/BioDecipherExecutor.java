@@ -0,0 +1,176 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class BioDecipherExecutor - runs the decryption and verification of the
+ * biometric segments of a request on a bounded, dedicated thread pool. Results
+ * are returned in the order of the segments. The results are awaited in that
+ * order, so that when several segments fail, the failure of the first of them
+ * is reported whatever the order they fail in, and the segments after it are
+ * cancelled.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class BioDecipherExecutor {
+
+	/** The Constant THREAD_NAME_PREFIX. */
+	private static final String THREAD_NAME_PREFIX = "ida-bio-decipher-";
+
+	/** The Constant QUEUE_DEPTH_METRIC. */
+	private static final String QUEUE_DEPTH_METRIC = "ida.bio.decipher.queue.depth";
+
+	/** The Constant SEGMENT_LATENCY_METRIC. */
+	private static final String SEGMENT_LATENCY_METRIC = "ida.bio.decipher.segment";
+
+	/** The Constant BIO_DECIPHER_EXECUTOR. */
+	private static final String BIO_DECIPHER_EXECUTOR = "BioDecipherExecutor";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(BioDecipherExecutor.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The executor. */
+	private ThreadPoolExecutor executor;
+
+	/** The segment latency timer. */
+	private Timer segmentTimer;
+
+	/**
+	 * Initializes the thread pool and its metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		int poolSize = env.getProperty(IdAuthConfigKeyConstants.BIO_DECIPHER_POOL_SIZE, Integer.class,
+				Runtime.getRuntime().availableProcessors());
+		int queueCapacity = env.getProperty(IdAuthConfigKeyConstants.BIO_DECIPHER_QUEUE_CAPACITY, Integer.class,
+				IdAuthCommonConstants.DEFAULT_BIO_DECIPHER_QUEUE_CAPACITY);
+		// When the queue is full the segment is deciphered in the request thread
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		Gauge.builder(QUEUE_DEPTH_METRIC, executor, pool -> pool.getQueue().size())
+				.description("Biometric segments waiting for decryption").register(registry);
+		segmentTimer = Timer.builder(SEGMENT_LATENCY_METRIC)
+				.description("Time taken to decrypt and verify a biometric segment").register(registry);
+	}
+
+	/**
+	 * Shuts down the thread pool.
+	 */
+	@PreDestroy
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Runs the given tasks in parallel and returns their results in the same
+	 * order. If any task fails, the failure of the first failed task in the order
+	 * of the tasks is rethrown and the tasks after it are cancelled.
+	 *
+	 * @param <T>   the result type
+	 * @param tasks the tasks
+	 * @return the results in the order of the tasks
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public <T> List<T> invokeAll(List<Callable<T>> tasks) throws IdAuthenticationAppException {
+		if (tasks.size() <= 1 || executor.isShutdown()) {
+			List<T> results = new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				results.add(call(task));
+			}
+			return results;
+		}
+
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		try {
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(() -> call(task)));
+			}
+
+			List<T> results = new ArrayList<>(tasks.size());
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (ExecutionException e) {
+			throw toAppException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * Runs the task, recording its latency.
+	 *
+	 * @param <T>  the result type
+	 * @param task the task
+	 * @return the result
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private <T> T call(Callable<T> task) throws IdAuthenticationAppException {
+		long start = System.nanoTime();
+		try {
+			return task.call();
+		} catch (Exception e) {
+			throw toAppException(e);
+		} finally {
+			segmentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Converts the failure of a task to {@link IdAuthenticationAppException}.
+	 *
+	 * @param e the failure
+	 * @return the id authentication app exception
+	 */
+	private IdAuthenticationAppException toAppException(Throwable e) {
+		if (e instanceof IdAuthenticationAppException) {
+			return (IdAuthenticationAppException) e;
+		}
+		mosipLogger.error(IdAuthCommonConstants.SESSION_ID, BIO_DECIPHER_EXECUTOR, "invokeAll",
+				"Biometric segment decryption failed: " + e.getMessage());
+		return new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+	}
+
+}
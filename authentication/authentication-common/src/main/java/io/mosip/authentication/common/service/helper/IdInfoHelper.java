@@ -23,6 +23,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.common.service.impl.match.DerivedDemoAttributes;
 import io.mosip.authentication.common.service.impl.match.IdaIdMapping;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
@@ -35,12 +36,14 @@ import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.spi.indauth.match.EntityValueFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdMapping;
+import io.mosip.authentication.core.spi.indauth.match.MatchContext;
 import io.mosip.authentication.core.spi.indauth.match.MatchInput;
 import io.mosip.authentication.core.spi.indauth.match.MatchOutput;
 import io.mosip.authentication.core.spi.indauth.match.MatchType;
 import io.mosip.authentication.core.spi.indauth.match.MatchType.Category;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategy;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
+import io.mosip.authentication.core.spi.indauth.match.TextMatchingStrategy;
 import io.mosip.kernel.core.logger.spi.Logger;
 
 /**
@@ -64,6 +67,10 @@ public class IdInfoHelper {
 	@Autowired
 	private IdInfoFetcher idInfoFetcher;
 
+	/** The derived demo attributes. */
+	@Autowired(required = false)
+	private DerivedDemoAttributes derivedDemoAttributes;
+
 	/** The mosip logger. */
 	private static Logger mosipLogger = IdaLogger.getLogger(IdInfoHelper.class);
 
@@ -109,6 +116,53 @@ public class IdInfoHelper {
 	 */
 	public List<String> getIdMappingValue(IdMapping idMapping, MatchType matchType)
 			throws IdAuthenticationBusinessException {
+		return getIdMappingValue(idMapping, matchType, new MatchContext());
+	}
+
+	/**
+	 * Gets the identity attributes mapped to the match types.
+	 *
+	 * @param matchTypes the match types
+	 * @return the identity attributes
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public Set<String> getIdentityAttributesForMatchTypes(MatchType... matchTypes)
+			throws IdAuthenticationBusinessException {
+		MatchContext matchContext = new MatchContext();
+		Set<String> attributes = new HashSet<>();
+		for (MatchType matchType : matchTypes) {
+			attributes.addAll(getIdMappingValue(matchType.getIdMapping(), matchType, matchContext));
+		}
+		return attributes;
+	}
+
+	/**
+	 * Gets the id mapping value, memoized in the match context.
+	 *
+	 * @param idMapping the id mapping
+	 * @param matchType the match type
+	 * @param matchContext the match context
+	 * @return the id mapping value
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private List<String> getIdMappingValue(IdMapping idMapping, MatchType matchType, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
+		return matchContext.getIdMappingValue(idMapping, matchType,
+				() -> resolveIdMappingValue(idMapping, matchType, matchContext));
+	}
+
+	/**
+	 * Resolves the id mapping value, including the values of the id mappings it
+	 * refers to.
+	 *
+	 * @param idMapping the id mapping
+	 * @param matchType the match type
+	 * @param matchContext the match context
+	 * @return the id mapping value
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private List<String> resolveIdMappingValue(IdMapping idMapping, MatchType matchType, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
 		String type = matchType.getCategory().getType();
 		List<String> mappings = idMapping.getMappingFunction().apply(idMappingConfig, matchType);
 		if (mappings != null && !mappings.isEmpty()) {
@@ -117,7 +171,8 @@ public class IdInfoHelper {
 				if (!Objects.isNull(mappingStr) && !mappingStr.isEmpty()) {
 					Optional<IdMapping> mappingInternal = IdMapping.getIdMapping(mappingStr, IdaIdMapping.values());
 					if (mappingInternal.isPresent() && idMapping != mappingInternal.get()) {
-						List<String> internalMapping = getIdMappingValue(mappingInternal.get(), matchType);
+						List<String> internalMapping = getIdMappingValue(mappingInternal.get(), matchType,
+								matchContext);
 						fullMapping.addAll(internalMapping);
 					} else {
 						fullMapping.add(mappingStr);
@@ -186,13 +241,15 @@ public class IdInfoHelper {
 	 * @param propertyNames the property names
 	 * @param languageCode  the language code
 	 * @param idEntity the id entity
+	 * @param matchContext the match context
 	 * @return the identity values map
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	private Map<String, String> getIdentityValuesMap(MatchType matchType, List<String> propertyNames,
-			String languageCode, Map<String, List<IdentityInfoDTO>> idEntity) throws IdAuthenticationBusinessException {
-		Map<String, Entry<String, List<IdentityInfoDTO>>> mappedIdEntity = matchType.mapEntityInfo(idEntity,
-				idInfoFetcher);
+			String languageCode, Map<String, List<IdentityInfoDTO>> idEntity, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
+		Map<String, Entry<String, List<IdentityInfoDTO>>> mappedIdEntity = matchContext.getMappedEntityInfo(matchType,
+				idEntity, () -> matchType.mapEntityInfo(idEntity, idInfoFetcher, matchContext));
 		return propertyNames.stream().filter(propName -> mappedIdEntity.containsKey(propName))
 				.collect(
 						Collectors.toMap(propName -> mappedIdEntity.get(propName).getKey(),
@@ -212,9 +269,28 @@ public class IdInfoHelper {
 	 */
 	public Map<String, String> getIdEntityInfoMap(MatchType matchType, Map<String, List<IdentityInfoDTO>> identityInfos,
 			String language) throws IdAuthenticationBusinessException {
-		List<String> propertyNames = getIdMappingValue(matchType.getIdMapping(), matchType);
-		Map<String, String> identityValuesMap = getIdentityValuesMap(matchType, propertyNames, language, identityInfos);
-		return matchType.getEntityInfoMapper().apply(identityValuesMap);
+		return getIdEntityInfoMap(matchType, identityInfos, language, new MatchContext());
+	}
+
+	/**
+	 * Gets the entity info map, memoized in the match context.
+	 *
+	 * @param matchType     the match type
+	 * @param identityInfos the demo entity
+	 * @param language the language
+	 * @param matchContext the match context
+	 * @return the entity info map
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private Map<String, String> getIdEntityInfoMap(MatchType matchType,
+			Map<String, List<IdentityInfoDTO>> identityInfos, String language, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
+		return matchContext.getEntityInfo(matchType, language, identityInfos, () -> {
+			List<String> propertyNames = getIdMappingValue(matchType.getIdMapping(), matchType, matchContext);
+			Map<String, String> identityValuesMap = getIdentityValuesMap(matchType, propertyNames, language,
+					identityInfos, matchContext);
+			return matchType.getEntityInfoMapper().apply(identityValuesMap);
+		});
 	}
 
 	/**
@@ -238,6 +314,7 @@ public class IdInfoHelper {
 				matchOutputList.add(matchOutput);
 			}
 		}
+		logMatchContext(authRequestDTO);
 		return matchOutputList;
 	}
 
@@ -263,9 +340,20 @@ public class IdInfoHelper {
 				matchOutputList.add(matchOutput);
 			}
 		}
+		logMatchContext(authRequestDTO);
 		return matchOutputList;
 	}
 
+	/**
+	 * Logs the work saved by the match context of the request.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 */
+	private void logMatchContext(AuthRequestDTO authRequestDTO) {
+		mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "matchIdentityData",
+				String.valueOf(authRequestDTO.getMatchContext()));
+	}
+
 	/**
 	 * Match type.
 	 *
@@ -328,18 +416,28 @@ public class IdInfoHelper {
 			Optional<MatchingStrategy> matchingStrategy = matchType.getAllowedMatchingStrategy(strategyType);
 			if (matchingStrategy.isPresent()) {
 				MatchingStrategy strategy = matchingStrategy.get();
-				Map<String, String> reqInfo = null;
-				reqInfo = getAuthReqestInfo(matchType, authRequestDTO);
-				if (null == reqInfo || reqInfo.isEmpty()) {
-					reqInfo = idInfoFetcher.getIdentityRequestInfo(matchType, authRequestDTO.getRequest(),
-							input.getLanguage());
-				}
+				MatchContext matchContext = MatchContext.of(authRequestDTO);
+				Map<String, String> reqInfo = matchContext.getRequestInfo(matchType, input.getLanguage(), () -> {
+					Map<String, String> authReqestInfo = getAuthReqestInfo(matchType, authRequestDTO);
+					if (null == authReqestInfo || authReqestInfo.isEmpty()) {
+						return idInfoFetcher.getIdentityRequestInfo(matchType, authRequestDTO.getRequest(),
+								input.getLanguage());
+					}
+					return authReqestInfo;
+				});
 				if (null != reqInfo && reqInfo.size() > 0) {
 					Map<String, String> entityInfo = getEntityInfo(demoEntity, uin, authRequestDTO, input,
-							entityValueFetcher, matchType, strategy, reqInfo, partnerId);
+							entityValueFetcher, matchType, strategy, reqInfo, partnerId, matchContext);
 
 					Map<String, Object> matchProperties = input.getMatchProperties();
-					
+					if (derivedDemoAttributes != null && strategy instanceof TextMatchingStrategy
+							&& !matchType.hasRequestEntityInfo() && matchType.hasIdEntityInfo()) {
+						// Joined as matched by the text matching strategy
+						String entityInfoText = entityInfo.values().stream().collect(Collectors.joining(" "));
+						matchProperties = derivedDemoAttributes.withDerivedEntityInfo(matchProperties, matchType,
+								input.getLanguage(), entityInfoText, demoEntity);
+					}
+
 					int mtOut = strategy.match(reqInfo, entityInfo, matchProperties);
 					boolean matchOutput = mtOut >= input.getMatchValue();
 					return new MatchOutput(mtOut, matchOutput, input.getMatchStrategyType(), matchType,
@@ -367,19 +465,20 @@ public class IdInfoHelper {
 	 * @param strategy           the strategy
 	 * @param reqInfo            the req info
 	 * @param partnerId the partner id
+	 * @param matchContext the match context
 	 * @return the match output
 	 * @throws IdAuthenticationBusinessException the id authentication business
 	 *                                           exception
 	 */
 	private Map<String, String> getEntityInfo(Map<String, List<IdentityInfoDTO>> demoEntity, String uin,
 			AuthRequestDTO req, MatchInput input, EntityValueFetcher entityValueFetcher, MatchType matchType,
-			MatchingStrategy strategy, Map<String, String> reqInfo, String partnerId)
+			MatchingStrategy strategy, Map<String, String> reqInfo, String partnerId, MatchContext matchContext)
 			throws IdAuthenticationBusinessException {
 		Map<String, String> entityInfo = null;
 		if (matchType.hasRequestEntityInfo()) {
 			entityInfo = entityValueFetcher.fetch(uin, req, partnerId);
 		} else if (matchType.hasIdEntityInfo()) {
-			entityInfo = getIdEntityInfoMap(matchType, demoEntity, input.getLanguage());
+			entityInfo = getIdEntityInfoMap(matchType, demoEntity, input.getLanguage(), matchContext);
 		} else {
 			entityInfo = Collections.emptyMap();
 		}
@@ -0,0 +1,345 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class IdentityCache - the in-memory cache of the parsed and decrypted
+ * identity data by the hashed id, in front of the identity cache table.
+ * <p>
+ * The cache is disabled by default as it holds decrypted identity data. When
+ * enabled, the entries expire after the configured time to live and are
+ * evicted beyond the configured memory budget, which is accounted with the
+ * size of the stored identity data. The biometric data can be kept off-heap as
+ * JSON, in which case it is parsed again on every hit.
+ * <p>
+ * A hit does not read the identity cache table. The entries are invalidated on
+ * the ID change events handled by this instance and on the consumption of the
+ * temporary VIDs, which are not cached. The changes of the identity handled by
+ * the other instances, such as its removal, deactivation or a new credential,
+ * are seen once the entry expires, so the time to live bounds how long a
+ * changed identity can still be authenticated as before.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class IdentityCache {
+
+	/** The Constant IDENTITY_CACHE_METRIC. */
+	private static final String IDENTITY_CACHE_METRIC = "ida.identity.cache";
+
+	/** The Constant IDENTITY_CACHE_WEIGHT_METRIC. */
+	private static final String IDENTITY_CACHE_WEIGHT_METRIC = "ida.identity.cache.weight";
+
+	/** The Constant IDENTITY_CACHE_SIZE_METRIC. */
+	private static final String IDENTITY_CACHE_SIZE_METRIC = "ida.identity.cache.size";
+
+	/** The Constant IDENTITY_CACHE. */
+	private static final String IDENTITY_CACHE = "IdentityCache";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(IdentityCache.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The enabled flag. */
+	private boolean enabled;
+
+	/** The max weight of the cached entries in bytes. */
+	private long maxWeight;
+
+	/** The time to live of the cached entries in millis. */
+	private long ttlMillis;
+
+	/** The flag to keep the biometric data off-heap. */
+	private boolean bioOffHeap;
+
+	/** The cached identities by the hashed id. */
+	private Cache<String, CachedIdentity> identities;
+
+	/** The cache hit counter. */
+	private Counter cacheHits;
+
+	/** The cache miss counter. */
+	private Counter cacheMisses;
+
+	/**
+	 * Initializes the cache and its metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		enabled = env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_ENABLED, Boolean.class, false);
+		maxWeight = env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_MAX_MEMORY_BYTES, Long.class,
+				IdAuthCommonConstants.DEFAULT_IDENTITY_CACHE_MAX_MEMORY_BYTES);
+		ttlMillis = TimeUnit.SECONDS.toMillis(env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_TTL_SECS,
+				Long.class, IdAuthCommonConstants.DEFAULT_IDENTITY_CACHE_TTL_SECS));
+		bioOffHeap = env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_BIO_OFF_HEAP, Boolean.class, false);
+		if (!enabled) {
+			return;
+		}
+		// The maintenance runs on the calling thread, so the memory budget holds once a put returns
+		identities = Caffeine.newBuilder().maximumWeight(maxWeight)
+				.weigher((String hashedId, CachedIdentity identity) -> (int) Math.min(identity.weight, Integer.MAX_VALUE))
+				.expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS).executor(Runnable::run).build();
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		cacheHits = cacheCounter(registry, "hit");
+		cacheMisses = cacheCounter(registry, "miss");
+		Gauge.builder(IDENTITY_CACHE_WEIGHT_METRIC, this, IdentityCache::getWeight).baseUnit("bytes")
+				.description("Size of the cached identity data").register(registry);
+		Gauge.builder(IDENTITY_CACHE_SIZE_METRIC, this, IdentityCache::size)
+				.description("Number of the cached identities").register(registry);
+	}
+
+	/**
+	 * Creates the cache lookup counter.
+	 *
+	 * @param registry the registry
+	 * @param result   the result
+	 * @return the counter
+	 */
+	private static Counter cacheCounter(MeterRegistry registry, String result) {
+		return Counter.builder(IDENTITY_CACHE_METRIC).tag("result", result).description("Identity cache lookups")
+				.register(registry);
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Gets the cached identity. An identity cached without the biometric data is
+	 * a miss for the biometric lookups.
+	 *
+	 * @param hashedId the hashed id
+	 * @param isBio    the is bio
+	 * @return the cached identity, or null
+	 */
+	public CachedIdentity get(String hashedId, boolean isBio) {
+		if (!enabled) {
+			return null;
+		}
+		CachedIdentity identity = identities.getIfPresent(hashedId);
+		if (identity == null || (isBio && !identity.biometricsLoaded)) {
+			cacheMisses.increment();
+			return null;
+		}
+		cacheHits.increment();
+		return identity;
+	}
+
+	/**
+	 * Caches the identity, evicting the entries beyond the memory budget.
+	 *
+	 * @param hashedId         the hashed id
+	 * @param expiryTimestamp  the expiry timestamp of the identity
+	 * @param token            the token
+	 * @param demographics     the decrypted demographic data
+	 * @param biometrics       the decrypted biometric data, or null
+	 * @param biometricsLoaded the flag to indicate that the biometric data is
+	 *                         loaded
+	 * @param weight           the size of the identity data in bytes
+	 */
+	public void put(String hashedId, LocalDateTime expiryTimestamp, String token,
+			Map<String, Object> demographics, Map<String, Object> biometrics, boolean biometricsLoaded, long weight) {
+		if (!enabled || weight > maxWeight) {
+			return;
+		}
+		ByteBuffer offHeapBiometrics = null;
+		if (bioOffHeap && biometrics != null) {
+			try {
+				byte[] biometricBytes = mapper.writeValueAsBytes(biometrics);
+				offHeapBiometrics = ByteBuffer.allocateDirect(biometricBytes.length).put(biometricBytes);
+				offHeapBiometrics.flip();
+			} catch (JsonProcessingException e) {
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, IDENTITY_CACHE, "put", e.getMessage());
+				return;
+			}
+		}
+		identities.put(hashedId, new CachedIdentity(expiryTimestamp, token,
+				Collections.unmodifiableMap(demographics),
+				offHeapBiometrics == null && biometrics != null ? Collections.unmodifiableMap(biometrics) : null,
+				offHeapBiometrics, biometricsLoaded, weight));
+	}
+
+	/**
+	 * Invalidates the cached identity.
+	 *
+	 * @param hashedId the hashed id
+	 */
+	public void invalidate(String hashedId) {
+		if (!enabled || hashedId == null) {
+			return;
+		}
+		identities.invalidate(hashedId);
+	}
+
+	/**
+	 * Clears the cache.
+	 */
+	public void clear() {
+		if (enabled) {
+			identities.invalidateAll();
+		}
+	}
+
+	/**
+	 * Gets the number of the cached identities.
+	 *
+	 * @return the size
+	 */
+	public long size() {
+		if (!enabled) {
+			return 0;
+		}
+		identities.cleanUp();
+		return identities.estimatedSize();
+	}
+
+	/**
+	 * Gets the total size of the cached identity data in bytes.
+	 *
+	 * @return the weight
+	 */
+	public long getWeight() {
+		if (!enabled) {
+			return 0;
+		}
+		identities.cleanUp();
+		return identities.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+	}
+
+	/**
+	 * The cached identity.
+	 */
+	public class CachedIdentity {
+
+		/** The expiry timestamp of the identity. */
+		private final LocalDateTime expiryTimestamp;
+
+		/** The token. */
+		private final String token;
+
+		/** The demographics. */
+		private final Map<String, Object> demographics;
+
+		/** The biometrics, if kept on heap. */
+		private final Map<String, Object> biometrics;
+
+		/** The biometrics JSON, if kept off-heap. */
+		private final ByteBuffer offHeapBiometrics;
+
+		/** The flag to indicate that the biometric data is loaded. */
+		private final boolean biometricsLoaded;
+
+		/** The weight. */
+		private final long weight;
+
+		/**
+		 * Instantiates a new cached identity.
+		 *
+		 * @param expiryTimestamp   the expiry timestamp
+		 * @param token             the token
+		 * @param demographics      the demographics
+		 * @param biometrics        the biometrics
+		 * @param offHeapBiometrics the off heap biometrics
+		 * @param biometricsLoaded  the biometrics loaded
+		 * @param weight            the weight
+		 */
+		private CachedIdentity(LocalDateTime expiryTimestamp, String token,
+				Map<String, Object> demographics, Map<String, Object> biometrics, ByteBuffer offHeapBiometrics,
+				boolean biometricsLoaded, long weight) {
+			this.expiryTimestamp = expiryTimestamp;
+			this.token = token;
+			this.demographics = demographics;
+			this.biometrics = biometrics;
+			this.offHeapBiometrics = offHeapBiometrics;
+			this.biometricsLoaded = biometricsLoaded;
+			this.weight = weight;
+		}
+
+		/**
+		 * Gets the expiry timestamp of the identity.
+		 *
+		 * @return the expiry timestamp
+		 */
+		public LocalDateTime getExpiryTimestamp() {
+			return expiryTimestamp;
+		}
+
+		/**
+		 * Gets the token.
+		 *
+		 * @return the token
+		 */
+		public String getToken() {
+			return token;
+		}
+
+		/**
+		 * Gets the decrypted demographic data.
+		 *
+		 * @return the unmodifiable demographics
+		 */
+		public Map<String, Object> getDemographics() {
+			return demographics;
+		}
+
+		/**
+		 * Gets the decrypted biometric data, parsing it if it is kept off-heap.
+		 *
+		 * @return the biometrics, or null if the identity has no biometric data
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		@SuppressWarnings("unchecked")
+		public Map<String, Object> getBiometrics() throws IOException {
+			if (offHeapBiometrics == null) {
+				return biometrics;
+			}
+			ByteBuffer buffer = offHeapBiometrics.duplicate();
+			byte[] biometricBytes = new byte[buffer.remaining()];
+			buffer.get(biometricBytes);
+			return Collections.unmodifiableMap(mapper.readValue(biometricBytes, Map.class));
+		}
+	}
+
+}
@@ -0,0 +1,197 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.util.IdentityDataCodec;
+import io.mosip.authentication.core.util.IdentityDataCompression;
+import io.mosip.authentication.core.util.IdentityDataCompression.Codec;
+
+/**
+ * The Class IdentityCacheDataEncoder - encodes the demographic and biometric
+ * data stored in the identity cache table, and reads them back.
+ * <p>
+ * The data is encoded in the binary record format, with the biometrics stored
+ * as raw bytes rather than base64 text, and compressed with the configured
+ * codec. The data is read in any of the formats written before, and the stored
+ * size read is recorded as a metric.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class IdentityCacheDataEncoder {
+
+	/** The Constant BYTES_READ_METRIC. */
+	private static final String BYTES_READ_METRIC = "ida.identity.cache.bytes.read";
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The flag to encode the data in the binary record format. */
+	private boolean binaryEncodingEnabled;
+
+	/** The compression codec. */
+	private Codec codec;
+
+	/** The compression level. */
+	private int compressionLevel;
+
+	/** The demographic bytes read. */
+	private DistributionSummary demographicBytesRead;
+
+	/** The biometric bytes read. */
+	private DistributionSummary biometricBytesRead;
+
+	/**
+	 * Initializes the encoding settings and the metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		binaryEncodingEnabled = env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_BINARY_ENCODING_ENABLED,
+				Boolean.class, true);
+		codec = Codec.valueOf(env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_COMPRESSION,
+				Codec.DEFLATE.name()).trim().toUpperCase());
+		compressionLevel = env.getProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_COMPRESSION_LEVEL, Integer.class,
+				Deflater.DEFAULT_COMPRESSION);
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		demographicBytesRead = bytesReadSummary(registry, "demographic");
+		biometricBytesRead = bytesReadSummary(registry, "biometric");
+	}
+
+	/**
+	 * Creates the bytes read summary.
+	 *
+	 * @param registry the registry
+	 * @param type     the data type
+	 * @return the distribution summary
+	 */
+	private static DistributionSummary bytesReadSummary(MeterRegistry registry, String type) {
+		return DistributionSummary.builder(BYTES_READ_METRIC).tag("type", type).baseUnit("bytes")
+				.description("Identity cache data read per identity").register(registry);
+	}
+
+	/**
+	 * Checks if the binary encoding is enabled.
+	 *
+	 * @return true, if is binary encoding enabled
+	 */
+	public boolean isBinaryEncodingEnabled() {
+		return binaryEncodingEnabled;
+	}
+
+	/**
+	 * Encodes the demographic data.
+	 *
+	 * @param demoData the demo data
+	 * @return the encoded data
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	public byte[] encodeDemographicData(Map<String, Object> demoData) throws JsonProcessingException {
+		return encode(demoData, name -> false);
+	}
+
+	/**
+	 * Encodes the biometric data, storing the base64 values as raw bytes.
+	 *
+	 * @param bioData the bio data
+	 * @return the encoded data
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	public byte[] encodeBiometricData(Map<String, Object> bioData) throws JsonProcessingException {
+		return encode(bioData, name -> true);
+	}
+
+	/**
+	 * Encodes the data in the configured format, writing the values that are not
+	 * strings as JSON.
+	 *
+	 * @param data             the data
+	 * @param binaryAttributes the filter of the binary attribute names
+	 * @return the encoded data
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	private byte[] encode(Map<String, Object> data, Predicate<String> binaryAttributes)
+			throws JsonProcessingException {
+		byte[] encoded;
+		if (binaryEncodingEnabled) {
+			Map<String, String> attributes = new LinkedHashMap<>();
+			for (Entry<String, Object> entry : data.entrySet()) {
+				Object value = entry.getValue();
+				attributes.put(entry.getKey(), value == null || value instanceof String ? (String) value
+						: mapper.writeValueAsString(value));
+			}
+			encoded = IdentityDataCodec.encode(attributes, binaryAttributes);
+		} else {
+			encoded = mapper.writeValueAsBytes(data);
+		}
+		return IdentityDataCompression.compress(encoded, codec, compressionLevel);
+	}
+
+	/**
+	 * Reads the stored demographic data, decompressing it if compressed.
+	 *
+	 * @param storedData the stored data
+	 * @return the data in the binary record format or JSON
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public byte[] readDemographicData(byte[] storedData) throws IOException {
+		demographicBytesRead.record(storedData.length);
+		return IdentityDataCompression.decompress(storedData);
+	}
+
+	/**
+	 * Reads the stored biometric data.
+	 *
+	 * @param storedData the stored data
+	 * @return the biometric data
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public Map<String, String> readBiometricData(byte[] storedData) throws IOException {
+		biometricBytesRead.record(storedData.length);
+		return decode(storedData);
+	}
+
+	/**
+	 * Decodes the stored data of any of the formats.
+	 *
+	 * @param storedData the stored data
+	 * @return the data
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, String> decode(byte[] storedData) throws IOException {
+		byte[] data = IdentityDataCompression.decompress(storedData);
+		if (IdentityDataCodec.isEncoded(data)) {
+			return IdentityDataCodec.read(data).getValues(name -> true);
+		}
+		return mapper.readValue(data, Map.class);
+	}
+
+}
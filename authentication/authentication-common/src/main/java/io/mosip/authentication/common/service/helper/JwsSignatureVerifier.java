@@ -0,0 +1,371 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+/**
+ * The Class JwsSignatureVerifier - verifies the JWS signatures of the digital
+ * ID and the biometric data of the devices, caching the parsed certificates
+ * and the already verified JWS. A device sends the same digital ID and
+ * certificate in every request, so only the signature of the payload is
+ * verified for the repeated devices.
+ * <p>
+ * The cached entries expire after the configured time to live or when the
+ * certificate expires, whichever is earlier. There is no notification of the
+ * revoked device certificates, so a revoked certificate is still trusted until
+ * its entry expires, and the time to live bounds that window.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class JwsSignatureVerifier {
+
+	/** The Constant CERT_CACHE_METRIC. */
+	private static final String CERT_CACHE_METRIC = "ida.jws.cert.cache";
+
+	/** The Constant VERIFIED_JWS_CACHE_METRIC. */
+	private static final String VERIFIED_JWS_CACHE_METRIC = "ida.jws.verified.cache";
+
+	/** The Constant X5C. */
+	private static final String X5C = "x5c";
+
+	/** The Constant ALG. */
+	private static final String ALG = "alg";
+
+	/** The Constant X509. */
+	private static final String X509 = "X.509";
+
+	/** The Constant SHA_256. */
+	private static final String SHA_256 = "SHA-256";
+
+	/** The Constant JWS_SIGNATURE_VERIFIER. */
+	private static final String JWS_SIGNATURE_VERIFIER = "JwsSignatureVerifier";
+
+	/** The JWS algorithms verified locally, others are verified by the crypto core. */
+	private static final Map<String, String> SIGNATURE_ALGORITHMS;
+
+	static {
+		Map<String, String> algorithms = new HashMap<>();
+		algorithms.put("RS256", "SHA256withRSA");
+		algorithms.put("RS384", "SHA384withRSA");
+		algorithms.put("RS512", "SHA512withRSA");
+		SIGNATURE_ALGORITHMS = Collections.unmodifiableMap(algorithms);
+	}
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(JwsSignatureVerifier.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The crypto core. */
+	@Autowired
+	private CryptoCore cryptoCore;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The certificates by the hash of the x5c value. */
+	private Map<String, CachedCertificate> certificateCache;
+
+	/** The expiry of the verified JWS by the hash of the JWS. */
+	private Map<String, VerifiedJws> verifiedJwsCache;
+
+	/** The time to live of the cached entries in millis. */
+	private long ttlMillis;
+
+	/** The cert cache hit counter. */
+	private Counter certCacheHits;
+
+	/** The cert cache miss counter. */
+	private Counter certCacheMisses;
+
+	/** The verified JWS cache hit counter. */
+	private Counter verifiedJwsCacheHits;
+
+	/** The verified JWS cache miss counter. */
+	private Counter verifiedJwsCacheMisses;
+
+	/**
+	 * Initializes the caches and their metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		int maxSize = env.getProperty(IdAuthConfigKeyConstants.JWS_VERIFICATION_CACHE_MAX_SIZE, Integer.class,
+				IdAuthCommonConstants.DEFAULT_JWS_VERIFICATION_CACHE_MAX_SIZE);
+		ttlMillis = TimeUnit.MINUTES.toMillis(env.getProperty(IdAuthConfigKeyConstants.JWS_VERIFICATION_CACHE_TTL_MINS,
+				Long.class, IdAuthCommonConstants.DEFAULT_JWS_VERIFICATION_CACHE_TTL_MINS));
+		certificateCache = Collections.synchronizedMap(new LruMap<>(maxSize));
+		verifiedJwsCache = Collections.synchronizedMap(new LruMap<>(maxSize));
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		certCacheHits = cacheCounter(registry, CERT_CACHE_METRIC, "hit");
+		certCacheMisses = cacheCounter(registry, CERT_CACHE_METRIC, "miss");
+		verifiedJwsCacheHits = cacheCounter(registry, VERIFIED_JWS_CACHE_METRIC, "hit");
+		verifiedJwsCacheMisses = cacheCounter(registry, VERIFIED_JWS_CACHE_METRIC, "miss");
+	}
+
+	/**
+	 * Creates the cache lookup counter.
+	 *
+	 * @param registry the registry
+	 * @param name     the name
+	 * @param result   the result
+	 * @return the counter
+	 */
+	private static Counter cacheCounter(MeterRegistry registry, String name, String result) {
+		return Counter.builder(name).tag("result", result).description("JWS verification cache lookups")
+				.register(registry);
+	}
+
+	/**
+	 * Verifies the signature of the JWS with the certificate in its x5c header.
+	 *
+	 * @param jws the JWS in compact serialization
+	 * @return true, if the signature is valid
+	 */
+	public boolean verifySignature(String jws) {
+		String[] parts = jws.split("\\.", -1);
+		if (parts.length != 3) {
+			return cryptoCore.verifySignature(jws);
+		}
+
+		long now = System.currentTimeMillis();
+		String jwsHash = hash(jws);
+		VerifiedJws verifiedJws = verifiedJwsCache.get(jwsHash);
+		if (verifiedJws != null && verifiedJws.expiryTime > now
+				&& getCachedCertificate(verifiedJws.certificateHash, now) != null) {
+			verifiedJwsCacheHits.increment();
+			return true;
+		}
+		verifiedJwsCacheMisses.increment();
+
+		JsonNode header;
+		CachedCertificate certificate;
+		try {
+			header = mapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+			certificate = getCertificate(header.path(X5C).path(0).asText(null), now);
+		} catch (IOException | IllegalArgumentException | CertificateException e) {
+			mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, JWS_SIGNATURE_VERIFIER, "verifySignature",
+					"Falling back to crypto core: " + e.getMessage());
+			return cryptoCore.verifySignature(jws);
+		}
+
+		String algorithm = SIGNATURE_ALGORITHMS.get(header.path(ALG).asText());
+		boolean verified = algorithm == null ? cryptoCore.verifySignature(jws)
+				: verifyPayloadSignature(algorithm, certificate.certificate, parts);
+		if (verified) {
+			verifiedJwsCache.put(jwsHash, new VerifiedJws(certificate.hash, certificate.expiryTime));
+		}
+		return verified;
+	}
+
+	/**
+	 * Verifies the signature of the JWS payload with the public key of the
+	 * certificate.
+	 *
+	 * @param algorithm   the algorithm
+	 * @param certificate the certificate
+	 * @param parts       the parts of the JWS
+	 * @return true, if the signature is valid
+	 */
+	private boolean verifyPayloadSignature(String algorithm, X509Certificate certificate, String[] parts) {
+		try {
+			Signature signature = Signature.getInstance(algorithm);
+			signature.initVerify(certificate.getPublicKey());
+			signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+			return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, JWS_SIGNATURE_VERIFIER, "verifyPayloadSignature",
+					"Invalid JWS signature: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the certificate of the x5c value from the cache, or parses and caches
+	 * it.
+	 *
+	 * @param x5c the base64 encoded certificate
+	 * @param now the current time
+	 * @return the certificate
+	 * @throws CertificateException if the certificate is missing, invalid or
+	 *                              expired
+	 */
+	private CachedCertificate getCertificate(String x5c, long now) throws CertificateException {
+		if (x5c == null) {
+			throw new CertificateException("x5c header is missing");
+		}
+		String certificateHash = hash(x5c);
+		CachedCertificate cachedCertificate = getCachedCertificate(certificateHash, now);
+		if (cachedCertificate != null) {
+			certCacheHits.increment();
+			return cachedCertificate;
+		}
+		certCacheMisses.increment();
+
+		X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance(X509)
+				.generateCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(x5c)));
+		certificate.checkValidity();
+		cachedCertificate = new CachedCertificate(certificateHash, certificate,
+				Math.min(now + ttlMillis, certificate.getNotAfter().getTime()));
+		certificateCache.put(certificateHash, cachedCertificate);
+		return cachedCertificate;
+	}
+
+	/**
+	 * Gets the certificate from the cache, evicting it if it has expired.
+	 *
+	 * @param certificateHash the certificate hash
+	 * @param now             the current time
+	 * @return the cached certificate, or null
+	 */
+	private CachedCertificate getCachedCertificate(String certificateHash, long now) {
+		CachedCertificate cachedCertificate = certificateCache.get(certificateHash);
+		if (cachedCertificate != null && cachedCertificate.expiryTime <= now) {
+			certificateCache.remove(certificateHash);
+			return null;
+		}
+		return cachedCertificate;
+	}
+
+	/**
+	 * Gets the SHA-256 hash of the value.
+	 *
+	 * @param value the value
+	 * @return the base64 encoded hash
+	 */
+	private static String hash(String value) {
+		try {
+			return Base64.getEncoder().encodeToString(
+					MessageDigest.getInstance(SHA_256).digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The cached certificate.
+	 */
+	private static class CachedCertificate {
+
+		/** The hash of the x5c value. */
+		private final String hash;
+
+		/** The certificate. */
+		private final X509Certificate certificate;
+
+		/** The expiry time. */
+		private final long expiryTime;
+
+		/**
+		 * Instantiates a new cached certificate.
+		 *
+		 * @param hash        the hash
+		 * @param certificate the certificate
+		 * @param expiryTime  the expiry time
+		 */
+		private CachedCertificate(String hash, X509Certificate certificate, long expiryTime) {
+			this.hash = hash;
+			this.certificate = certificate;
+			this.expiryTime = expiryTime;
+		}
+	}
+
+	/**
+	 * The verified JWS, valid as long as its certificate is cached.
+	 */
+	private static class VerifiedJws {
+
+		/** The certificate hash. */
+		private final String certificateHash;
+
+		/** The expiry time. */
+		private final long expiryTime;
+
+		/**
+		 * Instantiates a new verified JWS.
+		 *
+		 * @param certificateHash the certificate hash
+		 * @param expiryTime      the expiry time
+		 */
+		private VerifiedJws(String certificateHash, long expiryTime) {
+			this.certificateHash = certificateHash;
+			this.expiryTime = expiryTime;
+		}
+	}
+
+	/**
+	 * The map that evicts the least recently used entry beyond the max size.
+	 *
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 */
+	private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = -2861408713565323047L;
+
+		/** The max size. */
+		private final int maxSize;
+
+		/**
+		 * Instantiates a new LRU map.
+		 *
+		 * @param maxSize the max size
+		 */
+		private LruMap(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > maxSize;
+		}
+	}
+
+}
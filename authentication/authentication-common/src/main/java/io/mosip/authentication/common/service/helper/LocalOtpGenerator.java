@@ -0,0 +1,205 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class LocalOtpGenerator - generates the OTPs in the application, in
+ * place of the kernel OTP service, and freezes the keys with too many failed
+ * OTP validations.
+ * <p>
+ * The OTPs are numeric, of the configured length, drawn from a DRBG secure
+ * random. A key is frozen after the configured number of consecutive failed
+ * validations, for the configured freeze time doubled on each freeze of the
+ * key up to the max freeze time. A successful validation clears the failures
+ * of the key. The failures are kept in memory of this instance, and the keys
+ * without failures in the max freeze time are evicted.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class LocalOtpGenerator {
+
+	/** The Constant DRBG. */
+	private static final String DRBG = "DRBG";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(LocalOtpGenerator.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The clock. */
+	private Clock clock = Clock.systemUTC();
+
+	/** The secure random. */
+	private SecureRandom random;
+
+	/** The otp length. */
+	private int otpLength;
+
+	/** The number of consecutive failed validations freezing a key. */
+	private int attemptThreshold;
+
+	/** The freeze time in millis. */
+	private long freezeMillis;
+
+	/** The max freeze time in millis. */
+	private long maxFreezeMillis;
+
+	/** The failures by key. */
+	private final ConcurrentMap<String, Failures> failures = new ConcurrentHashMap<>();
+
+	/** The time of the last eviction of the idle keys. */
+	private final AtomicLong lastEvictionMillis = new AtomicLong();
+
+	/**
+	 * Reads the configuration and initializes the secure random.
+	 */
+	@PostConstruct
+	public void init() {
+		otpLength = env.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_DEFAULT_LENGTH, Integer.class,
+				IdAuthCommonConstants.DEFAULT_OTP_LENGTH);
+		attemptThreshold = env.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_VALIDATION_ATTEMPT_THRESHOLD,
+				Integer.class, IdAuthCommonConstants.DEFAULT_OTP_VALIDATION_ATTEMPT_THRESHOLD);
+		freezeMillis = TimeUnit.SECONDS.toMillis(env.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_KEY_FREEZE_TIME,
+				Long.class, IdAuthCommonConstants.DEFAULT_OTP_KEY_FREEZE_TIME_SECS));
+		maxFreezeMillis = Math.max(freezeMillis, TimeUnit.SECONDS.toMillis(env.getProperty(
+				IdAuthConfigKeyConstants.OTP_MAX_KEY_FREEZE_TIME, Long.class,
+				IdAuthCommonConstants.DEFAULT_OTP_MAX_KEY_FREEZE_TIME_SECS)));
+		try {
+			random = SecureRandom.getInstance(DRBG);
+		} catch (NoSuchAlgorithmException e) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"DRBG secure random not available, using the default secure random");
+			random = new SecureRandom();
+		}
+	}
+
+	/**
+	 * Generates an OTP.
+	 *
+	 * @return the otp
+	 */
+	public String generateOtp() {
+		char[] otp = new char[otpLength];
+		for (int i = 0; i < otp.length; i++) {
+			otp[i] = (char) ('0' + random.nextInt(10));
+		}
+		return new String(otp);
+	}
+
+	/**
+	 * Checks if the key is frozen for too many failed validations.
+	 *
+	 * @param key the key
+	 * @return true, if the key is frozen
+	 */
+	public boolean isFrozen(String key) {
+		Failures keyFailures = failures.get(key);
+		return keyFailures != null && keyFailures.frozenUntil > clock.millis();
+	}
+
+	/**
+	 * Records the result of a validation of the OTP of the key.
+	 *
+	 * @param key     the key
+	 * @param success true, if the OTP is valid
+	 */
+	public void validated(String key, boolean success) {
+		if (success) {
+			failures.remove(key);
+			return;
+		}
+		long nowMillis = clock.millis();
+		evictIdleKeys(nowMillis);
+		failures.compute(key, (k, current) -> (current == null ? new Failures(0, 0, 0, nowMillis) : current)
+				.failed(nowMillis, attemptThreshold, freezeMillis, maxFreezeMillis));
+	}
+
+	/**
+	 * Evicts the keys without failures in the max freeze time, if not done in the
+	 * last max freeze time.
+	 *
+	 * @param nowMillis the current time in millis
+	 */
+	private void evictIdleKeys(long nowMillis) {
+		long lastEviction = lastEvictionMillis.get();
+		if (nowMillis - lastEviction >= maxFreezeMillis
+				&& lastEvictionMillis.compareAndSet(lastEviction, nowMillis)) {
+			failures.values().removeIf(keyFailures -> keyFailures.frozenUntil <= nowMillis
+					&& nowMillis - keyFailures.lastFailure >= maxFreezeMillis);
+		}
+	}
+
+	/**
+	 * The failed validations of a key.
+	 */
+	private static final class Failures {
+
+		/** The consecutive failed validations since the last freeze. */
+		private final int count;
+
+		/** The number of times the key is frozen. */
+		private final int freezes;
+
+		/** The time the key is frozen until. */
+		private final long frozenUntil;
+
+		/** The time of the last failed validation. */
+		private final long lastFailure;
+
+		/**
+		 * Instantiates a new failures.
+		 *
+		 * @param count       the count
+		 * @param freezes     the freezes
+		 * @param frozenUntil the frozen until
+		 * @param lastFailure the last failure
+		 */
+		private Failures(int count, int freezes, long frozenUntil, long lastFailure) {
+			this.count = count;
+			this.freezes = freezes;
+			this.frozenUntil = frozenUntil;
+			this.lastFailure = lastFailure;
+		}
+
+		/**
+		 * Counts a failed validation, freezing the key when the threshold is
+		 * reached. The freeze count is reset once the key has had no failures
+		 * for the max freeze time.
+		 *
+		 * @param nowMillis        the current time in millis
+		 * @param attemptThreshold the attempt threshold
+		 * @param freezeMillis     the freeze time in millis
+		 * @param maxFreezeMillis  the max freeze time in millis
+		 * @return the failures
+		 */
+		private Failures failed(long nowMillis, int attemptThreshold, long freezeMillis, long maxFreezeMillis) {
+			int keyFreezes = nowMillis - lastFailure >= maxFreezeMillis ? 0 : freezes;
+			if (count + 1 < attemptThreshold) {
+				return new Failures(count + 1, keyFreezes, frozenUntil, nowMillis);
+			}
+			long keyFreezeMillis = Math.min(maxFreezeMillis, freezeMillis << Math.min(keyFreezes, 30));
+			return new Failures(0, keyFreezes + 1, nowMillis + keyFreezeMillis, nowMillis);
+		}
+	}
+
+}
@@ -0,0 +1,238 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.SlidingWindowCounter;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.exception.ParseException;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class OtpFloodLimiter - checks whether the OTP requests of a token
+ * exceed the configured count in the flooding duration.
+ * <p>
+ * The OTP requests are counted in one of the following modes, configured with
+ * {@code otp.request.flooding.mode}:
+ * <ul>
+ * <li>shared (default) - in the otp_request_counter table with an upsert, so
+ * the limit is applied across the instances. The requests are counted in
+ * memory too, which decides when the table is not available.</li>
+ * <li>memory - in a sliding window counter of this instance only, so the limit
+ * is applied per instance, which multiplies it by the number of
+ * instances.</li>
+ * <li>query - by the query on the auth_transaction table, as before.</li>
+ * </ul>
+ * In the memory and shared modes the requests are counted on the server time,
+ * and the window slides by the flooding duration divided into the configured
+ * number of buckets.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class OtpFloodLimiter {
+
+	/** The Constant UPSERT_COUNT_SQL. */
+	private static final String UPSERT_COUNT_SQL = "WITH upsert AS (INSERT INTO ida.otp_request_counter "
+			+ "(token_id, bucket_dtimes, request_count) VALUES (?, ?, 1) ON CONFLICT (token_id, bucket_dtimes) "
+			+ "DO UPDATE SET request_count = ida.otp_request_counter.request_count + 1 RETURNING request_count) "
+			+ "SELECT (SELECT request_count FROM upsert) + COALESCE((SELECT SUM(request_count) "
+			+ "FROM ida.otp_request_counter WHERE token_id = ? AND bucket_dtimes >= ? AND bucket_dtimes < ?), 0)";
+
+	/** The Constant DELETE_EXPIRED_SQL. */
+	private static final String DELETE_EXPIRED_SQL = "DELETE FROM ida.otp_request_counter WHERE bucket_dtimes < ?";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(OtpFloodLimiter.class);
+
+	/**
+	 * The modes of counting the OTP requests.
+	 */
+	enum Mode {
+		MEMORY, SHARED, QUERY
+	}
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The auth transaction repository. */
+	@Autowired
+	private AutnTxnRepository autntxnrepository;
+
+	/** The jdbc template. */
+	@Autowired(required = false)
+	private JdbcTemplate jdbcTemplate;
+
+	/** The clock. */
+	private Clock clock = Clock.systemUTC();
+
+	/** The mode. */
+	private Mode mode;
+
+	/** The max count of the OTP requests in the flooding duration. */
+	private int maxCount;
+
+	/** The flooding duration in minutes. */
+	private int durationMinutes;
+
+	/** The bucket length in millis. */
+	private long bucketMillis;
+
+	/** The number of buckets in the flooding duration. */
+	private int buckets;
+
+	/** The date time pattern. */
+	private String dateTimePattern;
+
+	/** The in-memory counter. */
+	private SlidingWindowCounter counter;
+
+	/** The time of the last delete of the expired buckets of the shared counter. */
+	private final AtomicLong lastDeleteMillis = new AtomicLong();
+
+	/**
+	 * Reads the configuration and initializes the counter.
+	 */
+	@PostConstruct
+	public void init() {
+		durationMinutes = env.getRequiredProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_DURATION,
+				Integer.class);
+		maxCount = env.getRequiredProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_MAX_COUNT, Integer.class);
+		dateTimePattern = env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN);
+		mode = Mode.valueOf(env.getProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_MODE,
+				IdAuthCommonConstants.DEFAULT_OTP_REQUEST_FLOODING_MODE).toUpperCase(Locale.ROOT));
+		if (mode == Mode.SHARED && jdbcTemplate == null) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"No JDBC template for the shared OTP request counter, counting per instance in memory");
+			mode = Mode.MEMORY;
+		}
+		buckets = env.getProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_BUCKETS, Integer.class,
+				IdAuthCommonConstants.DEFAULT_OTP_REQUEST_FLOODING_BUCKETS);
+		long windowMillis = TimeUnit.MINUTES.toMillis(durationMinutes);
+		bucketMillis = Math.max(1, windowMillis / buckets);
+		counter = new SlidingWindowCounter(windowMillis, buckets);
+	}
+
+	/**
+	 * Counts the OTP request of the token and checks whether the OTP requests
+	 * made before it in the flooding duration exceed the max count.
+	 *
+	 * @param token       the token
+	 * @param requestTime the request time of the OTP request
+	 * @return true, if the OTP requests are flooded
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public boolean isFlooded(String token, String requestTime) throws IdAuthenticationBusinessException {
+		long count;
+		switch (mode) {
+		case QUERY:
+			return countFromTransactions(token, requestTime) > maxCount;
+		case SHARED:
+			count = countShared(token);
+			break;
+		default:
+			count = counter.increment(token, clock.millis());
+			break;
+		}
+		// The count includes the current request
+		return count - 1 > maxCount;
+	}
+
+	/**
+	 * Counts the request in memory and in the shared counter table, falling
+	 * back to the count in memory if the table is not available.
+	 *
+	 * @param token the token
+	 * @return the number of requests in the window, including the current one
+	 */
+	private long countShared(String token) {
+		long nowMillis = clock.millis();
+		int localCount = counter.increment(token, nowMillis);
+		long bucketStartMillis = nowMillis - nowMillis % bucketMillis;
+		Timestamp bucket = toTimestamp(bucketStartMillis);
+		Timestamp windowStart = toTimestamp(bucketStartMillis - (buckets - 1) * bucketMillis);
+		try {
+			deleteExpiredBuckets(nowMillis, windowStart);
+			Long count = jdbcTemplate.queryForObject(UPSERT_COUNT_SQL, Long.class, token, bucket, token,
+					windowStart, bucket);
+			return count == null ? localCount : count;
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "countShared",
+					"Shared OTP request count failed, counting in memory: " + ExceptionUtils.getStackTrace(e));
+			return localCount;
+		}
+	}
+
+	/**
+	 * Deletes the buckets before the window from the shared counter table, at
+	 * most once in a flooding duration.
+	 *
+	 * @param nowMillis   the current time in millis
+	 * @param windowStart the start of the window
+	 */
+	private void deleteExpiredBuckets(long nowMillis, Timestamp windowStart) {
+		long lastDelete = lastDeleteMillis.get();
+		if (nowMillis - lastDelete >= bucketMillis * buckets && lastDeleteMillis.compareAndSet(lastDelete, nowMillis)) {
+			jdbcTemplate.update(DELETE_EXPIRED_SQL, windowStart);
+		}
+	}
+
+	/**
+	 * Counts the auth transactions of the token in the flooding duration before
+	 * the request time.
+	 *
+	 * @param token       the token
+	 * @param requestTime the request time
+	 * @return the count
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private int countFromTransactions(String token, String requestTime) throws IdAuthenticationBusinessException {
+		LocalDateTime reqTime;
+		try {
+			String strUTCDate = DateUtils.getUTCTimeFromDate(DateUtils.parseToDate(requestTime, dateTimePattern));
+			reqTime = LocalDateTime.parse(strUTCDate, DateTimeFormatter.ofPattern(dateTimePattern));
+		} catch (ParseException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), e.getClass().getName(),
+					e.getMessage());
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+		return autntxnrepository.countRequestDTime(reqTime, reqTime.minus(durationMinutes, ChronoUnit.MINUTES), token);
+	}
+
+	/**
+	 * Converts the UTC time in millis to timestamp.
+	 *
+	 * @param millis the millis
+	 * @return the timestamp
+	 */
+	private static Timestamp toTimestamp(long millis) {
+		return Timestamp.valueOf(LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+				(int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC));
+	}
+
+}
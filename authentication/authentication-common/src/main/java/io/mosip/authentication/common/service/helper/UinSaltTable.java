@@ -0,0 +1,166 @@
+package io.mosip.authentication.common.service.helper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.entity.UinHashSalt;
+import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class UinSaltTable - the in-memory copy of the uin hash salt table,
+ * indexed by the id modulo.
+ * <p>
+ * The table holds one salt per id modulo and is not changed once the salts are
+ * inserted, so it is loaded once at the startup. A salt missing in
+ * memory, such as one inserted by another instance after the startup, is read
+ * from the database and kept on the first lookup; the salts saved by this
+ * instance are added as they are saved.
+ * <p>
+ * The uin encrypt salt table is not loaded, as no request reads it: the auth
+ * transaction no longer stores the encrypted UIN, and the encrypt salt
+ * repository passed to {@code AuthTransactionBuilder#build} is not used.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class UinSaltTable {
+
+	/** The Constant UIN_SALT_TABLE. */
+	private static final String UIN_SALT_TABLE = "UinSaltTable";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(UinSaltTable.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The uin hash salt repo. */
+	@Autowired
+	private UinHashSaltRepo uinHashSaltRepo;
+
+	/** The hash salts by the id modulo. */
+	private volatile String[] hashSalts = new String[0];
+
+	/**
+	 * Loads the salt table.
+	 */
+	@PostConstruct
+	public void init() {
+		Integer modulo = env.getProperty(IdAuthConfigKeyConstants.UIN_SALT_MODULO, Integer.class);
+		int size = modulo == null || modulo < 0 ? 0 : modulo;
+		try {
+			hashSalts = load(uinHashSaltRepo.findAll(), size, UinHashSalt::getId, UinHashSalt::getSalt);
+			mosipLogger.info(IdAuthCommonConstants.SESSION_ID, UIN_SALT_TABLE, "init",
+					"Loaded " + count(hashSalts) + " hash salts");
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, UIN_SALT_TABLE, "init",
+					"Salts not loaded, reading them on demand: " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Loads the salts into the array indexed by the id.
+	 *
+	 * @param <T>      the entity type
+	 * @param entities the entities
+	 * @param size     the expected size of the table
+	 * @param getId    the id getter
+	 * @param getSalt  the salt getter
+	 * @return the salts by id
+	 */
+	private static <T> String[] load(List<T> entities, int size, ToLongFunction<T> getId,
+			Function<T, String> getSalt) {
+		String[] salts = new String[size];
+		for (T entity : entities) {
+			long id = getId.applyAsLong(entity);
+			if (id >= 0 && id < Integer.MAX_VALUE) {
+				if (id >= salts.length) {
+					salts = Arrays.copyOf(salts, Math.max((int) id + 1, salts.length * 2));
+				}
+				salts[(int) id] = getSalt.apply(entity);
+			}
+		}
+		return salts;
+	}
+
+	/**
+	 * Counts the salts loaded.
+	 *
+	 * @param salts the salts
+	 * @return the count
+	 */
+	private static long count(String[] salts) {
+		return Arrays.stream(salts).filter(salt -> salt != null).count();
+	}
+
+	/**
+	 * Gets the hash salt of the id modulo.
+	 *
+	 * @param idModulo the id modulo
+	 * @return the salt, or null if not present
+	 */
+	public String getHashSalt(long idModulo) {
+		String salt = get(hashSalts, idModulo);
+		if (salt == null) {
+			salt = uinHashSaltRepo.retrieveSaltById(idModulo);
+			putHashSalt(idModulo, salt);
+		}
+		return salt;
+	}
+
+	/**
+	 * Adds the hash salt saved for the id modulo.
+	 *
+	 * @param idModulo the id modulo
+	 * @param salt     the salt
+	 */
+	public synchronized void putHashSalt(long idModulo, String salt) {
+		hashSalts = put(hashSalts, idModulo, salt);
+	}
+
+	/**
+	 * Gets the salt of the id modulo.
+	 *
+	 * @param salts    the salts
+	 * @param idModulo the id modulo
+	 * @return the salt, or null if not present
+	 */
+	private static String get(String[] salts, long idModulo) {
+		return idModulo >= 0 && idModulo < salts.length ? salts[(int) idModulo] : null;
+	}
+
+	/**
+	 * Adds the salt to a copy of the table, which is published in place of the
+	 * table, so that the table is read without locking and only the writes are
+	 * synchronized.
+	 *
+	 * @param salts    the salts
+	 * @param idModulo the id modulo
+	 * @param salt     the salt
+	 * @return the salts
+	 */
+	private static String[] put(String[] salts, long idModulo, String salt) {
+		if (salt == null || idModulo < 0 || idModulo >= Integer.MAX_VALUE) {
+			return salts;
+		}
+		String[] updated = Arrays.copyOf(salts, Math.max((int) idModulo + 1, salts.length));
+		updated[(int) idModulo] = salt;
+		return updated;
+	}
+
+}
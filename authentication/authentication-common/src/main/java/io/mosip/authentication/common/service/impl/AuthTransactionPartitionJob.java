@@ -0,0 +1,114 @@
+package io.mosip.authentication.common.service.impl;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_TRANSACTION_PARTITION_MAINTENANCE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_TRANSACTION_RETENTION_DAYS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_TRANSACTION_RETENTION_DETACH_ONLY;
+
+import java.sql.Timestamp;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class AuthTransactionPartitionJob - maintains the monthly partitions of
+ * the auth_transaction table on a schedule.
+ * <p>
+ * Each run creates the partitions for the configured number of months ahead,
+ * and if a retention is configured, detaches the partitions of the months
+ * ended before the retention period, dropping them unless configured to only
+ * detach them. The partitions are changed by the database functions created
+ * with the table, which let only one instance change them at a time. The job
+ * is enabled by default, as the deployment creates only the partitions of the
+ * next few months and the later transactions would otherwise go to the default
+ * partition.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class AuthTransactionPartitionJob implements ApplicationListener<ApplicationReadyEvent> {
+
+	/** The Constant CREATE_PARTITIONS_SQL. */
+	private static final String CREATE_PARTITIONS_SQL = "SELECT ida.create_auth_transaction_partitions(?)";
+
+	/** The Constant DROP_PARTITIONS_SQL. */
+	private static final String DROP_PARTITIONS_SQL = "SELECT ida.drop_auth_transaction_partitions(?, ?)";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(AuthTransactionPartitionJob.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The jdbc template. */
+	@Autowired(required = false)
+	private JdbcTemplate jdbcTemplate;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.
+	 * springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (env.getProperty(AUTH_TRANSACTION_PARTITION_MAINTENANCE_ENABLED, Boolean.class, true)
+				&& jdbcTemplate != null) {
+			String cron = env.getProperty(AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON,
+					IdAuthCommonConstants.DEFAULT_AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON);
+			mosipLogger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "onApplicationEvent",
+					"Scheduling auth transaction partition maintenance with cron: " + cron);
+			taskScheduler.execute(this::maintainPartitions);
+			taskScheduler.schedule(this::maintainPartitions, new CronTrigger(cron));
+		}
+	}
+
+	/**
+	 * Creates the partitions ahead and removes the partitions past the retention
+	 * period.
+	 *
+	 * @return the number of partitions created and removed
+	 */
+	public int maintainPartitions() {
+		int monthsAhead = env.getProperty(AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD, Integer.class,
+				IdAuthCommonConstants.DEFAULT_AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD);
+		long retentionDays = env.getProperty(AUTH_TRANSACTION_RETENTION_DAYS, Long.class, 0L);
+		boolean detachOnly = env.getProperty(AUTH_TRANSACTION_RETENTION_DETACH_ONLY, Boolean.class, true);
+		try {
+			Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Integer.class, monthsAhead);
+			Integer removed = 0;
+			if (retentionDays > 0) {
+				Timestamp before = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime().minusDays(retentionDays));
+				removed = jdbcTemplate.queryForObject(DROP_PARTITIONS_SQL, Integer.class, before, detachOnly);
+			}
+			mosipLogger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "maintainPartitions",
+					"Auth transaction partitions created: " + created + ", " + (detachOnly ? "detached: " : "dropped: ")
+							+ removed);
+			return (created == null ? 0 : created) + (removed == null ? 0 : removed);
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "maintainPartitions",
+					"Auth transaction partition maintenance failed: " + ExceptionUtils.getStackTrace(e));
+			return 0;
+		}
+	}
+
+}
@@ -1,8 +1,13 @@
 package io.mosip.authentication.common.service.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +17,7 @@ import org.springframework.stereotype.Component;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnDto;
+import io.mosip.authentication.core.autntxn.dto.AutnTxnPageDto;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
@@ -35,6 +41,12 @@ public class AuthTxnServiceImpl implements AuthTxnService {
 	/** The Constant DEFAULT_PAGE_START. */
 	private static final int DEFAULT_PAGE_START = 1;
 
+	/** The Constant STREAM_PAGE_SIZE, the number of transactions read per query while streaming. */
+	private static final int STREAM_PAGE_SIZE = 500;
+
+	/** The Constant CURSOR_SEPARATOR. */
+	private static final char CURSOR_SEPARATOR = '|';
+
 	/** The id service. */
 	@Autowired
 	private IdService<AutnTxn> idService;
@@ -58,8 +70,68 @@ public class AuthTxnServiceImpl implements AuthTxnService {
 		return doFetchAuthTxnDetails(authtxnrequestdto);
 	}
 
-	private List<AutnTxnDto> doFetchAuthTxnDetails(AutnTxnRequestDto authtxnrequestdto) throws IdAuthenticationBusinessException {
+	/* (non-Javadoc)
+	 * @see io.mosip.authentication.core.spi.authtxn.service.AuthTxnService#fetchAuthTxnPage(io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto)
+	 */
+	@Override
+	public AutnTxnPageDto fetchAuthTxnPage(AutnTxnRequestDto authtxnrequestdto)
+			throws IdAuthenticationBusinessException {
+		String token = getToken(authtxnrequestdto);
+		if (token == null) {
+			return new AutnTxnPageDto(Collections.emptyList(), null);
+		}
+		int pageFetch = authtxnrequestdto.getPageFetch() == null ? DEFAULT_PAGE_COUNT : authtxnrequestdto.getPageFetch();
+		validatePageFetch(pageFetch);
+		// One more transaction is fetched to know if there is a next page
+		PageRequest pageRequest = PageRequest.of(0, pageFetch == Integer.MAX_VALUE ? pageFetch : pageFetch + 1);
+		String cursor = authtxnrequestdto.getCursor();
 		List<AutnTxn> autnTxnList;
+		if (cursor == null || cursor.isEmpty()) {
+			autnTxnList = authtxnRepo.findFirstPageByToken(token, pageRequest);
+		} else {
+			AutnTxn last = decodeCursor(cursor);
+			autnTxnList = authtxnRepo.findPageByTokenAfter(token, last.getCrDTimes(), last.getId(), pageRequest);
+		}
+		String nextCursor = null;
+		if (autnTxnList.size() > pageFetch) {
+			autnTxnList = autnTxnList.subList(0, pageFetch);
+			nextCursor = encodeCursor(autnTxnList.get(pageFetch - 1));
+		}
+		return new AutnTxnPageDto(fetchAuthResponse(autnTxnList), nextCursor);
+	}
+
+	/* (non-Javadoc)
+	 * @see io.mosip.authentication.core.spi.authtxn.service.AuthTxnService#streamAuthTxnDetails(io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto, java.util.function.Consumer)
+	 */
+	@Override
+	public void streamAuthTxnDetails(AutnTxnRequestDto authtxnrequestdto, Consumer<AutnTxnDto> consumer)
+			throws IdAuthenticationBusinessException {
+		String token = getToken(authtxnrequestdto);
+		if (token == null) {
+			return;
+		}
+		// Read by keyset pages, each in its own short query, so that no connection
+		// is held while a slow client consumes the stream
+		PageRequest pageRequest = PageRequest.of(0, STREAM_PAGE_SIZE);
+		List<AutnTxn> autnTxnList = authtxnRepo.findFirstPageByToken(token, pageRequest);
+		while (true) {
+			autnTxnList.stream().map(this::fetchAuthResponseDTO).forEach(consumer);
+			if (autnTxnList.size() < STREAM_PAGE_SIZE) {
+				return;
+			}
+			AutnTxn last = autnTxnList.get(autnTxnList.size() - 1);
+			autnTxnList = authtxnRepo.findPageByTokenAfter(token, last.getCrDTimes(), last.getId(), pageRequest);
+		}
+	}
+
+	/**
+	 * Gets the token of the individual id of the request.
+	 *
+	 * @param authtxnrequestdto the authtxnrequestdto
+	 * @return the token, or null if the identity is not found
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private String getToken(AutnTxnRequestDto authtxnrequestdto) throws IdAuthenticationBusinessException {
 		String individualIdType = IdType.getIDTypeStrOrDefault(authtxnrequestdto.getIndividualIdType());
 		
 		if(!IdType.UIN.getType().equals(individualIdType) && !IdType.VID.getType().equals(individualIdType)) {
@@ -71,10 +143,16 @@ public class AuthTxnServiceImpl implements AuthTxnService {
 		}
 		
 		String individualId = authtxnrequestdto.getIndividualId();
-		Map<String, Object> idResDTO = idService.processIdType(individualIdType, individualId, false);
-		if (idResDTO != null && !idResDTO.isEmpty()) {
-			String token = idService.getToken(idResDTO);
+		// Only the token is needed, so no demographic attributes are decoded
+		Map<String, Object> idResDTO = idService.processIdType(individualIdType, individualId, false,
+				Collections.emptySet());
+		return idResDTO != null && !idResDTO.isEmpty() ? idService.getToken(idResDTO) : null;
+	}
 
+	private List<AutnTxnDto> doFetchAuthTxnDetails(AutnTxnRequestDto authtxnrequestdto) throws IdAuthenticationBusinessException {
+		List<AutnTxn> autnTxnList;
+		String token = getToken(authtxnrequestdto);
+		if (token != null) {
 			Integer pageStart = authtxnrequestdto.getPageStart();
 			Integer pageFetch = authtxnrequestdto.getPageFetch();
 			
@@ -115,13 +193,7 @@ public class AuthTxnServiceImpl implements AuthTxnService {
 								"pageStart - " + pageStart ));
 			}
 			
-			if (pageFetch < 1) {
-				throw new IdAuthenticationBusinessException(
-						IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(
-								IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorMessage(),
-								"pageFetch - " + pageFetch));
-			}
+			validatePageFetch(pageFetch);
 			
 			int pageStartIndex = pageStart - 1;
 			pageRequest = PageRequest.of(pageStartIndex, pageFetch);
@@ -132,6 +204,61 @@ public class AuthTxnServiceImpl implements AuthTxnService {
 		return pageRequest;
 	}
 
+	/**
+	 * Validates the page fetch.
+	 *
+	 * @param pageFetch the page fetch
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private void validatePageFetch(int pageFetch) throws IdAuthenticationBusinessException {
+		if (pageFetch < 1) {
+			throw new IdAuthenticationBusinessException(
+					IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
+					String.format(
+							IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorMessage(),
+							"pageFetch - " + pageFetch));
+		}
+	}
+
+	/**
+	 * Encodes the cursor of the page following the transaction. The cursor is
+	 * opaque to the clients, and holds the created time and the id of the
+	 * transaction.
+	 *
+	 * @param autnTxn the last transaction of the page
+	 * @return the cursor
+	 */
+	private static String encodeCursor(AutnTxn autnTxn) {
+		String key = autnTxn.getCrDTimes().toString() + CURSOR_SEPARATOR + autnTxn.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes the cursor.
+	 *
+	 * @param cursor the cursor
+	 * @return the transaction holding the created time and the id in the cursor
+	 * @throws IdAuthenticationBusinessException if the cursor is invalid
+	 */
+	private static AutnTxn decodeCursor(String cursor) throws IdAuthenticationBusinessException {
+		try {
+			String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separatorIndex = key.indexOf(CURSOR_SEPARATOR);
+			if (separatorIndex > 0 && separatorIndex < key.length() - 1) {
+				AutnTxn autnTxn = new AutnTxn();
+				autnTxn.setCrDTimes(LocalDateTime.parse(key.substring(0, separatorIndex)));
+				autnTxn.setId(key.substring(separatorIndex + 1));
+				return autnTxn;
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, AuthTxnServiceImpl.class.getSimpleName(), AUTH_TXN_DETAILS,
+					"Invalid cursor: " + e.getMessage());
+		}
+		throw new IdAuthenticationBusinessException(
+				IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
+				String.format(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorMessage(), "cursor"));
+	}
+
 	/**
 	 * Fetch auth response.
 	 *
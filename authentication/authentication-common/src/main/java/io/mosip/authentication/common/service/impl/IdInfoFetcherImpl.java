@@ -1,5 +1,6 @@
 package io.mosip.authentication.common.service.impl;
 
+import java.io.IOException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,16 +32,20 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.indauth.dto.LanguageType;
 import io.mosip.authentication.core.indauth.dto.RequestDTO;
+import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
 import io.mosip.authentication.core.spi.demoauth.DemoNormalizer;
 import io.mosip.authentication.core.spi.indauth.match.AuthType;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdMapping;
 import io.mosip.authentication.core.spi.indauth.match.MasterDataFetcher;
+import io.mosip.authentication.core.spi.indauth.match.MatchContext;
 import io.mosip.authentication.core.spi.indauth.match.MatchType;
 import io.mosip.authentication.core.spi.indauth.match.TriFunctionWithBusinessException;
 import io.mosip.authentication.core.spi.indauth.match.ValidateOtpFunction;
+import io.mosip.authentication.core.util.CbeffBdbIndex;
 import io.mosip.kernel.core.cbeffutil.spi.CbeffUtil;
+import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 
 /**
@@ -54,6 +59,9 @@ public class IdInfoFetcherImpl implements IdInfoFetcher {
 	/** The Constant INDIVIDUAL BIOMETRICS. */
 	private static final String INDIVIDUAL_BIOMETRICS = "individualBiometrics";
 
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdInfoFetcherImpl.class);
+
 	/** The OTPManager */
 	@Autowired
 	private OTPManager otpManager;
@@ -198,12 +206,32 @@ public class IdInfoFetcherImpl implements IdInfoFetcher {
 	@Override
 	public Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValues(Map<String, List<IdentityInfoDTO>> idEntity,
 			CbeffDocType[] types, MatchType matchType) throws IdAuthenticationBusinessException {
+		return getCbeffValues(idEntity, types, matchType, new MatchContext());
+	}
+
+	/*
+	 * To get the valid Cbeff for Entity Info, parsing each type once per match
+	 * context
+	 * 
+	 * @see
+	 * io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher#getCbeffValues(
+	 * java.util.Map, io.mosip.authentication.core.spi.bioauth.CbeffDocType,
+	 * io.mosip.authentication.core.spi.indauth.match.MatchType,
+	 * io.mosip.authentication.core.spi.indauth.match.MatchContext)
+	 */
+	@Override
+	public Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValues(Map<String, List<IdentityInfoDTO>> idEntity,
+			CbeffDocType[] types, MatchType matchType, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
 		Optional<String> identityValue = getIdentityValue(INDIVIDUAL_BIOMETRICS, null, idEntity)
 				.findAny();
-		if (identityValue.isPresent()) {
+		if (identityValue.isPresent() || Stream.of(CbeffDocType.values())
+				.anyMatch(type -> idEntity.containsKey(CbeffBdbIndex.getAttributeName(type)))) {
 			Map<String, Entry<String, List<IdentityInfoDTO>>> cbeffValuesForTypes = new HashMap<>();
 			for (CbeffDocType type : types) {
-				cbeffValuesForTypes.putAll(getCbeffValuesForCbeffDocType(type, matchType, identityValue));
+				Map<String, String> bdbs = matchContext.getBdbs(type, idEntity,
+						() -> getBdbsForCbeffDocType(type, idEntity, identityValue));
+				cbeffValuesForTypes.putAll(getCbeffValuesForBdbs(bdbs, matchType));
 			}
 			return cbeffValuesForTypes;
 
@@ -212,16 +240,56 @@ public class IdInfoFetcherImpl implements IdInfoFetcher {
 		}
 	}
 
-	private Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValuesForCbeffDocType(CbeffDocType type,
-			MatchType matchType, Optional<String> identityValue) throws IdAuthenticationBusinessException {
-		Map<String, String> bdbBasedOnType;
+	/**
+	 * Gets the BDBs of the type, from the BDBs split at the credential ingestion
+	 * if available, otherwise by parsing the CBEFF. The CBEFF is not stored when
+	 * all the types are split.
+	 *
+	 * @param type the type
+	 * @param idEntity the id entity
+	 * @param identityValue the CBEFF
+	 * @return the BDBs by their CBEFF names
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private Map<String, String> getBdbsForCbeffDocType(CbeffDocType type,
+			Map<String, List<IdentityInfoDTO>> idEntity, Optional<String> identityValue)
+			throws IdAuthenticationBusinessException {
+		Optional<String> bdbIndex = getIdentityValue(CbeffBdbIndex.getAttributeName(type), null, idEntity)
+				.findAny();
+		Map<String, String> bdbBasedOnType = null;
+		if (bdbIndex.isPresent()) {
+			try {
+				bdbBasedOnType = CbeffBdbIndex.decode(bdbIndex.get());
+			} catch (IOException e) {
+				logger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
+						"getCbeffValuesForCbeffDocType", "Invalid BDB index, parsing CBEFF: " + e.getMessage());
+			}
+		}
+		if (bdbBasedOnType == null && identityValue.isEmpty()) {
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), type.getName()));
+		}
 		try {
-			bdbBasedOnType = cbeffUtil.getBDBBasedOnType(CryptoUtil.decodeBase64(identityValue.get()), type.getName(),
-					null);
+			if (bdbBasedOnType == null) {
+				bdbBasedOnType = cbeffUtil.getBDBBasedOnType(CryptoUtil.decodeBase64(identityValue.get()),
+						type.getName(), null);
+			}
 		} catch (Exception e) {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), type.getName()), e);
 		}
+		return bdbBasedOnType;
+	}
+
+	/**
+	 * Gets the cbeff values of the BDBs, named for the match type.
+	 *
+	 * @param bdbBasedOnType the BDBs by their CBEFF names
+	 * @param matchType the match type
+	 * @return the cbeff values
+	 */
+	private Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValuesForBdbs(Map<String, String> bdbBasedOnType,
+			MatchType matchType) {
 		return bdbBasedOnType.entrySet().stream()
 				.collect(Collectors.toMap(Entry<String, String>::getKey, (Entry<String, String> entry) -> {
 					IdentityInfoDTO identityInfoDTO = new IdentityInfoDTO();
@@ -6,6 +6,7 @@ import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_ZERO_KNOWLEDGE_ENCRYPTED_CREDENTIAL_ATTRIBUTES;
 
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -14,6 +15,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,8 +31,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.helper.AuthTransactionWriter;
+import io.mosip.authentication.common.service.helper.IdentityCache;
+import io.mosip.authentication.common.service.helper.IdentityCache.CachedIdentity;
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
 import io.mosip.authentication.common.service.integration.IdRepoManager;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
@@ -39,6 +45,9 @@ import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.spi.id.service.IdService;
+import io.mosip.authentication.core.util.IdentityDataCodec;
+import io.mosip.authentication.core.util.IdentityDataCodec.Record;
+import io.mosip.authentication.core.util.IdentityDataCompression;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
@@ -66,10 +75,6 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	@Autowired
 	private IdRepoManager idRepoManager;
 
-	/** The autntxnrepository. */
-	@Autowired
-	private AutnTxnRepository autntxnrepository;
-	
 	@Autowired
 	private ObjectMapper mapper;
 	
@@ -87,6 +92,18 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	
 	@Value("${"+ IDA_AUTH_PARTNER_ID  +"}")
 	private String authPartherId;
+	
+	/** The identity cache. */
+	@Autowired(required = false)
+	private IdentityCache identityCache;
+	
+	/** The identity cache data encoder. */
+	@Autowired
+	private IdentityCacheDataEncoder identityCacheDataEncoder;
+	
+	/** The auth transaction writer. */
+	@Autowired
+	private AuthTransactionWriter authTransactionWriter;
 
 	/*
 	 * To get Identity data from IDRepo based on UIN
@@ -126,17 +143,36 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	@Override
 	public Map<String, Object> processIdType(String idvIdType, String idvId, boolean isBio)
 			throws IdAuthenticationBusinessException {
+		return processIdType(idvIdType, idvId, isBio, null);
+	}
+
+	/**
+	 * Process the IdType and validates the Idtype and upon validation reference Id
+	 * is returned in AuthRequestDTO, with only the filtered demographic attributes
+	 * decoded from the identity cache.
+	 *
+	 * @param idvIdType idType
+	 * @param idvId     id-number
+	 * @param isBio the is bio
+	 * @param filterAttributes the demographic attributes needed, or null for all
+	 * @return map map
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	@Override
+	public Map<String, Object> processIdType(String idvIdType, String idvId, boolean isBio,
+			Set<String> filterAttributes) throws IdAuthenticationBusinessException {
 		Map<String, Object> idResDTO = null;
 		if (idvIdType.equals(IdType.UIN.getType())) {
 			try {
-				idResDTO = getIdByUin(idvId, isBio);
+				idResDTO = getIdentity(idvId, isBio, IdType.UIN, filterAttributes);
 			} catch (IdAuthenticationBusinessException e) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(), e.getErrorText());
 				throw e;
 			}
 		} else if(idvIdType.equals(IdType.VID.getType())) {
 			try {
-				idResDTO = getIdByVid(idvId, isBio);
+				idResDTO = getIdentity(idvId, isBio, IdType.VID, filterAttributes);
 			} catch (IdAuthenticationBusinessException e) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(), e.getErrorText());
 				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_VID, e);
@@ -170,14 +206,40 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	}
 
 	/**
-	 * Store entry in Auth_txn table for all authentications.
+	 * Process the IdType and validates the Idtype, consuming the temporary VID in
+	 * the same database operation that reads its identity.
+	 *
+	 * @param idvIdType idType
+	 * @param idvId     id-number
+	 * @param isBio the is bio
+	 * @return map map
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	@Override
+	public Map<String, Object> processIdTypeAndUpdateVIDstatus(String idvIdType, String idvId, boolean isBio)
+			throws IdAuthenticationBusinessException {
+		if (!idvIdType.equals(IdType.VID.getType())) {
+			return processIdType(idvIdType, idvId, isBio);
+		}
+		try {
+			return getIdentity(idvId, isBio, IdType.VID, null, true);
+		} catch (IdAuthenticationBusinessException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(), e.getErrorText());
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_VID, e);
+		}
+	}
+
+	/**
+	 * Store entry in Auth_txn table for all authentications, or queue it to be
+	 * written in a batch if the write-behind is enabled.
 	 *
 	 * @param authTxn the auth txn
 	 * @throws IdAuthenticationBusinessException the id authentication business
 	 *                                           exception
 	 */
 	public void saveAutnTxn(AutnTxn authTxn) throws IdAuthenticationBusinessException {
-		autntxnrepository.saveAndFlush(authTxn);
+		authTransactionWriter.write(authTxn);
 	}
 
 	/**
@@ -274,8 +336,52 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	 * @throws IdAuthenticationBusinessException
 	 *             the id authentication business exception
 	 */
-	@SuppressWarnings("unchecked")
 	public Map<String, Object> getIdentity(String id, boolean isBio, IdType idType) throws IdAuthenticationBusinessException {
+		return getIdentity(id, isBio, idType, null);
+	}
+
+	/**
+	 * Fetch data from the identity cache based on Individual's UIN / VID value,
+	 * decoding only the filtered demographic attributes.
+	 *
+	 * @param id
+	 *            the uin
+	 * @param isBio
+	 *            the is bio
+	 * @param idType
+	 *            the id type
+	 * @param filterAttributes
+	 *            the demographic attributes needed, or null for all
+	 * @return the idenity
+	 * @throws IdAuthenticationBusinessException
+	 *             the id authentication business exception
+	 */
+	public Map<String, Object> getIdentity(String id, boolean isBio, IdType idType, Set<String> filterAttributes)
+			throws IdAuthenticationBusinessException {
+		return getIdentity(id, isBio, idType, filterAttributes, false);
+	}
+
+	/**
+	 * Fetch data from the identity cache based on Individual's UIN / VID value,
+	 * decoding only the filtered demographic attributes, and consuming the
+	 * temporary VID if requested.
+	 *
+	 * @param id
+	 *            the uin
+	 * @param isBio
+	 *            the is bio
+	 * @param idType
+	 *            the id type
+	 * @param filterAttributes
+	 *            the demographic attributes needed, or null for all
+	 * @param consumeVid
+	 *            the flag to consume the temporary VID
+	 * @return the idenity
+	 * @throws IdAuthenticationBusinessException
+	 *             the id authentication business exception
+	 */
+	private Map<String, Object> getIdentity(String id, boolean isBio, IdType idType, Set<String> filterAttributes,
+			boolean consumeVid) throws IdAuthenticationBusinessException {
 		
 		String hashedId;
 		try {
@@ -288,51 +394,38 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 		}
 		
 		try {
-			IdentityEntity entity = null;
-			if (!identityRepo.existsById(hashedId)) {
-				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
-						"Id not found in DB");
-				throw new IdAuthenticationBusinessException(
-						IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
-						String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage(),
-								idType.getType()));
-			}
-
-			if (isBio) {
-				entity = identityRepo.getOne(hashedId);
-			} else {
-				Object[] data = identityRepo.findDemoDataById(hashedId).get(0);
-				entity = new IdentityEntity();
-				entity.setId(String.valueOf(data[0]));
-				entity.setDemographicData((byte[]) data[1]);
-				entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
-				entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
-				entity.setToken(String.valueOf(data[4]));
-			}
-			
-			if (Objects.nonNull(entity.getExpiryTimestamp())
-					&& DateUtils.before(entity.getExpiryTimestamp(), DateUtils.getUTCCurrentDateTime())) {
-				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
-						idType.getType() + " expired/deactivated/revoked/blocked");
-				IdAuthenticationErrorConstants errorConstant;
-				if (idType == IdType.UIN) {
-					errorConstant = IdAuthenticationErrorConstants.UIN_DEACTIVATED_BLOCKED;
-				} else {
-					errorConstant = IdAuthenticationErrorConstants.VID_EXPIRED_DEACTIVATED_REVOKED;
+			boolean cacheEnabled = identityCache != null && identityCache.isEnabled();
+			if (cacheEnabled) {
+				CachedIdentity cachedIdentity = identityCache.get(hashedId, isBio);
+				if (cachedIdentity != null) {
+					checkExpiry(cachedIdentity.getExpiryTimestamp(), idType);
+					return toResponseMap(cachedIdentity.getDemographics(),
+							isBio ? cachedIdentity.getBiometrics() : null, cachedIdentity.getToken());
 				}
-				throw new IdAuthenticationBusinessException(errorConstant);
 			}
-
-			Map<String, Object> responseMap = new LinkedHashMap<>();
 			
-			Map<String, String> demoDataMap = mapper.readValue(entity.getDemographicData(), Map.class);
-			responseMap.put(DEMOGRAPHICS, decryptConfiguredAttributes(id, demoDataMap));
+			IdentityEntity entity = consumeVid ? findIdentityConsumingVid(hashedId, isBio, idType)
+					: findIdentity(hashedId, isBio, idType);
+			
+			checkExpiry(entity.getExpiryTimestamp(), idType);
+
+			// Temporary VIDs are not cached, so that their consumption is seen by all the instances
+			boolean cacheable = cacheEnabled && Objects.isNull(entity.getTransactionLimit());
+			// The cached identities are complete, so all the attributes are decoded for them
+			Map<String, Object> demographics = decodeDemographics(id, entity.getDemographicData(),
+					cacheable ? null : filterAttributes);
+			Map<String, Object> biometrics = null;
 			if (entity.getBiometricData() != null) {
-				Map<String, String> bioDataMap = mapper.readValue(entity.getBiometricData(), Map.class);
-				responseMap.put(BIOMETRICS, decryptConfiguredAttributes(id, bioDataMap));
+				Map<String, String> bioDataMap = identityCacheDataEncoder.readBiometricData(entity.getBiometricData());
+				biometrics = decryptConfiguredAttributes(id, bioDataMap);
 			}
-			responseMap.put(TOKEN, entity.getToken());
-			return responseMap;
+			if (cacheable) {
+				identityCache.put(hashedId, entity.getExpiryTimestamp(), entity.getToken(), demographics,
+						biometrics, isBio, IdentityDataCompression.getUncompressedLength(entity.getDemographicData())
+								+ (entity.getBiometricData() == null ? 0
+										: IdentityDataCompression.getUncompressedLength(entity.getBiometricData())));
+			}
+			return toResponseMap(demographics, biometrics, entity.getToken());
 		} catch (IOException | DataAccessException | TransactionException | JDBCConnectionException e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 					ExceptionUtils.getStackTrace(e));
@@ -340,6 +433,160 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 		}
 	}
 
+	/**
+	 * Finds the identity entity by the hashed id.
+	 *
+	 * @param hashedId the hashed id
+	 * @param isBio the is bio
+	 * @param idType the id type
+	 * @return the identity entity
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private IdentityEntity findIdentity(String hashedId, boolean isBio, IdType idType)
+			throws IdAuthenticationBusinessException {
+		if (!identityRepo.existsById(hashedId)) {
+			throw idNotAvailable(idType);
+		}
+
+		if (isBio) {
+			return identityRepo.getOne(hashedId);
+		}
+		Object[] data = identityRepo.findDemoDataById(hashedId).get(0);
+		IdentityEntity entity = new IdentityEntity();
+		entity.setId(String.valueOf(data[0]));
+		entity.setDemographicData((byte[]) data[1]);
+		entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
+		entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
+		entity.setToken(String.valueOf(data[4]));
+		return entity;
+	}
+
+	/**
+	 * Finds the identity entity by the hashed id, consuming it if it is a
+	 * temporary VID, in a single database statement.
+	 *
+	 * @param hashedId the hashed id
+	 * @param isBio the is bio
+	 * @param idType the id type
+	 * @return the identity entity
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private IdentityEntity findIdentityConsumingVid(String hashedId, boolean isBio, IdType idType)
+			throws IdAuthenticationBusinessException {
+		List<Object[]> rows = identityRepo.findByIdConsumingTemporaryVid(hashedId, isBio,
+				DateUtils.getUTCCurrentDateTime());
+		if (rows.isEmpty()) {
+			throw idNotAvailable(idType);
+		}
+		Object[] data = rows.get(0);
+		IdentityEntity entity = new IdentityEntity();
+		entity.setId(String.valueOf(data[0]));
+		entity.setDemographicData((byte[]) data[1]);
+		entity.setExpiryTimestamp(data[2] instanceof Timestamp ? ((Timestamp) data[2]).toLocalDateTime()
+				: (LocalDateTime) data[2]);
+		entity.setTransactionLimit(Objects.nonNull(data[3]) ? ((Number) data[3]).intValue() : null);
+		entity.setToken(String.valueOf(data[4]));
+		entity.setBiometricData((byte[]) data[5]);
+		return entity;
+	}
+
+	/**
+	 * Creates the exception for the id not found in the identity cache.
+	 *
+	 * @param idType the id type
+	 * @return the id authentication business exception
+	 */
+	private IdAuthenticationBusinessException idNotAvailable(IdType idType) {
+		logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
+				"Id not found in DB");
+		return new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
+				String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage(), idType.getType()));
+	}
+
+	/**
+	 * Decodes the demographic data stored either in the binary record format or
+	 * as JSON, compressed or not, decoding and decrypting only the filtered
+	 * attributes.
+	 *
+	 * @param id the id
+	 * @param storedDemoData the stored demo data
+	 * @param filterAttributes the attributes needed, or null for all
+	 * @return the demographics
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> decodeDemographics(String id, byte[] storedDemoData, Set<String> filterAttributes)
+			throws IOException, IdAuthenticationBusinessException {
+		byte[] demoData = identityCacheDataEncoder.readDemographicData(storedDemoData);
+		Predicate<String> filter = filterAttributes == null ? name -> true : filterAttributes::contains;
+		if (!IdentityDataCodec.isEncoded(demoData)) {
+			Map<String, String> demoDataMap = mapper.readValue(demoData, Map.class);
+			if (filterAttributes != null) {
+				demoDataMap.keySet().retainAll(filterAttributes);
+			}
+			return decryptConfiguredAttributes(id, demoDataMap);
+		}
+
+		Record record = IdentityDataCodec.read(demoData);
+		List<String> zkEncryptedAttributes = getZkEncryptedAttributes().stream().map(String::toLowerCase)
+				.collect(Collectors.toList());
+		Map<String, String> dataToDecrypt = record
+				.getValues(filter.and(name -> zkEncryptedAttributes.contains(name.toLowerCase())));
+		Map<String, Object> demographics = new LinkedHashMap<>();
+		for (String name : record.getNames()) {
+			if (filter.test(name) && !dataToDecrypt.containsKey(name)) {
+				String value = record.getValue(name);
+				demographics.put(name, record.isJson(name) ? readJson(value) : value);
+			}
+		}
+		if (!dataToDecrypt.isEmpty()) {
+			demographics.putAll(parseJsonValues(securityManager.zkDecrypt(id, dataToDecrypt)));
+		}
+		return demographics;
+	}
+
+	/**
+	 * Checks if the identity has expired or is deactivated, revoked or blocked.
+	 *
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param idType the id type
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private void checkExpiry(LocalDateTime expiryTimestamp, IdType idType) throws IdAuthenticationBusinessException {
+		if (Objects.nonNull(expiryTimestamp)
+				&& DateUtils.before(expiryTimestamp, DateUtils.getUTCCurrentDateTime())) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
+					idType.getType() + " expired/deactivated/revoked/blocked");
+			IdAuthenticationErrorConstants errorConstant;
+			if (idType == IdType.UIN) {
+				errorConstant = IdAuthenticationErrorConstants.UIN_DEACTIVATED_BLOCKED;
+			} else {
+				errorConstant = IdAuthenticationErrorConstants.VID_EXPIRED_DEACTIVATED_REVOKED;
+			}
+			throw new IdAuthenticationBusinessException(errorConstant);
+		}
+	}
+
+	/**
+	 * Builds the identity response map.
+	 *
+	 * @param demographics the demographics
+	 * @param biometrics the biometrics, or null
+	 * @param token the token
+	 * @return the response map
+	 */
+	private Map<String, Object> toResponseMap(Map<String, Object> demographics, Map<String, Object> biometrics,
+			String token) {
+		Map<String, Object> responseMap = new LinkedHashMap<>();
+		responseMap.put(DEMOGRAPHICS, demographics);
+		if (biometrics != null) {
+			responseMap.put(BIOMETRICS, biometrics);
+		}
+		responseMap.put(TOKEN, token);
+		return responseMap;
+	}
+
 	/**
 	 * Decrypt the attributes as per configuration.
 	 * @param id
@@ -361,23 +608,43 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 		Map<String, String> finalDataStr = new LinkedHashMap<>();
 		finalDataStr.putAll(plainData);
 		finalDataStr.putAll(decryptedData);
-		return finalDataStr.entrySet().stream().collect(Collectors.toMap(entry -> (String) entry.getKey(), 
+		return parseJsonValues(finalDataStr);
+	}
+
+	/**
+	 * Parses the values holding a JSON array or object.
+	 *
+	 * @param dataMap the data map
+	 * @return the parsed data map
+	 */
+	private Map<String, Object> parseJsonValues(Map<String, String> dataMap) {
+		return dataMap.entrySet().stream().collect(Collectors.toMap(entry -> (String) entry.getKey(), 
 								entry -> {
 									String val = entry.getValue();
 									if(val.trim().startsWith("[") || val.trim().startsWith("{")) {
-										try {
-											return mapper.readValue(val.getBytes(), Object.class);
-										} catch (IOException e) {
-											logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "decryptConfiguredAttributes",
-													ExceptionUtils.getStackTrace(e));
-											return val;
-										}
+										return readJson(val);
 									} else {
 										return val;
 									}
 								}
 								));
 	}
+
+	/**
+	 * Parses the JSON value, returning the value as is if it cannot be parsed.
+	 *
+	 * @param val the value
+	 * @return the parsed value
+	 */
+	private Object readJson(String val) {
+		try {
+			return mapper.readValue(val.getBytes(), Object.class);
+		} catch (IOException e) {
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "decryptConfiguredAttributes",
+					ExceptionUtils.getStackTrace(e));
+			return val;
+		}
+	}
 	
 	/**
 	 * Get the list of attributes to encrypt from config. Returns empty if no config is there
@@ -391,7 +658,8 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	}
 	
 	/**
-	 * Update VID dstatus.
+	 * Update VID dstatus, consuming the temporary VID in a single database
+	 * statement.
 	 *
 	 * @param vid
 	 *            the vid
@@ -401,12 +669,12 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	public void updateVIDstatus(String vid) throws IdAuthenticationBusinessException {
 		try {
 			vid = securityManager.hash(vid);
+			if (identityCache != null) {
+				identityCache.invalidate(vid);
+			}
 			// Assumption : If transactionLimit is null, id is considered as Perpetual VID
 			// If transactionLimit is nonNull, id is considered as Temporary VID
-			if (identityRepo.existsById(vid)
-					&& Objects.nonNull(identityRepo.getOne(vid).getTransactionLimit())) {
-				identityRepo.deleteById(vid);
-			}
+			identityRepo.findByIdConsumingTemporaryVid(vid, false, DateUtils.getUTCCurrentDateTime());
 
 		} catch (DataAccessException | TransactionException | JDBCConnectionException e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
@@ -1,9 +1,6 @@
 package io.mosip.authentication.common.service.impl;
 
 import java.text.SimpleDateFormat;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -18,10 +15,10 @@ import org.springframework.stereotype.Service;
 import io.mosip.authentication.common.service.builder.AuthTransactionBuilder;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.OtpFloodLimiter;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
 import io.mosip.authentication.common.service.integration.OTPManager;
 import io.mosip.authentication.common.service.integration.TokenIdManager;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.UinEncryptSaltRepo;
 import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
@@ -45,9 +42,7 @@ import io.mosip.authentication.core.spi.id.service.IdService;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.otp.service.OTPService;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
-import io.mosip.kernel.core.exception.ParseException;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.DateUtils;
 
 /**
  * Service implementation of OtpTriggerService.
@@ -62,9 +57,9 @@ public class OTPServiceImpl implements OTPService {
 	@Autowired
 	private IdService<AutnTxn> idAuthService;
 
-	/** The autntxnrepository. */
+	/** The otp flood limiter. */
 	@Autowired
-	private AutnTxnRepository autntxnrepository;
+	private OtpFloodLimiter otpFloodLimiter;
 
 	/** The env. */
 	@Autowired
@@ -118,7 +113,10 @@ public class OTPServiceImpl implements OTPService {
 			String individualIdType = IdType.getIDTypeStrOrDefault(otpRequestDto.getIndividualIdType());
 			String individualId = otpRequestDto.getIndividualId();
 
-			Map<String, Object> idResDTO = idAuthService.processIdType(individualIdType, individualId, false);
+			// Only the notification attributes are decoded for sending the OTP
+			Map<String, Object> idResDTO = idAuthService.processIdType(individualIdType, individualId, false,
+					idInfoHelper.getIdentityAttributesForMatchTypes(DemoMatchType.NAME, DemoMatchType.EMAIL,
+							DemoMatchType.PHONE));
 			token = idAuthService.getToken(idResDTO);
 
 			OtpResponseDTO otpResponseDTO = doGenerateOTP(otpRequestDto, partnerId, isInternal, token, individualIdType, idResDTO);
@@ -153,7 +151,7 @@ public class OTPServiceImpl implements OTPService {
 		String requestTime = otpRequestDto.getRequestTime();
 		OtpResponseDTO otpResponseDTO = new OtpResponseDTO();
 		
-		if (isOtpFlooded(token, requestTime)) {
+		if (otpFloodLimiter.isFlooded(token, requestTime)) {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.OTP_REQUEST_FLOODED);
 		} else {
 			String transactionId = otpRequestDto.getTransactionID();
@@ -233,37 +231,6 @@ public class OTPServiceImpl implements OTPService {
 		return idInfoFetcher.getLanguageCode(languageType);
 	}
 
-	/**
-	 * Validate the number of request for OTP generation. Limit for the number of
-	 * request for OTP is should not exceed 3 in 60sec.
-	 *
-	 * @param otpRequestDto the otp request dto
-	 * @return true, if is otp flooded
-	 * @throws IdAuthenticationBusinessException
-	 */
-	private boolean isOtpFlooded(String token, String requestTime) throws IdAuthenticationBusinessException {
-		boolean isOtpFlooded = false;
-		LocalDateTime reqTime;
-		try {
-			String strUTCDate = DateUtils.getUTCTimeFromDate(
-					DateUtils.parseToDate(requestTime, env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN)));
-			reqTime = LocalDateTime.parse(strUTCDate,
-					DateTimeFormatter.ofPattern(env.getProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN)));
-
-		} catch (ParseException e) {
-			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), e.getClass().getName(),
-					e.getMessage());
-			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
-		}
-		int addMinutes = Integer.parseInt(env.getProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_DURATION));
-		LocalDateTime addMinutesInOtpRequestDTimes = reqTime.minus(addMinutes, ChronoUnit.MINUTES);
-		int maxCount = Integer.parseInt(env.getProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_MAX_COUNT));
-		if (autntxnrepository.countRequestDTime(reqTime, addMinutesInOtpRequestDTimes, token) > maxCount) {
-			isOtpFlooded = true;
-		}
-		return isOtpFlooded;
-	}
-
 	private void processChannel(String value, String phone, String email, MaskedResponseDTO maskedResponseDTO) throws IdAuthenticationBusinessException {
 		if (value.equalsIgnoreCase(NotificationType.SMS.getChannel())) {
 			maskedResponseDTO.setMaskedMobile(MaskUtil.maskMobile(phone));
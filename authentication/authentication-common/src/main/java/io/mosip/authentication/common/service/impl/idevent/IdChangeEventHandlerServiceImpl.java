@@ -1,23 +1,38 @@
 package io.mosip.authentication.common.service.impl.idevent;
 
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_ZERO_KNOWLEDGE_ENCRYPTED_CREDENTIAL_ATTRIBUTES;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.entity.UinHashSalt;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.IdentityCache;
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
+import io.mosip.authentication.common.service.helper.UinSaltTable;
+import io.mosip.authentication.common.service.impl.match.DerivedDemoAttributes;
 import io.mosip.authentication.common.service.integration.dto.DataShareManager;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
@@ -29,12 +44,19 @@ import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IDDataValidationException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.exception.RestServiceException;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
+import io.mosip.authentication.core.spi.id.service.IdService;
 import io.mosip.authentication.core.spi.idevent.service.CredentialStoreService;
+import io.mosip.authentication.core.spi.indauth.match.MatchType;
+import io.mosip.authentication.core.util.CbeffBdbIndex;
 import io.mosip.idrepository.core.constant.IDAEventType;
 import io.mosip.idrepository.core.dto.Event;
 import io.mosip.idrepository.core.dto.EventModel;
+import io.mosip.kernel.core.cbeffutil.spi.CbeffUtil;
 import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 
 /**
@@ -67,6 +89,12 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 
 	private static final String ID_HASH = "id_hash";
 
+	private static final String DEMOGRAPHICS = "demographics";
+
+	private static final String LANGUAGE = "language";
+
+	private static final String VALUE = "value";
+
 	/**
 	 * The Interface ConsumerWithBusinessException.
 	 *
@@ -107,8 +135,36 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 	@Autowired
 	private UinHashSaltRepo uinHashSaltRepo;
 	
+	/** The uin salt table. */
+	@Autowired
+	private UinSaltTable uinSaltTable;
+	
+	/** The in-memory identity cache. */
+	@Autowired(required = false)
+	private IdentityCache identityCache;
+	
+	/** The identity cache data encoder. */
 	@Autowired
-	private ObjectMapper objectMapper;
+	private IdentityCacheDataEncoder identityCacheDataEncoder;
+	
+	/** The cbeff util. */
+	@Autowired
+	private CbeffUtil cbeffUtil;
+	
+	/** The id service. */
+	@Autowired
+	private IdService<AutnTxn> idService;
+	
+	/** The id info helper. */
+	@Autowired
+	private IdInfoHelper idInfoHelper;
+	
+	/** The derived demo attributes. */
+	@Autowired(required = false)
+	private DerivedDemoAttributes derivedDemoAttributes;
+	
+	@Value("${" + IDA_ZERO_KNOWLEDGE_ENCRYPTED_CREDENTIAL_ATTRIBUTES + ":#{null}" + "}")
+	private String zkEncryptedCredAttribs;
 	
 	/* (non-Javadoc)
 	 * @see io.mosip.authentication.core.spi.idevent.service.CredentialStoreService#handleIdEvent(java.util.List)
@@ -141,6 +197,19 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 		} catch (IdAuthenticationBusinessException e) {
 			auditEvent(eventModel, e);
 			throw e;
+		} finally {
+			invalidateIdentityCache(eventModel);
+		}
+	}
+
+	/**
+	 * Invalidates the in-memory identity cache entry of the id in the event.
+	 *
+	 * @param eventModel the event model
+	 */
+	private void invalidateIdentityCache(EventModel eventModel) {
+		if (identityCache != null && eventModel.getEvent() != null && eventModel.getEvent().getData() != null) {
+			identityCache.invalidate((String) eventModel.getEvent().getData().get(ID_HASH));
 		}
 	}
 
@@ -245,9 +314,11 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 	private void storeIdentityEntity(String idHash, String token, Integer transactionLimit, String expiryTime,
 			Map<String, Object> credentialData) throws IdAuthenticationBusinessException {
 		Map<String, Object>[] demoBioData =  splitDemoBioData(credentialData);
+		addBdbIndexes(demoBioData[1]);
+		addDerivedAttributes(demoBioData[0]);
 		try {
-			byte [] demoBytes = objectMapper.writeValueAsBytes(demoBioData[0]);
-			byte [] bioBytes = objectMapper.writeValueAsBytes(demoBioData[1]);
+			byte [] demoBytes = identityCacheDataEncoder.encodeDemographicData(demoBioData[0]);
+			byte [] bioBytes = identityCacheDataEncoder.encodeBiometricData(demoBioData[1]);
 			
 			IdentityEntity identityEntity = new IdentityEntity();
 			Optional<IdentityEntity> identityEntityOpt = identityCacheRepo.findById(idHash);
@@ -284,6 +355,123 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 		return new Map[] {demoData, bioData};
 	}
 
+	/**
+	 * Adds the BDBs of each CBEFF type, split from the individual biometrics
+	 * CBEFF, to the bio data so that the authentication need not parse the CBEFF
+	 * XML. The CBEFF is then dropped from the bio data, as only its BDBs are read
+	 * at the authentication. The zero knowledge encrypted CBEFF cannot be split
+	 * here, and the CBEFF is kept when any type cannot be split, to read that
+	 * type from it.
+	 *
+	 * @param bioData the bio data
+	 */
+	private void addBdbIndexes(Map<String, Object> bioData) {
+		Optional<String> cbeff = bioData.entrySet().stream()
+				.filter(entry -> entry.getKey().equalsIgnoreCase(IdAuthCommonConstants.INDIVIDUAL_BIOMETRICS))
+				.map(Entry::getValue)
+				.filter(String.class::isInstance)
+				.map(String.class::cast)
+				.findAny();
+		if (cbeff.isEmpty() || isZkEncrypted(IdAuthCommonConstants.INDIVIDUAL_BIOMETRICS)) {
+			return;
+		}
+		byte[] cbeffBytes;
+		try {
+			cbeffBytes = CryptoUtil.decodeBase64(cbeff.get());
+		} catch (IllegalArgumentException e) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), "addBdbIndexes",
+					"Invalid CBEFF: " + e.getMessage());
+			return;
+		}
+		boolean allSplit = true;
+		for (CbeffDocType type : CbeffDocType.values()) {
+			try {
+				bioData.put(CbeffBdbIndex.getAttributeName(type),
+						CbeffBdbIndex.encode(cbeffUtil.getBDBBasedOnType(cbeffBytes, type.getName(), null)));
+			} catch (Exception e) {
+				allSplit = false;
+				mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), "addBdbIndexes",
+						type.getName() + " BDBs not split: " + e.getMessage());
+			}
+		}
+		if (allSplit) {
+			bioData.keySet().removeIf(key -> key.equalsIgnoreCase(IdAuthCommonConstants.INDIVIDUAL_BIOMETRICS));
+		}
+	}
+
+	/**
+	 * Adds the normalized form and the phonetic value of the name and address
+	 * attributes of each language to the demo data, so that the authentication
+	 * need not normalize and encode the stored values. The zero knowledge
+	 * encrypted attributes cannot be derived here, and the values that cannot be
+	 * derived are left to be normalized at the authentication.
+	 *
+	 * @param demoData the demo data
+	 */
+	private void addDerivedAttributes(Map<String, Object> demoData) {
+		if (derivedDemoAttributes == null || derivedDemoAttributes.getMatchTypes().isEmpty()) {
+			return;
+		}
+		Map<String, List<IdentityInfoDTO>> idInfo;
+		try {
+			idInfo = idService.getIdInfo(Collections.singletonMap(DEMOGRAPHICS, demoData));
+		} catch (IdAuthenticationBusinessException e) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), "addDerivedAttributes",
+					"Invalid demographic data: " + e.getMessage());
+			return;
+		}
+		Set<String> languages = idInfo.values().stream()
+				.flatMap(List::stream)
+				.map(IdentityInfoDTO::getLanguage)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(TreeSet::new));
+		Map<String, List<Map<String, String>>> derivedAttributes = new LinkedHashMap<>();
+		for (MatchType matchType : derivedDemoAttributes.getMatchTypes()) {
+			String attributeName = matchType.getIdMapping().getIdname();
+			try {
+				if (idInfoHelper.getIdentityAttributesForMatchTypes(matchType).stream().anyMatch(this::isZkEncrypted)) {
+					continue;
+				}
+			} catch (IdAuthenticationBusinessException e) {
+				mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), "addDerivedAttributes",
+						attributeName + " attributes not derived: " + e.getMessage());
+				continue;
+			}
+			for (String language : languages) {
+				try {
+					Map<String, String> entityInfo = idInfoHelper.getIdEntityInfoMap(matchType, idInfo, language);
+					if (entityInfo == null || entityInfo.isEmpty() || entityInfo.values().stream()
+							.anyMatch(value -> value == null || value.trim().isEmpty())) {
+						continue;
+					}
+					// Joined as matched by the text matching strategy
+					String entityInfoText = entityInfo.values().stream().collect(Collectors.joining(" "));
+					derivedDemoAttributes.derive(matchType, language, entityInfoText)
+							.forEach((name, value) -> derivedAttributes.computeIfAbsent(name, key -> new ArrayList<>())
+									.add(Map.of(LANGUAGE, language, VALUE, value)));
+				} catch (IdAuthenticationBusinessException | IllegalArgumentException e) {
+					// IllegalArgumentException is thrown by the phonetic encoder for a language without rules
+					mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(),
+							"addDerivedAttributes",
+							attributeName + " attributes not derived for language " + language + ": " + e.getMessage());
+				}
+			}
+		}
+		demoData.putAll(derivedAttributes);
+	}
+
+	/**
+	 * Checks if the attribute is configured to be zero knowledge encrypted.
+	 *
+	 * @param attribute the attribute
+	 * @return true, if is zero knowledge encrypted
+	 */
+	private boolean isZkEncrypted(String attribute) {
+		return Optional.ofNullable(zkEncryptedCredAttribs).stream()
+				.flatMap(str -> Stream.of(str.split(",")))
+				.anyMatch(str -> str.trim().equalsIgnoreCase(attribute));
+	}
+
 	private void saveSalt(String modulo, String salt) {
 		Long saltModulo = Long.valueOf(modulo);
 		if(!uinHashSaltRepo.existsById(saltModulo)) {
@@ -293,6 +481,7 @@ public class IdChangeEventHandlerServiceImpl implements CredentialStoreService {
 			saltEntity.setCreatedBy(IDA);
 			saltEntity.setCreatedDTimes(DateUtils.getUTCCurrentDateTime());
 			uinHashSaltRepo.save(saltEntity);
+			uinSaltTable.putHashSalt(saltModulo, salt);
 		}
 	}
 	
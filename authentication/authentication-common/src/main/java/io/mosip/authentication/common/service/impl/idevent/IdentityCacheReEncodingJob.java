@@ -0,0 +1,157 @@
+package io.mosip.authentication.common.service.impl.idevent;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_RE_ENCODING_DELAY_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_RE_ENCODING_ENABLED;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class IdentityCacheReEncodingJob - re-encodes the demographic and
+ * biometric data of the identity cache rows stored in an earlier format, such
+ * as JSON or without the configured compression, once after the application is
+ * started.
+ * <p>
+ * The rows are read in batches in the id order, and the data of a row is
+ * updated only if its encoding in the current format differs, and if it is not
+ * changed by an ID change event since it was read. The job is disabled by
+ * default.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class IdentityCacheReEncodingJob implements ApplicationListener<ApplicationReadyEvent> {
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(IdentityCacheReEncodingJob.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The identity cache repo. */
+	@Autowired
+	private IdentityCacheRepository identityCacheRepo;
+
+	/** The identity cache data encoder. */
+	@Autowired
+	private IdentityCacheDataEncoder identityCacheDataEncoder;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.
+	 * springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (env.getProperty(IDENTITY_CACHE_RE_ENCODING_ENABLED, Boolean.class, false)
+				&& identityCacheDataEncoder.isBinaryEncodingEnabled()) {
+			long delaySecs = env.getProperty(IDENTITY_CACHE_RE_ENCODING_DELAY_SECS, Long.class,
+					IdAuthCommonConstants.DEFAULT_IDENTITY_CACHE_RE_ENCODING_DELAY_SECS);
+			mosipLogger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "onApplicationEvent",
+					"Scheduling identity cache re-encoding after " + delaySecs + " seconds");
+			taskScheduler.schedule(this::reEncode, Instant.now().plusSeconds(delaySecs));
+		}
+	}
+
+	/**
+	 * Re-encodes the data of all the rows stored in an earlier format.
+	 *
+	 * @return the number of rows re-encoded
+	 */
+	public int reEncode() {
+		int batchSize = env.getProperty(IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE, Integer.class,
+				IdAuthCommonConstants.DEFAULT_IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE);
+		int reEncoded = 0;
+		String lastId = "";
+		try {
+			List<String> ids;
+			do {
+				ids = identityCacheRepo.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+				for (String id : ids) {
+					if (reEncode(id)) {
+						reEncoded++;
+					}
+					lastId = id;
+				}
+			} while (ids.size() == batchSize);
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "reEncode",
+					"Identity cache re-encoding stopped after " + reEncoded + " rows: "
+							+ ExceptionUtils.getStackTrace(e));
+			return reEncoded;
+		}
+		mosipLogger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "reEncode",
+				"Identity cache re-encoding completed for " + reEncoded + " rows");
+		return reEncoded;
+	}
+
+	/**
+	 * Re-encodes the data of the row, if stored in an earlier format.
+	 *
+	 * @param id the id
+	 * @return true, if re-encoded
+	 */
+	private boolean reEncode(String id) {
+		try {
+			boolean reEncoded = false;
+			List<Object[]> rows = identityCacheRepo.findDemoDataById(id);
+			if (!rows.isEmpty() && rows.get(0)[1] instanceof byte[]) {
+				byte[] demoData = (byte[]) rows.get(0)[1];
+				byte[] encoded = identityCacheDataEncoder.encodeDemographicData(decode(demoData));
+				reEncoded = !Arrays.equals(encoded, demoData)
+						&& identityCacheRepo.updateDemographicData(id, encoded, demoData) > 0;
+			}
+			List<byte[]> bioRows = identityCacheRepo.findBioDataById(id);
+			if (!bioRows.isEmpty() && bioRows.get(0) != null) {
+				byte[] bioData = bioRows.get(0);
+				byte[] encoded = identityCacheDataEncoder.encodeBiometricData(decode(bioData));
+				reEncoded |= !Arrays.equals(encoded, bioData)
+						&& identityCacheRepo.updateBiometricData(id, encoded, bioData) > 0;
+			}
+			return reEncoded;
+		} catch (IOException e) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "reEncode",
+					"Identity cache row not re-encoded: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes the stored data of any of the formats.
+	 *
+	 * @param storedData the stored data
+	 * @return the data
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Map<String, Object> decode(byte[] storedData) throws IOException {
+		return new LinkedHashMap<>(identityCacheDataEncoder.decode(storedData));
+	}
+
+}
@@ -25,6 +25,7 @@ import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
 import io.mosip.authentication.core.spi.indauth.match.AuthType;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdMapping;
+import io.mosip.authentication.core.spi.indauth.match.MatchContext;
 import io.mosip.authentication.core.spi.indauth.match.MatchType;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategy;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
@@ -327,6 +328,20 @@ public enum BioMatchType implements MatchType {
 		return idinfoFetcher.getCbeffValues(idEntity, cbeffDocTypes, this);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.authentication.core.spi.indauth.match.MatchType#mapEntityInfo(java.
+	 * util.Map, io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher,
+	 * io.mosip.authentication.core.spi.indauth.match.MatchContext)
+	 */
+	@Override
+	public Map<String, Entry<String, List<IdentityInfoDTO>>> mapEntityInfo(Map<String, List<IdentityInfoDTO>> idEntity,
+			IdInfoFetcher idinfoFetcher, MatchContext matchContext) throws IdAuthenticationBusinessException {
+		return idinfoFetcher.getCbeffValues(idEntity, cbeffDocTypes, this, matchContext);
+	}
+
 	/**
 	 * Gets the cbeff doc type.
 	 *
@@ -1,17 +1,18 @@
 package io.mosip.authentication.common.service.impl.match;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.spi.demoauth.DemoNormalizer;
@@ -19,6 +20,11 @@ import io.mosip.authentication.core.spi.indauth.match.MasterDataFetcher;
 
 /**
  * Generic class to normalize individual name, address.
+ * <p>
+ * The normalization rules of each attribute type and language are compiled
+ * once into a {@link NormalizationPipeline}, compiled again when the rules
+ * configuration changes, and the titles of each language are removed with a
+ * {@link TitleMatcher} built once for the titles list.
  *
  * @author Rakesh Roshan
  * @author Arun Bose S
@@ -28,9 +34,30 @@ public class DemoNormalizerImpl implements DemoNormalizer {
 
 	private static final String DEFAULT_SEP = "=";
 	private static final int NORMALIZER_CONFIG_LIMIT = 1000;
+	private static final String NAME = "name";
+	private static final String ADDRESS = "address";
+	private static final String COMMON = "common";
+	private static final String ANY_LANGUAGE = "any";
+	private static final String PIPELINE_KEY_SEP = "|";
+	private static final String VERSION_SEP = ".";
+	private static final int MAX_POOLED_BUFFER_CAPACITY = 4 * 1024;
+	private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(StringBuilder::new);
+
 	@Autowired
 	private Environment environment;
 
+	/** The clock. */
+	private Clock clock = Clock.systemUTC();
+
+	/** The normalization pipelines by attribute type and language. */
+	private final ConcurrentMap<String, NormalizationPipeline> pipelines = new ConcurrentHashMap<>();
+
+	/** The title matchers by language. */
+	private final ConcurrentMap<String, TitleMatcher> titleMatchers = new ConcurrentHashMap<>();
+
+	/** The time of the next check of the normalization rules for changes. */
+	private volatile long nextRefreshCheckMillis;
+
 	/**
 	 * This method is used to normalize name.
 	 *
@@ -48,146 +75,209 @@ public class DemoNormalizerImpl implements DemoNormalizer {
 	public String normalizeName(String nameInfo, String language, MasterDataFetcher titleFetcher)
 			throws IdAuthenticationBusinessException {
 		Map<String, List<String>> fetchTitles = titleFetcher.get();
-
-		StringBuilder nameBuilder = new StringBuilder(nameInfo);
 		List<String> titlesList = fetchTitles.get(language);
-		if (null != titlesList) {
-			Collections.sort(titlesList, Comparator.comparing(String::length).reversed());
-			for (String title : titlesList) {
-				String title1 = title + ".";
-				removeAllCases(nameBuilder, title1);
-				removeAllCases(nameBuilder, title);
+		StringBuilder nameBuilder = borrowBuffer(nameInfo);
+		try {
+			if (null != titlesList) {
+				getTitleMatcher(language, titlesList).removeTitles(nameBuilder);
 			}
+			getPipeline(NAME, language).apply(nameBuilder);
+			return trim(nameBuilder);
+		} finally {
+			releaseBuffer(nameBuilder);
 		}
-		Map<Pattern, String> namePatterns = normalizeWithCommonAttributes("name", language);
-
-		normalize(nameBuilder, namePatterns);
-		return nameBuilder.toString().trim();
 	}
 
-	private Map<Pattern, String> normalizeWithCommonAttributes(String type, String language) {
-		Map<Pattern, String> namePatterns = getNormalisersByTypeAndLang(type, language);
-		namePatterns.putAll(getNormalisersByTypeAndLang(type, "any"));
-		namePatterns.putAll(getNormalisersByTypeAndLang("common", language));
-		namePatterns.putAll(getNormalisersByTypeAndLang("common", "any"));
-		return namePatterns;
+	/**
+	 * This method is used to normalize address.
+	 *
+	 * @param address
+	 *            the address received from request or entity
+	 * @return the string output after normalization
+	 */
+	@Override
+	public String normalizeAddress(String address, String language) {
+		StringBuilder addressBuilder = borrowBuffer(address);
+		try {
+			getPipeline(ADDRESS, language).apply(addressBuilder);
+			return trim(addressBuilder);
+		} finally {
+			releaseBuffer(addressBuilder);
+		}
 	}
 
 	/**
-	 * Removes the all cases.
+	 * Gets the version of the name normalization of the language, from the
+	 * normalization rules and the titles of the language.
 	 *
-	 * @param nameInfo
-	 *            the name info
-	 * @param nameBuilder
-	 *            the name builder
-	 * @param title1
-	 *            the title 1
+	 * @param language     the language
+	 * @param titleFetcher the title fetcher
+	 * @return the version
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
 	 */
-	private static void removeAllCases(StringBuilder nameBuilder, String title1) {
-		while (nameBuilder.toString().toLowerCase().contains(title1.toLowerCase())) {
-			int index = nameBuilder.indexOf(title1);
-			if (index >= 0) {
-				nameBuilder.replace(index, index + title1.length(), "");
-			}
-
-			index = nameBuilder.indexOf(title1.toLowerCase());
-			if (index >= 0) {
-				nameBuilder.replace(index, index + title1.length(), "");
-			}
-
-			index = nameBuilder.indexOf(title1.toUpperCase());
-			if (index >= 0) {
-				nameBuilder.replace(index, index + title1.length(), "");
-			}
-		}
+	@Override
+	public String getNameNormalizationVersion(String language, MasterDataFetcher titleFetcher)
+			throws IdAuthenticationBusinessException {
+		List<String> titlesList = titleFetcher.get().get(language);
+		return getPipeline(NAME, language).getVersion() + VERSION_SEP
+				+ (titlesList == null ? "" : getTitleMatcher(language, titlesList).getVersion());
 	}
 
 	/**
-	 * This method is used to normalize address.
+	 * Gets the version of the address normalization of the language, from the
+	 * normalization rules of the language.
 	 *
-	 * @param address
-	 *            the address received from request or entity
-	 * @return the string output after normalization
+	 * @param language the language
+	 * @return the version
 	 */
 	@Override
-	public String normalizeAddress(String address, String language) {
-		Map<Pattern, String> addressPattern = normalizeWithCommonAttributes("address", language);
-		return normalize(address, addressPattern);
+	public String getAddressNormalizationVersion(String language) {
+		return getPipeline(ADDRESS, language).getVersion();
 	}
 
 	/**
-	 * Normalize
+	 * Gets the title matcher of the language, building it if the titles list has
+	 * changed.
 	 *
-	 * @param data
-	 *            the data to be normalized either name or address
-	 * @param normalizePatterns
-	 *            the address norm patterns
-	 * @return the string
+	 * @param language   the language
+	 * @param titlesList the titles list
+	 * @return the title matcher
 	 */
-	private String normalize(String data, Map<Pattern, String> normalizePatterns) {
-		StringBuilder addressBuilder = new StringBuilder(data);
-		normalize(addressBuilder, normalizePatterns);
-		return addressBuilder.toString().trim();
+	private TitleMatcher getTitleMatcher(String language, List<String> titlesList) {
+		TitleMatcher titleMatcher = titleMatchers.get(language);
+		if (titleMatcher == null || !titleMatcher.isBuiltFor(titlesList)) {
+			titleMatcher = TitleMatcher.of(titlesList);
+			titleMatchers.put(language, titleMatcher);
+		}
+		return titleMatcher;
 	}
 
 	/**
-	 * Normalize.
+	 * Gets the normalization pipeline of the attribute type and language,
+	 * compiling it if not compiled yet.
 	 *
-	 * @param stringBuilder
-	 *            the address builder
-	 * @param normPatterns
-	 *            the address norm patterns
+	 * @param type     the attribute type
+	 * @param language the language
+	 * @return the normalization pipeline
 	 */
-	private void normalize(StringBuilder stringBuilder, Map<Pattern, String> normPatterns) {
-		for (Map.Entry<Pattern, String> entry : normPatterns.entrySet()) {
-			Matcher m = entry.getKey().matcher(stringBuilder);
-			// Find from start
-			int findStart = 0;
-			while (m.find(findStart)) {
-				int start = m.start();
-				int end = m.end();
-				// If it matches no character, break to proceed to next pattern in the outer
-				// loop
-				if (end - start == 0) {
-					break;
-				}
-
-				String replacement = entry.getValue();
-				stringBuilder.replace(m.start(), end, replacement);
-				// Find next from the replacement index
-				findStart = start + replacement.length();
-			}
+	private NormalizationPipeline getPipeline(String type, String language) {
+		if (clock.millis() >= nextRefreshCheckMillis) {
+			refreshPipelines();
 		}
+		return pipelines.computeIfAbsent(type + PIPELINE_KEY_SEP + language,
+				key -> NormalizationPipeline.compile(getRules(type, language), getSeparator()));
 	}
 
-	private Map<Pattern, String> getBasicNormalisers(String normalizerKey) {
-		Map<Pattern, String> basicPatternMap = new LinkedHashMap<>();
+	/**
+	 * Compiles again the normalization pipelines whose rules have changed since
+	 * they were compiled.
+	 */
+	private synchronized void refreshPipelines() {
+		if (clock.millis() < nextRefreshCheckMillis) {
+			return;
+		}
+		String separator = getSeparator();
+		pipelines.replaceAll((key, pipeline) -> {
+			int sepIndex = key.indexOf(PIPELINE_KEY_SEP);
+			List<String> rules = getRules(key.substring(0, sepIndex), key.substring(sepIndex + 1));
+			return pipeline.isCompiledFrom(rules, separator) ? pipeline
+					: NormalizationPipeline.compile(rules, separator);
+		});
+		nextRefreshCheckMillis = clock.millis()
+				+ environment.getProperty(IdAuthConfigKeyConstants.DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS,
+						Long.class, IdAuthCommonConstants.DEFAULT_DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Gets the normalization rules of the attribute type and language, followed by
+	 * those of the attribute type for any language, and the common rules of the
+	 * language and of any language.
+	 *
+	 * @param type     the attribute type
+	 * @param language the language
+	 * @return the rules
+	 */
+	private List<String> getRules(String type, String language) {
+		List<String> rules = new ArrayList<>();
+		addRules(rules, type, language);
+		addRules(rules, type, ANY_LANGUAGE);
+		addRules(rules, COMMON, language);
+		addRules(rules, COMMON, ANY_LANGUAGE);
+		return rules;
+	}
+
+	/**
+	 * Adds the configured normalization rules of the attribute type and language,
+	 * up to the first missing index.
+	 *
+	 * @param rules    the rules
+	 * @param type     the attribute type
+	 * @param language the language
+	 */
+	private void addRules(List<String> rules, String type, String language) {
+		String normalizerKey = String.format(IdAuthConfigKeyConstants.IDA_BASIC_NORMALISER, type, language, "%s");
 		for (int i = 0; i < NORMALIZER_CONFIG_LIMIT; i++) {
-			String basicPattern = String.format(normalizerKey, i);
-			String normaliseValue = environment.getProperty(basicPattern);
-			if (null != normaliseValue) {
-				String sep = environment.getProperty(IdAuthConfigKeyConstants.IDA_NORMALISER_SEP, DEFAULT_SEP);
-				if (normaliseValue.contains(sep)) {
-					String patternReplacement[] = normaliseValue.split(sep);
-					Pattern normPattern = Pattern.compile(patternReplacement[0], Pattern.UNICODE_CHARACTER_CLASS);
-					String replacement;
-					if (patternReplacement.length > 1) {
-						replacement = patternReplacement[1];
-					} else {
-						replacement = "";
-					}
-					basicPatternMap.put(normPattern, replacement);
-				} else {
-					basicPatternMap.put(Pattern.compile(normaliseValue, Pattern.UNICODE_CHARACTER_CLASS), "");
-				}
-			} else {
+			String normaliseValue = environment.getProperty(String.format(normalizerKey, i));
+			if (null == normaliseValue) {
 				break;
 			}
+			rules.add(normaliseValue);
+		}
+	}
+
+	/**
+	 * Gets the separator of the pattern and the replacement in a rule.
+	 *
+	 * @return the separator
+	 */
+	private String getSeparator() {
+		return environment.getProperty(IdAuthConfigKeyConstants.IDA_NORMALISER_SEP, DEFAULT_SEP);
+	}
+
+	/**
+	 * Gets the normalization buffer of the thread, filled with the data.
+	 *
+	 * @param data the data
+	 * @return the buffer
+	 */
+	private static StringBuilder borrowBuffer(String data) {
+		Objects.requireNonNull(data);
+		StringBuilder buffer = BUFFERS.get();
+		buffer.setLength(0);
+		return buffer.append(data);
+	}
+
+	/**
+	 * Clears the normalization buffer of the thread, dropping it if it has grown
+	 * too large to keep.
+	 *
+	 * @param buffer the buffer
+	 */
+	private static void releaseBuffer(StringBuilder buffer) {
+		if (buffer.capacity() > MAX_POOLED_BUFFER_CAPACITY) {
+			BUFFERS.remove();
+		} else {
+			buffer.setLength(0);
 		}
-		return basicPatternMap;
 	}
 
-	private Map<Pattern, String> getNormalisersByTypeAndLang(String type, String language) {
-		return getBasicNormalisers(String.format(IdAuthConfigKeyConstants.IDA_BASIC_NORMALISER, type, language, "%s"));
+	/**
+	 * Gets the content of the buffer without the leading and trailing white
+	 * space, as in {@link String#trim()}.
+	 *
+	 * @param buffer the buffer
+	 * @return the trimmed string
+	 */
+	private static String trim(StringBuilder buffer) {
+		int start = 0;
+		int end = buffer.length();
+		while (start < end && buffer.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && buffer.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return buffer.substring(start, end);
 	}
 }
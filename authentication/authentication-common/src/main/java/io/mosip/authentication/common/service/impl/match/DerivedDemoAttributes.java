@@ -0,0 +1,285 @@
+package io.mosip.authentication.common.service.impl.match;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.dto.TextMatcherUtil;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.spi.demoauth.DemoNormalizer;
+import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
+import io.mosip.authentication.core.spi.indauth.match.MatchType;
+import io.mosip.authentication.core.spi.indauth.match.MatchingStrategy;
+import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
+import io.mosip.authentication.core.spi.indauth.match.TextMatchingStrategy;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class DerivedDemoAttributes - the normalized form and the phonetic value
+ * of the name and address attributes, derived when the credential is stored so
+ * that the authentication normalizes and encodes only the request side.
+ * <p>
+ * The derived values are stored by language as extra demographic attributes,
+ * each prefixed with a stamp of the normalization version, the language and
+ * the entity info they are derived from. A value whose stamp no longer matches,
+ * such as after a change of the normalization rules or the titles, is not
+ * used, and the entity info is normalized at the authentication as before,
+ * until the credential is stored again.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class DerivedDemoAttributes {
+
+	/** The Constant FORMAT_VERSION. */
+	private static final String FORMAT_VERSION = "1";
+
+	/** The Constant NORMALIZED_SUFFIX. */
+	private static final String NORMALIZED_SUFFIX = "_normalized";
+
+	/** The Constant PHONETIC_SUFFIX. */
+	private static final String PHONETIC_SUFFIX = "_phonetic";
+
+	/** The Constant STAMP_SEP. */
+	private static final String STAMP_SEP = ":";
+
+	/** The Constant ENGLISH. */
+	private static final String ENGLISH = "english";
+
+	/** The Constant DERIVED_ATTRIBUTES_METRIC. */
+	private static final String DERIVED_ATTRIBUTES_METRIC = "ida.demo.derived-attributes";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(DerivedDemoAttributes.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The id info fetcher. */
+	@Autowired
+	private IdInfoFetcher idInfoFetcher;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The match types whose attributes are derived. */
+	private Set<MatchType> matchTypes = Collections.emptySet();
+
+	/** The counter of the matches using the derived values. */
+	private Counter hits;
+
+	/** The counter of the matches with derived values not matching the stamp. */
+	private Counter staleValues;
+
+	/** The counter of the matches without derived values. */
+	private Counter missingValues;
+
+	/**
+	 * Initializes the match types and the metrics.
+	 */
+	@PostConstruct
+	public void init() {
+		String configuredMatchTypes = env.getProperty(IdAuthConfigKeyConstants.DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES,
+				IdAuthCommonConstants.DEFAULT_DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES);
+		Set<MatchType> types = new LinkedHashSet<>();
+		for (String matchTypeName : configuredMatchTypes.split(",")) {
+			String name = matchTypeName.trim();
+			if (name.isEmpty()) {
+				continue;
+			}
+			Optional<DemoMatchType> matchType = Arrays.stream(DemoMatchType.values())
+					.filter(type -> type.name().equalsIgnoreCase(name)).findAny();
+			if (matchType.isPresent() && getNormalizationType(matchType.get()).isPresent()) {
+				types.add(matchType.get());
+			} else {
+				mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+						"Attributes cannot be derived for match type: " + name);
+			}
+		}
+		matchTypes = Collections.unmodifiableSet(types);
+
+		MeterRegistry registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		hits = derivedAttributesCounter(registry, "hit");
+		staleValues = derivedAttributesCounter(registry, "stale");
+		missingValues = derivedAttributesCounter(registry, "missing");
+	}
+
+	/**
+	 * Creates the derived values lookup counter.
+	 *
+	 * @param registry the registry
+	 * @param result   the result
+	 * @return the counter
+	 */
+	private static Counter derivedAttributesCounter(MeterRegistry registry, String result) {
+		return Counter.builder(DERIVED_ATTRIBUTES_METRIC).tag("result", result)
+				.description("Derived demographic attribute lookups").register(registry);
+	}
+
+	/**
+	 * Gets the match types whose attributes are derived.
+	 *
+	 * @return the match types
+	 */
+	public Set<MatchType> getMatchTypes() {
+		return matchTypes;
+	}
+
+	/**
+	 * Derives the normalized form and the phonetic value of the entity info of
+	 * the match type in the language.
+	 *
+	 * @param matchType      the match type
+	 * @param language       the language
+	 * @param entityInfoText the entity info, as matched
+	 * @return the stamped values by the derived attribute name
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, String> derive(MatchType matchType, String language, String entityInfoText)
+			throws IdAuthenticationBusinessException {
+		Optional<MatchingStrategy> normalizationType = getNormalizationType(matchType);
+		if (!matchTypes.contains(matchType) || !normalizationType.isPresent()) {
+			return Collections.emptyMap();
+		}
+		DemoNormalizer demoNormalizer = idInfoFetcher.getDemoNormalizer();
+		String normalized = normalizationType.get() instanceof NameMatchingStrategy
+				? demoNormalizer.normalizeName(entityInfoText, language, idInfoFetcher.getTitleFetcher())
+				: demoNormalizer.normalizeAddress(entityInfoText, language);
+		String stamp = getStamp(matchType, language, entityInfoText);
+		Map<String, String> derivedValues = new LinkedHashMap<>();
+		String idname = matchType.getIdMapping().getIdname();
+		derivedValues.put(idname + NORMALIZED_SUFFIX, stamp + STAMP_SEP + normalized);
+		if (matchType.getAllowedMatchingStrategy(MatchingStrategyType.PHONETICS).isPresent()) {
+			derivedValues.put(idname + PHONETIC_SUFFIX,
+					stamp + STAMP_SEP + TextMatcherUtil.phoneticsEncode(normalized, getLanguageName(language)));
+		}
+		return derivedValues;
+	}
+
+	/**
+	 * Adds the derived values of the entity info stored with the identity to a
+	 * copy of the match properties, if their stamp matches the entity info.
+	 *
+	 * @param matchProperties the match properties
+	 * @param matchType       the match type
+	 * @param language        the language
+	 * @param entityInfoText  the entity info, as matched
+	 * @param demoEntity      the demo entity
+	 * @return the match properties with the derived values, or the given match
+	 *         properties if the derived values cannot be used
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, Object> withDerivedEntityInfo(Map<String, Object> matchProperties, MatchType matchType,
+			String language, String entityInfoText, Map<String, List<IdentityInfoDTO>> demoEntity)
+			throws IdAuthenticationBusinessException {
+		if (matchProperties == null || language == null || !matchTypes.contains(matchType)) {
+			return matchProperties;
+		}
+		String idname = matchType.getIdMapping().getIdname();
+		Optional<String> normalized = getStoredValue(demoEntity, idname + NORMALIZED_SUFFIX, language);
+		if (!normalized.isPresent()) {
+			missingValues.increment();
+			return matchProperties;
+		}
+		String stampPrefix = getStamp(matchType, language, entityInfoText) + STAMP_SEP;
+		if (!normalized.get().startsWith(stampPrefix)) {
+			staleValues.increment();
+			return matchProperties;
+		}
+		hits.increment();
+		Map<String, Object> derivedMatchProperties = new HashMap<>(matchProperties);
+		derivedMatchProperties.put(TextMatchingStrategy.NORMALIZED_ENTITY_INFO,
+				normalized.get().substring(stampPrefix.length()));
+		getStoredValue(demoEntity, idname + PHONETIC_SUFFIX, language)
+				.filter(phonetic -> phonetic.startsWith(stampPrefix))
+				.ifPresent(phonetic -> derivedMatchProperties.put(TextMatchingStrategy.PHONETIC_ENTITY_INFO,
+						phonetic.substring(stampPrefix.length())));
+		return derivedMatchProperties;
+	}
+
+	/**
+	 * Gets the stored value of the attribute in the language.
+	 *
+	 * @param demoEntity    the demo entity
+	 * @param attributeName the attribute name
+	 * @param language      the language
+	 * @return the stored value
+	 */
+	private static Optional<String> getStoredValue(Map<String, List<IdentityInfoDTO>> demoEntity,
+			String attributeName, String language) {
+		return Optional.ofNullable(demoEntity.get(attributeName)).stream()
+				.flatMap(List::stream)
+				.filter(info -> language.equalsIgnoreCase(info.getLanguage()))
+				.map(IdentityInfoDTO::getValue)
+				.findFirst();
+	}
+
+	/**
+	 * Gets the stamp of the derived values, changing when the normalization of
+	 * the match type or the entity info changes.
+	 *
+	 * @param matchType      the match type
+	 * @param language       the language
+	 * @param entityInfoText the entity info
+	 * @return the stamp
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private String getStamp(MatchType matchType, String language, String entityInfoText)
+			throws IdAuthenticationBusinessException {
+		DemoNormalizer demoNormalizer = idInfoFetcher.getDemoNormalizer();
+		String normalizationVersion = getNormalizationType(matchType).get() instanceof NameMatchingStrategy
+				? demoNormalizer.getNameNormalizationVersion(language, idInfoFetcher.getTitleFetcher())
+				: demoNormalizer.getAddressNormalizationVersion(language);
+		return NormalizationPipeline.digest(Arrays.asList(FORMAT_VERSION, normalizationVersion,
+				getLanguageName(language), entityInfoText));
+	}
+
+	/**
+	 * Gets the language name used for the phonetic encoding.
+	 *
+	 * @param language the language
+	 * @return the language name
+	 */
+	private String getLanguageName(String language) {
+		return idInfoFetcher.getLanguageName(language).orElse(ENGLISH);
+	}
+
+	/**
+	 * Gets the exact matching strategy of the match type, which tells if it is
+	 * normalized as a name or as an address.
+	 *
+	 * @param matchType the match type
+	 * @return the matching strategy, if the match type is normalized
+	 */
+	private static Optional<MatchingStrategy> getNormalizationType(MatchType matchType) {
+		return matchType.getAllowedMatchingStrategy(MatchingStrategyType.EXACT)
+				.filter(strategy -> strategy instanceof NameMatchingStrategy
+						|| strategy instanceof FullAddressMatchingStrategy
+						|| strategy instanceof AddressMatchingStrategy);
+	}
+
+}
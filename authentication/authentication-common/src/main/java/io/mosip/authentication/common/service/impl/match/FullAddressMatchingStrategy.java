@@ -36,10 +36,7 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 				entityInfo,
 				props,
 				FullAddressMatchingStrategy::normalizeText,
-				(refInfoName, entityInfoName) -> {
-					String language = (String) props.get("language");
-					return DemoMatcherUtil.doPhoneticsMatch(refInfoName, entityInfoName, language);
-				});
+				(refInfoName, entityInfoName) -> TextMatchingStrategy.phoneticsMatch(refInfoName, entityInfoName, props));
 	});
 	private final MatchFunction matchFunction;
 
@@ -35,10 +35,7 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 				entityInfo,
 				props,
 				NameMatchingStrategy::normalizeText,
-				(refInfoName, entityInfoName) -> {
-					String language = (String) props.get("language");
-					return DemoMatcherUtil.doPhoneticsMatch(refInfoName, entityInfoName, language);
-				});
+				(refInfoName, entityInfoName) -> TextMatchingStrategy.phoneticsMatch(refInfoName, entityInfoName, props));
 	});
 
 	private final MatchFunction matchFunction;
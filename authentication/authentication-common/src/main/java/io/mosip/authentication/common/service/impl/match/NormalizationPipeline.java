@@ -0,0 +1,158 @@
+package io.mosip.authentication.common.service.impl.match;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The Class NormalizationPipeline - the normalization rules of an attribute
+ * type and language, compiled once from the configured rules.
+ * <p>
+ * The rules are applied in the configured order, each rule replacing all its
+ * matches, continuing after the replacement.
+ *
+ * @author Loganathan Sekar
+ */
+final class NormalizationPipeline {
+
+	/** The Constant VERSION_DIGEST_ALGORITHM. */
+	private static final String VERSION_DIGEST_ALGORITHM = "SHA-256";
+
+	/** The Constant VERSION_LENGTH, in hexadecimal characters. */
+	private static final int VERSION_LENGTH = 16;
+
+	/** The rules the pipeline is compiled from. */
+	private final List<String> rules;
+
+	/** The rule separator the pipeline is compiled with. */
+	private final String separator;
+
+	/** The patterns, in the order of the rules. */
+	private final Pattern[] patterns;
+
+	/** The replacements of the patterns. */
+	private final String[] replacements;
+
+	/** The version of the rules, changing when the rules change. */
+	private final String version;
+
+	/**
+	 * Instantiates a new normalization pipeline.
+	 *
+	 * @param rules     the rules
+	 * @param separator the separator
+	 */
+	private NormalizationPipeline(List<String> rules, String separator) {
+		this.rules = rules;
+		this.separator = separator;
+		patterns = new Pattern[rules.size()];
+		replacements = new String[rules.size()];
+		for (int i = 0; i < rules.size(); i++) {
+			String rule = rules.get(i);
+			if (rule.contains(separator)) {
+				String[] patternReplacement = rule.split(separator);
+				patterns[i] = Pattern.compile(patternReplacement[0], Pattern.UNICODE_CHARACTER_CLASS);
+				replacements[i] = patternReplacement.length > 1 ? patternReplacement[1] : "";
+			} else {
+				patterns[i] = Pattern.compile(rule, Pattern.UNICODE_CHARACTER_CLASS);
+				replacements[i] = "";
+			}
+		}
+		List<String> versionInputs = new ArrayList<>(rules.size() + 1);
+		versionInputs.add(separator);
+		versionInputs.addAll(rules);
+		version = digest(versionInputs);
+	}
+
+	/**
+	 * Compiles the normalization rules, each a regular expression optionally
+	 * followed by the separator and the replacement.
+	 *
+	 * @param rules     the rules
+	 * @param separator the separator
+	 * @return the normalization pipeline
+	 */
+	static NormalizationPipeline compile(List<String> rules, String separator) {
+		return new NormalizationPipeline(rules, separator);
+	}
+
+	/**
+	 * Checks if the pipeline is compiled from the rules.
+	 *
+	 * @param rules     the rules
+	 * @param separator the separator
+	 * @return true, if compiled from the rules
+	 */
+	boolean isCompiledFrom(List<String> rules, String separator) {
+		return this.rules.equals(rules) && this.separator.equals(separator);
+	}
+
+	/**
+	 * Gets the version of the rules, the same for the same separator and rules
+	 * in any instance of the application.
+	 *
+	 * @return the version
+	 */
+	String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Digests the values, in order, to a short hexadecimal version.
+	 *
+	 * @param values the values
+	 * @return the version
+	 */
+	static String digest(Iterable<String> values) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance(VERSION_DIGEST_ALGORITHM);
+			for (String value : values) {
+				byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+				// Length prefixed, so that the values can not run into each other
+				messageDigest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+				messageDigest.update((byte) ':');
+				messageDigest.update(bytes);
+			}
+			StringBuilder hex = new StringBuilder(VERSION_LENGTH);
+			for (byte b : messageDigest.digest()) {
+				if (hex.length() == VERSION_LENGTH) {
+					break;
+				}
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Applies the rules to the text in place.
+	 *
+	 * @param text the text
+	 */
+	void apply(StringBuilder text) {
+		for (int i = 0; i < patterns.length; i++) {
+			Matcher m = patterns[i].matcher(text);
+			String replacement = replacements[i];
+			// Find from start
+			int findStart = 0;
+			while (m.find(findStart)) {
+				int start = m.start();
+				int end = m.end();
+				// If it matches no character, break to proceed to the next pattern
+				if (end == start) {
+					break;
+				}
+				text.replace(start, end, replacement);
+				// Find next from the replacement index
+				findStart = start + replacement.length();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,279 @@
+package io.mosip.authentication.common.service.impl.match;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The Class TitleMatcher - removes the titles of a language from a name, with
+ * an Aho-Corasick automaton over the lower case titles built once for the
+ * titles list.
+ * <p>
+ * The titles are removed longest first, each title with a dot before the
+ * title alone, in the exact, lower and upper cases, until the title is not
+ * found in the name ignoring the case. A single scan of the name finds the
+ * next title to remove, in place of a scan for each title. A title found only
+ * in a mixed case, such as "mR", is kept in the name.
+ *
+ * @author Loganathan Sekar
+ */
+final class TitleMatcher {
+
+	/** The Constant TITLE_SUFFIX. */
+	private static final String TITLE_SUFFIX = ".";
+
+	/** The Constant LONGEST_FIRST. */
+	private static final Comparator<String> LONGEST_FIRST = Comparator.comparing(String::length).reversed();
+
+	/** The titles list the matcher is built for. */
+	private final List<String> titles;
+
+	/** The titles to remove, in the removal order. */
+	private final String[] variants;
+
+	/** The lower case titles to remove. */
+	private final String[] lowerVariants;
+
+	/** The upper case titles to remove. */
+	private final String[] upperVariants;
+
+	/** The sorted transition characters, by state. */
+	private final char[][] transitionChars;
+
+	/** The transition target states, by state. */
+	private final int[][] transitionStates;
+
+	/** The failure states, by state. */
+	private final int[] failStates;
+
+	/** The sorted indexes of the titles ending at each state. */
+	private final int[][] outputs;
+
+	/** The version of the titles, changing when the removed titles change. */
+	private final String version;
+
+	/**
+	 * Instantiates a new title matcher.
+	 *
+	 * @param titles the titles
+	 */
+	private TitleMatcher(List<String> titles) {
+		this.titles = titles;
+		List<String> sortedTitles = new ArrayList<>(titles.size());
+		for (String title : titles) {
+			if (title != null && !title.isEmpty()) {
+				sortedTitles.add(title);
+			}
+		}
+		sortedTitles.sort(LONGEST_FIRST);
+		// In the natural order, so that the version is the same in any given order
+		version = NormalizationPipeline.digest(new TreeSet<>(sortedTitles));
+		int count = sortedTitles.size() * 2;
+		variants = new String[count];
+		lowerVariants = new String[count];
+		upperVariants = new String[count];
+		for (int i = 0; i < sortedTitles.size(); i++) {
+			String title = sortedTitles.get(i);
+			variants[2 * i] = title + TITLE_SUFFIX;
+			variants[2 * i + 1] = title;
+		}
+		for (int i = 0; i < count; i++) {
+			lowerVariants[i] = variants[i].toLowerCase();
+			upperVariants[i] = variants[i].toUpperCase();
+		}
+
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<List<Integer>> trieOutputs = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		trieOutputs.add(new ArrayList<>());
+		for (int i = 0; i < count; i++) {
+			int state = 0;
+			for (char c : lowerVariants[i].toCharArray()) {
+				Integer nextState = trie.get(state).get(c);
+				if (nextState == null) {
+					nextState = trie.size();
+					trie.get(state).put(c, nextState);
+					trie.add(new TreeMap<>());
+					trieOutputs.add(new ArrayList<>());
+				}
+				state = nextState;
+			}
+			trieOutputs.get(state).add(i);
+		}
+
+		int stateCount = trie.size();
+		transitionChars = new char[stateCount][];
+		transitionStates = new int[stateCount][];
+		for (int state = 0; state < stateCount; state++) {
+			TreeMap<Character, Integer> transitions = trie.get(state);
+			transitionChars[state] = new char[transitions.size()];
+			transitionStates[state] = new int[transitions.size()];
+			int j = 0;
+			for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+				transitionChars[state][j] = transition.getKey();
+				transitionStates[state][j] = transition.getValue();
+				j++;
+			}
+		}
+
+		// Breadth first, so that the failure state of a state is complete before its children
+		failStates = new int[stateCount];
+		outputs = new int[stateCount][];
+		outputs[0] = new int[0];
+		int[] queue = new int[stateCount];
+		int head = 0;
+		int tail = 0;
+		for (int child : transitionStates[0]) {
+			failStates[child] = 0;
+			outputs[child] = toSortedArray(trieOutputs.get(child), outputs[0]);
+			queue[tail++] = child;
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			for (int j = 0; j < transitionChars[state].length; j++) {
+				int child = transitionStates[state][j];
+				int fail = failStates[state];
+				int failNext;
+				while ((failNext = transition(fail, transitionChars[state][j])) < 0 && fail != 0) {
+					fail = failStates[fail];
+				}
+				failStates[child] = failNext < 0 ? 0 : failNext;
+				outputs[child] = toSortedArray(trieOutputs.get(child), outputs[failStates[child]]);
+				queue[tail++] = child;
+			}
+		}
+	}
+
+	/**
+	 * Builds the title matcher for the titles.
+	 *
+	 * @param titles the titles
+	 * @return the title matcher
+	 */
+	static TitleMatcher of(List<String> titles) {
+		return new TitleMatcher(titles);
+	}
+
+	/**
+	 * Checks if the matcher is built for the titles list.
+	 *
+	 * @param titles the titles
+	 * @return true, if built for the titles list
+	 */
+	boolean isBuiltFor(List<String> titles) {
+		return this.titles == titles;
+	}
+
+	/**
+	 * Gets the version of the titles, the same for the same titles in any
+	 * removal order.
+	 *
+	 * @return the version
+	 */
+	String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Removes the titles from the name.
+	 *
+	 * @param name the name
+	 */
+	void removeTitles(StringBuilder name) {
+		int variant = 0;
+		while ((variant = nextPresent(name.toString().toLowerCase(), variant)) >= 0) {
+			int length = variants[variant].length();
+			boolean removed = remove(name, variants[variant], length);
+			removed |= remove(name, lowerVariants[variant], length);
+			removed |= remove(name, upperVariants[variant], length);
+			if (!removed) {
+				// Found only in a mixed case, which is kept
+				variant++;
+			}
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the title from the name.
+	 *
+	 * @param name   the name
+	 * @param title  the title
+	 * @param length the length to remove
+	 * @return true, if removed
+	 */
+	private static boolean remove(StringBuilder name, String title, int length) {
+		int index = name.indexOf(title);
+		if (index < 0) {
+			return false;
+		}
+		name.replace(index, index + length, "");
+		return true;
+	}
+
+	/**
+	 * Finds the first title, from the given title, present in the lower case
+	 * name.
+	 *
+	 * @param lowerName the lower case name
+	 * @param from      the index of the title to find from
+	 * @return the index of the title, or -1 if none is present
+	 */
+	private int nextPresent(String lowerName, int from) {
+		int found = Integer.MAX_VALUE;
+		int state = 0;
+		for (int i = 0; i < lowerName.length(); i++) {
+			char c = lowerName.charAt(i);
+			int nextState;
+			while ((nextState = transition(state, c)) < 0 && state != 0) {
+				state = failStates[state];
+			}
+			state = nextState < 0 ? 0 : nextState;
+			int[] stateOutputs = outputs[state];
+			if (stateOutputs.length > 0) {
+				int index = Arrays.binarySearch(stateOutputs, from);
+				int candidate = index >= 0 ? from
+						: -index - 1 < stateOutputs.length ? stateOutputs[-index - 1] : Integer.MAX_VALUE;
+				if (candidate == from) {
+					return from;
+				}
+				found = Math.min(found, candidate);
+			}
+		}
+		return found == Integer.MAX_VALUE ? -1 : found;
+	}
+
+	/**
+	 * Gets the transition of the state for the character.
+	 *
+	 * @param state the state
+	 * @param c     the character
+	 * @return the next state, or -1 if none
+	 */
+	private int transition(int state, char c) {
+		int index = Arrays.binarySearch(transitionChars[state], c);
+		return index < 0 ? -1 : transitionStates[state][index];
+	}
+
+	/**
+	 * Merges the titles ending at a state with those of its failure state.
+	 *
+	 * @param ownOutputs  the own outputs
+	 * @param failOutputs the failure state outputs
+	 * @return the sorted outputs
+	 */
+	private static int[] toSortedArray(List<Integer> ownOutputs, int[] failOutputs) {
+		int[] merged = new int[ownOutputs.size() + failOutputs.length];
+		int j = 0;
+		for (int output : ownOutputs) {
+			merged[j++] = output;
+		}
+		System.arraycopy(failOutputs, 0, merged, j, failOutputs.length);
+		Arrays.sort(merged);
+		return merged;
+	}
+
+}
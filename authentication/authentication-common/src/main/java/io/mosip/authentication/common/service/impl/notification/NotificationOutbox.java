@@ -0,0 +1,376 @@
+package io.mosip.authentication.common.service.impl.notification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.NotificationType;
+import io.mosip.authentication.core.indauth.dto.SenderType;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class NotificationOutbox - stores the SMS and email notifications in the
+ * notification_outbox table, to be delivered by the
+ * {@link NotificationOutboxWorker} outside of the request.
+ * <p>
+ * The recipient and the template values, which hold the name, the phone
+ * number, the email id and the OTP, are stored encrypted with the internal
+ * reference id, and decrypted only for the delivery attempt.
+ * <p>
+ * A notification is claimed for a delivery attempt by moving its next attempt
+ * time by the lease time, skipping the notifications claimed by the other
+ * instances, so a notification not completed by a failed instance is
+ * attempted again after the lease. A delivered notification is deleted, and a
+ * notification failed in all the attempts is kept with the FAILED status,
+ * without the payload of an OTP, until it is purged after the retention time.
+ * An OTP notification is stored with the OTP expiry time, after which it is no
+ * longer claimed and is deleted.
+ * <p>
+ * A notification is stored with its own insert, when the auth or OTP request
+ * sends it, and not in a transaction with the auth transaction record: a
+ * failed insert fails the request, and a request failing after the insert
+ * still delivers the notification. The outbox is disabled by default, and
+ * needs the JDBC template of the IDA data source.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class NotificationOutbox {
+
+	/** The Constant PENDING. */
+	private static final String PENDING = "PENDING";
+
+	/** The Constant FAILED. */
+	private static final String FAILED = "FAILED";
+
+	/** The Constant RECIPIENT. */
+	private static final String RECIPIENT = "recipient";
+
+	/** The Constant VALUES. */
+	private static final String VALUES = "values";
+
+	/** The Constant MAX_ERROR_LENGTH. */
+	private static final int MAX_ERROR_LENGTH = 1024;
+
+	/** The Constant INSERT_SQL. */
+	private static final String INSERT_SQL = "INSERT INTO ida.notification_outbox (id, channel, sender, payload, "
+			+ "status_code, attempt_count, next_attempt_dtimes, expiry_dtimes, cr_dtimes) "
+			+ "VALUES (?, ?, ?, ?, '" + PENDING + "', 0, ?, ?, ?)";
+
+	/** The Constant CLAIM_SQL. */
+	private static final String CLAIM_SQL = "UPDATE ida.notification_outbox o "
+			+ "SET attempt_count = o.attempt_count + 1, next_attempt_dtimes = ?, upd_dtimes = ? "
+			+ "WHERE o.id IN (SELECT id FROM ida.notification_outbox WHERE status_code = '" + PENDING + "' "
+			+ "AND next_attempt_dtimes <= ? AND (expiry_dtimes IS NULL OR expiry_dtimes > ?) "
+			+ "ORDER BY next_attempt_dtimes LIMIT ? FOR UPDATE SKIP LOCKED) "
+			+ "RETURNING o.id, o.channel, o.sender, o.payload, o.attempt_count";
+
+	/** The Constant EXPIRE_SQL. */
+	private static final String EXPIRE_SQL = "DELETE FROM ida.notification_outbox WHERE status_code = '" + PENDING
+			+ "' AND expiry_dtimes <= ? RETURNING channel";
+
+	/** The Constant PURGE_FAILED_SQL. */
+	private static final String PURGE_FAILED_SQL = "DELETE FROM ida.notification_outbox WHERE status_code = '"
+			+ FAILED + "' AND upd_dtimes <= ? RETURNING channel";
+
+	/** The Constant DELETE_SQL. */
+	private static final String DELETE_SQL = "DELETE FROM ida.notification_outbox WHERE id = ?";
+
+	/** The Constant RETRY_SQL. */
+	private static final String RETRY_SQL = "UPDATE ida.notification_outbox SET next_attempt_dtimes = ?, "
+			+ "last_error = ?, upd_dtimes = ? WHERE id = ?";
+
+	/** The Constant FAIL_SQL. */
+	private static final String FAIL_SQL = "UPDATE ida.notification_outbox SET status_code = '" + FAILED + "', "
+			+ "payload = CASE WHEN sender = '" + SenderType.OTP.name() + "' THEN NULL ELSE payload END, "
+			+ "last_error = ?, upd_dtimes = ? WHERE id = ?";
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(NotificationOutbox.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The security manager. */
+	@Autowired
+	private IdAuthSecurityManager securityManager;
+
+	/** The jdbc template. */
+	@Autowired(required = false)
+	private JdbcTemplate jdbcTemplate;
+
+	/** The enabled flag. */
+	private boolean enabled;
+
+	/**
+	 * Enables the outbox if configured and the jdbc template is available.
+	 */
+	@PostConstruct
+	public void init() {
+		enabled = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_ENABLED, Boolean.class, false)
+				&& jdbcTemplate != null;
+	}
+
+	/**
+	 * Checks if the outbox is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Stores a notification to be delivered.
+	 *
+	 * @param channel   the channel
+	 * @param sender    the sender
+	 * @param recipient the phone number or email id
+	 * @param values    the template values
+	 * @param expiry    the time after which the notification is not delivered,
+	 *                  or null if it does not expire
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public void add(NotificationType channel, SenderType sender, String recipient, Map<String, Object> values,
+			LocalDateTime expiry) throws IdAuthenticationBusinessException {
+		try {
+			Map<String, Object> content = new HashMap<>();
+			content.put(RECIPIENT, recipient);
+			content.put(VALUES, values);
+			String data = CryptoUtil.encodeBase64(mapper.writeValueAsBytes(content));
+			String payload = CryptoUtil.encodeBase64(securityManager.encrypt(data,
+					env.getProperty(IdAuthConfigKeyConstants.INTERNAL_REFERENCE_ID), null, null));
+			Timestamp now = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
+			jdbcTemplate.update(INSERT_SQL, UUID.randomUUID().toString(), channel.name(), sender.name(), payload, now,
+					expiry == null ? null : Timestamp.valueOf(expiry), now);
+		} catch (JsonProcessingException | DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "add",
+					"Notification could not be stored: " + ExceptionUtils.getStackTrace(e));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
+
+	/**
+	 * Claims the notifications due for a delivery attempt.
+	 *
+	 * @param limit     the max number of notifications
+	 * @param leaseSecs the lease time in seconds
+	 * @return the notifications
+	 */
+	public List<Notification> claim(int limit, long leaseSecs) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		return jdbcTemplate.query(CLAIM_SQL,
+				(rs, rowNum) -> new Notification(rs.getString(1), NotificationType.valueOf(rs.getString(2)),
+						SenderType.valueOf(rs.getString(3)), rs.getString(4), rs.getInt(5)),
+				Timestamp.valueOf(now.plusSeconds(leaseSecs)), Timestamp.valueOf(now), Timestamp.valueOf(now),
+				Timestamp.valueOf(now), limit);
+	}
+
+	/**
+	 * Deletes the pending notifications past their expiry time.
+	 *
+	 * @return the channels of the deleted notifications
+	 */
+	public List<NotificationType> expire() {
+		return jdbcTemplate.query(EXPIRE_SQL, (rs, rowNum) -> NotificationType.valueOf(rs.getString(1)),
+				Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+	}
+
+	/**
+	 * Deletes the notifications failed in all the attempts before the given
+	 * time, with their payload.
+	 *
+	 * @param failedBefore the time before which the notifications failed
+	 * @return the channels of the deleted notifications
+	 */
+	public List<NotificationType> purgeFailed(LocalDateTime failedBefore) {
+		return jdbcTemplate.query(PURGE_FAILED_SQL, (rs, rowNum) -> NotificationType.valueOf(rs.getString(1)),
+				Timestamp.valueOf(failedBefore));
+	}
+
+	/**
+	 * Decrypts the recipient and the template values of a claimed notification.
+	 *
+	 * @param notification the notification
+	 * @return the content
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Content open(Notification notification) throws IdAuthenticationBusinessException {
+		byte[] data = securityManager.decrypt(notification.getPayload(),
+				env.getProperty(IdAuthConfigKeyConstants.INTERNAL_REFERENCE_ID), null, null);
+		try {
+			Map<String, Object> content = mapper.readValue(new String(data, StandardCharsets.UTF_8),
+					new TypeReference<Map<String, Object>>() {
+					});
+			@SuppressWarnings("unchecked")
+			Map<String, Object> values = (Map<String, Object>) content.get(VALUES);
+			return new Content((String) content.get(RECIPIENT), values);
+		} catch (IOException | ClassCastException e) {
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
+
+	/**
+	 * Removes a delivered notification.
+	 *
+	 * @param id the id
+	 */
+	public void delivered(String id) {
+		jdbcTemplate.update(DELETE_SQL, id);
+	}
+
+	/**
+	 * Schedules the next delivery attempt of a notification.
+	 *
+	 * @param id          the id
+	 * @param nextAttempt the next attempt time
+	 * @param error       the error of the failed attempt
+	 */
+	public void retry(String id, LocalDateTime nextAttempt, String error) {
+		jdbcTemplate.update(RETRY_SQL, Timestamp.valueOf(nextAttempt), truncate(error),
+				Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()), id);
+	}
+
+	/**
+	 * Marks a notification as failed in all the attempts.
+	 *
+	 * @param id    the id
+	 * @param error the error of the last attempt
+	 */
+	public void failed(String id, String error) {
+		jdbcTemplate.update(FAIL_SQL, truncate(error), Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()), id);
+	}
+
+	/**
+	 * Truncates the error to the column length.
+	 *
+	 * @param error the error
+	 * @return the truncated error
+	 */
+	private static String truncate(String error) {
+		return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+	}
+
+	/**
+	 * A notification claimed for a delivery attempt, with its encrypted payload.
+	 */
+	public static final class Notification {
+
+		/** The id. */
+		private final String id;
+
+		/** The channel. */
+		private final NotificationType channel;
+
+		/** The sender. */
+		private final SenderType sender;
+
+		/** The encrypted recipient and template values. */
+		private final String payload;
+
+		/** The attempt number of this attempt. */
+		private final int attempt;
+
+		/**
+		 * Instantiates a new notification.
+		 *
+		 * @param id      the id
+		 * @param channel the channel
+		 * @param sender  the sender
+		 * @param payload the payload
+		 * @param attempt the attempt
+		 */
+		public Notification(String id, NotificationType channel, SenderType sender, String payload, int attempt) {
+			this.id = id;
+			this.channel = channel;
+			this.sender = sender;
+			this.payload = payload;
+			this.attempt = attempt;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public NotificationType getChannel() {
+			return channel;
+		}
+
+		public SenderType getSender() {
+			return sender;
+		}
+
+		public String getPayload() {
+			return payload;
+		}
+
+		public int getAttempt() {
+			return attempt;
+		}
+	}
+
+	/**
+	 * The decrypted recipient and template values of a notification.
+	 */
+	public static final class Content {
+
+		/** The recipient. */
+		private final String recipient;
+
+		/** The template values. */
+		private final Map<String, Object> values;
+
+		/**
+		 * Instantiates a new content.
+		 *
+		 * @param recipient the recipient
+		 * @param values    the values
+		 */
+		public Content(String recipient, Map<String, Object> values) {
+			this.recipient = recipient;
+			this.values = values;
+		}
+
+		public String getRecipient() {
+			return recipient;
+		}
+
+		public Map<String, Object> getValues() {
+			return values;
+		}
+	}
+
+}
@@ -0,0 +1,270 @@
+package io.mosip.authentication.common.service.impl.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox.Content;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox.Notification;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.indauth.dto.NotificationType;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class NotificationOutboxWorker - delivers the notifications of the
+ * {@link NotificationOutbox} to the notifiers.
+ * <p>
+ * A scheduler thread claims the due notifications in batches and delivers
+ * them with a fixed pool of worker threads, claiming the next batch once the
+ * batch is done. A failed delivery is attempted again after the backoff time,
+ * doubled on each attempt, until the max attempts, after which the
+ * notification is marked as failed. The notifications past their expiry,
+ * such as the OTPs no longer valid, are deleted before each poll instead of
+ * being delivered, and so are the failed notifications past the failed
+ * retention time, so that their encrypted payload is not kept. The delivered,
+ * retried, failed, expired and purged notifications are counted by channel.
+ *
+ * @author Loganathan Sekar
+ */
+@Component
+public class NotificationOutboxWorker {
+
+	/** The Constant SCHEDULER_THREAD_NAME_PREFIX. */
+	private static final String SCHEDULER_THREAD_NAME_PREFIX = "ida-notification-outbox-";
+
+	/** The Constant WORKER_THREAD_NAME_PREFIX. */
+	private static final String WORKER_THREAD_NAME_PREFIX = "ida-notification-worker-";
+
+	/** The Constant DELIVERED_METRIC. */
+	private static final String DELIVERED_METRIC = "ida.notification.outbox.delivered";
+
+	/** The Constant RETRIED_METRIC. */
+	private static final String RETRIED_METRIC = "ida.notification.outbox.retried";
+
+	/** The Constant FAILED_METRIC. */
+	private static final String FAILED_METRIC = "ida.notification.outbox.failed";
+
+	/** The Constant EXPIRED_METRIC. */
+	private static final String EXPIRED_METRIC = "ida.notification.outbox.expired";
+
+	/** The Constant PURGED_METRIC. */
+	private static final String PURGED_METRIC = "ida.notification.outbox.purged";
+
+	/** The Constant CHANNEL_TAG. */
+	private static final String CHANNEL_TAG = "channel";
+
+	/** The Constant SHUTDOWN_TIMEOUT_SECS. */
+	private static final long SHUTDOWN_TIMEOUT_SECS = 30L;
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(NotificationOutboxWorker.class);
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The notification outbox. */
+	@Autowired
+	private NotificationOutbox notificationOutbox;
+
+	/** The notification service. */
+	@Autowired
+	private NotificationService notificationService;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The batch size. */
+	private int batchSize;
+
+	/** The max attempts. */
+	private int maxAttempts;
+
+	/** The backoff time in seconds. */
+	private long backoffSecs;
+
+	/** The lease time in seconds. */
+	private long leaseSecs;
+
+	/** The retention time of the failed notifications in hours. */
+	private long failedRetentionHours;
+
+	/** The poll scheduler. */
+	private ScheduledExecutorService scheduler;
+
+	/** The delivery workers. */
+	private ExecutorService workers;
+
+	/** The meter registry of the metrics. */
+	private MeterRegistry registry;
+
+	/**
+	 * Starts the poll scheduler and the delivery workers if the outbox is
+	 * enabled.
+	 */
+	@PostConstruct
+	public void init() {
+		if (!notificationOutbox.isEnabled()) {
+			return;
+		}
+		int workerCount = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_WORKERS, Integer.class,
+				IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_WORKERS);
+		batchSize = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_BATCH_SIZE, Integer.class,
+				IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_BATCH_SIZE);
+		maxAttempts = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_MAX_ATTEMPTS, Integer.class,
+				IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_MAX_ATTEMPTS);
+		backoffSecs = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_BACKOFF_SECS, Long.class,
+				IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_BACKOFF_SECS);
+		leaseSecs = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_LEASE_SECS, Long.class,
+				IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_LEASE_SECS);
+		failedRetentionHours = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS,
+				Long.class, IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS);
+		long pollIntervalMillis = env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS,
+				Long.class, IdAuthCommonConstants.DEFAULT_NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS);
+		registry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+		// A batch is claimed only when the previous batch is done, so the queue never holds more than a batch
+		workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(batchSize), new CustomizableThreadFactory(WORKER_THREAD_NAME_PREFIX));
+		scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory(SCHEDULER_THREAD_NAME_PREFIX));
+		scheduler.scheduleWithFixedDelay(this::deliverAll, pollIntervalMillis, pollIntervalMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Shuts down the poll scheduler and the delivery workers. The notifications
+	 * claimed and not delivered are attempted again after the lease.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduler == null) {
+			return;
+		}
+		scheduler.shutdown();
+		workers.shutdown();
+		try {
+			scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS);
+			workers.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Delivers the due notifications, batch by batch.
+	 *
+	 * @return the number of notifications attempted
+	 */
+	public int deliverAll() {
+		int attempted = 0;
+		try {
+			for (NotificationType channel : notificationOutbox.expire()) {
+				count(EXPIRED_METRIC, channel.name());
+			}
+			for (NotificationType channel : notificationOutbox
+					.purgeFailed(DateUtils.getUTCCurrentDateTime().minusHours(failedRetentionHours))) {
+				count(PURGED_METRIC, channel.name());
+			}
+			List<Notification> batch;
+			do {
+				batch = notificationOutbox.claim(batchSize, leaseSecs);
+				List<Future<?>> deliveries = new ArrayList<>(batch.size());
+				for (Notification notification : batch) {
+					deliveries.add(workers.submit(() -> deliver(notification)));
+				}
+				for (Future<?> delivery : deliveries) {
+					await(delivery);
+				}
+				attempted += batch.size();
+			} while (batch.size() == batchSize && !scheduler.isShutdown() && !Thread.currentThread().isInterrupted());
+		} catch (DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "deliverAll",
+					"Notification outbox delivery failed: " + ExceptionUtils.getStackTrace(e));
+		}
+		return attempted;
+	}
+
+	/**
+	 * Waits for a delivery to complete. A delivery whose outcome could not be
+	 * stored is attempted again after the lease.
+	 *
+	 * @param delivery the delivery
+	 */
+	private void await(Future<?> delivery) {
+		try {
+			delivery.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "await",
+					"Notification delivery outcome could not be stored: " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Delivers the notification, scheduling the next attempt or marking it as
+	 * failed if the delivery fails.
+	 *
+	 * @param notification the notification
+	 */
+	private void deliver(Notification notification) {
+		String channel = notification.getChannel().name();
+		try {
+			Content content = notificationOutbox.open(notification);
+			notificationService.deliverNotification(notification.getChannel(), notification.getSender(),
+					content.getRecipient(), content.getValues());
+		} catch (Exception e) {
+			String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+			if (notification.getAttempt() >= maxAttempts) {
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "deliver",
+						"Notification " + notification.getId() + " failed in all the attempts: "
+								+ ExceptionUtils.getStackTrace(e));
+				notificationOutbox.failed(notification.getId(), error);
+				count(FAILED_METRIC, channel);
+			} else {
+				long backoff = backoffSecs << Math.min(notification.getAttempt() - 1, 20);
+				notificationOutbox.retry(notification.getId(), DateUtils.getUTCCurrentDateTime().plusSeconds(backoff),
+						error);
+				count(RETRIED_METRIC, channel);
+			}
+			return;
+		}
+		notificationOutbox.delivered(notification.getId());
+		count(DELIVERED_METRIC, channel);
+	}
+
+	/**
+	 * Counts a notification in the metric of the channel.
+	 *
+	 * @param metric  the metric
+	 * @param channel the channel
+	 */
+	private void count(String metric, String channel) {
+		Counter.builder(metric).tag(CHANNEL_TAG, channel).register(registry).increment();
+	}
+
+}
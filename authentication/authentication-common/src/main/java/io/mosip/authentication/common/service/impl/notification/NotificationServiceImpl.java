@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.impl.notification;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -39,6 +40,7 @@ import io.mosip.authentication.core.indauth.dto.SenderType;
 import io.mosip.authentication.core.spi.indauth.match.AuthType;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.kernel.core.util.DateUtils;
 
 /***
  * 
@@ -75,6 +77,9 @@ public class NotificationServiceImpl implements NotificationService {
 	@Autowired
 	private NotificationManager notificationManager;
 
+	@Autowired
+	private NotificationOutbox notificationOutbox;
+
 	public void sendAuthNotification(AuthRequestDTO authRequestDTO, String idvid, AuthResponseDTO authResponseDTO,
 			Map<String, List<IdentityInfoDTO>> idInfo, boolean isAuth) throws IdAuthenticationBusinessException {
 
@@ -174,18 +179,50 @@ public class NotificationServiceImpl implements NotificationService {
 
 		}
 
+		// The notifications are delivered from the outbox if enabled, except the OTPs configured to be sent in the request
+		boolean otpSync = notificationOutbox.isEnabled() && sender == SenderType.OTP
+				&& env.getProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_OTP_SYNC, Boolean.class, false);
+		boolean outbox = notificationOutbox.isEnabled() && !otpSync;
+		// An OTP is not delivered from the outbox after it expires
+		LocalDateTime expiry = outbox && sender == SenderType.OTP ? DateUtils.getUTCCurrentDateTime().plusSeconds(
+				env.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_EXPIRY_TIME, Long.class)) : null;
 		if (notificationtype.contains(NotificationType.SMS)) {
-			invokeSmsNotification(values, sender, notificationMobileNo);
+			if (outbox) {
+				notificationOutbox.add(NotificationType.SMS, sender, notificationMobileNo, values, expiry);
+			} else {
+				invokeSmsNotification(values, sender, notificationMobileNo, otpSync);
+			}
 
 		}
 		if (notificationtype.contains(NotificationType.EMAIL)) {
-
-			invokeEmailNotification(values, emailId, sender);
+			if (outbox) {
+				notificationOutbox.add(NotificationType.EMAIL, sender, emailId, values, expiry);
+			} else {
+				invokeEmailNotification(values, emailId, sender, otpSync);
+			}
 
 		}
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.authentication.core.spi.notification.service.NotificationService#
+	 * deliverNotification(io.mosip.authentication.core.indauth.dto.NotificationType,
+	 * io.mosip.authentication.core.indauth.dto.SenderType, java.lang.String,
+	 * java.util.Map)
+	 */
+	@Override
+	public void deliverNotification(NotificationType channel, SenderType sender, String recipient,
+			Map<String, Object> values) throws IdAuthenticationBusinessException {
+		if (channel == NotificationType.SMS) {
+			invokeSmsNotification(values, sender, recipient, true);
+		} else if (channel == NotificationType.EMAIL) {
+			invokeEmailNotification(values, recipient, sender, true);
+		}
+	}
+
 	/**
 	 * Reads notification type from property and set the notification type
 	 * 
@@ -249,11 +286,12 @@ public class NotificationServiceImpl implements NotificationService {
 	 * @param sender               the sender
 	 * @param contentTemplate      the content template
 	 * @param notificationMobileNo the notification mobile no
+	 * @param sync                 true, to wait for the notifier
 	 * @throws IdAuthenticationBusinessException the id authentication business
 	 *                                           exception
 	 */
-	private void invokeSmsNotification(Map<String, Object> values, SenderType sender, String notificationMobileNo)
-			throws IdAuthenticationBusinessException {
+	private void invokeSmsNotification(Map<String, Object> values, SenderType sender, String notificationMobileNo,
+			boolean sync) throws IdAuthenticationBusinessException {
 		String authSmsTemplate = env.getProperty(IdAuthConfigKeyConstants.AUTH_SMS_TEMPLATE);
 		String otpSmsTemplate = env.getProperty(IdAuthConfigKeyConstants.OTP_SMS_TEMPLATE);
 		String contentTemplate = "";
@@ -264,7 +302,7 @@ public class NotificationServiceImpl implements NotificationService {
 		}
 
 		String smsTemplate = applyTemplate(values, contentTemplate);
-		notificationManager.sendSmsNotification(notificationMobileNo, smsTemplate);
+		notificationManager.sendSmsNotification(notificationMobileNo, smsTemplate, sync);
 	}
 
 	/**
@@ -275,10 +313,11 @@ public class NotificationServiceImpl implements NotificationService {
 	 * @param sender          the sender
 	 * @param contentTemplate the content template
 	 * @param subjectTemplate the subject template
+	 * @param sync            true, to wait for the notifier
 	 * @throws IdAuthenticationBusinessException the id authentication business
 	 *                                           exception
 	 */
-	private void invokeEmailNotification(Map<String, Object> values, String emailId, SenderType sender)
+	private void invokeEmailNotification(Map<String, Object> values, String emailId, SenderType sender, boolean sync)
 			throws IdAuthenticationBusinessException {
 		String otpContentTemaplate = env.getProperty(IdAuthConfigKeyConstants.OTP_CONTENT_TEMPLATE);
 		String authEmailSubjectTemplate = env.getProperty(IdAuthConfigKeyConstants.AUTH_EMAIL_SUBJECT_TEMPLATE);
@@ -297,7 +336,7 @@ public class NotificationServiceImpl implements NotificationService {
 
 		String mailSubject = applyTemplate(values, subjectTemplate);
 		String mailContent = applyTemplate(values, contentTemplate);
-		notificationManager.sendEmailNotification(emailId, mailSubject, mailContent);
+		notificationManager.sendEmailNotification(emailId, mailSubject, mailContent, sync);
 	}
 
 }
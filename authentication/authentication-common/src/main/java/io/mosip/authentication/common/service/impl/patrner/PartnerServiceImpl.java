@@ -11,6 +11,7 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.partner.dto.PartnerDTO;
 import io.mosip.authentication.core.partner.dto.PartnerPolicyResponseDTO;
 import io.mosip.authentication.core.partner.dto.PolicyDTO;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
 
 /**
@@ -56,12 +57,25 @@ public class PartnerServiceImpl implements PartnerService {
 			return partnerServiceResponseMap.get(key);
 		} else {
 			PartnerPolicyResponseDTO partnerPolicyResponseDTO = partnerServiceManager.validateAndGetPolicy(partnerId, partnerApiKey, mispLicenseKey);
+			compilePolicy(partnerPolicyResponseDTO.getPolicy());
 			partnerServiceResponseMap.put(createPartnerDTO(partnerPolicyResponseDTO, partnerApiKey), partnerPolicyResponseDTO);
 			return partnerPolicyResponseDTO;
 		}
 	}
 
 
+	/**
+	 * Compiles the policy once when it is cached, so that the policy check of
+	 * each request uses the precompiled policy.
+	 *
+	 * @param policy the policy
+	 */
+	private void compilePolicy(PolicyDTO policy) {
+		if (policy != null) {
+			policy.setPolicyEvaluator(PolicyEvaluator.compile(policy));
+		}
+	}
+
 	@Override
 	public Optional<PolicyDTO> getPolicyForPartner(String partnerId, String partnerApiKey) throws IdAuthenticationBusinessException {
 		PartnerDTO key = new PartnerDTO(partnerId, partnerApiKey);
@@ -1,31 +1,45 @@
 package io.mosip.authentication.common.service.integration;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.PostConstruct;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.exception.TemplateInitException;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.log.NullLogChute;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.LanguageType;
+import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
-import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
-import io.mosip.kernel.core.templatemanager.spi.TemplateManagerBuilder;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
 
 /**
  * 
  * Manage fetching / applying Templates based on entity.
+ * <p>
+ * Each template is parsed once per template name and notification languages,
+ * and the parsed templates are discarded when the master data snapshot is
+ * replaced, such as on a configuration refresh. The templates are rendered into
+ * a writer reused by the thread.
  *
  * @author Dinesh Karuppiah.T
  */
@@ -48,14 +62,23 @@ public class IdTemplateManager {
 	/** UTF type. */
 	private static final String ENCODE_TYPE = "UTF-8";
 
-	/** The template manager to apply template for eKyc */
-	private TemplateManager templateManager;
+	/** The Constant KEY_SEPARATOR. */
+	private static final String KEY_SEPARATOR = "|";
 
-	/**
-	 * Template Manager Builder to build templates
-	 */
-	@Autowired
-	private TemplateManagerBuilder templateManagerBuilder;
+	/** The Constant MAX_POOLED_WRITER_CAPACITY. */
+	private static final int MAX_POOLED_WRITER_CAPACITY = 16 * 1024;
+
+	/** The writers reused by the threads to render the templates. */
+	private static final ThreadLocal<StringBuilderWriter> WRITERS = ThreadLocal.withInitial(StringBuilderWriter::new);
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdTemplateManager.class);
+
+	/** The velocity runtime to parse and render the templates. */
+	private RuntimeInstance velocity;
+
+	/** The parsed templates of the current master data snapshot. */
+	private volatile ParsedTemplates parsedTemplates;
 
 	/**
 	 * To integrate Master data from Kernal
@@ -77,8 +100,16 @@ public class IdTemplateManager {
 	 */
 	@PostConstruct
 	public void idTemplateManagerPostConstruct() {
-		templateManager = templateManagerBuilder.encodingType(ENCODE_TYPE).enableCache(false).resourceLoader(CLASSPATH)
-				.build();
+		RuntimeInstance runtime = new RuntimeInstance();
+		runtime.setProperty(RuntimeConstants.INPUT_ENCODING, ENCODE_TYPE);
+		runtime.setProperty(RuntimeConstants.OUTPUT_ENCODING, ENCODE_TYPE);
+		runtime.setProperty(RuntimeConstants.ENCODING_DEFAULT, ENCODE_TYPE);
+		runtime.setProperty(RuntimeConstants.RESOURCE_LOADER, CLASSPATH);
+		runtime.setProperty(CLASSPATH + ".resource.loader.class", ClasspathResourceLoader.class.getName());
+		runtime.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+		runtime.init();
+		velocity = runtime;
+		parsedTemplates = null;
 	}
 
 	/**
@@ -96,19 +127,79 @@ public class IdTemplateManager {
 			throws IdAuthenticationBusinessException, IOException {
 		Objects.requireNonNull(templateName);
 		Objects.requireNonNull(values);
-		StringWriter writer = new StringWriter();
-		InputStream templateValue;
-		String fetchedTemplate = fetchTemplate(templateName);
-		templateValue = templateManager
-				.merge(new ByteArrayInputStream(fetchedTemplate.getBytes(StandardCharsets.UTF_8)), values);
-		if (templateValue != null) {
-			IOUtils.copy(templateValue, writer, StandardCharsets.UTF_8);
-			return writer.toString();
-		} else {
+		Template template = getTemplate(templateName);
+		StringBuilderWriter writer = WRITERS.get();
+		StringBuilder output = writer.getBuilder();
+		output.setLength(0);
+		try {
+			template.merge(new VelocityContext(values), writer);
+			return output.toString();
+		} finally {
+			if (output.capacity() > MAX_POOLED_WRITER_CAPACITY) {
+				WRITERS.remove();
+			} else {
+				output.setLength(0);
+			}
+		}
+	}
+
+	/**
+	 * Gets the parsed template of the template name for the notification
+	 * languages, parsing it if not parsed for the current master data snapshot.
+	 *
+	 * @param templateName the template name
+	 * @return the template
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private Template getTemplate(String templateName) throws IdAuthenticationBusinessException {
+		MasterDataSnapshot snapshot = masterDataManager.getSnapshot();
+		ParsedTemplates templates = parsedTemplates;
+		if (templates == null || templates.snapshot != snapshot) {
+			templates = new ParsedTemplates(snapshot);
+			parsedTemplates = templates;
+		}
+		String key = templateName + KEY_SEPARATOR
+				+ environment.getProperty(IdAuthConfigKeyConstants.MOSIP_NOTIFICATION_LANGUAGE_TYPE) + KEY_SEPARATOR
+				+ idInfoFetcher.getLanguageCode(LanguageType.PRIMARY_LANG) + KEY_SEPARATOR
+				+ idInfoFetcher.getLanguageCode(LanguageType.SECONDARY_LANG);
+		Template template = templates.templates.get(key);
+		if (template == null) {
+			template = parseTemplate(templateName, fetchTemplate(templateName));
+			templates.templates.putIfAbsent(key, template);
+		}
+		return template;
+	}
+
+	/**
+	 * Parses the template.
+	 *
+	 * @param templateName the template name
+	 * @param templateText the template text
+	 * @return the template
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private Template parseTemplate(String templateName, String templateText)
+			throws IdAuthenticationBusinessException {
+		if (templateText == null) {
 			throw new IdAuthenticationBusinessException(
 					IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorMessage(), TEMPLATE));
 		}
+		try {
+			Template template = new Template();
+			template.setName(templateName);
+			template.setEncoding(ENCODE_TYPE);
+			template.setRuntimeServices(velocity);
+			template.setData(velocity.parse(new StringReader(templateText), templateName));
+			template.initDocument();
+			return template;
+		} catch (ParseException | TemplateInitException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "parseTemplate",
+					"Invalid template " + templateName + ": " + ExceptionUtils.getStackTrace(e));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
 	}
 
 	/**
@@ -132,4 +223,25 @@ public class IdTemplateManager {
 		return stringBuilder.toString();
 	}
 
+	/**
+	 * The templates parsed from a master data snapshot.
+	 */
+	private static final class ParsedTemplates {
+
+		/** The master data snapshot. */
+		private final MasterDataSnapshot snapshot;
+
+		/** The templates by template name and notification languages. */
+		private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
+
+		/**
+		 * Instantiates a new parsed templates.
+		 *
+		 * @param snapshot the master data snapshot
+		 */
+		private ParsedTemplates(MasterDataSnapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+	}
+
 }
@@ -47,10 +47,6 @@ public class KeyManager {
 	@Value("${" + IdAuthConfigKeyConstants.PARTNER_REFERENCE_ID + "}")
 	private String partnerId;
 
-	/** The key splitter. */
-	@Value("${" + IdAuthConfigKeyConstants.KEY_SPLITTER + "}")
-	private String keySplitter;
-	
 	/** The security manager. */
 	@Autowired
 	private IdAuthSecurityManager securityManager;
@@ -107,10 +103,8 @@ public class KeyManager {
 	@SuppressWarnings("unchecked")
 	private Map<String, Object> decipherData(ObjectMapper mapper, byte[] encryptedRequest, byte[] encryptedSessionKey,
 			String refId, ConsumerWithException<String, IdAuthenticationAppException> dataValidator) throws IdAuthenticationAppException, IOException {
-		String decryptedAndDecodedData = kernelDecryptAndDecode(
-						CryptoUtil.encodeBase64(
-								CryptoUtil.combineByteArray(encryptedRequest, encryptedSessionKey, keySplitter)),
-						refId);
+		String decryptedAndDecodedData = new String(
+				kernelDecrypt(encryptedSessionKey, encryptedRequest, refId, null, null), StandardCharsets.UTF_8);
 
 		if(dataValidator != null) {
 			dataValidator.accept(decryptedAndDecodedData);
@@ -148,6 +142,26 @@ public class KeyManager {
 		return internalKernelDecryptAndDecode(data, refId, aad, salt, false);
 	}
 
+	/**
+	 * Kernel decrypt of the raw data encrypted with the given session key.
+	 *
+	 * @param encryptedSessionKey the encrypted session key
+	 * @param encryptedData the encrypted data
+	 * @param refId the ref id
+	 * @param aad the aad
+	 * @param salt the salt
+	 * @return the decrypted bytes
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public byte[] kernelDecrypt(byte[] encryptedSessionKey, byte[] encryptedData, String refId, byte[] aad,
+			byte[] salt) throws IdAuthenticationAppException {
+		try {
+			return securityManager.decrypt(encryptedSessionKey, encryptedData, refId, aad, salt);
+		} catch (IdAuthenticationBusinessException e) {
+			throw handleDecryptionException(e);
+		}
+	}
+
 
 	/**
 	 * Internal kernel decrypt and decode.
@@ -162,24 +176,28 @@ public class KeyManager {
 	 */
 	private String internalKernelDecryptAndDecode(String data, String refId, String aad, String salt, boolean decode)
 			throws IdAuthenticationAppException {
-		String decryptedRequest = null;
 		try {
-			String encodedIdentity = CryptoUtil.encodeBase64(securityManager.decrypt(data, refId, aad, salt));
-			if (decode) {
-				decryptedRequest = new String(CryptoUtil.decodeBase64(encodedIdentity), StandardCharsets.UTF_8);
-			} else {
-				decryptedRequest = encodedIdentity;
-			}
+			byte[] decryptedData = securityManager.decrypt(data, refId, aad, salt);
+			return decode ? new String(decryptedData, StandardCharsets.UTF_8) : CryptoUtil.encodeBase64(decryptedData);
 		} catch (IdAuthenticationBusinessException e) {
-			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(),
-					e.getErrorText());
-			if (e.getErrorCode().contentEquals(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED.getErrorCode())) {
-				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED, e);
-			} else {
-				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION, e);
-			}
+			throw handleDecryptionException(e);
+		}
+	}
+
+	/**
+	 * Logs the decryption failure and converts it to the app exception.
+	 *
+	 * @param e the id authentication business exception
+	 * @return the id authentication app exception
+	 */
+	private IdAuthenticationAppException handleDecryptionException(IdAuthenticationBusinessException e) {
+		logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(),
+				e.getErrorText());
+		if (e.getErrorCode().contentEquals(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED.getErrorCode())) {
+			return new IdAuthenticationAppException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED, e);
+		} else {
+			return new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION, e);
 		}
-		return decryptedRequest;
 	}
 
 	/**
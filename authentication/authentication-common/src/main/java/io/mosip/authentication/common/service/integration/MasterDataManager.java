@@ -1,8 +1,10 @@
 package io.mosip.authentication.common.service.integration;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -13,6 +15,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
@@ -24,6 +28,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.helper.RestHelper;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.dto.RestRequestDTO;
@@ -33,12 +38,18 @@ import io.mosip.authentication.core.exception.RestServiceException;
 import io.mosip.authentication.core.indauth.dto.LanguageType;
 import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
+import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 
 /*
  * MasterDataManager
  * 
+ * The titles, genders and templates are read from the master data
+ * configuration into a MasterDataSnapshot at startup. The configuration is
+ * checked for changes at most once in the refresh check interval, and the
+ * snapshot is replaced when it has changed.
+ * 
  * @author Dinesh Karuppiah.T
  */
 @Component
@@ -103,6 +114,129 @@ public class MasterDataManager {
 	 */
 	private static Logger logger = IdaLogger.getLogger(MasterDataManager.class);
 
+	/** The clock. */
+	private Clock clock = Clock.systemUTC();
+
+	/** The master data snapshot. */
+	private volatile MasterDataSnapshot snapshot;
+
+	/** The time of the next check of the master data configuration for changes. */
+	private volatile long nextRefreshCheckMillis;
+
+	/**
+	 * Loads the master data snapshot.
+	 */
+	@PostConstruct
+	public void init() {
+		getSnapshot();
+	}
+
+	/**
+	 * Gets the master data snapshot, replacing it if the master data
+	 * configuration has changed since it was built.
+	 *
+	 * @return the master data snapshot
+	 */
+	public MasterDataSnapshot getSnapshot() {
+		MasterDataSnapshot current = snapshot;
+		if (current == null || clock.millis() >= nextRefreshCheckMillis) {
+			current = refreshSnapshot();
+		}
+		return current;
+	}
+
+	/**
+	 * Builds the master data snapshot if the master data configuration has changed
+	 * since the current snapshot was built.
+	 *
+	 * @return the master data snapshot
+	 */
+	private synchronized MasterDataSnapshot refreshSnapshot() {
+		String titlesConfig = environment.getProperty(IdAuthConfigKeyConstants.MASTER_DATA_TITLES);
+		String gendersConfig = environment.getProperty(IdAuthConfigKeyConstants.MASTER_DATA_GENDERS);
+		String templatesConfig = environment.getProperty(IdAuthConfigKeyConstants.MASTER_DATA_IDA_TEMPLATES);
+		MasterDataSnapshot current = snapshot;
+		if (current == null || !current.isBuiltFrom(titlesConfig, gendersConfig, templatesConfig)) {
+			current = new MasterDataSnapshot(titlesConfig, gendersConfig, templatesConfig,
+					loadLists(RestServicesConstants.TITLE_SERVICE, TITLE_LIST, CODE, TITLE_NAME, true),
+					loadLists(RestServicesConstants.GENDER_TYPE_SERVICE, GENDER_TYPE, CODE, GENDER_NAME, false),
+					loadTemplates());
+			snapshot = current;
+		}
+		nextRefreshCheckMillis = clock.millis()
+				+ environment.getProperty(IdAuthConfigKeyConstants.MASTER_DATA_REFRESH_CHECK_INTERVAL_MILLIS,
+						Long.class, IdAuthCommonConstants.DEFAULT_MASTER_DATA_REFRESH_CHECK_INTERVAL_MILLIS);
+		return current;
+	}
+
+	/**
+	 * Loads the values of a master data list by language.
+	 *
+	 * @param type           the type
+	 * @param masterDataName the master data name
+	 * @param keyAttribute   the key attribute
+	 * @param valueAttribute the value attribute
+	 * @param sortByLength   true, to sort the values by length, longest first
+	 * @return the values by language, or null if the master data could not be
+	 *         loaded
+	 */
+	private Map<String, List<String>> loadLists(RestServicesConstants type, String masterDataName,
+			String keyAttribute, String valueAttribute, boolean sortByLength) {
+		try {
+			Map<String, List<String>> lists = new HashMap<>();
+			for (Entry<String, Map<String, String>> entry : fetchMasterData(type, null, masterDataName, keyAttribute,
+					valueAttribute).entrySet()) {
+				List<String> values = new ArrayList<>(entry.getValue().values());
+				if (sortByLength) {
+					values.sort(Comparator.comparing(String::length).reversed());
+				}
+				lists.put(entry.getKey(), Collections.unmodifiableList(values));
+			}
+			return Collections.unmodifiableMap(lists);
+		} catch (IdAuthenticationBusinessException | RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "loadLists",
+					"Master data " + masterDataName + " could not be loaded: " + ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+	}
+
+	/**
+	 * Loads the template texts by template type code, by language.
+	 *
+	 * @return the templates, or null if the templates could not be loaded
+	 */
+	private Map<String, Map<String, String>> loadTemplates() {
+		try {
+			Map<String, Map<String, String>> templates = new HashMap<>();
+			for (Entry<String, Map<String, String>> entry : fetchMasterData(
+					RestServicesConstants.ID_MASTERDATA_TEMPLATE_SERVICE, null, TEMPLATES, TEMPLATE_TYPE_CODE,
+					FILE_TEXT).entrySet()) {
+				templates.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+			}
+			return Collections.unmodifiableMap(templates);
+		} catch (IdAuthenticationBusinessException | RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "loadTemplates",
+					"Master data templates could not be loaded: " + ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+	}
+
+	/**
+	 * Gets a master data of the snapshot.
+	 *
+	 * @param <T>        the master data type
+	 * @param masterData the master data of the snapshot
+	 * @return the master data
+	 * @throws IdAuthenticationBusinessException if the master data could not be
+	 *                                           loaded
+	 */
+	private static <T> T requireLoaded(T masterData) throws IdAuthenticationBusinessException {
+		if (masterData == null) {
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.SERVER_ERROR);
+		}
+		return masterData;
+	}
+
 	/**
 	 * Fetch master data.
 	 *
@@ -158,9 +292,9 @@ public class MasterDataManager {
 		try {
 			switch (type) {
 				case GENDER_TYPE_SERVICE:
-					return getMasterDataFromConfig("master.data.genders");
+					return getMasterDataFromConfig(IdAuthConfigKeyConstants.MASTER_DATA_GENDERS);
 				case TITLE_SERVICE:
-					return getMasterDataFromConfig("maste.data.titles");
+					return getMasterDataFromConfig(IdAuthConfigKeyConstants.MASTER_DATA_TITLES);
 				case ID_MASTERDATA_TEMPLATE_SERVICE:
 					return getTemplates(params);
 				case ID_MASTERDATA_TEMPLATE_SERVICE_MULTILANG:
@@ -180,7 +314,7 @@ public class MasterDataManager {
 	}
 
 	private Map<String, Object> getTemplates(Map<String, String> filterParams) throws IOException, JsonParseException, JsonMappingException {
-		Map<String, Object> templateData = getMasterDataFromConfig("master.data.ida-templates");
+		Map<String, Object> templateData = getMasterDataFromConfig(IdAuthConfigKeyConstants.MASTER_DATA_IDA_TEMPLATES);
 		if(filterParams != null && !filterParams.isEmpty()) {
 		//((List<Map<String, Object>>)((Map<String, Object>)templateData.get("response")).get("templates")).get(0)
 			List<Map<String, Object>> filteredTempates = Optional.ofNullable(templateData.get("response"))
@@ -220,13 +354,7 @@ public class MasterDataManager {
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	public String fetchTemplate(String langCode, String templateName) throws IdAuthenticationBusinessException {
-		Map<String, String> params = new HashMap<>();
-//		params.put("langcode", langCode);
-//		params.put("templatetypecode", templateName);
-		params.put("langCode", langCode);
-		params.put("templateTypeCode", templateName);
-		Map<String, Map<String, String>> masterData = fetchMasterData(
-				RestServicesConstants.ID_MASTERDATA_TEMPLATE_SERVICE, params, TEMPLATES, TEMPLATE_TYPE_CODE, FILE_TEXT);
+		Map<String, Map<String, String>> masterData = requireLoaded(getSnapshot().getTemplates());
 		return Optional.ofNullable(masterData.get(langCode)).map(map -> map.get(templateName)).orElse("");
 	}
 
@@ -238,18 +366,17 @@ public class MasterDataManager {
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	public String fetchTemplate(String templateName) throws IdAuthenticationBusinessException {
-		Map<String, String> params = new HashMap<>();
 		String finalTemplate = "";
 		StringBuilder template = new StringBuilder();
-		params.put("templateTypeCode", templateName);
-		Map<String, Map<String, String>> masterData = fetchMasterData(
-				RestServicesConstants.ID_MASTERDATA_TEMPLATE_SERVICE_MULTILANG, params, TEMPLATES, TEMPLATE_TYPE_CODE,
-				FILE_TEXT);
+		Map<String, Map<String, String>> masterData = requireLoaded(getSnapshot().getTemplates());
+		boolean templateFound = masterData.values().stream().anyMatch(map -> map.containsKey(templateName));
 		// Sort the list of entries based on primary lang/secondary lang order. 
 		// Here entry of primary lang should occur before secondary lang entry.
+		// Only the languages with the template are used, if any.
 		List<Entry<String, Map<String, String>>> entries =
 				masterData.entrySet()
 					.stream()
+					.filter(entry -> !templateFound || entry.getValue().containsKey(templateName))
 					.sorted((o1,o2) -> {
 						String lang1 = o1.getKey();
 						String lang2 = o2.getKey();
@@ -295,7 +422,7 @@ public class MasterDataManager {
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	public Map<String, List<String>> fetchTitles() throws IdAuthenticationBusinessException {
-		return fetchMasterdataList(RestServicesConstants.TITLE_SERVICE, TITLE_LIST, CODE, TITLE_NAME);
+		return requireLoaded(getSnapshot().getTitles());
 	}
 
 	/**
@@ -305,30 +432,7 @@ public class MasterDataManager {
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	public Map<String, List<String>> fetchGenderType() throws IdAuthenticationBusinessException {
-		return fetchMasterdataList(RestServicesConstants.GENDER_TYPE_SERVICE, GENDER_TYPE, CODE, GENDER_NAME);
-	}
-
-	/**
-	 * To fetch Master Data.
-	 *
-	 * @param type the type
-	 * @param masterDataName the master data name
-	 * @param keyAttribute the key attribute
-	 * @param valueAttribute the value attribute
-	 * @return the map
-	 * @throws IdAuthenticationBusinessException the id authentication business exception
-	 */
-	private Map<String, List<String>> fetchMasterdataList(RestServicesConstants type, String masterDataName,
-			String keyAttribute, String valueAttribute) throws IdAuthenticationBusinessException {
-		Map<String, Map<String, String>> fetchMasterData = fetchMasterData(type, null, masterDataName, keyAttribute,
-				valueAttribute);
-		if (fetchMasterData != null && !fetchMasterData.isEmpty()) {
-			return fetchMasterData.entrySet().stream()
-					.collect(Collectors.toMap(Entry<String, Map<String, String>>::getKey,
-							(Entry<String, Map<String, String>> entry) -> entry.getValue().values().stream()
-									.collect(Collectors.toList())));
-		}
-		return Collections.emptyMap();
+		return requireLoaded(getSnapshot().getGenders());
 	}
 
 }
@@ -0,0 +1,109 @@
+package io.mosip.authentication.common.service.integration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class MasterDataSnapshot - an immutable snapshot of the titles, genders
+ * and templates master data, by language, built once from the master data
+ * configuration by the {@link MasterDataManager}.
+ * <p>
+ * The titles of each language are sorted by length, longest first, so that a
+ * title is removed from a name before the shorter titles it contains. A master
+ * data that could not be loaded is null.
+ *
+ * @author Loganathan Sekar
+ */
+public final class MasterDataSnapshot {
+
+	/** The titles configuration. */
+	private final String titlesConfig;
+
+	/** The genders configuration. */
+	private final String gendersConfig;
+
+	/** The templates configuration. */
+	private final String templatesConfig;
+
+	/** The titles by language. */
+	private final Map<String, List<String>> titles;
+
+	/** The gender names by language. */
+	private final Map<String, List<String>> genders;
+
+	/** The template texts by template type code, by language. */
+	private final Map<String, Map<String, String>> templates;
+
+	/**
+	 * Instantiates a new master data snapshot.
+	 *
+	 * @param titlesConfig    the titles configuration
+	 * @param gendersConfig   the genders configuration
+	 * @param templatesConfig the templates configuration
+	 * @param titles          the titles
+	 * @param genders         the genders
+	 * @param templates       the templates
+	 */
+	MasterDataSnapshot(String titlesConfig, String gendersConfig, String templatesConfig,
+			Map<String, List<String>> titles, Map<String, List<String>> genders,
+			Map<String, Map<String, String>> templates) {
+		this.titlesConfig = titlesConfig;
+		this.gendersConfig = gendersConfig;
+		this.templatesConfig = templatesConfig;
+		this.titles = titles;
+		this.genders = genders;
+		this.templates = templates;
+	}
+
+	/**
+	 * Checks if the snapshot is built from the master data configuration.
+	 *
+	 * @param titlesConfig    the titles configuration
+	 * @param gendersConfig   the genders configuration
+	 * @param templatesConfig the templates configuration
+	 * @return true, if built from the configuration
+	 */
+	boolean isBuiltFrom(String titlesConfig, String gendersConfig, String templatesConfig) {
+		return equals(this.titlesConfig, titlesConfig) && equals(this.gendersConfig, gendersConfig)
+				&& equals(this.templatesConfig, templatesConfig);
+	}
+
+	/**
+	 * Compares the configurations.
+	 *
+	 * @param config      the config
+	 * @param otherConfig the other config
+	 * @return true, if equal
+	 */
+	private static boolean equals(String config, String otherConfig) {
+		return config == null ? otherConfig == null : config.equals(otherConfig);
+	}
+
+	/**
+	 * Gets the titles by language, each sorted by length, longest first.
+	 *
+	 * @return the titles, or null if not loaded
+	 */
+	public Map<String, List<String>> getTitles() {
+		return titles;
+	}
+
+	/**
+	 * Gets the gender names by language.
+	 *
+	 * @return the genders, or null if not loaded
+	 */
+	public Map<String, List<String>> getGenders() {
+		return genders;
+	}
+
+	/**
+	 * Gets the template texts by template type code, by language.
+	 *
+	 * @return the templates, or null if not loaded
+	 */
+	public Map<String, Map<String, String>> getTemplates() {
+		return templates;
+	}
+
+}
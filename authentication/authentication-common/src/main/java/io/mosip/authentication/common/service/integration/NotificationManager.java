@@ -14,6 +14,7 @@ import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.dto.RestRequestDTO;
 import io.mosip.authentication.core.exception.IDDataValidationException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.exception.RestServiceException;
 import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.kernel.core.logger.spi.Logger;
 
@@ -48,6 +49,20 @@ public class NotificationManager {
 	 */
 	public void sendSmsNotification(String notificationMobileNo, String message)
 			throws IdAuthenticationBusinessException {
+		sendSmsNotification(notificationMobileNo, message, false);
+	}
+
+	/**
+	 * Send sms notification, waiting for the notifier to accept it if sync.
+	 *
+	 * @param notificationMobileNo the notification mobile no
+	 * @param message              the message
+	 * @param sync                 true, to wait for the notifier
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public void sendSmsNotification(String notificationMobileNo, String message, boolean sync)
+			throws IdAuthenticationBusinessException {
 		try {
 			SmsRequestDto smsRequestDto = new SmsRequestDto();
 			smsRequestDto.setMessage(message);
@@ -55,7 +70,7 @@ public class NotificationManager {
 			RestRequestDTO restRequestDTO = null;
 			restRequestDTO = restRequestFactory.buildRequest(RestServicesConstants.SMS_NOTIFICATION_SERVICE,
 					RestRequestFactory.createRequest(smsRequestDto), String.class);
-			restHelper.requestAsync(restRequestDTO);
+			request(restRequestDTO, sync);
 		} catch (IDDataValidationException e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, "Inside SMS Notification >>>>>", e.getErrorCode(), e.getErrorText());
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.DATA_VALIDATION_FAILED, e);
@@ -73,6 +88,21 @@ public class NotificationManager {
 	 */
 	public void sendEmailNotification(String emailId, String mailSubject, String mailContent)
 			throws IdAuthenticationBusinessException {
+		sendEmailNotification(emailId, mailSubject, mailContent, false);
+	}
+
+	/**
+	 * Send email notification, waiting for the notifier to accept it if sync.
+	 *
+	 * @param emailId     the email id
+	 * @param mailSubject the mail subject
+	 * @param mailContent the mail content
+	 * @param sync        true, to wait for the notifier
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public void sendEmailNotification(String emailId, String mailSubject, String mailContent, boolean sync)
+			throws IdAuthenticationBusinessException {
 		try {
 			RestRequestDTO restRequestDTO = null;
 			MultiValueMap<String, String> mailRequestDto = new LinkedMultiValueMap<>();
@@ -81,11 +111,33 @@ public class NotificationManager {
 			mailRequestDto.add("mailTo", emailId);
 			restRequestDTO = restRequestFactory.buildRequest(RestServicesConstants.MAIL_NOTIFICATION_SERVICE,
 					mailRequestDto, String.class);
-			restHelper.requestAsync(restRequestDTO);
+			request(restRequestDTO, sync);
 		} catch (IDDataValidationException e) {
 			// FIXME change error code
 			logger.error(IdAuthCommonConstants.SESSION_ID, "Inside Mail Notification >>>>>", e.getErrorCode(), e.getErrorText());
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.DATA_VALIDATION_FAILED, e);
 		}
 	}
+
+	/**
+	 * Sends the request to the notifier.
+	 *
+	 * @param restRequestDTO the rest request DTO
+	 * @param sync           true, to wait for the response
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private void request(RestRequestDTO restRequestDTO, boolean sync) throws IdAuthenticationBusinessException {
+		if (!sync) {
+			restHelper.requestAsync(restRequestDTO);
+			return;
+		}
+		try {
+			restHelper.requestSync(restRequestDTO);
+		} catch (RestServiceException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), e.getErrorCode(),
+					e.getErrorText());
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
 }
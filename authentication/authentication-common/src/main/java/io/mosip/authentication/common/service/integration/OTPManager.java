@@ -1,10 +1,13 @@
 package io.mosip.authentication.common.service.integration;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
@@ -15,8 +18,8 @@ import org.springframework.core.env.Environment;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
-import io.mosip.authentication.common.service.entity.OtpTransaction;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
+import io.mosip.authentication.common.service.helper.LocalOtpGenerator;
 import io.mosip.authentication.common.service.helper.RestHelper;
 import io.mosip.authentication.common.service.integration.dto.OtpGenerateRequestDto;
 import io.mosip.authentication.common.service.repository.OtpTxnRepository;
@@ -85,6 +88,9 @@ public class OTPManager {
 	@Autowired
 	private NotificationService notificationService;
 
+	@Autowired
+	private LocalOtpGenerator localOtpGenerator;
+
 	/** The logger. */
 	private static Logger logger = IdaLogger.getLogger(OTPManager.class);
 
@@ -103,34 +109,18 @@ public class OTPManager {
 			Map<String, String> valueMap) throws IdAuthenticationBusinessException {
 
 		Map<String, Object> otpTemplateValues = getOtpTemplateValues(otpRequestDTO, idvid, idvidType, valueMap);
-		String otp = generateOTP(otpRequestDTO.getIndividualId());
+		String refId = securityManager.hash(otpRequestDTO.getIndividualId());
+		String otp = generateOTP(otpRequestDTO.getIndividualId(), refId);
 		otpTemplateValues.put("otp", otp);
 		String otpHash = HMACUtils.digestAsPlainText((otpRequestDTO.getIndividualId().toString()
 				+ environment.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER) + otpRequestDTO.getTransactionID()
 				+ environment.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER) + otp).getBytes());
 
-		if (otpRepo.existsByOtpHashAndStatusCode(otpHash, IdAuthCommonConstants.ACTIVE_STATUS)) {
-			OtpTransaction otpTxn = otpRepo.findByRefIdAndStatusCode(
-					securityManager.hash(otpRequestDTO.getIndividualId()), IdAuthCommonConstants.ACTIVE_STATUS);
-			otpTxn.setOtpHash(otpHash);
-			otpTxn.setUpdBy(securityManager.getUser());
-			otpTxn.setUpdDTimes(DateUtils.getUTCCurrentDateTime());
-			otpTxn.setExpiryDtimes(DateUtils.getUTCCurrentDateTime().plusSeconds(
-					environment.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_EXPIRY_TIME, Long.class)));
-			otpTxn.setStatusCode(IdAuthCommonConstants.ACTIVE_STATUS);
-			otpRepo.save(otpTxn);
-		} else {
-			OtpTransaction txn = new OtpTransaction();
-			txn.setId(UUID.randomUUID().toString());
-			txn.setRefId(securityManager.hash(otpRequestDTO.getIndividualId()));
-			txn.setOtpHash(otpHash);
-			txn.setCrBy(securityManager.getUser());
-			txn.setCrDtimes(DateUtils.getUTCCurrentDateTime());
-			txn.setExpiryDtimes(DateUtils.getUTCCurrentDateTime().plusSeconds(
-					environment.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_EXPIRY_TIME, Long.class)));
-			txn.setStatusCode(IdAuthCommonConstants.ACTIVE_STATUS);
-			otpRepo.save(txn);
-		}
+		// The same OTP issued again for the transaction is refreshed, other active OTPs are kept
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		LocalDateTime expiry = now.plusSeconds(
+				environment.getProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_EXPIRY_TIME, Long.class));
+		otpRepo.upsertActiveOtp(UUID.randomUUID().toString(), refId, otpHash, expiry, securityManager.getUser(), now);
 		String notificationProperty = null;
 		notificationProperty = otpRequestDTO
 				.getOtpChannel().stream().map(channel -> NotificationType.getNotificationTypeForChannel(channel)
@@ -143,7 +133,24 @@ public class OTPManager {
 		return true;
 	}
 
-	private String generateOTP(String uin) throws IdAuthUncheckedException {
+	/**
+	 * Generates the OTP in the application or by the kernel OTP service, as
+	 * configured.
+	 *
+	 * @param uin   the uin
+	 * @param refId the ref id
+	 * @return the otp
+	 * @throws IdAuthUncheckedException the id auth unchecked exception
+	 */
+	private String generateOTP(String uin, String refId) throws IdAuthUncheckedException {
+		if (isLocalOtpGenerator()) {
+			if (localOtpGenerator.isFrozen(refId)) {
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
+						IdAuthenticationErrorConstants.BLOCKED_OTP_VALIDATE.getErrorCode(), USER_BLOCKED);
+				throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.BLOCKED_OTP_VALIDATE);
+			}
+			return localOtpGenerator.generateOtp();
+		}
 		try {
 			OtpGenerateRequestDto otpGenerateRequestDto = new OtpGenerateRequestDto(uin);
 			RequestWrapper<OtpGenerateRequestDto> reqWrapper = new RequestWrapper<>();
@@ -242,19 +249,44 @@ public class OTPManager {
 	public boolean validateOtp(String pinValue, String otpKey) throws IdAuthenticationBusinessException {
 		String otpHash = HMACUtils.digestAsPlainText(
 				(otpKey + environment.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER) + pinValue).getBytes());
-		if (otpRepo.existsByOtpHashAndStatusCode(otpHash, IdAuthCommonConstants.ACTIVE_STATUS)) {
-			OtpTransaction otpTxn = otpRepo.findByOtpHashAndStatusCode(otpHash, IdAuthCommonConstants.ACTIVE_STATUS);
-			otpTxn.setStatusCode(IdAuthCommonConstants.USED_STATUS);
-			otpRepo.save(otpTxn);
-			if (otpTxn.getExpiryDtimes().isAfter(DateUtils.getUTCCurrentDateTime())) {
-				return true;
-			} else {
+		String refId = null;
+		if (isLocalOtpGenerator()) {
+			String keySplitter = environment.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER);
+			int splitIndex = otpKey.indexOf(keySplitter);
+			refId = securityManager.hash(splitIndex < 0 ? otpKey : otpKey.substring(0, splitIndex));
+			if (localOtpGenerator.isFrozen(refId)) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
-						IdAuthenticationErrorConstants.EXPIRED_OTP.getErrorCode(), OTP_EXPIRED);
-				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.EXPIRED_OTP);
+						IdAuthenticationErrorConstants.BLOCKED_OTP_VALIDATE.getErrorCode(), USER_BLOCKED);
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BLOCKED_OTP_VALIDATE);
 			}
-		} else {
+		}
+		// The OTP is marked as used and read in a single statement, so that it is used only once
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		List<Timestamp> expiry = otpRepo.useActiveOtp(otpHash, now);
+		boolean unexpired = !expiry.isEmpty() && expiry.get(0).toLocalDateTime().isAfter(now);
+		if (refId != null) {
+			// An expired OTP is a failed validation, so that it does not reset the freeze
+			localOtpGenerator.validated(refId, unexpired);
+		}
+		if (expiry.isEmpty()) {
 			return false;
 		}
+		if (unexpired) {
+			return true;
+		} else {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
+					IdAuthenticationErrorConstants.EXPIRED_OTP.getErrorCode(), OTP_EXPIRED);
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.EXPIRED_OTP);
+		}
+	}
+
+	/**
+	 * Checks if the OTP is generated in the application.
+	 *
+	 * @return true, if the local OTP generator is configured
+	 */
+	private boolean isLocalOtpGenerator() {
+		return IdAuthCommonConstants.LOCAL_OTP_GENERATOR.equalsIgnoreCase(environment.getProperty(
+				IdAuthConfigKeyConstants.OTP_GENERATOR, IdAuthCommonConstants.REMOTE_OTP_GENERATOR));
 	}
 }
@@ -34,6 +34,35 @@ public interface AutnTxnRepository extends BaseRepository<AutnTxn, Integer> {
 	@Query(value = "Select new AutnTxn( requestTrnId, requestDTtimes, authTypeCode, statusCode, statusComment, refId, entityName ) from AutnTxn where token=:token ORDER BY crDTimes DESC")
 	public List<AutnTxn> findByToken(@Param("token") String token, Pageable pagaeable);
 
+	/**
+	 * Obtain the first page of the Authentication Transactions of the token, in
+	 * the descending order of the created time and the id.
+	 *
+	 * @param token    the token
+	 * @param pageable the pageable
+	 * @return the list
+	 */
+	@Query(value = "Select new AutnTxn( requestTrnId, requestDTtimes, authTypeCode, statusCode, statusComment, refId, entityName, crDTimes, id ) "
+			+ "from AutnTxn where token=:token ORDER BY crDTimes DESC, id DESC")
+	public List<AutnTxn> findFirstPageByToken(@Param("token") String token, Pageable pageable);
+
+	/**
+	 * Obtain the page of the Authentication Transactions of the token following
+	 * the given created time and id, in the descending order of the created time
+	 * and the id.
+	 *
+	 * @param token    the token
+	 * @param crDTimes the created time of the last transaction of the previous page
+	 * @param id       the id of the last transaction of the previous page
+	 * @param pageable the pageable
+	 * @return the list
+	 */
+	@Query(value = "Select new AutnTxn( requestTrnId, requestDTtimes, authTypeCode, statusCode, statusComment, refId, entityName, crDTimes, id ) "
+			+ "from AutnTxn where token=:token and (crDTimes < :crDTimes or (crDTimes = :crDTimes and id < :id)) "
+			+ "ORDER BY crDTimes DESC, id DESC")
+	public List<AutnTxn> findPageByTokenAfter(@Param("token") String token, @Param("crDTimes") LocalDateTime crDTimes,
+			@Param("id") String id, Pageable pageable);
+
 	/**
 	 * Obtain the number of count of request_dTtimes for particular UIN(uniqueId)
 	 * with within the otpRequestDTime and oneMinuteBeforeTime.
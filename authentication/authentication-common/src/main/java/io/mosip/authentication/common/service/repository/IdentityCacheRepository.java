@@ -1,7 +1,12 @@
 package io.mosip.authentication.common.service.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,4 +26,90 @@ public interface IdentityCacheRepository extends BaseRepository<IdentityEntity,
 	@Query("SELECT i.id, i.demographicData, i.expiryTimestamp, i.transactionLimit, i.token, i.crBy, i.crDTimes, "
 			+ "i.updBy, i.updDTimes, i.isDeleted, i.delDTimes FROM IdentityEntity i where i.id = :id")
 	List<Object[]> findDemoDataById(@Param("id") String id);
+
+	/**
+	 * Finds the biometric data by id.
+	 *
+	 * @param id the id
+	 * @return the biometric data
+	 */
+	@Query("SELECT i.biometricData FROM IdentityEntity i where i.id = :id")
+	List<byte[]> findBioDataById(@Param("id") String id);
+
+	/**
+	 * Finds the ids after the given id, in the id order.
+	 *
+	 * @param id the id to start after
+	 * @param pageable the pageable
+	 * @return the ids
+	 */
+	@Query("SELECT i.id FROM IdentityEntity i where i.id > :id ORDER BY i.id")
+	List<String> findIdsAfter(@Param("id") String id, Pageable pageable);
+
+	/**
+	 * Updates the demographic data, if it is not changed since it was read.
+	 *
+	 * @param id the id
+	 * @param demographicData the demographic data
+	 * @param oldDemographicData the demographic data read
+	 * @return the updated row count
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE IdentityEntity i SET i.demographicData = :demographicData "
+			+ "where i.id = :id and i.demographicData = :oldDemographicData")
+	int updateDemographicData(@Param("id") String id, @Param("demographicData") byte[] demographicData,
+			@Param("oldDemographicData") byte[] oldDemographicData);
+
+	/**
+	 * Updates the biometric data, if it is not changed since it was read.
+	 *
+	 * @param id the id
+	 * @param biometricData the biometric data
+	 * @param oldBiometricData the biometric data read
+	 * @return the updated row count
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE IdentityEntity i SET i.biometricData = :biometricData "
+			+ "where i.id = :id and i.biometricData = :oldBiometricData")
+	int updateBiometricData(@Param("id") String id, @Param("biometricData") byte[] biometricData,
+			@Param("oldBiometricData") byte[] oldBiometricData);
+
+	/**
+	 * Finds the identity by id, consuming it if it is a temporary VID, in a
+	 * single statement. A temporary VID with a transaction limit above 1 has
+	 * its limit decremented, and is deleted otherwise; an expired temporary
+	 * VID is not consumed. Of the concurrent consumptions of the same
+	 * temporary VID, only one finds it once the limit is reached.
+	 *
+	 * @param id the id
+	 * @param isBio the flag to read the biometric data
+	 * @param now the current UTC time
+	 * @return the id, demographic data, expiry timestamp, transaction limit,
+	 *         token and biometric data, or empty if not found
+	 */
+	@Transactional
+	@Query(value = "WITH deleted AS ( "
+			+ "    DELETE FROM ida.identity_cache "
+			+ "    WHERE id = :id AND transaction_limit <= 1 "
+			+ "        AND (expiry_timestamp IS NULL OR expiry_timestamp >= :now) "
+			+ "    RETURNING id, demo_data, expiry_timestamp, transaction_limit, token_id, bio_data), "
+			+ "updated AS ( "
+			+ "    UPDATE ida.identity_cache SET transaction_limit = transaction_limit - 1, upd_dtimes = :now "
+			+ "    WHERE id = :id AND transaction_limit > 1 "
+			+ "        AND (expiry_timestamp IS NULL OR expiry_timestamp >= :now) "
+			+ "    RETURNING id, demo_data, expiry_timestamp, transaction_limit, token_id, bio_data) "
+			+ "SELECT id, demo_data, expiry_timestamp, transaction_limit, token_id, "
+			+ "    CASE WHEN :isBio THEN bio_data END FROM deleted "
+			+ "UNION ALL "
+			+ "SELECT id, demo_data, expiry_timestamp, transaction_limit, token_id, "
+			+ "    CASE WHEN :isBio THEN bio_data END FROM updated "
+			+ "UNION ALL "
+			+ "SELECT id, demo_data, expiry_timestamp, transaction_limit, token_id, "
+			+ "    CASE WHEN :isBio THEN bio_data END FROM ida.identity_cache "
+			+ "WHERE id = :id AND (transaction_limit IS NULL OR expiry_timestamp < :now)",
+			nativeQuery = true)
+	List<Object[]> findByIdConsumingTemporaryVid(@Param("id") String id, @Param("isBio") boolean isBio,
+			@Param("now") LocalDateTime now);
 }
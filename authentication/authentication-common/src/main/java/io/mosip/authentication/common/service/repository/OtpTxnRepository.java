@@ -1,6 +1,17 @@
 package io.mosip.authentication.common.service.repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import io.mosip.authentication.common.service.entity.OtpTransaction;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 
 /**
@@ -8,10 +19,48 @@ import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
  *
  */
 public interface OtpTxnRepository extends BaseRepository<OtpTransaction, String> {
-	
-	Boolean existsByOtpHashAndStatusCode(String otpHash, String statusCode);
-	
-	OtpTransaction findByOtpHashAndStatusCode(String otpHash, String statusCode);
-	
-	OtpTransaction findByRefIdAndStatusCode(String refId, String statusCode);
+
+	/**
+	 * Stores the OTP as an active OTP of the reference id in a single
+	 * statement. If the same OTP hash is already active for the reference id,
+	 * as when the OTP is issued again for the same transaction, its generated
+	 * and expiry times are refreshed instead. The other active OTPs of the
+	 * reference id are left as they are.
+	 *
+	 * @param id       the id used if the OTP transaction is created
+	 * @param refId    the reference id
+	 * @param otpHash  the otp hash
+	 * @param expiry   the expiry time
+	 * @param user     the user
+	 * @param now      the current UTC time
+	 * @return the number of rows inserted or updated
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO ida.otp_transaction (id, ref_id, otp_hash, generated_dtimes, expiry_dtimes, "
+			+ "    status_code, cr_by, cr_dtimes) "
+			+ "VALUES (:id, :refId, :otpHash, :now, :expiry, '" + IdAuthCommonConstants.ACTIVE_STATUS + "', :user, :now) "
+			+ "ON CONFLICT (otp_hash, ref_id) WHERE status_code = '" + IdAuthCommonConstants.ACTIVE_STATUS + "' "
+			+ "DO UPDATE SET generated_dtimes = EXCLUDED.generated_dtimes, "
+			+ "    expiry_dtimes = EXCLUDED.expiry_dtimes, upd_by = EXCLUDED.cr_by, upd_dtimes = EXCLUDED.cr_dtimes",
+			nativeQuery = true)
+	int upsertActiveOtp(@Param("id") String id, @Param("refId") String refId, @Param("otpHash") String otpHash,
+			@Param("expiry") LocalDateTime expiry, @Param("user") String user, @Param("now") LocalDateTime now);
+
+	/**
+	 * Marks the active OTP with the OTP hash as used in a single statement, so
+	 * that only one of the concurrent validations of the OTP finds it.
+	 *
+	 * @param otpHash the otp hash
+	 * @param now     the current UTC time
+	 * @return the expiry time of the OTP, or empty if there is no active OTP
+	 *         with the hash
+	 */
+	@Transactional
+	@Query(value = "UPDATE ida.otp_transaction SET status_code = '" + IdAuthCommonConstants.USED_STATUS + "', "
+			+ "    upd_dtimes = :now "
+			+ "WHERE otp_hash = :otpHash AND status_code = '" + IdAuthCommonConstants.ACTIVE_STATUS + "' "
+			+ "RETURNING expiry_dtimes",
+			nativeQuery = true)
+	List<Timestamp> useActiveOtp(@Param("otpHash") String otpHash, @Param("now") LocalDateTime now);
 }
@@ -2,6 +2,7 @@ package io.mosip.authentication.common.service.transaction.manager;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,8 +13,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
+import io.mosip.authentication.common.service.helper.UinSaltTable;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -48,6 +51,12 @@ import io.mosip.kernel.zkcryptoservice.service.spi.ZKCryptoManagerService;
 public class IdAuthSecurityManager {
 
 	private static final String SALT_FOR_THE_GIVEN_ID = "Salt for the given ID";
+
+	/** The Constant HASHED_IDS_ATTRIBUTE, the request attribute of the ids hashed in the request. */
+	private static final String HASHED_IDS_ATTRIBUTE = IdAuthSecurityManager.class.getName() + ".hashedIds";
+
+	/** The Constant REF_ID_HASHES_ATTRIBUTE, the request attribute of the ref id hashes of the request. */
+	private static final String REF_ID_HASHES_ATTRIBUTE = IdAuthSecurityManager.class.getName() + ".refIdHashes";
 	
 	@Value("${mosip.kernel.keymanager.softhsm.config-path}")
 	private String configPath;
@@ -90,9 +99,9 @@ public class IdAuthSecurityManager {
 	@Value("${mosip.sign.refid:SIGN}")
 	private String signRefid;
 
-	/** The uin hash salt repo. */
+	/** The uin salt table. */
 	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
+	private UinSaltTable uinSaltTable;
 
 	@Autowired
 	private DataEncryptKeystoreRepository repo;
@@ -193,6 +202,32 @@ public class IdAuthSecurityManager {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION, e);
 		}
 	}
+
+	/**
+	 * Decrypt the data encrypted with the given encrypted session key. The raw
+	 * bytes are base64 encoded only once, for the cryptomanager request.
+	 *
+	 * @param encryptedSessionKey
+	 *            the encrypted session key
+	 * @param encryptedData
+	 *            the encrypted data
+	 * @param refId
+	 *            the ref id
+	 * @param aad
+	 *            the aad
+	 * @param saltToDecrypt
+	 *            the salt to decrypt
+	 * @return the byte[]
+	 * @throws IdAuthenticationBusinessException
+	 *             the id authentication business exception
+	 */
+	public byte[] decrypt(byte[] encryptedSessionKey, byte[] encryptedData, String refId, byte[] aad,
+			byte[] saltToDecrypt) throws IdAuthenticationBusinessException {
+		String dataToDecrypt = CryptoUtil.encodeBase64(CryptoUtil.combineByteArray(encryptedData, encryptedSessionKey,
+				env.getProperty(IdAuthConfigKeyConstants.KEY_SPLITTER)));
+		return decrypt(dataToDecrypt, refId, aad == null ? null : CryptoUtil.encodeBase64(aad),
+				saltToDecrypt == null ? null : CryptoUtil.encodeBase64(saltToDecrypt));
+	}
 	
 	public String reEncryptRandomKey(String encryptedKey) {
 		 ReEncryptRandomKeyResponseDto zkReEncryptRandomKeyRespDto = zkCryptoManagerService.zkReEncryptRandomKey(encryptedKey);
@@ -254,10 +289,37 @@ public class IdAuthSecurityManager {
 		return signatureService.sign(request).getData();
 	}
 
+	/**
+	 * Hashes the id with the salt of its modulo. The hash is memoized for the
+	 * current request, as the id is hashed more than once in a request.
+	 *
+	 * @param id the id
+	 * @return the hashed id
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
 	public String hash(String id) throws IdAuthenticationBusinessException {
+		Map<String, String> hashedIds = getRequestMemo(HASHED_IDS_ATTRIBUTE);
+		String hashedId = hashedIds == null ? null : hashedIds.get(id);
+		if (hashedId == null) {
+			hashedId = doHash(id);
+			if (hashedIds != null) {
+				hashedIds.put(id, hashedId);
+			}
+		}
+		return hashedId;
+	}
+
+	/**
+	 * Hashes the id with the salt of its modulo.
+	 *
+	 * @param id the id
+	 * @return the hashed id
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private String doHash(String id) throws IdAuthenticationBusinessException {
 		int saltModuloConstant = env.getProperty(IdAuthConfigKeyConstants.UIN_SALT_MODULO, Integer.class);
 		Long idModulo = (Long.parseLong(id) % saltModuloConstant);
-		String hashSaltValue = uinHashSaltRepo.retrieveSaltById(idModulo);
+		String hashSaltValue = uinSaltTable.getHashSalt(idModulo);
 		if(hashSaltValue  != null) {
 			return HMACUtils.digestAsPlainTextWithSalt(id.getBytes(), hashSaltValue.getBytes());
 		} else {
@@ -265,4 +327,40 @@ public class IdAuthSecurityManager {
 					String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage(), SALT_FOR_THE_GIVEN_ID));
 		}
 	}
+
+	/**
+	 * Hashes the id for the ref id of the auth transactions. The hash is memoized
+	 * for the current request, as a transaction is written per auth type.
+	 *
+	 * @param id the id
+	 * @return the ref id hash
+	 */
+	public String hashRefId(String id) {
+		Map<String, String> refIdHashes = getRequestMemo(REF_ID_HASHES_ATTRIBUTE);
+		if (refIdHashes == null) {
+			return HMACUtils.digestAsPlainText(HMACUtils.generateHash(id.getBytes()));
+		}
+		return refIdHashes.computeIfAbsent(id, key -> HMACUtils.digestAsPlainText(HMACUtils.generateHash(key.getBytes())));
+	}
+
+	/**
+	 * Gets the memo of the current request held in the request attribute.
+	 *
+	 * @param attribute the request attribute
+	 * @return the memo, or null if not in a request
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, String> getRequestMemo(String attribute) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null) {
+			return null;
+		}
+		Map<String, String> memo = (Map<String, String>) requestAttributes.getAttribute(attribute,
+				RequestAttributes.SCOPE_REQUEST);
+		if (memo == null) {
+			memo = new HashMap<>();
+			requestAttributes.setAttribute(attribute, memo, RequestAttributes.SCOPE_REQUEST);
+		}
+		return memo;
+	}
 }
@@ -31,6 +31,8 @@ import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpUpgradeHandler;
 import javax.servlet.http.Part;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +41,9 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -1198,4 +1203,54 @@ public class BaseIDAFilterTest {
 	public void dateTest() {
 		ReflectionTestUtils.invokeMethod(baseIDAFilter, "isDate", "");
 	}
+
+	@Test
+	public void testMapResponseCopiedSameAsMapped() throws IdAuthenticationAppException, IOException {
+		MockEnvironment mockEnv = new MockEnvironment();
+		mockEnv.setProperty("datetime.pattern", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+		mockEnv.setProperty("mosip.signed.response.header", "response-signature");
+		mockEnv.setProperty("ida.api.id.auth", "mosip.identity.auth");
+		mockEnv.setProperty("ida.api.version.auth", "1.0");
+		String request = "{\"transactionID\":\"1234567890\",\"requestTime\":\"2019-03-13T10:01:57.086+05:30\"}";
+		String[] responses = {
+				"{\"status\":\"Y\",\"errors\":[],\"responseTime\":\"2019-03-14T11:22:02.973Z\",\"transactionID\":\"0987654321\",\"version\":null,\"authToken\":null,\"id\":null}",
+				"{\"errors\":[{\"errorCode\":\"IDA-MLC-001\",\"errorMessage\":\"m\"}],\"response\":{\"a\":[1,{\"b\":null}]},\"responseTime\":\"2019-03-14T11:22:02.973Z\",\"responsetime\":\"x\",\"metadata\":{\"k\":1}}",
+				"{\"errors\":\"invalid\",\"transactionID\":5,\"responseTime\":\"2019-03-14T11:22:02.973Z\"}",
+				"not json" };
+		for (String response : responses) {
+			assertEquals(response, mapResponse(mockEnv, request, response, true),
+					mapResponse(mockEnv, request, response, false));
+		}
+		assertEquals(
+				"{\"status\":\"Y\",\"errors\":null,\"responseTime\":\"2019-03-14T16:52:02.973+05:30\",\"transactionID\":\"1234567890\",\"version\":\"1.0\",\"authToken\":null,\"id\":\"mosip.identity.auth\"}",
+				mapResponse(mockEnv, request, responses[0], false));
+	}
+
+	private String mapResponse(Environment mockEnv, String request, String response, boolean mapped)
+			throws IdAuthenticationAppException, IOException {
+		BaseIDAFilter filter = new BaseIDAFilter() {
+
+			@Override
+			protected void authenticateRequest(ResettableStreamHttpServletRequest requestWrapper)
+					throws IdAuthenticationAppException {
+
+			}
+
+			@Override
+			protected boolean isResponseMapped() {
+				return mapped;
+			}
+		};
+		ReflectionTestUtils.setField(filter, "env", mockEnv);
+		ReflectionTestUtils.setField(filter, "mapper", mapper);
+		ReflectionTestUtils.setField(filter, "keyManager", keyManager);
+		MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+		httpRequest.setContextPath("/idauthentication/v1/auth");
+		httpRequest.setContent(request.getBytes());
+		CharResponseWrapper charResponseWrapper = new CharResponseWrapper(new MockHttpServletResponse());
+		charResponseWrapper.getWriter().write(response);
+		charResponseWrapper.getWriter().flush();
+		return filter.mapResponse(new ResettableStreamHttpServletRequest(httpRequest), charResponseWrapper,
+				DateUtils.getUTCCurrentDateTime());
+	}
 }
\ No newline at end of file
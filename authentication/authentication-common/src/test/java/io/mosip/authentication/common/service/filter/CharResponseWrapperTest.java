@@ -0,0 +1,57 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class CharResponseWrapperTest {
+
+	@Test
+	public void testResponseCaptured() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CharResponseWrapper responseWrapper = new CharResponseWrapper(response);
+		responseWrapper.setContentType(IdAuthCommonConstants.NDJSON_MEDIA_TYPE);
+		responseWrapper.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+		assertFalse(responseWrapper.isStreamed());
+		assertEquals("{}", responseWrapper.toString());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	public void testStreamedResponseWrittenThrough() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CharResponseWrapper responseWrapper = new CharResponseWrapper(response,
+				IdAuthCommonConstants.NDJSON_MEDIA_TYPE);
+		responseWrapper.setContentType(IdAuthCommonConstants.NDJSON_MEDIA_TYPE);
+		responseWrapper.getOutputStream().write("{}\n".getBytes(StandardCharsets.UTF_8));
+		assertTrue(responseWrapper.isStreamed());
+		assertEquals(0, responseWrapper.size());
+		assertEquals("{}\n", response.getContentAsString());
+	}
+
+	@Test
+	public void testErrorOfStreamedRequestCaptured() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CharResponseWrapper responseWrapper = new CharResponseWrapper(response,
+				IdAuthCommonConstants.NDJSON_MEDIA_TYPE);
+		responseWrapper.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+		responseWrapper.getWriter().write("{\"errors\":[]}");
+		assertFalse(responseWrapper.isStreamed());
+		assertEquals("{\"errors\":[]}", responseWrapper.toString());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+}
@@ -3,6 +3,7 @@ package io.mosip.authentication.common.service.filter;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -275,6 +276,46 @@ public class IdAuthFilterTest {
 		}
 	}
 
+	/**
+	 * Mandatory auth policy test checked in policy order.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void mandatoryAuthPolicyTestPolicyOrder() throws IOException {
+		String policy = "{ \"policies\": { \"authPolicies\": [ { \"authType\": \"pin\", \"mandatory\": true }, { \"authType\": \"otp\", \"mandatory\": true }, { \"authType\": \"demo\", \"mandatory\": false } ], \"allowedKycAttributes\": [] } }";
+		String requestedAuth = "{\"requestedAuth\": {\"bio\": false, \"demo\": true, \"otp\": false, \"pin\": false}}";
+		Map<String, Object> requestBodyMap = mapper.readValue(requestedAuth.getBytes("UTF-8"), HashMap.class);
+		try {
+			filter.checkAllowedAuthTypeBasedOnPolicy(mapper.readValue(policy.getBytes(UTF_8), PolicyDTO.class),
+					requestBodyMap);
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(), e.getErrorCode());
+			assertEquals(String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(), "pin"),
+					e.getErrorText());
+		}
+	}
+
+	/**
+	 * Requested auth that cannot be read is rejected.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void invalidRequestedAuthTest() throws IOException {
+		String requestedAuth = "{\"requestedAuth\": {\"bio\": false, \"demo\": false, \"otp\": \"yes\", \"pin\": false}}";
+		Map<String, Object> requestBodyMap = mapper.readValue(requestedAuth.getBytes("UTF-8"), HashMap.class);
+		try {
+			filter.checkAllowedAuthTypeBasedOnPolicy(getPolicyFor92834787293(), requestBodyMap);
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(), e.getErrorCode());
+		}
+	}
+
 	/**
 	 * Mandatory auth policy testdemocheck.
 	 *
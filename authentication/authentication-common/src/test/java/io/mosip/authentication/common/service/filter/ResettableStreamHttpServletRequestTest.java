@@ -0,0 +1,122 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+
+import io.mosip.authentication.common.service.filter.ResettableStreamHttpServletRequest.RequestBodyTooLargeException;
+
+public class ResettableStreamHttpServletRequestTest {
+
+	private static final byte[] BODY = "{\"id\":\"mosip.identity.auth\",\"version\":\"1.0\"}"
+			.getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void testReadAndResetInputStream() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(BODY);
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(request);
+		assertArrayEquals(BODY, StreamUtils.copyToByteArray(requestWrapper.getInputStream()));
+		requestWrapper.resetInputStream();
+		assertArrayEquals(BODY, StreamUtils.copyToByteArray(requestWrapper.getInputStream()));
+		assertEquals(BODY.length, requestWrapper.getContentSize());
+	}
+
+	@Test
+	public void testReadWithoutContentLength() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest() {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		byte[] largeBody = new byte[20 * 1024 + 3];
+		for (int i = 0; i < largeBody.length; i++) {
+			largeBody[i] = (byte) i;
+		}
+		request.setContent(largeBody);
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(request);
+		assertArrayEquals(largeBody, StreamUtils.copyToByteArray(requestWrapper.getInputStream()));
+	}
+
+	@Test
+	public void testReplaceData() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(BODY);
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(request);
+		requestWrapper.getInputStream();
+		requestWrapper.replaceData("{}".getBytes());
+		assertEquals("{}", StreamUtils.copyToString(requestWrapper.getInputStream(), StandardCharsets.UTF_8));
+	}
+
+	@Test(expected = RequestBodyTooLargeException.class)
+	public void testContentLengthExceedsMaxBodySize() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(BODY);
+		new ResettableStreamHttpServletRequest(request, BODY.length - 1).getInputStream();
+	}
+
+	@Test
+	public void testBodyExceedsMaxBodySizeWithoutContentLength() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest() {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		request.setContent(BODY);
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(request,
+				BODY.length - 1);
+		try {
+			requestWrapper.getInputStream();
+		} catch (RequestBodyTooLargeException e) {
+			assertEquals(BODY.length - 1, e.getMaxBodySize());
+		}
+		assertEquals(0, requestWrapper.getContentSize());
+	}
+
+	private static MockHttpServletRequest requestWithContentLength(byte[] body, long contentLength) {
+		MockHttpServletRequest request = new MockHttpServletRequest() {
+			@Override
+			public long getContentLengthLong() {
+				return contentLength;
+			}
+		};
+		request.setContent(body);
+		return request;
+	}
+
+	@Test
+	public void testBodyAtMaxBodySize() throws IOException {
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(
+				requestWithContentLength(BODY, BODY.length), BODY.length);
+		assertArrayEquals(BODY, StreamUtils.copyToByteArray(requestWrapper.getInputStream()));
+	}
+
+	@Test
+	public void testBodyAtMaxBodySizeWithoutContentLength() throws IOException {
+		byte[] body = new byte[8 * 1024];
+		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(
+				requestWithContentLength(body, -1), body.length);
+		assertArrayEquals(body, StreamUtils.copyToByteArray(requestWrapper.getInputStream()));
+	}
+
+	@Test(expected = RequestBodyTooLargeException.class)
+	public void testBodyOneByteOverMaxBodySizeWithUnderstatedContentLength() throws IOException {
+		new ResettableStreamHttpServletRequest(requestWithContentLength(BODY, BODY.length - 1), BODY.length - 1)
+				.getInputStream();
+	}
+
+	@Test(expected = RequestBodyTooLargeException.class)
+	public void testBodyOneByteOverMaxBodySizeWithoutContentLength() throws IOException {
+		byte[] body = new byte[8 * 1024 + 1];
+		new ResettableStreamHttpServletRequest(requestWithContentLength(body, -1), body.length - 1).getInputStream();
+	}
+
+}
@@ -0,0 +1,159 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class AuthTransactionWriterTest {
+
+	private MockEnvironment environment;
+
+	private AutnTxnRepository autnTxnRepo;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private AuthTransactionWriter authTransactionWriter;
+
+	@Before
+	public void before() {
+		environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_ENABLED, "true");
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY, "3");
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE, "2");
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS,
+				"3600000");
+		autnTxnRepo = Mockito.mock(AutnTxnRepository.class);
+		jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+	}
+
+	@After
+	public void after() {
+		if (authTransactionWriter != null) {
+			authTransactionWriter.destroy();
+		}
+	}
+
+	private AuthTransactionWriter createWriter() {
+		authTransactionWriter = new AuthTransactionWriter();
+		ReflectionTestUtils.setField(authTransactionWriter, "env", environment);
+		ReflectionTestUtils.setField(authTransactionWriter, "autnTxnRepo", autnTxnRepo);
+		ReflectionTestUtils.setField(authTransactionWriter, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(authTransactionWriter, "meterRegistry", new SimpleMeterRegistry());
+		authTransactionWriter.init();
+		return authTransactionWriter;
+	}
+
+	@Test
+	public void testWriteDisabled() {
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_WRITE_BEHIND_ENABLED, "false");
+		AuthTransactionWriter writer = createWriter();
+		AutnTxn autnTxn = autnTxn("1");
+		writer.write(autnTxn);
+		assertFalse(writer.isEnabled());
+		Mockito.verify(autnTxnRepo).saveAndFlush(autnTxn);
+		assertEquals(0, writer.flush());
+	}
+
+	@Test
+	public void testWriteWithoutJdbcTemplate() {
+		jdbcTemplate = null;
+		AuthTransactionWriter writer = createWriter();
+		AutnTxn autnTxn = autnTxn("1");
+		writer.write(autnTxn);
+		assertFalse(writer.isEnabled());
+		Mockito.verify(autnTxnRepo).saveAndFlush(autnTxn);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteInBatches() {
+		AuthTransactionWriter writer = createWriter();
+		for (int i = 0; i < 3; i++) {
+			writer.write(autnTxn(String.valueOf(i)));
+		}
+		writer.destroy();
+
+		ArgumentCaptor<Collection<AutnTxn>> batches = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(jdbcTemplate, Mockito.times(2)).batchUpdate(Mockito.anyString(), batches.capture(),
+				Mockito.anyInt(), Mockito.any(ParameterizedPreparedStatementSetter.class));
+		assertEquals(3, batches.getAllValues().stream().mapToInt(Collection::size).sum());
+		Mockito.verify(autnTxnRepo, Mockito.never()).saveAndFlush(Mockito.any());
+	}
+
+	@Test
+	public void testWriteQueueFull() {
+		AuthTransactionWriter writer = createWriter();
+		ReflectionTestUtils.setField(writer, "batchSize", 10);
+		for (int i = 0; i < 3; i++) {
+			writer.write(autnTxn(String.valueOf(i)));
+		}
+		AutnTxn autnTxn = autnTxn("3");
+		writer.write(autnTxn);
+		Mockito.verify(autnTxnRepo).saveAndFlush(autnTxn);
+		assertEquals(3, writer.flush());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchFailure() {
+		Mockito.when(jdbcTemplate.batchUpdate(Mockito.anyString(), Mockito.any(Collection.class), Mockito.anyInt(),
+				Mockito.any(ParameterizedPreparedStatementSetter.class)))
+				.thenThrow(new DataIntegrityViolationException("duplicate"));
+		AuthTransactionWriter writer = createWriter();
+		ReflectionTestUtils.setField(writer, "batchSize", 10);
+		writer.write(autnTxn("1"));
+		writer.write(autnTxn("2"));
+		assertEquals(2, writer.flush());
+		Mockito.verify(autnTxnRepo, Mockito.times(2)).saveAndFlush(Mockito.any());
+	}
+
+	@SuppressWarnings({ "unchecked", "serial" })
+	@Test
+	public void testWriteWhileClosing() {
+		AuthTransactionWriter writer = createWriter();
+		// Closed and flushed between the closed check and the offer of the write
+		ReflectionTestUtils.setField(writer, "queue", new ArrayBlockingQueue<AutnTxn>(3) {
+			@Override
+			public boolean offer(AutnTxn autnTxn) {
+				writer.destroy();
+				return super.offer(autnTxn);
+			}
+		});
+		writer.write(autnTxn("1"));
+
+		ArgumentCaptor<Collection<AutnTxn>> batches = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(jdbcTemplate).batchUpdate(Mockito.anyString(), batches.capture(), Mockito.anyInt(),
+				Mockito.any(ParameterizedPreparedStatementSetter.class));
+		assertEquals(1, batches.getValue().size());
+		assertEquals(0, writer.flush());
+	}
+
+	private static AutnTxn autnTxn(String id) {
+		AutnTxn autnTxn = new AutnTxn();
+		autnTxn.setId(id);
+		return autnTxn;
+	}
+
+}
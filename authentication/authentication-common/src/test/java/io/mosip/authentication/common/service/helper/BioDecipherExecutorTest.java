@@ -0,0 +1,129 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class BioDecipherExecutorTest {
+
+	private BioDecipherExecutor bioDecipherExecutor;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		MockEnvironment env = new MockEnvironment();
+		env.setProperty(IdAuthConfigKeyConstants.BIO_DECIPHER_POOL_SIZE, "4");
+		env.setProperty(IdAuthConfigKeyConstants.BIO_DECIPHER_QUEUE_CAPACITY, "2");
+		meterRegistry = new SimpleMeterRegistry();
+		bioDecipherExecutor = new BioDecipherExecutor();
+		ReflectionTestUtils.setField(bioDecipherExecutor, "env", env);
+		ReflectionTestUtils.setField(bioDecipherExecutor, "meterRegistry", meterRegistry);
+		bioDecipherExecutor.init();
+	}
+
+	@After
+	public void after() {
+		bioDecipherExecutor.destroy();
+	}
+
+	@Test
+	public void testInvokeAllReturnsResultsInOrder() throws IdAuthenticationAppException {
+		List<Callable<Integer>> tasks = new ArrayList<>();
+		for (int i = 0; i < 13; i++) {
+			int value = i;
+			tasks.add(() -> {
+				Thread.sleep(13 - value);
+				return value;
+			});
+		}
+		List<Integer> results = bioDecipherExecutor.invokeAll(tasks);
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), results);
+		assertEquals(13, meterRegistry.get("ida.bio.decipher.segment").timer().count());
+	}
+
+	@Test
+	public void testInvokeAllSingleTask() throws IdAuthenticationAppException {
+		assertEquals(Arrays.asList("data"), bioDecipherExecutor.invokeAll(Arrays.asList(() -> "data")));
+	}
+
+	@Test
+	public void testInvokeAllFailsFast() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		Callable<String> slowTask = () -> {
+			started.countDown();
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+			} catch (InterruptedException e) {
+				cancelled.countDown();
+			}
+			return "slow";
+		};
+		Callable<String> failingTask = () -> {
+			started.await(5, TimeUnit.SECONDS);
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_CERTIFICATE);
+		};
+		try {
+			bioDecipherExecutor.invokeAll(Arrays.asList(failingTask, slowTask));
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.INVALID_CERTIFICATE.getErrorCode(), e.getErrorCode());
+		}
+		assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testInvokeAllReportsFirstFailedSegment() {
+		Callable<String> lateFailingTask = () -> {
+			Thread.sleep(50);
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_CERTIFICATE);
+		};
+		Callable<String> failingTask = () -> {
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION);
+		};
+		for (int i = 0; i < 5; i++) {
+			try {
+				bioDecipherExecutor.invokeAll(Arrays.asList(() -> "data", lateFailingTask, failingTask, failingTask));
+				fail();
+			} catch (IdAuthenticationAppException e) {
+				assertEquals(IdAuthenticationErrorConstants.INVALID_CERTIFICATE.getErrorCode(), e.getErrorCode());
+			}
+		}
+	}
+
+	@Test
+	public void testInvokeAllWrapsUnexpectedException() {
+		try {
+			bioDecipherExecutor.invokeAll(Arrays.<Callable<String>>asList(() -> "data", () -> {
+				throw new IllegalStateException("invalid");
+			}));
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.helper.IdentityCache.CachedIdentity;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class IdentityCacheTest {
+
+	private MockEnvironment environment;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_ENABLED, "true");
+		environment.setProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_MAX_MEMORY_BYTES, "100");
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	private IdentityCache createIdentityCache() {
+		IdentityCache identityCache = new IdentityCache();
+		ReflectionTestUtils.setField(identityCache, "env", environment);
+		ReflectionTestUtils.setField(identityCache, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(identityCache, "meterRegistry", meterRegistry);
+		identityCache.init();
+		return identityCache;
+	}
+
+	@Test
+	public void testGetCachedIdentity() throws Exception {
+		IdentityCache identityCache = createIdentityCache();
+		assertNull(identityCache.get("hash1", false));
+		LocalDateTime expiry = LocalDateTime.of(2100, 1, 1, 0, 0);
+		identityCache.put("hash1", expiry, "token1", Map.of("name", "abc"), Map.of("face", "cbeff"), true, 10);
+
+		CachedIdentity identity = identityCache.get("hash1", true);
+		assertEquals(expiry, identity.getExpiryTimestamp());
+		assertEquals("token1", identity.getToken());
+		assertEquals(Map.of("name", "abc"), identity.getDemographics());
+		assertEquals(Map.of("face", "cbeff"), identity.getBiometrics());
+		assertNotNull(identityCache.get("hash1", false));
+		assertEquals(2.0, meterRegistry.get("ida.identity.cache").tag("result", "hit").counter().count(), 0);
+		assertEquals(1.0, meterRegistry.get("ida.identity.cache").tag("result", "miss").counter().count(), 0);
+		assertEquals(10.0, meterRegistry.get("ida.identity.cache.weight").gauge().value(), 0);
+	}
+
+	@Test
+	public void testBioLookupMissesDemoOnlyIdentity() {
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of("name", "abc"), null, false, 10);
+		assertNotNull(identityCache.get("hash1", false));
+		assertNull(identityCache.get("hash1", true));
+	}
+
+	@Test
+	public void testOffHeapBiometrics() throws Exception {
+		environment.setProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_BIO_OFF_HEAP, "true");
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of("name", "abc"), Map.of("face", "cbeff"), true, 10);
+		CachedIdentity identity = identityCache.get("hash1", true);
+		assertEquals(Map.of("face", "cbeff"), identity.getBiometrics());
+		assertEquals(Map.of("face", "cbeff"), identity.getBiometrics());
+	}
+
+	@Test
+	public void testEvictBeyondMemoryBudget() {
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of(), null, false, 40);
+		identityCache.put("hash2", null, "token2", Map.of(), null, false, 40);
+		identityCache.put("hash3", null, "token3", Map.of(), null, false, 40);
+		assertEquals(80, identityCache.getWeight());
+		assertEquals(2, identityCache.size());
+
+		identityCache.put("hash4", null, "token4", Map.of(), null, false, 101);
+		assertNull(identityCache.get("hash4", false));
+		assertEquals(2, identityCache.size());
+	}
+
+	@Test
+	public void testExpiredEntry() {
+		environment.setProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_TTL_SECS, "0");
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of(), null, false, 10);
+		assertNull(identityCache.get("hash1", false));
+		assertEquals(0, identityCache.getWeight());
+	}
+
+	@Test
+	public void testInvalidate() {
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of(), null, false, 10);
+		identityCache.put("hash1", null, "token1", Map.of(), null, false, 20);
+		assertEquals(20, identityCache.getWeight());
+		identityCache.invalidate("hash1");
+		identityCache.invalidate(null);
+		assertNull(identityCache.get("hash1", false));
+		assertEquals(0, identityCache.getWeight());
+	}
+
+	@Test
+	public void testDisabled() {
+		environment.setProperty(IdAuthConfigKeyConstants.IDENTITY_CACHE_ENABLED, "false");
+		IdentityCache identityCache = createIdentityCache();
+		identityCache.put("hash1", null, "token1", Map.of(), null, false, 10);
+		assertNull(identityCache.get("hash1", false));
+		assertEquals(0, identityCache.size());
+	}
+
+}
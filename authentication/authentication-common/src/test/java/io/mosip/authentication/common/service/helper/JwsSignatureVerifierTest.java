@@ -0,0 +1,164 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Base64;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class JwsSignatureVerifierTest {
+
+	/** Self signed test certificate valid till 2126. */
+	private static final String CERTIFICATE =
+			"MIIDFzCCAf+gAwIBAgIUd9UOyzs+e+z6gQSDOioZ4QQVHHUwDQYJKoZIhvcNAQELBQAwGjEYMBYGA1UEAwwPSURBIFRlc3QgRGV2"
+			+ "aWNlMCAXDTI2MTAxNzAzMjQyN1oYDzIxMjYwOTIzMDMyNDI3WjAaMRgwFgYDVQQDDA9JREEgVGVzdCBEZXZpY2UwggEiMA0GCSqG"
+			+ "SIb3DQEBAQUAA4IBDwAwggEKAoIBAQCohVVhixats8yyhKjz4KuUvsZvSZaUVy/y87BhudWaembvKqGer2HbPxd9ODup4y3pUDd7"
+			+ "Pu+Ea1kHG6ABntvjp4IWLrNoPOLk2xtOaqlcQ41gBWcsbCtatuDmlzYV+WYhsem3BKBT4rKG4YmnDpM7t2XbFR2/xxh5t/4cmy9O"
+			+ "jLAeVGThGIWLWBukI7RLgF2+bYf1hM8w0JYZJAP8Db7oVEybLZbZaoJSwpttgIlt7bNmncmzEZiKt3Kz0fhuOeos4xsRF5/V9N7t"
+			+ "wmiWyL/3AQHMWNc0pT2g7uG1FqCEeEplozEdS1VRxLZ4FNSlxehDrpHV59qKKJ8mA+5OuyhjAgMBAAGjUzBRMB0GA1UdDgQWBBSB"
+			+ "+VsvmbPRsnFlHf/jHvQAxS+rgzAfBgNVHSMEGDAWgBSB+VsvmbPRsnFlHf/jHvQAxS+rgzAPBgNVHRMBAf8EBTADAQH/MA0GCSqG"
+			+ "SIb3DQEBCwUAA4IBAQCiBHv/CZDVv03owkNVuowOX1Q9WZfVkxWrBNb0fHPSTH2c/C3V+VQnSQHE5S5xiMygsWvfJv8NFfH2gcaF"
+			+ "9wrOsn7Pr+hIq1xTGikT9XsIgcUoYMenyqmTdLojxW0jWRPlBvmnKJzvW3Hf7iLQZWWnPAlHOJom7bT0PlZXcHWCkr79FBOMCAE6"
+			+ "T69nZA74ZRdJkkGwikzqrUPZO94PFn7/NaADf3lJdWtjvCfkeuXOhEH+NRowX8uEOK3xYoPSwLZ2fxTujmywh/S7Fn94aE13O2HE"
+			+ "PkxUhZAH56udj05WLR2Dfpj2ua8w7ExiK5tA1m5m66Vxt4JVrC31sViZCVDW";
+
+	/** Private key of the test certificate. */
+	private static final String PRIVATE_KEY =
+			"MIIEvwIBADANBgkqhkiG9w0BAQEFAASCBKkwggSlAgEAAoIBAQCohVVhixats8yyhKjz4KuUvsZvSZaUVy/y87BhudWaembvKqGe"
+			+ "r2HbPxd9ODup4y3pUDd7Pu+Ea1kHG6ABntvjp4IWLrNoPOLk2xtOaqlcQ41gBWcsbCtatuDmlzYV+WYhsem3BKBT4rKG4YmnDpM7"
+			+ "t2XbFR2/xxh5t/4cmy9OjLAeVGThGIWLWBukI7RLgF2+bYf1hM8w0JYZJAP8Db7oVEybLZbZaoJSwpttgIlt7bNmncmzEZiKt3Kz"
+			+ "0fhuOeos4xsRF5/V9N7twmiWyL/3AQHMWNc0pT2g7uG1FqCEeEplozEdS1VRxLZ4FNSlxehDrpHV59qKKJ8mA+5OuyhjAgMBAAEC"
+			+ "ggEAEQpihtmMsoXi5g5aE0cdso3T/P7g9iEW3SddJ5SmD9fevsJ901ECwSvRET11cwlg5B3Tbmf/ylEckIZvmJpau9t9YQbZ52l4"
+			+ "vBGX4kcQ1x6RlisVsr1BaQvjFA4oTvKILFIUQwh5ueHLka4OwFDN/JTf/NZWysS0KeK8FGJw1y1ipuLt512rENIjTVZf7OZRlEdS"
+			+ "l8fdeuahb30ReMotoy0ajWvGTteNG/9fCeU5z7mWGenvSRxpu+ptGT/5wrxGVP2TrAQno7RWXm4vbw2GlZz77L1xh1eeBZUN+mGs"
+			+ "vLqbvbvb2yzU5F1KWnXLrInduoW/p0iwV89O4DXgd7RWqQKBgQDfmkvA1Qq35+jlAZcZPBhLczF9DlZXoicXX+UFJzKRmFKVBO7d"
+			+ "0HuO5UyWorU469ycv+ZVbVtM4PiPSDQ4Z3Tr8V5Khx8ZxwFJvAK4+BajHMZ8iMwziSK7ifgUKxxp5ZnjVpJvVumjwu3xE21Fw0kt"
+			+ "5Io41+mcP/DRAut5ZH7E1QKBgQDA7/tSVWPQtbyzPIpQ/wSeptRnVxz1JuXmK3R/0m+dcPfMvFwrURlyEtr+6P4V3q+OCWocCjvY"
+			+ "TTiSYzEpQ+tPsU4DCzujEym9L2jZ8vLylgZjW4Y3ZhYZR3rvF2ood2oR58ta3RunsyTaVxb2IR+8U6aF/qL5s+JUWxRpun80VwKB"
+			+ "gQCvX2v0tOLwNKLUIjgpIZoIazOwWrNbjiFM0vhj30dpK+fxWuoh7OdLvwofx0ONfmgMRPJZpCiMlpI8hqv2ZSYt+6QxneLFq/CV"
+			+ "rTERc/sFOYdvmzdVYERuhJqe7uUdJWhaBsdZLfiXaUaH4u28XpshtHK4fJeL5hZxR/H5xtkqdQKBgQC7VEcg2efgbZSaMt3ZZsKF"
+			+ "iFYTQHHNVcdChE7JDPlyVI1FLF4RcNzT9ZrMhkytz1mE/38XWphgnBmhiM3i0x9WcUDdk7qDy8dq+O1FMK7S+veY4PSgNW6ffNfP"
+			+ "7VwVjlxepkC8KJMBcN8HYCfbMq4tnMrCr0puSEoovYZEYd/AYQKBgQCDnnmUzPnJn6jXKsX0sqwZ1TPjoxQp5U+jepWOyir07LMY"
+			+ "7Qcy4JIBjsjGoIBQQSE2geeYsVYOoPyz4ge1SYTqWxEfwzzZFSrKf729KI8jHC99a0O1QqH/x//vBDMcamIL7xTJLG7FID0zDsHh"
+			+ "G8fU7vboySW1tLfCQio7v4JnYA==";
+
+	private JwsSignatureVerifier jwsSignatureVerifier;
+
+	private CryptoCore cryptoCore;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		MockEnvironment env = new MockEnvironment();
+		env.setProperty(IdAuthConfigKeyConstants.JWS_VERIFICATION_CACHE_MAX_SIZE, "2");
+		cryptoCore = mock(CryptoCore.class);
+		meterRegistry = new SimpleMeterRegistry();
+		jwsSignatureVerifier = new JwsSignatureVerifier();
+		ReflectionTestUtils.setField(jwsSignatureVerifier, "env", env);
+		ReflectionTestUtils.setField(jwsSignatureVerifier, "cryptoCore", cryptoCore);
+		ReflectionTestUtils.setField(jwsSignatureVerifier, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(jwsSignatureVerifier, "meterRegistry", meterRegistry);
+		jwsSignatureVerifier.init();
+	}
+
+	@Test
+	public void testVerifySignatureCachesVerifiedJws() throws Exception {
+		String jws = sign("RS256", "{\"deviceCode\":\"1\"}");
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		assertEquals(1, count("ida.jws.verified.cache", "hit"), 0);
+		assertEquals(1, count("ida.jws.cert.cache", "miss"), 0);
+		verify(cryptoCore, never()).verifySignature(anyString());
+	}
+
+	@Test
+	public void testVerifySignatureReusesCertificate() throws Exception {
+		assertTrue(jwsSignatureVerifier.verifySignature(sign("RS256", "{\"deviceCode\":\"1\"}")));
+		assertTrue(jwsSignatureVerifier.verifySignature(sign("RS256", "{\"deviceCode\":\"2\"}")));
+		assertEquals(1, count("ida.jws.cert.cache", "hit"), 0);
+		assertEquals(1, count("ida.jws.cert.cache", "miss"), 0);
+	}
+
+	@Test
+	public void testVerifySignatureTamperedPayload() throws Exception {
+		String[] parts = sign("RS256", "{\"deviceCode\":\"1\"}").split("\\.");
+		String tampered = parts[0] + "." + encode("{\"deviceCode\":\"2\"}") + "." + parts[2];
+		assertFalse(jwsSignatureVerifier.verifySignature(tampered));
+		assertFalse(jwsSignatureVerifier.verifySignature(tampered));
+		assertEquals(0, count("ida.jws.verified.cache", "hit"), 0);
+	}
+
+	@Test
+	public void testVerifySignatureOtherAlgorithm() throws Exception {
+		String jws = sign("PS256", "{\"deviceCode\":\"1\"}");
+		when(cryptoCore.verifySignature(jws)).thenReturn(true);
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		verify(cryptoCore, times(1)).verifySignature(jws);
+	}
+
+	@Test
+	public void testVerifySignatureWithoutCertificate() {
+		String jws = encode("{\"alg\":\"RS256\"}") + "." + encode("{}") + ".c2lnbmF0dXJl";
+		when(cryptoCore.verifySignature(jws)).thenReturn(false);
+		assertFalse(jwsSignatureVerifier.verifySignature(jws));
+		verify(cryptoCore).verifySignature(jws);
+	}
+
+	@Test
+	public void testCacheIsBounded() throws Exception {
+		String jws = sign("RS256", "{\"deviceCode\":\"1\"}");
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		assertTrue(jwsSignatureVerifier.verifySignature(sign("RS256", "{\"deviceCode\":\"2\"}")));
+		assertTrue(jwsSignatureVerifier.verifySignature(sign("RS256", "{\"deviceCode\":\"3\"}")));
+		assertTrue(jwsSignatureVerifier.verifySignature(jws));
+		assertEquals(0, count("ida.jws.verified.cache", "hit"), 0);
+	}
+
+	private double count(String name, String result) {
+		return meterRegistry.get(name).tag("result", result).counter().count();
+	}
+
+	private static String sign(String alg, String payload) throws Exception {
+		String header = encode("{\"alg\":\"" + alg + "\",\"x5c\":[\"" + CERTIFICATE + "\"]}");
+		String signingInput = header + "." + encode(payload);
+		PrivateKey privateKey = KeyFactory.getInstance("RSA")
+				.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(PRIVATE_KEY)));
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(privateKey);
+		signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+		return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+	}
+
+	private static String encode(String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
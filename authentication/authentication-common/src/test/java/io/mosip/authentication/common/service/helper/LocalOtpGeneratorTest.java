@@ -0,0 +1,90 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class LocalOtpGeneratorTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-17T04:30:00Z");
+
+	private LocalOtpGenerator localOtpGenerator;
+
+	@Before
+	public void before() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_DEFAULT_LENGTH, "8");
+		environment.setProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_VALIDATION_ATTEMPT_THRESHOLD, "3");
+		environment.setProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_KEY_FREEZE_TIME, "60");
+		environment.setProperty(IdAuthConfigKeyConstants.OTP_MAX_KEY_FREEZE_TIME, "3600");
+		localOtpGenerator = new LocalOtpGenerator();
+		ReflectionTestUtils.setField(localOtpGenerator, "env", environment);
+		setTime(NOW);
+		localOtpGenerator.init();
+	}
+
+	private void setTime(Instant now) {
+		ReflectionTestUtils.setField(localOtpGenerator, "clock", Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	private void fail(int times) {
+		for (int i = 0; i < times; i++) {
+			localOtpGenerator.validated("key", false);
+		}
+	}
+
+	@Test
+	public void testGenerateOtp() {
+		String otp = localOtpGenerator.generateOtp();
+		assertEquals(8, otp.length());
+		assertTrue(otp.chars().allMatch(Character::isDigit));
+		assertNotEquals(otp, localOtpGenerator.generateOtp());
+	}
+
+	@Test
+	public void testFrozenAfterThreshold() {
+		fail(2);
+		assertFalse(localOtpGenerator.isFrozen("key"));
+		fail(1);
+		assertTrue(localOtpGenerator.isFrozen("key"));
+		assertFalse(localOtpGenerator.isFrozen("other"));
+		setTime(NOW.plusSeconds(60));
+		assertFalse(localOtpGenerator.isFrozen("key"));
+	}
+
+	@Test
+	public void testFreezeTimeDoubled() {
+		fail(3);
+		setTime(NOW.plusSeconds(60));
+		fail(3);
+		setTime(NOW.plusSeconds(179));
+		assertTrue(localOtpGenerator.isFrozen("key"));
+		setTime(NOW.plusSeconds(180));
+		assertFalse(localOtpGenerator.isFrozen("key"));
+	}
+
+	@Test
+	public void testSuccessClearsFailures() {
+		fail(2);
+		localOtpGenerator.validated("key", true);
+		fail(2);
+		assertFalse(localOtpGenerator.isFrozen("key"));
+	}
+
+}
@@ -0,0 +1,133 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class OtpFloodLimiterTest {
+
+	private static final String REQUEST_TIME = "2026-10-17T10:00:00.000+05:30";
+
+	private static final Instant NOW = Instant.parse("2026-10-17T04:30:00Z");
+
+	private MockEnvironment environment;
+
+	private AutnTxnRepository autntxnrepository;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@Before
+	public void before() {
+		environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_DURATION, "1");
+		environment.setProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_MAX_COUNT, "3");
+		environment.setProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN, "yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+		autntxnrepository = Mockito.mock(AutnTxnRepository.class);
+		jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+	}
+
+	private OtpFloodLimiter createLimiter(String mode, Instant now) {
+		if (mode != null) {
+			environment.setProperty(IdAuthConfigKeyConstants.OTP_REQUEST_FLOODING_MODE, mode);
+		}
+		OtpFloodLimiter otpFloodLimiter = new OtpFloodLimiter();
+		ReflectionTestUtils.setField(otpFloodLimiter, "env", environment);
+		ReflectionTestUtils.setField(otpFloodLimiter, "autntxnrepository", autntxnrepository);
+		ReflectionTestUtils.setField(otpFloodLimiter, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(otpFloodLimiter, "clock", Clock.fixed(now, ZoneOffset.UTC));
+		otpFloodLimiter.init();
+		return otpFloodLimiter;
+	}
+
+	@Test
+	public void testFloodedInMemory() throws IdAuthenticationBusinessException {
+		OtpFloodLimiter otpFloodLimiter = createLimiter("memory", NOW);
+		for (int i = 0; i < 4; i++) {
+			assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		}
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		assertFalse(otpFloodLimiter.isFlooded("other", REQUEST_TIME));
+		ReflectionTestUtils.setField(otpFloodLimiter, "clock", Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC));
+		assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		Mockito.verifyZeroInteractions(autntxnrepository, jdbcTemplate);
+	}
+
+	@Test
+	public void testFloodedShared() throws IdAuthenticationBusinessException {
+		OtpFloodLimiter otpFloodLimiter = createLimiter("shared", NOW);
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("otp_request_counter"), Mockito.eq(Long.class),
+				Mockito.<Object>any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(4L, 5L);
+		assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		Mockito.verify(jdbcTemplate).update(Mockito.contains("DELETE"), Mockito.<Object>any());
+	}
+
+	@Test
+	public void testSharedByDefault() throws IdAuthenticationBusinessException {
+		OtpFloodLimiter otpFloodLimiter = createLimiter(null, NOW);
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("otp_request_counter"), Mockito.eq(Long.class),
+				Mockito.<Object>any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(5L);
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		Mockito.verifyZeroInteractions(autntxnrepository);
+	}
+
+	@Test
+	public void testSharedWithoutJdbcTemplateCountsInMemory() throws IdAuthenticationBusinessException {
+		jdbcTemplate = null;
+		OtpFloodLimiter otpFloodLimiter = createLimiter(null, NOW);
+		for (int i = 0; i < 4; i++) {
+			assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		}
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		Mockito.verifyZeroInteractions(autntxnrepository);
+	}
+
+	@Test
+	public void testSharedCountFailedCountsInMemory() throws IdAuthenticationBusinessException {
+		OtpFloodLimiter otpFloodLimiter = createLimiter("shared", NOW);
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("otp_request_counter"), Mockito.eq(Long.class),
+				Mockito.<Object>any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenThrow(new DataAccessResourceFailureException("unavailable"));
+		for (int i = 0; i < 4; i++) {
+			assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		}
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+	}
+
+	@Test
+	public void testFloodedByQuery() throws IdAuthenticationBusinessException {
+		OtpFloodLimiter otpFloodLimiter = createLimiter("query", NOW);
+		LocalDateTime reqTime = LocalDateTime.of(2026, 10, 17, 4, 30);
+		Mockito.when(autntxnrepository.countRequestDTime(reqTime, reqTime.minusMinutes(1), "token")).thenReturn(3,
+				4);
+		assertFalse(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		assertTrue(otpFloodLimiter.isFlooded("token", REQUEST_TIME));
+		Mockito.verifyZeroInteractions(jdbcTemplate);
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testInvalidRequestTimeByQuery() throws IdAuthenticationBusinessException {
+		createLimiter("query", NOW).isFlooded("token", "2026-10-17");
+	}
+
+}
@@ -0,0 +1,100 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.common.service.entity.UinHashSalt;
+import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class UinSaltTableTest {
+
+	private UinHashSaltRepo uinHashSaltRepo;
+
+	private UinSaltTable uinSaltTable;
+
+	@Before
+	public void before() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.UIN_SALT_MODULO, "10");
+		uinHashSaltRepo = Mockito.mock(UinHashSaltRepo.class);
+		uinSaltTable = new UinSaltTable();
+		ReflectionTestUtils.setField(uinSaltTable, "env", environment);
+		ReflectionTestUtils.setField(uinSaltTable, "uinHashSaltRepo", uinHashSaltRepo);
+	}
+
+	@Test
+	public void testSaltsLoadedAtStartup() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(hashSalt(1L, "hash1"), hashSalt(9L, "hash9")));
+		uinSaltTable.init();
+
+		assertEquals("hash1", uinSaltTable.getHashSalt(1));
+		assertEquals("hash9", uinSaltTable.getHashSalt(9));
+		Mockito.verify(uinHashSaltRepo, Mockito.never()).retrieveSaltById(Mockito.anyLong());
+	}
+
+	@Test
+	public void testMissingSaltReadOnDemand() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(hashSalt(1L, "hash1")));
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(12L)).thenReturn("hash12");
+		uinSaltTable.init();
+
+		assertEquals("hash12", uinSaltTable.getHashSalt(12));
+		assertEquals("hash12", uinSaltTable.getHashSalt(12));
+		assertEquals("hash1", uinSaltTable.getHashSalt(1));
+		assertNull(uinSaltTable.getHashSalt(5));
+		assertNull(uinSaltTable.getHashSalt(5));
+		Mockito.verify(uinHashSaltRepo, Mockito.times(1)).retrieveSaltById(12L);
+		Mockito.verify(uinHashSaltRepo, Mockito.times(2)).retrieveSaltById(5L);
+	}
+
+	@Test
+	public void testSavedSaltAdded() {
+		uinSaltTable.init();
+		uinSaltTable.putHashSalt(4, "hash4");
+		assertEquals("hash4", uinSaltTable.getHashSalt(4));
+		Mockito.verify(uinHashSaltRepo, Mockito.never()).retrieveSaltById(Mockito.anyLong());
+	}
+
+	@Test
+	public void testSavedSaltPublishedInCopy() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(hashSalt(1L, "hash1")));
+		uinSaltTable.init();
+		String[] salts = (String[]) ReflectionTestUtils.getField(uinSaltTable, "hashSalts");
+		uinSaltTable.putHashSalt(2, "hash2");
+		assertNull(salts[2]);
+		assertNotSame(salts, ReflectionTestUtils.getField(uinSaltTable, "hashSalts"));
+		assertEquals("hash1", uinSaltTable.getHashSalt(1));
+		assertEquals("hash2", uinSaltTable.getHashSalt(2));
+	}
+
+	@Test
+	public void testSaltsNotLoaded() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenThrow(new DataAccessResourceFailureException("unavailable"));
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(1L)).thenReturn("hash1");
+		uinSaltTable.init();
+		assertEquals("hash1", uinSaltTable.getHashSalt(1));
+	}
+
+	private static UinHashSalt hashSalt(Long id, String salt) {
+		UinHashSalt uinHashSalt = new UinHashSalt();
+		uinHashSalt.setId(id);
+		uinHashSalt.setSalt(salt);
+		return uinHashSalt;
+	}
+
+}
@@ -0,0 +1,86 @@
+package io.mosip.authentication.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Timestamp;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class AuthTransactionPartitionJobTest {
+
+	private MockEnvironment environment;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private AuthTransactionPartitionJob authTransactionPartitionJob;
+
+	@Before
+	public void before() {
+		environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD, "2");
+		jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+		taskScheduler = Mockito.mock(ThreadPoolTaskScheduler.class);
+		authTransactionPartitionJob = new AuthTransactionPartitionJob();
+		ReflectionTestUtils.setField(authTransactionPartitionJob, "env", environment);
+		ReflectionTestUtils.setField(authTransactionPartitionJob, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(authTransactionPartitionJob, "taskScheduler", taskScheduler);
+	}
+
+	@Test
+	public void testMaintenanceScheduledByDefault() {
+		authTransactionPartitionJob.onApplicationEvent(null);
+		Mockito.verify(taskScheduler).schedule(Mockito.any(Runnable.class), Mockito.any(CronTrigger.class));
+	}
+
+	@Test
+	public void testMaintenanceDisabled() {
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_PARTITION_MAINTENANCE_ENABLED, "false");
+		authTransactionPartitionJob.onApplicationEvent(null);
+		Mockito.verifyZeroInteractions(taskScheduler);
+	}
+
+	@Test
+	public void testPartitionsCreatedWithoutRetention() {
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("create_auth_transaction_partitions"),
+				Mockito.eq(Integer.class), Mockito.eq(2))).thenReturn(1);
+		assertEquals(1, authTransactionPartitionJob.maintainPartitions());
+		Mockito.verify(jdbcTemplate, Mockito.never()).queryForObject(
+				Mockito.contains("drop_auth_transaction_partitions"), Mockito.eq(Integer.class),
+				Mockito.any(Timestamp.class), Mockito.anyBoolean());
+	}
+
+	@Test
+	public void testPartitionsDroppedPastRetention() {
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_RETENTION_DAYS, "90");
+		environment.setProperty(IdAuthConfigKeyConstants.AUTH_TRANSACTION_RETENTION_DETACH_ONLY, "false");
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("create_auth_transaction_partitions"),
+				Mockito.eq(Integer.class), Mockito.eq(2))).thenReturn(0);
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.contains("drop_auth_transaction_partitions"),
+				Mockito.eq(Integer.class), Mockito.any(Timestamp.class), Mockito.eq(false))).thenReturn(2);
+		assertEquals(2, authTransactionPartitionJob.maintainPartitions());
+	}
+
+	@Test
+	public void testMaintenanceFailed() {
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq(2)))
+				.thenThrow(new DataAccessResourceFailureException("unavailable"));
+		assertEquals(0, authTransactionPartitionJob.maintainPartitions());
+	}
+
+}
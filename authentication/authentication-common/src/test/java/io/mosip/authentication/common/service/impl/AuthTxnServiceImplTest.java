@@ -1,7 +1,11 @@
 package io.mosip.authentication.common.service.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +30,8 @@ import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.UinHashSaltRepo;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.core.autntxn.dto.AutnTxnDto;
+import io.mosip.authentication.core.autntxn.dto.AutnTxnPageDto;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdType;
@@ -64,7 +70,7 @@ public class AuthTxnServiceImplTest {
 		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -102,7 +108,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageStart(null);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -117,7 +123,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageFetch(null);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -133,7 +139,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageFetch(null);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -150,7 +156,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageFetch(null);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -166,7 +172,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageFetch(null);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -181,7 +187,7 @@ public class AuthTxnServiceImplTest {
 		authtxnrequestdto.setPageFetch(-1);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
@@ -189,4 +195,101 @@ public class AuthTxnServiceImplTest {
 		authTxnServiceImpl.fetchAuthTxnDetails(authtxnrequestdto);
 
 	}
+
+	@Test
+	public void TestfetchAuthTxnPage() throws IdAuthenticationBusinessException {
+		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
+		authtxnrequestdto.setPageFetch(1);
+		authtxnrequestdto.setCursor("");
+		Map<String, Object> value = new HashMap<>();
+		value.put("uin", "9172985031");
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenReturn(value);
+		Mockito.when(idService.getToken(Mockito.any())).thenReturn("token");
+		LocalDateTime crDTimes = LocalDateTime.of(2020, 1, 2, 3, 4, 5, 6000);
+		List<AutnTxn> firstPage = new ArrayList<>();
+		firstPage.add(getAuthTxn(crDTimes, "2"));
+		firstPage.add(getAuthTxn(crDTimes, "1"));
+		Mockito.when(authtxnRepo.findFirstPageByToken(Mockito.eq("token"), Mockito.any())).thenReturn(firstPage);
+		AutnTxnPageDto page = authTxnServiceImpl.fetchAuthTxnPage(authtxnrequestdto);
+		assertEquals(1, page.getAuthTransactions().size());
+		assertNotNull(page.getNextCursor());
+
+		List<AutnTxn> lastPage = new ArrayList<>();
+		lastPage.add(getAuthTxn(crDTimes, "1"));
+		Mockito.when(authtxnRepo.findPageByTokenAfter(Mockito.eq("token"), Mockito.eq(crDTimes), Mockito.eq("2"),
+				Mockito.any())).thenReturn(lastPage);
+		authtxnrequestdto.setCursor(page.getNextCursor());
+		page = authTxnServiceImpl.fetchAuthTxnPage(authtxnrequestdto);
+		assertEquals(1, page.getAuthTransactions().size());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void TestfetchAuthTxnPageInvalidCursor() throws IdAuthenticationBusinessException {
+		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
+		authtxnrequestdto.setCursor("invalid");
+		Map<String, Object> value = new HashMap<>();
+		value.put("uin", "9172985031");
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenReturn(value);
+		Mockito.when(idService.getToken(Mockito.any())).thenReturn("token");
+		authTxnServiceImpl.fetchAuthTxnPage(authtxnrequestdto);
+	}
+
+	@Test
+	public void TeststreamAuthTxnDetails() throws IdAuthenticationBusinessException {
+		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
+		Map<String, Object> value = new HashMap<>();
+		value.put("uin", "9172985031");
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenReturn(value);
+		Mockito.when(idService.getToken(Mockito.any())).thenReturn("token");
+		Mockito.when(authtxnRepo.findFirstPageByToken(Mockito.eq("token"), Mockito.any())).thenReturn(getAuthTxnList());
+		List<AutnTxnDto> streamed = new ArrayList<>();
+		authTxnServiceImpl.streamAuthTxnDetails(authtxnrequestdto, streamed::add);
+		assertEquals(1, streamed.size());
+		assertEquals("1234567890", streamed.get(0).getTransactionID());
+		Mockito.verify(authtxnRepo, Mockito.never()).findPageByTokenAfter(Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any());
+	}
+
+	@Test
+	public void TeststreamAuthTxnDetailsPages() throws IdAuthenticationBusinessException {
+		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
+		Map<String, Object> value = new HashMap<>();
+		value.put("uin", "9172985031");
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenReturn(value);
+		Mockito.when(idService.getToken(Mockito.any())).thenReturn("token");
+		LocalDateTime crDTimes = LocalDateTime.of(2020, 1, 1, 0, 0);
+		List<AutnTxn> firstPage = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			firstPage.add(getAuthTxn(crDTimes.minusSeconds(i), "id" + i));
+		}
+		Mockito.when(authtxnRepo.findFirstPageByToken(Mockito.eq("token"), Mockito.any())).thenReturn(firstPage);
+		Mockito.when(authtxnRepo.findPageByTokenAfter(Mockito.eq("token"), Mockito.eq(crDTimes.minusSeconds(499)),
+				Mockito.eq("id499"), Mockito.any())).thenReturn(getAuthTxnList());
+		List<AutnTxnDto> streamed = new ArrayList<>();
+		authTxnServiceImpl.streamAuthTxnDetails(authtxnrequestdto, streamed::add);
+		assertEquals(501, streamed.size());
+	}
+
+	@Test
+	public void TeststreamAuthTxnDetailsIdNotFound() throws IdAuthenticationBusinessException {
+		AutnTxnRequestDto authtxnrequestdto = getAuthTxnDto();
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenReturn(new HashMap<>());
+		List<AutnTxnDto> streamed = new ArrayList<>();
+		authTxnServiceImpl.streamAuthTxnDetails(authtxnrequestdto, streamed::add);
+		assertEquals(0, streamed.size());
+		Mockito.verify(authtxnRepo, Mockito.never()).findFirstPageByToken(Mockito.any(), Mockito.any());
+	}
+
+	private AutnTxn getAuthTxn(LocalDateTime crDTimes, String id) {
+		AutnTxn autnTxn = getAuthTxnList().get(0);
+		autnTxn.setCrDTimes(crDTimes);
+		autnTxn.setId(id);
+		return autnTxn;
+	}
 }
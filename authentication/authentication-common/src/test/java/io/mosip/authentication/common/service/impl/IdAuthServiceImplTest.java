@@ -2,10 +2,13 @@ package io.mosip.authentication.common.service.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -37,6 +40,8 @@ import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
+import io.mosip.authentication.common.service.helper.AuthTransactionWriter;
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
 import io.mosip.authentication.common.service.helper.RestHelper;
 import io.mosip.authentication.common.service.integration.IdRepoManager;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
@@ -84,6 +89,8 @@ public class IdAuthServiceImplTest {
 	@Mock
 	AutnTxnRepository autntxnrepository;
 	@Mock
+	AuthTransactionWriter authTransactionWriter;
+	@Mock
 	AutnTxn autnTxn;
 
 	@Autowired
@@ -99,7 +106,11 @@ public class IdAuthServiceImplTest {
 	public void before() {
 		ReflectionTestUtils.setField(idServiceImpl, "idRepoManager", idRepoManager);
 		ReflectionTestUtils.setField(idServiceImpl, "mapper", mapper);
-
+		IdentityCacheDataEncoder identityCacheDataEncoder = new IdentityCacheDataEncoder();
+		ReflectionTestUtils.setField(identityCacheDataEncoder, "env", env);
+		ReflectionTestUtils.setField(identityCacheDataEncoder, "mapper", mapper);
+		identityCacheDataEncoder.init();
+		ReflectionTestUtils.setField(idServiceImpl, "identityCacheDataEncoder", identityCacheDataEncoder);
 	}
 
 	@Test
@@ -222,6 +233,7 @@ public class IdAuthServiceImplTest {
 
 		ReflectionTestUtils.invokeMethod(autntxnrepository, "saveAndFlush", autnTxn);
 		ReflectionTestUtils.invokeMethod(idServiceImpl, "saveAutnTxn", autnTxn);
+		Mockito.verify(authTransactionWriter).write(autnTxn);
 	}
 
 	// =========================================================
@@ -387,9 +399,46 @@ public class IdAuthServiceImplTest {
 	@Test(expected=IdAuthenticationBusinessException.class)
 	public void testUpdateVIDStatusFailed() throws RestServiceException, IdAuthenticationBusinessException {
 		Mockito.when(securityManager.hash(Mockito.anyString())).thenReturn("234433356");
-		Mockito.when(identityRepo.existsById(Mockito.anyString())).thenReturn(true);
-		Mockito.when(identityRepo.getOne(Mockito.anyString())).thenThrow(new DataAccessException("error") {});
+		Mockito.when(identityRepo.findByIdConsumingTemporaryVid(Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
+				.thenThrow(new DataAccessException("error") {});
 		idServiceImpl.updateVIDstatus("234433356");
 	}
 
+	@Test
+	public void testProcessIdTypeAndUpdateVIDstatus() throws IdAuthenticationBusinessException {
+		String idvId = "875948796";
+		Mockito.when(securityManager.hash(idvId)).thenReturn(idvId);
+		List<Object[]> data = new ArrayList<>();
+		data.add(new Object[] { idvId, "{\"UIN\":\"875948796\"}".getBytes(),
+				Timestamp.valueOf(LocalDateTime.now().plusDays(1)), (short) 1, "token", null });
+		Mockito.when(identityRepo.findByIdConsumingTemporaryVid(Mockito.eq(idvId), Mockito.eq(false), Mockito.any()))
+				.thenReturn(data);
+		Map<String, Object> idResDTO = idServiceImpl.processIdTypeAndUpdateVIDstatus("VID", idvId, false);
+		assertEquals("token", idServiceImpl.getToken(idResDTO));
+		assertNull(idResDTO.get("biometrics"));
+		Mockito.verify(identityRepo, Mockito.never()).existsById(Mockito.anyString());
+		Mockito.verify(identityRepo, Mockito.never()).deleteById(Mockito.anyString());
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testProcessIdTypeAndUpdateVIDstatusConsumed() throws IdAuthenticationBusinessException {
+		String idvId = "875948796";
+		Mockito.when(securityManager.hash(idvId)).thenReturn(idvId);
+		Mockito.when(identityRepo.findByIdConsumingTemporaryVid(Mockito.eq(idvId), Mockito.eq(false), Mockito.any()))
+				.thenReturn(new ArrayList<>());
+		idServiceImpl.processIdTypeAndUpdateVIDstatus("VID", idvId, false);
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testProcessIdTypeAndUpdateVIDstatusExpired() throws IdAuthenticationBusinessException {
+		String idvId = "875948796";
+		Mockito.when(securityManager.hash(idvId)).thenReturn(idvId);
+		List<Object[]> data = new ArrayList<>();
+		data.add(new Object[] { idvId, "{}".getBytes(), Timestamp.valueOf(LocalDateTime.now().minusDays(1)),
+				(short) 1, "token", null });
+		Mockito.when(identityRepo.findByIdConsumingTemporaryVid(Mockito.eq(idvId), Mockito.eq(false), Mockito.any()))
+				.thenReturn(data);
+		idServiceImpl.processIdTypeAndUpdateVIDstatus("VID", idvId, false);
+	}
+
 }
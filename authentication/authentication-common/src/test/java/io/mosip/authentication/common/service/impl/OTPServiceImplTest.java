@@ -22,6 +22,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
@@ -32,6 +33,7 @@ import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.IDAMappingFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.OtpFloodLimiter;
 import io.mosip.authentication.common.service.helper.RestHelper;
 import io.mosip.authentication.common.service.helper.RestHelperImpl;
 import io.mosip.authentication.common.service.impl.patrner.PartnerServiceImpl;
@@ -66,6 +68,7 @@ import io.mosip.kernel.core.http.ResponseWrapper;
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class, IDAMappingConfig.class,
 		IDAMappingFactory.class, PartnerServiceImpl.class,PartnerServiceManager.class, RestRequestFactory.class,RestHelper.class,RestHelperImpl.class})
 @WebMvcTest
+@TestPropertySource(properties = "otp.request.flooding.mode=query")
 @Ignore
 public class OTPServiceImplTest {
 
@@ -84,6 +87,9 @@ public class OTPServiceImplTest {
 	@InjectMocks
 	private OTPServiceImpl otpServiceImpl;
 
+	@InjectMocks
+	private OtpFloodLimiter otpFloodLimiter;
+
 	@Autowired
 	private IDAMappingConfig idMappingConfig;
 
@@ -119,6 +125,9 @@ public class OTPServiceImplTest {
 	
 	@Before
 	public void before() {
+		ReflectionTestUtils.setField(otpFloodLimiter, "env", env);
+		otpFloodLimiter.init();
+		ReflectionTestUtils.setField(otpServiceImpl, "otpFloodLimiter", otpFloodLimiter);
 		ReflectionTestUtils.setField(otpServiceImpl, "env", env);
 		ReflectionTestUtils.setField(otpServiceImpl, "uinEncryptSaltRepo", uinEncryptSaltRepo);
 		ReflectionTestUtils.setField(otpServiceImpl, "uinHashSaltRepo", uinHashSaltRepo);
@@ -144,7 +153,7 @@ public class OTPServiceImplTest {
 		Map<String, List<IdentityInfoDTO>> idInfo = getIdInfo();
 		valueMap.put("uin", "426789089018");
 		valueMap.put("response", idInfo);
-		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(valueMap);
 		Mockito.when(idAuthService.getIdInfo(Mockito.any())).thenReturn(idInfo);
 		Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn("426789089018");
@@ -192,7 +201,7 @@ public class OTPServiceImplTest {
 		valueMap.put("uin", "426789089018");
 		valueMap.put("phone", "426789089018");
 		valueMap.put("response", idInfo);
-		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(valueMap);
 		Mockito.when(idAuthService.getIdInfo(Mockito.any())).thenReturn(idInfo);
 		Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn(individualId);
@@ -208,7 +217,7 @@ public class OTPServiceImplTest {
 		errors.add(serviceError);
 		response.setErrors(errors);
 		
-		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any()))
 		.thenReturn(valueMap);
 		Mockito.when(uinEncryptSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("2344");
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("2344");
@@ -248,7 +257,7 @@ public class OTPServiceImplTest {
 		valueMap.put("phone", "426789089018");
 		valueMap.put("response", idInfo);
 		
-		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any()))
 		.thenReturn(valueMap);
 		Mockito.when(uinEncryptSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("2344");
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("2344");
@@ -284,7 +293,7 @@ public class OTPServiceImplTest {
 		mailList.add(identityInfoDTO);
 		idInfo.put("email", mailList);
 		valueMap.put("response", idInfo);
-		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+		Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(valueMap);
 		Mockito.when(idAuthService.getIdInfo(Mockito.any())).thenReturn(idInfo);
 		Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn("2345678901234");
@@ -0,0 +1,162 @@
+package io.mosip.authentication.common.service.impl.match;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+/**
+ * Checks the name and address normalization against the golden output of the
+ * normalization before the rules were compiled once, with the normalization
+ * rules of the test application.properties.
+ *
+ * @author Loganathan Sekar
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@WebMvcTest
+public class DemoNormalizerGoldenTest {
+
+	private static final String GOLDEN_OUTPUT = "/normalization/demo-normalization-golden.tsv";
+
+	@InjectMocks
+	private DemoNormalizerImpl demoNormalizerImpl;
+
+	@Autowired
+	private Environment environment;
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(demoNormalizerImpl, "environment", environment);
+	}
+
+	private static Map<String, List<String>> createTitles() {
+		Map<String, List<String>> titles = new HashMap<>();
+		titles.put("fra", new ArrayList<>(Arrays.asList("Mr", "Dr", "Mrs")));
+		titles.put("eng", new ArrayList<>(Arrays.asList("Dr", "Mr", "Mrs", "Ms", "Miss", "Prof", "Sir")));
+		titles.put("ara", new ArrayList<>(Arrays.asList("السيد", "السيدة", "الدكتور")));
+		return titles;
+	}
+
+	private static List<String[]> readGoldenOutput() throws IOException {
+		List<String[]> rows = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				DemoNormalizerGoldenTest.class.getResourceAsStream(GOLDEN_OUTPUT), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					String[] row = line.split("\t", -1);
+					for (int i = 0; i < row.length; i++) {
+						row[i] = unescape(row[i]);
+					}
+					rows.add(row);
+				}
+			}
+		}
+		return rows;
+	}
+
+	private static String unescape(String value) {
+		StringBuilder unescaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char escaped = value.charAt(++i);
+				unescaped.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped);
+			} else {
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+
+	private List<String> normalizeAll(Map<String, List<String>> titles) throws IOException, IdAuthenticationBusinessException {
+		List<String> mismatches = new ArrayList<>();
+		for (String[] row : readGoldenOutput()) {
+			String normalized = row[0].equals("name") ? demoNormalizerImpl.normalizeName(row[2], row[1], () -> titles)
+					: demoNormalizerImpl.normalizeAddress(row[2], row[1]);
+			if (!row[3].equals(normalized)) {
+				mismatches.add(String.join("|", row) + " -> " + normalized);
+			}
+		}
+		return mismatches;
+	}
+
+	@Test
+	public void testGoldenOutput() throws IOException, IdAuthenticationBusinessException {
+		assertEquals(Collections.emptyList(), normalizeAll(createTitles()));
+	}
+
+	@Test
+	public void testGoldenOutputRepeated() throws IOException, IdAuthenticationBusinessException {
+		Map<String, List<String>> titles = createTitles();
+		assertEquals(Collections.emptyList(), normalizeAll(titles));
+		assertEquals(Collections.emptyList(), normalizeAll(titles));
+	}
+
+	@Test
+	public void testGoldenOutputWithSortedImmutableTitles() throws IOException, IdAuthenticationBusinessException {
+		Map<String, List<String>> titles = new HashMap<>();
+		titles.put("fra", Collections.unmodifiableList(Arrays.asList("Mrs", "Mr", "Dr")));
+		titles.put("eng", Collections.unmodifiableList(Arrays.asList("Prof", "Miss", "Mrs", "Sir", "Dr", "Mr", "Ms")));
+		titles.put("ara", Collections.unmodifiableList(Arrays.asList("الدكتور", "السيدة", "السيد")));
+		assertEquals(Collections.emptyList(), normalizeAll(titles));
+	}
+
+	@Test(timeout = 5000)
+	public void testMixedCaseTitleKept() throws IdAuthenticationBusinessException {
+		assertEquals("mR John", demoNormalizerImpl.normalizeName("mR John mr", "eng", DemoNormalizerGoldenTest::createTitles));
+	}
+
+	@Test(timeout = 5000)
+	public void testEmptyTitleIgnored() throws IdAuthenticationBusinessException {
+		Map<String, List<String>> titles = Collections.singletonMap("eng", Arrays.asList("", "Mr"));
+		assertEquals("John", demoNormalizerImpl.normalizeName("Mr. John", "eng", () -> titles));
+	}
+
+	@Test
+	public void testRulesCompiledAgainOnConfigChange() {
+		MockEnvironment mockEnvironment = new MockEnvironment();
+		mockEnvironment.setProperty(IdAuthConfigKeyConstants.IDA_NORMALISER_SEP, "=");
+		mockEnvironment.setProperty("ida.demo.address.normalization.regex.any[0]", "[sS]treet=st");
+		DemoNormalizerImpl normalizer = new DemoNormalizerImpl();
+		ReflectionTestUtils.setField(normalizer, "environment", mockEnvironment);
+		Clock clock = Clock.fixed(Clock.systemUTC().instant(), Clock.systemUTC().getZone());
+		ReflectionTestUtils.setField(normalizer, "clock", clock);
+		assertEquals("Main st", normalizer.normalizeAddress("Main Street", "eng"));
+
+		mockEnvironment.setProperty("ida.demo.address.normalization.regex.any[0]", "[sS]treet=str");
+		assertEquals("Main st", normalizer.normalizeAddress("Main Street", "eng"));
+
+		ReflectionTestUtils.setField(normalizer, "clock", Clock.offset(clock, Duration.ofMinutes(1)));
+		assertEquals("Main str", normalizer.normalizeAddress("Main Street", "eng"));
+	}
+
+}
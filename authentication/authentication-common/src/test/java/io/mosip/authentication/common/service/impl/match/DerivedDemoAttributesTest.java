@@ -0,0 +1,161 @@
+package io.mosip.authentication.common.service.impl.match;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.dto.DemoMatcherUtil;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
+import io.mosip.authentication.core.spi.indauth.match.TextMatchingStrategy;
+
+/**
+ * Tests the derivation of the normalized and phonetic name and address values,
+ * and their use only while their stamp matches.
+ *
+ * @author Loganathan Sekar
+ */
+public class DerivedDemoAttributesTest {
+
+	private static final String NAME = "Mr. John  Smith";
+
+	private static final String ADDRESS = "1 Main Street";
+
+	private MockEnvironment environment;
+
+	private Map<String, List<String>> titles;
+
+	private DerivedDemoAttributes derivedDemoAttributes;
+
+	@Before
+	public void setup() {
+		environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS, "0");
+		environment.setProperty("ida.demo.name.normalization.regex.any[0]", "[ ]{2,}= ");
+		environment.setProperty("ida.demo.address.normalization.regex.any[0]", "[sS]treet=st");
+		DemoNormalizerImpl demoNormalizer = new DemoNormalizerImpl();
+		ReflectionTestUtils.setField(demoNormalizer, "environment", environment);
+		titles = new HashMap<>();
+		titles.put("eng", Arrays.asList("Mr", "Mrs"));
+
+		IdInfoFetcher idInfoFetcher = Mockito.mock(IdInfoFetcher.class);
+		Mockito.when(idInfoFetcher.getDemoNormalizer()).thenReturn(demoNormalizer);
+		Mockito.when(idInfoFetcher.getTitleFetcher()).thenReturn(() -> titles);
+		Mockito.when(idInfoFetcher.getLanguageName("eng")).thenReturn(Optional.of("english"));
+
+		derivedDemoAttributes = new DerivedDemoAttributes();
+		ReflectionTestUtils.setField(derivedDemoAttributes, "env", environment);
+		ReflectionTestUtils.setField(derivedDemoAttributes, "idInfoFetcher", idInfoFetcher);
+		ReflectionTestUtils.setField(derivedDemoAttributes, "meterRegistry", new SimpleMeterRegistry());
+		derivedDemoAttributes.init();
+	}
+
+	private Map<String, List<IdentityInfoDTO>> derive(DemoMatchType matchType, String entityInfoText)
+			throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = new HashMap<>();
+		derivedDemoAttributes.derive(matchType, "eng", entityInfoText).forEach((name, value) -> {
+			List<IdentityInfoDTO> values = new ArrayList<>();
+			values.add(new IdentityInfoDTO("eng", value));
+			demoEntity.put(name, values);
+		});
+		return demoEntity;
+	}
+
+	private static Map<String, Object> matchProperties() {
+		Map<String, Object> matchProperties = new HashMap<>();
+		matchProperties.put("language", "english");
+		return matchProperties;
+	}
+
+	@Test
+	public void testDefaultMatchTypes() {
+		assertEquals(new ArrayList<>(Arrays.asList(DemoMatchType.NAME, DemoMatchType.ADDR)),
+				new ArrayList<>(derivedDemoAttributes.getMatchTypes()));
+	}
+
+	@Test
+	public void testDisabled() throws IdAuthenticationBusinessException {
+		environment.setProperty(IdAuthConfigKeyConstants.DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES, "");
+		derivedDemoAttributes.init();
+		assertTrue(derivedDemoAttributes.getMatchTypes().isEmpty());
+		assertTrue(derivedDemoAttributes.derive(DemoMatchType.NAME, "eng", NAME).isEmpty());
+	}
+
+	@Test
+	public void testDerivedNameUsed() throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = derive(DemoMatchType.NAME, NAME);
+		assertEquals(2, demoEntity.size());
+
+		Map<String, Object> matchProperties = derivedDemoAttributes.withDerivedEntityInfo(matchProperties(),
+				DemoMatchType.NAME, "eng", NAME, demoEntity);
+		assertEquals("John Smith", matchProperties.get(TextMatchingStrategy.NORMALIZED_ENTITY_INFO));
+		assertEquals(DemoMatcherUtil.doPhoneticsMatch("Jon Smith", "John Smith", "english"),
+				TextMatchingStrategy.phoneticsMatch("Jon Smith", "John Smith", matchProperties));
+	}
+
+	@Test
+	public void testDerivedAddressWithoutPhoneticUsed() throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = derive(DemoMatchType.ADDR_LINE1, ADDRESS);
+		assertTrue(demoEntity.isEmpty());
+
+		environment.setProperty(IdAuthConfigKeyConstants.DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES, "ADDR_LINE1");
+		derivedDemoAttributes.init();
+		demoEntity = derive(DemoMatchType.ADDR_LINE1, ADDRESS);
+		assertEquals(1, demoEntity.size());
+		Map<String, Object> matchProperties = derivedDemoAttributes.withDerivedEntityInfo(matchProperties(),
+				DemoMatchType.ADDR_LINE1, "eng", ADDRESS, demoEntity);
+		assertEquals("1 Main st", matchProperties.get(TextMatchingStrategy.NORMALIZED_ENTITY_INFO));
+		assertFalse(matchProperties.containsKey(TextMatchingStrategy.PHONETIC_ENTITY_INFO));
+	}
+
+	@Test
+	public void testMissingNotUsed() throws IdAuthenticationBusinessException {
+		Map<String, Object> matchProperties = matchProperties();
+		assertSame(matchProperties, derivedDemoAttributes.withDerivedEntityInfo(matchProperties, DemoMatchType.NAME,
+				"eng", NAME, new HashMap<>()));
+	}
+
+	@Test
+	public void testStaleOnEntityInfoChangeNotUsed() throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = derive(DemoMatchType.NAME, NAME);
+		Map<String, Object> matchProperties = matchProperties();
+		assertSame(matchProperties, derivedDemoAttributes.withDerivedEntityInfo(matchProperties, DemoMatchType.NAME,
+				"eng", "Mr. Jane Smith", demoEntity));
+	}
+
+	@Test
+	public void testStaleOnRulesChangeNotUsed() throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = derive(DemoMatchType.ADDR, ADDRESS);
+		environment.setProperty("ida.demo.address.normalization.regex.any[0]", "[sS]treet=str");
+		Map<String, Object> matchProperties = matchProperties();
+		assertSame(matchProperties, derivedDemoAttributes.withDerivedEntityInfo(matchProperties, DemoMatchType.ADDR,
+				"eng", ADDRESS, demoEntity));
+	}
+
+	@Test
+	public void testStaleOnTitlesChangeNotUsed() throws IdAuthenticationBusinessException {
+		Map<String, List<IdentityInfoDTO>> demoEntity = derive(DemoMatchType.NAME, NAME);
+		titles.put("eng", Arrays.asList("Mr", "Mrs", "Dr"));
+		Map<String, Object> matchProperties = matchProperties();
+		assertSame(matchProperties, derivedDemoAttributes.withDerivedEntityInfo(matchProperties, DemoMatchType.NAME,
+				"eng", NAME, demoEntity));
+	}
+
+}
@@ -0,0 +1,178 @@
+package io.mosip.authentication.common.service.impl.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox.Content;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox.Notification;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.NotificationType;
+import io.mosip.authentication.core.indauth.dto.SenderType;
+import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * @author Loganathan Sekar
+ *
+ */
+public class NotificationOutboxWorkerTest {
+
+	private NotificationOutbox notificationOutbox;
+
+	private NotificationService notificationService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private NotificationOutboxWorker notificationOutboxWorker;
+
+	@Before
+	public void before() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_WORKERS, "2");
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_BATCH_SIZE, "2");
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS, "3600000");
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_MAX_ATTEMPTS, "3");
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_BACKOFF_SECS, "10");
+		environment.setProperty(IdAuthConfigKeyConstants.NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS, "24");
+		notificationOutbox = Mockito.mock(NotificationOutbox.class);
+		Mockito.when(notificationOutbox.isEnabled()).thenReturn(true);
+		notificationService = Mockito.mock(NotificationService.class);
+		meterRegistry = new SimpleMeterRegistry();
+		notificationOutboxWorker = new NotificationOutboxWorker();
+		ReflectionTestUtils.setField(notificationOutboxWorker, "env", environment);
+		ReflectionTestUtils.setField(notificationOutboxWorker, "notificationOutbox", notificationOutbox);
+		ReflectionTestUtils.setField(notificationOutboxWorker, "notificationService", notificationService);
+		ReflectionTestUtils.setField(notificationOutboxWorker, "meterRegistry", meterRegistry);
+		notificationOutboxWorker.init();
+	}
+
+	private void openAll() throws IdAuthenticationBusinessException {
+		Mockito.when(notificationOutbox.open(ArgumentMatchers.any()))
+				.thenReturn(new Content("recipient", Collections.singletonMap("name", "value")));
+	}
+
+	@After
+	public void after() {
+		notificationOutboxWorker.destroy();
+	}
+
+	private Notification notification(String id, NotificationType channel, SenderType sender, int attempt) {
+		return new Notification(id, channel, sender, "payload-" + id, attempt);
+	}
+
+	private double count(String metric, NotificationType channel) {
+		return meterRegistry.counter(metric, "channel", channel.name()).count();
+	}
+
+	@Test
+	public void testDeliverAllInBatches() throws IdAuthenticationBusinessException {
+		openAll();
+		Mockito.when(notificationOutbox.claim(2, 300L)).thenReturn(
+				Arrays.asList(notification("1", NotificationType.SMS, SenderType.AUTH, 1),
+						notification("2", NotificationType.EMAIL, SenderType.AUTH, 1)),
+				Collections.singletonList(notification("3", NotificationType.SMS, SenderType.OTP, 1)));
+		assertEquals(3, notificationOutboxWorker.deliverAll());
+		Mockito.verify(notificationOutbox, Mockito.times(2)).claim(2, 300L);
+		Mockito.verify(notificationService).deliverNotification(ArgumentMatchers.eq(NotificationType.EMAIL),
+				ArgumentMatchers.eq(SenderType.AUTH), ArgumentMatchers.eq("recipient"), ArgumentMatchers.anyMap());
+		Mockito.verify(notificationOutbox).delivered("1");
+		Mockito.verify(notificationOutbox).delivered("2");
+		Mockito.verify(notificationOutbox).delivered("3");
+		assertEquals(2, count("ida.notification.outbox.delivered", NotificationType.SMS), 0);
+		assertEquals(1, count("ida.notification.outbox.delivered", NotificationType.EMAIL), 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRetryWithBackoff() throws IdAuthenticationBusinessException {
+		openAll();
+		Mockito.when(notificationOutbox.claim(2, 300L))
+				.thenReturn(Collections.singletonList(notification("1", NotificationType.SMS, SenderType.AUTH, 2)));
+		Mockito.doThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS))
+				.when(notificationService).deliverNotification(ArgumentMatchers.any(), ArgumentMatchers.any(),
+						ArgumentMatchers.anyString(), (Map<String, Object>) ArgumentMatchers.any());
+		LocalDateTime before = DateUtils.getUTCCurrentDateTime();
+		assertEquals(1, notificationOutboxWorker.deliverAll());
+		ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+		Mockito.verify(notificationOutbox).retry(ArgumentMatchers.eq("1"), nextAttempt.capture(),
+				ArgumentMatchers.anyString());
+		assertTrue(!nextAttempt.getValue().isBefore(before.plusSeconds(20)));
+		assertTrue(nextAttempt.getValue().isBefore(before.plusSeconds(30)));
+		Mockito.verify(notificationOutbox, Mockito.never()).delivered("1");
+		assertEquals(1, count("ida.notification.outbox.retried", NotificationType.SMS), 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFailedAfterMaxAttempts() throws IdAuthenticationBusinessException {
+		openAll();
+		Mockito.when(notificationOutbox.claim(2, 300L))
+				.thenReturn(Collections.singletonList(notification("1", NotificationType.EMAIL, SenderType.OTP, 3)));
+		Mockito.doThrow(new IllegalStateException("down")).when(notificationService).deliverNotification(
+				ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyString(),
+				(Map<String, Object>) ArgumentMatchers.any());
+		assertEquals(1, notificationOutboxWorker.deliverAll());
+		Mockito.verify(notificationOutbox).failed("1", "IllegalStateException: down");
+		Mockito.verify(notificationOutbox, Mockito.never()).retry(ArgumentMatchers.anyString(),
+				ArgumentMatchers.any(), ArgumentMatchers.anyString());
+		assertEquals(1, count("ida.notification.outbox.failed", NotificationType.EMAIL), 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testUndecryptableRetried() throws IdAuthenticationBusinessException {
+		Mockito.when(notificationOutbox.claim(2, 300L))
+				.thenReturn(Collections.singletonList(notification("1", NotificationType.SMS, SenderType.OTP, 1)));
+		Mockito.when(notificationOutbox.open(ArgumentMatchers.any()))
+				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS));
+		assertEquals(1, notificationOutboxWorker.deliverAll());
+		Mockito.verify(notificationService, Mockito.never()).deliverNotification(ArgumentMatchers.any(),
+				ArgumentMatchers.any(), ArgumentMatchers.anyString(), (Map<String, Object>) ArgumentMatchers.any());
+		Mockito.verify(notificationOutbox).retry(ArgumentMatchers.eq("1"), ArgumentMatchers.any(),
+				ArgumentMatchers.anyString());
+		Mockito.verify(notificationOutbox, Mockito.never()).delivered("1");
+	}
+
+	@Test
+	public void testExpiredCounted() {
+		Mockito.when(notificationOutbox.expire())
+				.thenReturn(Arrays.asList(NotificationType.SMS, NotificationType.EMAIL, NotificationType.SMS));
+		Mockito.when(notificationOutbox.claim(2, 300L)).thenReturn(Collections.emptyList());
+		assertEquals(0, notificationOutboxWorker.deliverAll());
+		assertEquals(2, count("ida.notification.outbox.expired", NotificationType.SMS), 0);
+		assertEquals(1, count("ida.notification.outbox.expired", NotificationType.EMAIL), 0);
+	}
+
+	@Test
+	public void testFailedPurgedAfterRetention() {
+		Mockito.when(notificationOutbox.purgeFailed(ArgumentMatchers.any()))
+				.thenReturn(Arrays.asList(NotificationType.EMAIL, NotificationType.SMS));
+		Mockito.when(notificationOutbox.claim(2, 300L)).thenReturn(Collections.emptyList());
+		LocalDateTime before = DateUtils.getUTCCurrentDateTime().minusHours(24);
+		assertEquals(0, notificationOutboxWorker.deliverAll());
+		LocalDateTime after = DateUtils.getUTCCurrentDateTime().minusHours(24);
+		ArgumentCaptor<LocalDateTime> failedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+		Mockito.verify(notificationOutbox).purgeFailed(failedBefore.capture());
+		assertTrue(!failedBefore.getValue().isBefore(before) && !failedBefore.getValue().isAfter(after));
+		assertEquals(1, count("ida.notification.outbox.purged", NotificationType.SMS), 0);
+		assertEquals(1, count("ida.notification.outbox.purged", NotificationType.EMAIL), 0);
+	}
+
+}
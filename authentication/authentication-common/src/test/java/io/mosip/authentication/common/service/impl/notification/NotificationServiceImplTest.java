@@ -91,6 +91,9 @@ public class NotificationServiceImplTest {
 
 	@Mock
 	private NotificationManager notificationManager;
+
+	@Mock
+	private NotificationOutbox notificationOutbox;
 	@Mock
 	private IdInfoFetcher idInfoFetcher;
 
@@ -104,6 +107,7 @@ public class NotificationServiceImplTest {
 		ReflectionTestUtils.setField(notificationManager, "restRequestFactory", restRequestFactory);
 		ReflectionTestUtils.setField(notificationManager, "restHelper", restHelper);
 		ReflectionTestUtils.setField(notificationService, "notificationManager", notificationManager);
+		ReflectionTestUtils.setField(notificationService, "notificationOutbox", notificationOutbox);
 	}
 
 	@Test
@@ -1,5 +1,6 @@
 package io.mosip.authentication.common.service.integration;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -11,6 +12,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -108,8 +111,8 @@ public class IdTemplateManagerTest {
 		ReflectionTestUtils.setField(masterDataManager, "mapper", mapper);
 		ReflectionTestUtils.setField(masterDataManager, "environment", environment);
 		ReflectionTestUtils.setField(restFactory, "env", environment);
-		ReflectionTestUtils.setField(idTemplateManager, "templateManagerBuilder", templateManagerBuilder);
 		templateManagerBuilder.encodingType(ENCODE_TYPE).enableCache(false).resourceLoader(CLASSPATH).build();
+		idTemplateManager.idTemplateManagerPostConstruct();
 	}
 
 //	@Test(expected = IdAuthenticationBusinessException.class)
@@ -182,6 +185,72 @@ public class IdTemplateManagerTest {
 		assertNotNull(idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
 	}
 
+	@Test
+	public void testApplyTemplateParsedOnce() throws IOException, IdAuthenticationBusinessException {
+		MockEnvironment mockenv = templatesEnvironment("OTP $otp for $uin");
+		MasterDataManager masterDataManagerSpy = Mockito.spy(masterDataManager);
+		ReflectionTestUtils.setField(idTemplateManager, "masterDataManager", masterDataManagerSpy);
+		Map<String, Object> valueMap = new HashMap<>();
+		valueMap.put("uin", "1234567890");
+		valueMap.put("otp", "123456");
+		assertEquals("OTP 123456 for 1234567890\n\nOTP 123456 for 1234567890",
+				idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
+		valueMap.put("otp", "654321");
+		assertEquals("OTP 654321 for 1234567890\n\nOTP 654321 for 1234567890",
+				idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
+		Mockito.verify(masterDataManagerSpy, Mockito.times(1)).fetchTemplate(AUTH_SMS);
+
+		mockenv.setProperty("mosip.notification.language-type", "primary");
+		assertEquals("OTP 654321 for 1234567890", idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
+		Mockito.verify(masterDataManagerSpy, Mockito.times(1)).fetchTemplate("ara", AUTH_SMS);
+	}
+
+	@Test
+	public void testApplyTemplateParsedOnConfigChange() throws IOException, IdAuthenticationBusinessException {
+		MockEnvironment mockenv = templatesEnvironment("OTP $otp");
+		Map<String, Object> valueMap = new HashMap<>();
+		valueMap.put("otp", "123456");
+		assertEquals("OTP 123456\n\nOTP 123456", idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
+		mockenv.setProperty("master.data.ida-templates", encodeTemplates("Code $otp"));
+		assertEquals("Code 123456\n\nCode 123456", idTemplateManager.applyTemplate(AUTH_SMS, valueMap));
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testApplyInvalidTemplate() throws IOException, IdAuthenticationBusinessException {
+		templatesEnvironment("OTP #if($otp");
+		idTemplateManager.applyTemplate(AUTH_SMS, new HashMap<>());
+	}
+
+	private MockEnvironment templatesEnvironment(String fileText) throws IOException {
+		MockEnvironment mockenv = new MockEnvironment();
+		mockenv.merge(((AbstractEnvironment) environment));
+		mockenv.setProperty("mosip.notification.language-type", "both");
+		mockenv.setProperty("mosip.primary-language", "ara");
+		mockenv.setProperty("mosip.secondary-language", "fra");
+		mockenv.setProperty("master.data.ida-templates", encodeTemplates(fileText));
+		mockenv.setProperty("ida.master-data.refresh-check-interval-millis", "0");
+		ReflectionTestUtils.setField(idTemplateManager, "environment", mockenv);
+		ReflectionTestUtils.setField(idInfoFetcherImpl, "environment", mockenv);
+		ReflectionTestUtils.setField(masterDataManager, "environment", mockenv);
+		return mockenv;
+	}
+
+	private String encodeTemplates(String fileText) throws IOException {
+		List<Map<String, Object>> templates = new ArrayList<>();
+		for (String langCode : new String[] { "ara", "fra" }) {
+			Map<String, Object> template = new HashMap<>();
+			template.put("fileText", fileText);
+			template.put("langCode", langCode);
+			template.put("templateTypeCode", AUTH_SMS);
+			template.put("isActive", true);
+			templates.add(template);
+		}
+		Map<String, Object> response = new HashMap<>();
+		response.put("templates", templates);
+		return Base64.getEncoder()
+				.encodeToString(new ObjectMapper().writeValueAsBytes(Collections.singletonMap("response", response)));
+	}
+
 	@Test(expected = FileNotFoundException.class)
 	public void testInvalidPdfGeneration() throws IOException {
 		InputStream is = new FileInputStream("dummy1.html");
@@ -58,13 +58,14 @@ public class KeyManagerTest {
 
 	@Before
 	public void before() throws IdAuthenticationBusinessException {
-		ReflectionTestUtils.setField(keyManager, "keySplitter", "#KEY_SPLITTER#");
 		ReflectionTestUtils.setField(keyManager, "partnerId", "PARTNER");
 		ReflectionTestUtils.setField(keyManager, "appId", "IDA");
 		when(securityManager.encrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenReturn("abc".getBytes());
 		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenReturn("{\"transactionID\":\"\"}".getBytes());
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn("{\"transactionID\":\"\"}".getBytes());
 		when(securityManager.sign(Mockito.any())).thenReturn("");
 	}
 
@@ -100,7 +101,7 @@ public class KeyManagerTest {
 	public void requestDataMapperTest()
 			throws IdAuthenticationAppException, JsonProcessingException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenReturn("-CAj77ZNbtHjmCOSlPUsb4IgqnqHSv0MS5FeLMj".getBytes());
 		keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
 	}
@@ -116,7 +117,7 @@ public class KeyManagerTest {
 	@Test(expected = IdAuthenticationAppException.class)
 	public void requestInvalidDataTest1() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED));
 		keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
 	}
@@ -135,7 +136,7 @@ public class KeyManagerTest {
 	public void requestInvalidDataTest2()
 			throws IdAuthenticationAppException, IOException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED));
 		keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
 	}
@@ -144,7 +145,7 @@ public class KeyManagerTest {
 	public void invalidKernelKeyManagerErrorRequest()
 			throws IdAuthenticationAppException, IOException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED));
 		try {
 			keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
@@ -160,7 +161,7 @@ public class KeyManagerTest {
 	public void invalidKernelDecryptErrorRequest()
 			throws IdAuthenticationAppException, IOException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION));
 		try {
 			keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
@@ -176,7 +177,7 @@ public class KeyManagerTest {
 	public void invalidKernelErrorRequest()
 			throws IdAuthenticationAppException, IOException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION));
 		keyManager.requestData(reqMap, mapper, "PARTNER", a->{});
 	}
@@ -184,7 +185,7 @@ public class KeyManagerTest {
 	@Test(expected = IdAuthenticationAppException.class)
 	public void requestInvalidDataIOException() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
 		Map<String, Object> reqMap = createRequest();
-		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		when(securityManager.decrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED));
 		Mockito.when(keyManager.requestData(reqMap, mapper, "PARTNER", a->{})).thenThrow(IOException.class);
 	}
@@ -1,8 +1,18 @@
 package io.mosip.authentication.common.service.integration;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +25,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.env.AbstractEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -135,6 +147,55 @@ public class MasterDataManagerTest {
 		assertNotNull(fetchTitles);
 	}
 	
+	@Test
+	public void testTitlesSortedLongestFirst() throws IdAuthenticationBusinessException {
+		Map<String, List<String>> fetchTitles = masterDataManager.fetchTitles();
+		assertTrue(!fetchTitles.isEmpty());
+		for (List<String> titles : fetchTitles.values()) {
+			for (int i = 1; i < titles.size(); i++) {
+				assertTrue(titles.get(i - 1).length() >= titles.get(i).length());
+			}
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testTitlesImmutable() throws IdAuthenticationBusinessException {
+		masterDataManager.fetchTitles().values().iterator().next().clear();
+	}
+
+	@Test
+	public void testSnapshotReplacedOnConfigChange() throws IdAuthenticationBusinessException, IOException {
+		MockEnvironment mockenv = new MockEnvironment();
+		mockenv.merge((AbstractEnvironment) env);
+		ReflectionTestUtils.setField(masterDataManager, "environment", mockenv);
+		ReflectionTestUtils.setField(masterDataManager, "clock",
+				Clock.fixed(Instant.parse("2026-10-17T04:30:00Z"), ZoneOffset.UTC));
+		mockenv.setProperty("ida.master-data.refresh-check-interval-millis", "60000");
+		masterDataManager.init();
+		MasterDataSnapshot snapshot = masterDataManager.getSnapshot();
+		assertSame(snapshot, masterDataManager.getSnapshot());
+
+		mockenv.setProperty("master.data.genders",
+				Base64.getEncoder().encodeToString(mapper.writeValueAsBytes(getGender())));
+		assertSame(snapshot, masterDataManager.getSnapshot());
+
+		ReflectionTestUtils.setField(masterDataManager, "clock", Clock.offset(
+				Clock.fixed(Instant.parse("2026-10-17T04:30:00Z"), ZoneOffset.UTC), Duration.ofMinutes(1)));
+		MasterDataSnapshot refreshed = masterDataManager.getSnapshot();
+		assertNotSame(snapshot, refreshed);
+		assertEquals(Arrays.asList("Male", "Female"), masterDataManager.fetchGenderType().get("eng"));
+		assertEquals(snapshot.getTitles(), refreshed.getTitles());
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testMasterDataNotLoaded() throws IdAuthenticationBusinessException {
+		MockEnvironment mockenv = new MockEnvironment();
+		mockenv.merge((AbstractEnvironment) env);
+		mockenv.setProperty("maste.data.titles", "invalid");
+		ReflectionTestUtils.setField(masterDataManager, "environment", mockenv);
+		masterDataManager.fetchTitles();
+	}
+
 //	@Test(expected=IdAuthenticationBusinessException.class)
 //	public void testTitleInValid() throws IdAuthenticationBusinessException, RestServiceException, JsonParseException, JsonMappingException, IOException {
 //		RestRequestDTO buildRequest  = new RestRequestDTO();
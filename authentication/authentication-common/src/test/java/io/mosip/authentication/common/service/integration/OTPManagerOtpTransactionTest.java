@@ -0,0 +1,260 @@
+package io.mosip.authentication.common.service.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.common.service.helper.LocalOtpGenerator;
+import io.mosip.authentication.common.service.repository.OtpTxnRepository;
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.otp.dto.OtpRequestDTO;
+import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * Tests the issue and the validation of the OTPs of {@link OTPManager} with the
+ * local OTP generator, against an in-memory otp_transaction table behaving as
+ * the statements of {@link OtpTxnRepository}.
+ *
+ * @author Loganathan Sekar
+ */
+public class OTPManagerOtpTransactionTest {
+
+	private static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
+
+	private static final String UIN = "426789089018";
+
+	private List<OtpRow> otpTable;
+
+	private Deque<String> otps;
+
+	private LocalOtpGenerator localOtpGenerator;
+
+	private OTPManager otpManager;
+
+	/**
+	 * A row of the in-memory otp_transaction table.
+	 */
+	private static final class OtpRow {
+
+		private final String refId;
+
+		private final String otpHash;
+
+		private LocalDateTime expiry;
+
+		private String status = IdAuthCommonConstants.ACTIVE_STATUS;
+
+		private OtpRow(String refId, String otpHash, LocalDateTime expiry) {
+			this.refId = refId;
+			this.otpHash = otpHash;
+			this.expiry = expiry;
+		}
+
+		private boolean isActive() {
+			return IdAuthCommonConstants.ACTIVE_STATUS.equals(status);
+		}
+	}
+
+	@Before
+	public void before() throws IdAuthenticationBusinessException {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(IdAuthConfigKeyConstants.OTP_GENERATOR, IdAuthCommonConstants.LOCAL_OTP_GENERATOR);
+		environment.setProperty(IdAuthConfigKeyConstants.KEY_SPLITTER, KEY_SPLITTER);
+		environment.setProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_EXPIRY_TIME, "180");
+		environment.setProperty(IdAuthConfigKeyConstants.DATE_TIME_PATTERN, DATE_TIME_PATTERN);
+		environment.setProperty(IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_VALIDATION_ATTEMPT_THRESHOLD, "3");
+
+		otpTable = new ArrayList<>();
+		OtpTxnRepository otpRepo = (OtpTxnRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { OtpTxnRepository.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "upsertActiveOtp":
+						return upsertActiveOtp((String) args[1], (String) args[2], (LocalDateTime) args[3]);
+					case "useActiveOtp":
+						return useActiveOtp((String) args[0]);
+					case "toString":
+						return "otp_transaction";
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+		NotificationService notificationService = (NotificationService) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { NotificationService.class }, (proxy, method, args) -> null);
+		IdAuthSecurityManager securityManager = new IdAuthSecurityManager() {
+			@Override
+			public String hash(String id) {
+				return "ref-" + id;
+			}
+
+			@Override
+			public String getUser() {
+				return "test";
+			}
+		};
+
+		otps = new ArrayDeque<>();
+		localOtpGenerator = new LocalOtpGenerator() {
+			@Override
+			public String generateOtp() {
+				return otps.remove();
+			}
+		};
+		ReflectionTestUtils.setField(localOtpGenerator, "env", environment);
+		localOtpGenerator.init();
+
+		otpManager = new OTPManager();
+		ReflectionTestUtils.setField(otpManager, "environment", environment);
+		ReflectionTestUtils.setField(otpManager, "securityManager", securityManager);
+		ReflectionTestUtils.setField(otpManager, "otpRepo", otpRepo);
+		ReflectionTestUtils.setField(otpManager, "notificationService", notificationService);
+		ReflectionTestUtils.setField(otpManager, "localOtpGenerator", localOtpGenerator);
+	}
+
+	/**
+	 * INSERT ... ON CONFLICT (otp_hash, ref_id) WHERE status_code = 'active' DO
+	 * UPDATE SET expiry_dtimes = ...
+	 */
+	private int upsertActiveOtp(String refId, String otpHash, LocalDateTime expiry) {
+		for (OtpRow row : otpTable) {
+			if (row.isActive() && row.refId.equals(refId) && row.otpHash.equals(otpHash)) {
+				row.expiry = expiry;
+				return 1;
+			}
+		}
+		otpTable.add(new OtpRow(refId, otpHash, expiry));
+		return 1;
+	}
+
+	/**
+	 * UPDATE ... SET status_code = 'used' WHERE otp_hash = ? AND status_code =
+	 * 'active' RETURNING expiry_dtimes
+	 */
+	private List<Timestamp> useActiveOtp(String otpHash) {
+		List<Timestamp> expiry = new ArrayList<>();
+		for (OtpRow row : otpTable) {
+			if (row.isActive() && row.otpHash.equals(otpHash)) {
+				row.status = IdAuthCommonConstants.USED_STATUS;
+				expiry.add(Timestamp.valueOf(row.expiry));
+			}
+		}
+		return expiry;
+	}
+
+	private void sendOtp(String transactionId, String otp) throws IdAuthenticationBusinessException {
+		otps.add(otp);
+		OtpRequestDTO otpRequestDTO = new OtpRequestDTO();
+		otpRequestDTO.setIndividualId(UIN);
+		otpRequestDTO.setTransactionID(transactionId);
+		otpRequestDTO.setOtpChannel(Collections.singletonList("email"));
+		otpRequestDTO.setRequestTime(
+				ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+		Map<String, String> valueMap = new HashMap<>();
+		valueMap.put(IdAuthCommonConstants.EMAIL, "test@example.com");
+		assertTrue(otpManager.sendOtp(otpRequestDTO, UIN, "UIN", valueMap));
+	}
+
+	private boolean validateOtp(String transactionId, String otp) throws IdAuthenticationBusinessException {
+		return otpManager.validateOtp(otp, UIN + KEY_SPLITTER + transactionId);
+	}
+
+	private List<OtpRow> activeRows() {
+		return otpTable.stream().filter(OtpRow::isActive).collect(Collectors.toList());
+	}
+
+	private void expireAll() {
+		otpTable.forEach(row -> row.expiry = DateUtils.getUTCCurrentDateTime().minusSeconds(1));
+	}
+
+	@Test
+	public void testReissuedOtpRefreshed() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		expireAll();
+		sendOtp("1234567890", "111111");
+		assertEquals(1, otpTable.size());
+		assertTrue(otpTable.get(0).expiry.isAfter(DateUtils.getUTCCurrentDateTime()));
+		assertTrue(validateOtp("1234567890", "111111"));
+	}
+
+	@Test
+	public void testOtpUsedOnce() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		assertTrue(validateOtp("1234567890", "111111"));
+		assertFalse(validateOtp("1234567890", "111111"));
+		assertTrue(activeRows().isEmpty());
+	}
+
+	@Test
+	public void testExpiredOtpRejected() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		expireAll();
+		try {
+			validateOtp("1234567890", "111111");
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.EXPIRED_OTP.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+	@Test
+	public void testExpiredOtpNotResettingFreeze() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		assertFalse(validateOtp("1234567890", "222222"));
+		assertFalse(validateOtp("1234567890", "333333"));
+		expireAll();
+		try {
+			validateOtp("1234567890", "111111");
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.EXPIRED_OTP.getErrorCode(), e.getErrorCode());
+		}
+		assertTrue(localOtpGenerator.isFrozen("ref-" + UIN));
+	}
+
+	@Test
+	public void testWrongOtpRejected() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		assertFalse(validateOtp("1234567890", "222222"));
+		assertEquals(1, activeRows().size());
+	}
+
+	@Test
+	public void testSeveralActiveOtpsPerIndividual() throws IdAuthenticationBusinessException {
+		sendOtp("1234567890", "111111");
+		sendOtp("1234567890", "222222");
+		sendOtp("0987654321", "333333");
+		assertEquals(3, activeRows().size());
+		assertTrue(validateOtp("1234567890", "222222"));
+		assertTrue(validateOtp("1234567890", "111111"));
+		assertTrue(validateOtp("0987654321", "333333"));
+		assertTrue(activeRows().isEmpty());
+	}
+
+}
@@ -0,0 +1,86 @@
+package io.mosip.authentication.common.service.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Tests that the conflict target of the active OTP upsert infers the unique
+ * partial index of the otp_transaction table, created by the DDL and the
+ * upgrade scripts. PostgreSQL rejects an ON CONFLICT whose columns and
+ * predicate do not match a unique index.
+ *
+ * @author Loganathan Sekar
+ */
+public class OtpTxnRepositoryTest {
+
+	private static final Path DB_SCRIPTS = Paths.get("..", "..", "db_scripts", "mosip_ida");
+
+	private static final Pattern CONFLICT_TARGET = Pattern
+			.compile("ON CONFLICT \\(([^)]*)\\) WHERE (.*?) DO UPDATE", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern UNIQUE_INDEX = Pattern.compile(
+			"CREATE UNIQUE INDEX (?:IF NOT EXISTS )?uk_otpt_active_otp_hash ON ida\\.otp_transaction \\(([^)]*)\\) WHERE (.*?);",
+			Pattern.CASE_INSENSITIVE);
+
+	private static String getQuery(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return OtpTxnRepository.class.getMethod(methodName, parameterTypes).getAnnotation(Query.class).value()
+				.replaceAll("\\s+", " ");
+	}
+
+	private static Matcher find(Pattern pattern, String text) {
+		Matcher matcher = pattern.matcher(text);
+		assertTrue(pattern.pattern(), matcher.find());
+		return matcher;
+	}
+
+	private static Set<String> columns(String columns) {
+		Set<String> columnSet = new TreeSet<>();
+		Arrays.stream(columns.split(",")).map(String::trim).forEach(columnSet::add);
+		return columnSet;
+	}
+
+	private static String predicate(String predicate) {
+		return predicate.replaceAll("\\s+", "").toLowerCase();
+	}
+
+	private void assertConflictTargetMatches(String script) throws NoSuchMethodException, IOException {
+		Matcher conflictTarget = find(CONFLICT_TARGET, getQuery("upsertActiveOtp", String.class, String.class,
+				String.class, LocalDateTime.class, String.class, LocalDateTime.class));
+		Matcher uniqueIndex = find(UNIQUE_INDEX,
+				new String(Files.readAllBytes(DB_SCRIPTS.resolve(script)), StandardCharsets.UTF_8));
+		assertEquals(columns(uniqueIndex.group(1)), columns(conflictTarget.group(1)));
+		assertEquals(predicate(uniqueIndex.group(2)), predicate(conflictTarget.group(2)));
+	}
+
+	@Test
+	public void testConflictTargetMatchesDdlIndex() throws NoSuchMethodException, IOException {
+		assertConflictTargetMatches("ddl/ida-otp_transaction.sql");
+	}
+
+	@Test
+	public void testConflictTargetMatchesUpgradeIndex() throws NoSuchMethodException, IOException {
+		assertConflictTargetMatches("upgrade/ida-otp_transaction_index_upgrade.sql");
+	}
+
+	@Test
+	public void testUseActiveOtpOnlyActive() throws NoSuchMethodException {
+		String query = getQuery("useActiveOtp", String.class, LocalDateTime.class);
+		assertTrue(query, query.contains("status_code = 'active' RETURNING expiry_dtimes"));
+	}
+
+}
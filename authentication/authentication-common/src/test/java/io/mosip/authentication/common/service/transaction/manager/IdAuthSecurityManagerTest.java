@@ -87,6 +87,15 @@ public class IdAuthSecurityManagerTest {
 		assertEquals("abcd", new String(decrypt));
 	}
 
+	@Test
+	public void testDecryptBytes() throws IdAuthenticationBusinessException {
+		when(cryptomanagerService.decrypt(Mockito.any()))
+				.thenReturn(new CryptomanagerResponseDto(CryptoUtil.encodeBase64("abcd".getBytes())));
+		byte[] decrypt = authSecurityManager.decrypt("key".getBytes(), "Hello".getBytes(), "20190101",
+				"aad".getBytes(), "salt".getBytes());
+		assertEquals("abcd", new String(decrypt));
+	}
+
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void testDecryptNoUniqueAliasException() throws IdAuthenticationBusinessException {
 		when(cryptomanagerService.decrypt(Mockito.any())).thenThrow(new NoUniqueAliasException("", ""));
@@ -0,0 +1,25 @@
+package io.mosip.authentication.core.autntxn.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The page of the auth transactions fetched with a cursor.
+ *
+ * @author Loganathan Sekar
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutnTxnPageDto {
+
+	/** The auth transactions of the page */
+	private List<AutnTxnDto> authTransactions;
+
+	/** The cursor of the next page, null if this is the last page */
+	private String nextCursor;
+
+}
@@ -15,5 +15,6 @@ public class AutnTxnRequestDto {
 	String individualIdType;
 	Integer pageStart;
 	Integer pageFetch;
+	String cursor;
 	List<AutnTxnDto> authtxnlist;
 }
@@ -25,6 +25,9 @@ public class AutnTxnResponseDto {
 
 	/** List to hold AutnTxnDto */
 	private Map<String, List<AutnTxnDto>> response;
+
+	/** The cursor of the next page of the keyset pagination, absent on the last page */
+	private String nextCursor;
 	/** The id. */
 
 	/** The resTime value */
@@ -43,6 +43,9 @@ public final class IdAuthCommonConstants {
 	public static final String IDV_ID = "individualId";
 	
 	public static final String REQUEST = "request";
+
+	/** The Constant REQUEST_BODY_ATTRIBUTE - the request attribute holding the request body parsed in the filter. */
+	public static final String REQUEST_BODY_ATTRIBUTE = "io.mosip.authentication.requestBody";
 	
 	public static final String HASH = "hash";
 	
@@ -103,6 +106,8 @@ public final class IdAuthCommonConstants {
 
 	public static final String AUTH_TRANSACTIONS = "authTransactions";
 
+	public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
 	public static final String AUTH_TYPE = "authtypes";
 	
 	public static final String BIOMETRICS ="biometrics";
@@ -264,4 +269,97 @@ public final class IdAuthCommonConstants {
 	
 	public static final long DEFAULT_REQUEST_TIME_ADJUSTMENT_MINS = 5L;
 
+	/** The Constant DEFAULT_REQUEST_MAX_BODY_SIZE - 10 MB. */
+	public static final long DEFAULT_REQUEST_MAX_BODY_SIZE = 10L * 1024 * 1024;
+
+	/** The Constant DEFAULT_BIO_DECIPHER_QUEUE_CAPACITY. */
+	public static final int DEFAULT_BIO_DECIPHER_QUEUE_CAPACITY = 200;
+
+	/** The Constant DEFAULT_JWS_VERIFICATION_CACHE_MAX_SIZE. */
+	public static final int DEFAULT_JWS_VERIFICATION_CACHE_MAX_SIZE = 10000;
+
+	/** The Constant DEFAULT_JWS_VERIFICATION_CACHE_TTL_MINS. */
+	public static final long DEFAULT_JWS_VERIFICATION_CACHE_TTL_MINS = 60L;
+
+	/** The Constant DEFAULT_IDENTITY_CACHE_MAX_MEMORY_BYTES. */
+	public static final long DEFAULT_IDENTITY_CACHE_MAX_MEMORY_BYTES = 64L * 1024 * 1024;
+
+	/** The Constant DEFAULT_IDENTITY_CACHE_TTL_SECS. */
+	public static final long DEFAULT_IDENTITY_CACHE_TTL_SECS = 300L;
+
+	/** The Constant DEFAULT_IDENTITY_CACHE_RE_ENCODING_DELAY_SECS. */
+	public static final long DEFAULT_IDENTITY_CACHE_RE_ENCODING_DELAY_SECS = 300L;
+
+	/** The Constant DEFAULT_IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE. */
+	public static final int DEFAULT_IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE = 500;
+
+	/** The Constant DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY. */
+	public static final int DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY = 10000;
+
+	/** The Constant DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE. */
+	public static final int DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE = 200;
+
+	/** The Constant DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS. */
+	public static final long DEFAULT_AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS = 500L;
+
+	/** The Constant DEFAULT_AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON. */
+	public static final String DEFAULT_AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON = "0 0 1 * * *";
+
+	/** The Constant DEFAULT_AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD. */
+	public static final int DEFAULT_AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD = 3;
+
+	/** The Constant DEFAULT_OTP_REQUEST_FLOODING_MODE. */
+	public static final String DEFAULT_OTP_REQUEST_FLOODING_MODE = "shared";
+
+	/** The Constant DEFAULT_OTP_REQUEST_FLOODING_BUCKETS. */
+	public static final int DEFAULT_OTP_REQUEST_FLOODING_BUCKETS = 10;
+
+	/** The Constant REMOTE_OTP_GENERATOR. */
+	public static final String REMOTE_OTP_GENERATOR = "remote";
+
+	/** The Constant LOCAL_OTP_GENERATOR. */
+	public static final String LOCAL_OTP_GENERATOR = "local";
+
+	/** The Constant DEFAULT_OTP_LENGTH. */
+	public static final int DEFAULT_OTP_LENGTH = 6;
+
+	/** The Constant DEFAULT_OTP_VALIDATION_ATTEMPT_THRESHOLD. */
+	public static final int DEFAULT_OTP_VALIDATION_ATTEMPT_THRESHOLD = 5;
+
+	/** The Constant DEFAULT_OTP_KEY_FREEZE_TIME_SECS. */
+	public static final long DEFAULT_OTP_KEY_FREEZE_TIME_SECS = 300L;
+
+	/** The Constant DEFAULT_OTP_MAX_KEY_FREEZE_TIME_SECS. */
+	public static final long DEFAULT_OTP_MAX_KEY_FREEZE_TIME_SECS = 86400L;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_WORKERS. */
+	public static final int DEFAULT_NOTIFICATION_OUTBOX_WORKERS = 4;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_BATCH_SIZE. */
+	public static final int DEFAULT_NOTIFICATION_OUTBOX_BATCH_SIZE = 50;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS. */
+	public static final long DEFAULT_NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS = 1000L;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_MAX_ATTEMPTS. */
+	public static final int DEFAULT_NOTIFICATION_OUTBOX_MAX_ATTEMPTS = 5;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_BACKOFF_SECS. */
+	public static final long DEFAULT_NOTIFICATION_OUTBOX_BACKOFF_SECS = 30L;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_LEASE_SECS. */
+	public static final long DEFAULT_NOTIFICATION_OUTBOX_LEASE_SECS = 300L;
+
+	/** The Constant DEFAULT_NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS. */
+	public static final long DEFAULT_NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS = 168L;
+
+	/** The Constant DEFAULT_MASTER_DATA_REFRESH_CHECK_INTERVAL_MILLIS. */
+	public static final long DEFAULT_MASTER_DATA_REFRESH_CHECK_INTERVAL_MILLIS = 10000L;
+
+	/** The Constant DEFAULT_DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS. */
+	public static final long DEFAULT_DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS = 10000L;
+
+	/** The Constant DEFAULT_DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES. */
+	public static final String DEFAULT_DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES = "NAME,ADDR";
+
 }
@@ -54,6 +54,12 @@ public final class IdAuthConfigKeyConstants {
 	public static final String MOSIP_KERNEL_OTP_EXPIRY_TIME = "mosip.kernel.otp.expiry-time";
 	public static final String OTP_REQUEST_FLOODING_DURATION = "otp.request.flooding.duration";
 	public static final String OTP_REQUEST_FLOODING_MAX_COUNT = "otp.request.flooding.max-count";
+	public static final String OTP_REQUEST_FLOODING_MODE = "otp.request.flooding.mode";
+	public static final String OTP_REQUEST_FLOODING_BUCKETS = "otp.request.flooding.buckets";
+	public static final String OTP_GENERATOR = "ida.otp.generator";
+	public static final String MOSIP_KERNEL_OTP_VALIDATION_ATTEMPT_THRESHOLD = "mosip.kernel.otp.validation-attempt-threshold";
+	public static final String MOSIP_KERNEL_OTP_KEY_FREEZE_TIME = "mosip.kernel.otp.key-freeze-time";
+	public static final String OTP_MAX_KEY_FREEZE_TIME = "ida.otp.max-key-freeze-time";
 	public static final String MOSIP_IDTYPE_ALLOWED = "request.idtypes.allowed";
 	public static final String AUDIT_DEFAULT_HOST_NAME = "audit.defaultHostName";
 	public static final String AUDIT_DEFAULT_HOST_ADDRESS = "audit.defaultHostAddress";
@@ -65,6 +71,9 @@ public final class IdAuthConfigKeyConstants {
 	public static final String MOSIP_PHONETIC_LANG = "mosip.phonetic.lang.";
 	public static final String EKYC_ALLOWED_AUTH_TYPE = "ekyc.auth.types.allowed";
 	public static final String MOSIP_NOTIFICATION_LANGUAGE_TYPE = "mosip.notification.language-type";
+	public static final String MASTER_DATA_IDA_TEMPLATES = "master.data.ida-templates";
+	public static final String MASTER_DATA_GENDERS = "master.data.genders";
+	public static final String MASTER_DATA_TITLES = "maste.data.titles";
 	public static final String PARTNER_REFERENCE_ID = "partner.reference.id";
 	public static final String PARTNER_BIO_REFERENCE_ID = "partner.biometric.reference.id";
 	public static final String IRIS_IMG_RIGHT_VALUE = ".irisimg.right.match.value";
@@ -129,5 +138,46 @@ public final class IdAuthConfigKeyConstants {
 	public static final String SUBSCRIPTIONS_DELAY_ON_STARTUP = "subscriptions-delay-on-startup";
 	public static final String DATA_SHARE_GET_DECRYPT_REF_ID = "data-share-get-decrypt-ref-id";
 
+	public static final String REQUEST_MAX_BODY_SIZE = "ida.request.max-body-size";
+	public static final String BIO_DECIPHER_POOL_SIZE = "ida.bio.decipher.pool-size";
+	public static final String BIO_DECIPHER_QUEUE_CAPACITY = "ida.bio.decipher.queue-capacity";
+	public static final String JWS_VERIFICATION_CACHE_MAX_SIZE = "ida.jws.verification.cache.max-size";
+	// Also bounds how long a revoked device certificate is trusted, see JwsSignatureVerifier
+	public static final String JWS_VERIFICATION_CACHE_TTL_MINS = "ida.jws.verification.cache.ttl-mins";
+
+	public static final String IDENTITY_CACHE_ENABLED = "ida.identity.cache.enabled";
+	public static final String IDENTITY_CACHE_MAX_MEMORY_BYTES = "ida.identity.cache.max-memory-bytes";
+	public static final String IDENTITY_CACHE_TTL_SECS = "ida.identity.cache.ttl-secs";
+	public static final String IDENTITY_CACHE_BIO_OFF_HEAP = "ida.identity.cache.bio.off-heap";
+	public static final String IDENTITY_CACHE_BINARY_ENCODING_ENABLED = "ida.identity.cache.binary-encoding.enabled";
+	public static final String IDENTITY_CACHE_RE_ENCODING_ENABLED = "ida.identity.cache.re-encoding.enabled";
+	public static final String IDENTITY_CACHE_RE_ENCODING_DELAY_SECS = "ida.identity.cache.re-encoding.delay-secs";
+	public static final String IDENTITY_CACHE_RE_ENCODING_BATCH_SIZE = "ida.identity.cache.re-encoding.batch-size";
+	public static final String IDENTITY_CACHE_COMPRESSION = "ida.identity.cache.compression";
+	public static final String IDENTITY_CACHE_COMPRESSION_LEVEL = "ida.identity.cache.compression.level";
+
+	// Best-effort, the queued auth transactions are lost on a crash, see AuthTransactionWriter
+	public static final String AUTH_TRANSACTION_WRITE_BEHIND_ENABLED = "ida.auth-transaction.write-behind.enabled";
+	public static final String AUTH_TRANSACTION_WRITE_BEHIND_QUEUE_CAPACITY = "ida.auth-transaction.write-behind.queue-capacity";
+	public static final String AUTH_TRANSACTION_WRITE_BEHIND_BATCH_SIZE = "ida.auth-transaction.write-behind.batch-size";
+	public static final String AUTH_TRANSACTION_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS = "ida.auth-transaction.write-behind.flush-interval-millis";
+	public static final String AUTH_TRANSACTION_PARTITION_MAINTENANCE_ENABLED = "ida.auth-transaction.partition-maintenance.enabled";
+	public static final String AUTH_TRANSACTION_PARTITION_MAINTENANCE_CRON = "ida.auth-transaction.partition-maintenance.cron";
+	public static final String AUTH_TRANSACTION_PARTITION_MONTHS_AHEAD = "ida.auth-transaction.partition-maintenance.months-ahead";
+	public static final String AUTH_TRANSACTION_RETENTION_DAYS = "ida.auth-transaction.retention-days";
+	public static final String AUTH_TRANSACTION_RETENTION_DETACH_ONLY = "ida.auth-transaction.retention.detach-only";
+	public static final String NOTIFICATION_OUTBOX_ENABLED = "ida.notification.outbox.enabled";
+	public static final String NOTIFICATION_OUTBOX_OTP_SYNC = "ida.notification.outbox.otp-sync";
+	public static final String NOTIFICATION_OUTBOX_WORKERS = "ida.notification.outbox.workers";
+	public static final String NOTIFICATION_OUTBOX_BATCH_SIZE = "ida.notification.outbox.batch-size";
+	public static final String NOTIFICATION_OUTBOX_POLL_INTERVAL_MILLIS = "ida.notification.outbox.poll-interval-millis";
+	public static final String NOTIFICATION_OUTBOX_MAX_ATTEMPTS = "ida.notification.outbox.max-attempts";
+	public static final String NOTIFICATION_OUTBOX_BACKOFF_SECS = "ida.notification.outbox.backoff-secs";
+	public static final String NOTIFICATION_OUTBOX_LEASE_SECS = "ida.notification.outbox.lease-secs";
+	public static final String NOTIFICATION_OUTBOX_FAILED_RETENTION_HOURS = "ida.notification.outbox.failed-retention-hours";
+	public static final String MASTER_DATA_REFRESH_CHECK_INTERVAL_MILLIS = "ida.master-data.refresh-check-interval-millis";
+	public static final String DEMO_NORMALIZATION_REFRESH_CHECK_INTERVAL_MILLIS = "ida.demo.normalization.refresh-check-interval-millis";
+	public static final String DEMO_DERIVED_ATTRIBUTES_MATCH_TYPES = "ida.demo.derived-attributes.match-types";
+
 	
 }
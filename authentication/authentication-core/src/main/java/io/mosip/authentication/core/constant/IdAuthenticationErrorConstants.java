@@ -58,6 +58,7 @@ public enum IdAuthenticationErrorConstants {
 	UIN_DEACTIVATED_BLOCKED("IDA-MLC-022", "UIN is deactivated/blocked"),
 	VID_EXPIRED_DEACTIVATED_REVOKED("IDA-MLC-023", "VID is expired/deactivated"),
 	INPUT_MISMATCH("IDA-MLC-024", "%s of request is not matching with %s of biometrics"),
+	REQUEST_SIZE_EXCEEDED("IDA-MLC-025", "Request size exceeds the maximum allowed size of %s bytes"),
 	
 	
 	  DEMOGRAPHIC_DATA_MISMATCH_LANG("IDA-DEA-001", "Demographic data %s in %s did not match",
@@ -163,4 +163,25 @@ public final class DemoMatcherUtil {
 		return value;
 	}
 
+	/**
+	 * Doing phonetic match with input request and the phonetic value of the
+	 * stored-request, encoded with the same language-name.
+	 *
+	 * @param refInfoName           the ref info name
+	 * @param encodedEntityInfoName the phonetic value of the entity info name
+	 * @param language              the language
+	 * @return the int
+	 */
+	public static int doPhoneticsMatchEncoded(String refInfoName, String encodedEntityInfoName, String language) {
+		int value = 0;
+		try {
+			value = TextMatcherUtil.phoneticsMatchEncoded(refInfoName, encodedEntityInfoName, language);
+		} catch (EncoderException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, "doPhoneticsMatchEncoded", "EncoderException",
+					e.getMessage());
+		}
+
+		return value;
+	}
+
 }
@@ -18,6 +18,9 @@ import org.apache.commons.codec.language.bm.RuleType;
  */
 public final class TextMatcherUtil {
 
+	/** The phonetic engine, which is immutable. */
+	private static final PhoneticEngine PHONETIC_ENGINE = new PhoneticEngine(NameType.GENERIC, RuleType.EXACT, true);
+
 	/**
 	 * This method gets two strings as input along with their language and gets
 	 * their phonetic values using PhoneticEngine class. Then the phonetic matching
@@ -34,18 +37,37 @@ public final class TextMatcherUtil {
 	 */
 	public static Integer phoneticsMatch(String inputString, String storedString, String language)
 			throws EncoderException {
-		PhoneticEngine phoneticEngine = new PhoneticEngine(NameType.GENERIC, RuleType.EXACT, true);
-
-		Soundex soundex = new Soundex();
+		return phoneticsMatchEncoded(inputString, phoneticsEncode(storedString, language), language);
+	}
 
+	/**
+	 * Gets the phonetic value of the string in the language, using the
+	 * PhoneticEngine class, to be matched with {@link #phoneticsMatchEncoded}.
+	 *
+	 * @param inputString the input string
+	 * @param language    the language
+	 * @return the phonetic value
+	 */
+	public static String phoneticsEncode(String inputString, String language) {
 		Set<String> languageSet = new HashSet<>();
 		languageSet.add(language);
+		return PHONETIC_ENGINE.encode(inputString, Languages.LanguageSet.from(languageSet));
+	}
 
-		String encodedInputString = phoneticEngine.encode(inputString, Languages.LanguageSet.from(languageSet));
-
-		String encodedStoredString = phoneticEngine.encode(storedString, Languages.LanguageSet.from(languageSet));
-
-		return (soundex.difference(encodedInputString, encodedStoredString) + 1) * 20;
+	/**
+	 * Matches the input string with the phonetic value of the stored string, as
+	 * in {@link #phoneticsMatch(String, String, String)}.
+	 *
+	 * @param inputString         the input string
+	 * @param encodedStoredString the phonetic value of the stored string
+	 * @param language            the language
+	 * @return the matching probability
+	 * @throws EncoderException the encoder exception
+	 */
+	public static Integer phoneticsMatchEncoded(String inputString, String encodedStoredString, String language)
+			throws EncoderException {
+		String encodedInputString = phoneticsEncode(inputString, language);
+		return (new Soundex().difference(encodedInputString, encodedStoredString) + 1) * 20;
 	}
 
 }
@@ -1,7 +1,11 @@
 package io.mosip.authentication.core.indauth.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.mosip.authentication.core.spi.indauth.match.MatchContext;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * General-purpose of {@code AuthRequestDTO} class used to communicate with
@@ -46,6 +50,12 @@ public class AuthRequestDTO extends BaseAuthRequestDTO {
 	/** The value for requestSessionKey*/
 	private String requestSessionKey;
 	
+	/** The match context of the request, shared by the auth services. */
+	@JsonIgnore
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private transient MatchContext matchContext;
+	
 	
 
 }
@@ -1,6 +1,10 @@
 package io.mosip.authentication.core.partner.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
 import lombok.Data;
+import lombok.ToString;
 
 /**
  * PolicyDTO restricts the authorization type allowed,which is mapped with Auth Policies Json.
@@ -13,4 +17,9 @@ public class PolicyDTO {
 	
 	/** The policies. */
 	private Policies policies;
+
+	/** The precompiled policies, set when the policy is cached. */
+	@JsonIgnore
+	@ToString.Exclude
+	private transient PolicyEvaluator policyEvaluator;
 }
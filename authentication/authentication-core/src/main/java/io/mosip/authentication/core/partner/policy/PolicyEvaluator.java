@@ -0,0 +1,341 @@
+package io.mosip.authentication.core.partner.policy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.dto.KYCAttributes;
+import io.mosip.authentication.core.partner.dto.Policies;
+import io.mosip.authentication.core.partner.dto.PolicyDTO;
+
+/**
+ * The Class PolicyEvaluator - the immutable, precompiled form of the auth
+ * policies of a partner policy. The allowed auth types and biometric sub types
+ * are held as bitmasks so that the policy check of a request is a few bit
+ * operations, and the mandatory auth policies are kept in the policy order.
+ * <p>
+ * Auth types and biometric sub types that are not known upfront are matched
+ * case insensitively against the names in the policy.
+ *
+ * @author Loganathan Sekar
+ */
+public final class PolicyEvaluator {
+
+	/**
+	 * The auth types of the auth policies.
+	 */
+	public enum PolicyAuthType {
+
+		/** The demo auth type. */
+		DEMO("demo"),
+
+		/** The OTP auth type. */
+		OTP("otp"),
+
+		/** The bio auth type. */
+		BIO("bio"),
+
+		/** The pin auth type. */
+		PIN("pin"),
+
+		/** The KYC auth type. */
+		KYC("kyc"),
+
+		/** The OTP request auth type. */
+		OTP_REQUEST("otp-request");
+
+		/** The auth types by their type, case insensitive. */
+		private static final Map<String, PolicyAuthType> TYPES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+		static {
+			for (PolicyAuthType authType : values()) {
+				TYPES.put(authType.type, authType);
+			}
+		}
+
+		/** The type. */
+		private final String type;
+
+		/** The mask. */
+		private final long mask;
+
+		/**
+		 * Instantiates a new policy auth type.
+		 *
+		 * @param type the type
+		 */
+		private PolicyAuthType(String type) {
+			this.type = type;
+			this.mask = 1L << ordinal();
+		}
+
+		/**
+		 * Gets the type.
+		 *
+		 * @return the type
+		 */
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * Gets the auth type for the type, ignoring case.
+		 *
+		 * @param type the type
+		 * @return the auth type, or null
+		 */
+		public static PolicyAuthType of(String type) {
+			return type == null ? null : TYPES.get(type);
+		}
+	}
+
+	/**
+	 * The biometric sub types of the bio auth policies.
+	 */
+	public enum PolicyBioSubType {
+
+		/** The finger sub type. */
+		FINGER,
+
+		/** The face sub type. */
+		FACE,
+
+		/** The iris sub type. */
+		IRIS;
+
+		/** The sub types by their name, case insensitive. */
+		private static final Map<String, PolicyBioSubType> SUB_TYPES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+		static {
+			for (PolicyBioSubType subType : values()) {
+				SUB_TYPES.put(subType.name(), subType);
+			}
+		}
+
+		/** The mask. */
+		private final long mask = 1L << ordinal();
+
+		/**
+		 * Gets the sub type for the name, ignoring case.
+		 *
+		 * @param subType the sub type
+		 * @return the sub type, or null
+		 */
+		public static PolicyBioSubType of(String subType) {
+			return subType == null ? null : SUB_TYPES.get(subType);
+		}
+	}
+
+	/**
+	 * The auth type and sub type of a mandatory auth policy.
+	 */
+	public static final class MandatoryAuthPolicy {
+
+		/** The auth type. */
+		private final PolicyAuthType authType;
+
+		/** The auth sub type. */
+		private final String authSubType;
+
+		/**
+		 * Instantiates a new mandatory auth policy.
+		 *
+		 * @param authType    the auth type
+		 * @param authSubType the auth sub type
+		 */
+		private MandatoryAuthPolicy(PolicyAuthType authType, String authSubType) {
+			this.authType = authType;
+			this.authSubType = authSubType;
+		}
+
+		/**
+		 * Gets the auth type.
+		 *
+		 * @return the auth type
+		 */
+		public PolicyAuthType getAuthType() {
+			return authType;
+		}
+
+		/**
+		 * Gets the auth sub type.
+		 *
+		 * @return the auth sub type
+		 */
+		public String getAuthSubType() {
+			return authSubType;
+		}
+	}
+
+	/** The evaluator of a policy without any auth policies. */
+	private static final PolicyEvaluator EMPTY = compile(null, null);
+
+	/** The allowed auth types. */
+	private final long allowedAuthTypes;
+
+	/** The allowed bio sub types. */
+	private final long allowedBioSubTypes;
+
+	/** The allowed auth types that are not in {@link PolicyAuthType}. */
+	private final Set<String> otherAllowedAuthTypes;
+
+	/** The allowed bio sub types that are not in {@link PolicyBioSubType}. */
+	private final Set<String> otherAllowedBioSubTypes;
+
+	/** The mandatory auth policies of the known auth types, in order. */
+	private final List<MandatoryAuthPolicy> mandatoryAuthPolicies;
+
+	/** The allowed KYC attribute names. */
+	private final List<String> allowedKycAttributes;
+
+	/**
+	 * Instantiates a new policy evaluator.
+	 *
+	 * @param allowedAuthTypes        the allowed auth types
+	 * @param allowedBioSubTypes      the allowed bio sub types
+	 * @param otherAllowedAuthTypes   the other allowed auth types
+	 * @param otherAllowedBioSubTypes the other allowed bio sub types
+	 * @param mandatoryAuthPolicies   the mandatory auth policies
+	 * @param allowedKycAttributes    the allowed kyc attributes
+	 */
+	private PolicyEvaluator(long allowedAuthTypes, long allowedBioSubTypes, Set<String> otherAllowedAuthTypes,
+			Set<String> otherAllowedBioSubTypes, List<MandatoryAuthPolicy> mandatoryAuthPolicies,
+			List<String> allowedKycAttributes) {
+		this.allowedAuthTypes = allowedAuthTypes;
+		this.allowedBioSubTypes = allowedBioSubTypes;
+		this.otherAllowedAuthTypes = otherAllowedAuthTypes;
+		this.otherAllowedBioSubTypes = otherAllowedBioSubTypes;
+		this.mandatoryAuthPolicies = mandatoryAuthPolicies;
+		this.allowedKycAttributes = allowedKycAttributes;
+	}
+
+	/**
+	 * Compiles the auth policies and allowed KYC attributes of the policy.
+	 *
+	 * @param policy the policy
+	 * @return the policy evaluator
+	 */
+	public static PolicyEvaluator compile(PolicyDTO policy) {
+		Policies policies = policy == null ? null : policy.getPolicies();
+		if (policies == null) {
+			return EMPTY;
+		}
+		return compile(policies.getAuthPolicies(), policies.getAllowedKycAttributes());
+	}
+
+	/**
+	 * Compiles the auth policies and allowed KYC attributes.
+	 *
+	 * @param authPolicies         the auth policies
+	 * @param allowedKycAttributes the allowed kyc attributes
+	 * @return the policy evaluator
+	 */
+	public static PolicyEvaluator compile(List<AuthPolicy> authPolicies, List<KYCAttributes> allowedKycAttributes) {
+		long allowedAuthTypes = 0;
+		long allowedBioSubTypes = 0;
+		Set<String> otherAllowedAuthTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		Set<String> otherAllowedBioSubTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		List<MandatoryAuthPolicy> mandatoryAuthPolicies = new ArrayList<>();
+
+		for (AuthPolicy authPolicy : Objects.requireNonNullElse(authPolicies, Collections.<AuthPolicy>emptyList())) {
+			PolicyAuthType authType = PolicyAuthType.of(authPolicy.getAuthType());
+			if (authType == null) {
+				if (authPolicy.getAuthType() != null) {
+					otherAllowedAuthTypes.add(authPolicy.getAuthType());
+				}
+				continue;
+			}
+			allowedAuthTypes |= authType.mask;
+			if (authPolicy.isMandatory()) {
+				mandatoryAuthPolicies.add(new MandatoryAuthPolicy(authType, authPolicy.getAuthSubType()));
+			}
+			if (authType == PolicyAuthType.BIO) {
+				PolicyBioSubType bioSubType = PolicyBioSubType.of(authPolicy.getAuthSubType());
+				if (bioSubType != null) {
+					allowedBioSubTypes |= bioSubType.mask;
+				} else if (authPolicy.getAuthSubType() != null) {
+					otherAllowedBioSubTypes.add(authPolicy.getAuthSubType());
+				}
+			}
+		}
+
+		List<String> kycAttributes = new ArrayList<>();
+		for (KYCAttributes kycAttribute : Objects.requireNonNullElse(allowedKycAttributes,
+				Collections.<KYCAttributes>emptyList())) {
+			kycAttributes.add(kycAttribute.getAttributeName());
+		}
+
+		return new PolicyEvaluator(allowedAuthTypes, allowedBioSubTypes,
+				Collections.unmodifiableSet(otherAllowedAuthTypes), Collections.unmodifiableSet(otherAllowedBioSubTypes),
+				Collections.unmodifiableList(mandatoryAuthPolicies), Collections.unmodifiableList(kycAttributes));
+	}
+
+	/**
+	 * Checks if the auth type is allowed.
+	 *
+	 * @param authType the auth type
+	 * @return true, if is allowed
+	 */
+	public boolean isAllowed(PolicyAuthType authType) {
+		return (allowedAuthTypes & authType.mask) != 0;
+	}
+
+	/**
+	 * Checks if the auth type is allowed, ignoring case.
+	 *
+	 * @param authType the auth type
+	 * @return true, if is allowed
+	 */
+	public boolean isAllowed(String authType) {
+		PolicyAuthType policyAuthType = PolicyAuthType.of(authType);
+		return policyAuthType != null ? isAllowed(policyAuthType)
+				: authType != null && otherAllowedAuthTypes.contains(authType);
+	}
+
+	/**
+	 * Checks if the biometric sub type is allowed, ignoring case.
+	 *
+	 * @param bioSubType the bio sub type
+	 * @return true, if is allowed
+	 */
+	public boolean isBioSubTypeAllowed(String bioSubType) {
+		PolicyBioSubType policyBioSubType = PolicyBioSubType.of(bioSubType);
+		return policyBioSubType != null ? (allowedBioSubTypes & policyBioSubType.mask) != 0
+				: bioSubType != null && otherAllowedBioSubTypes.contains(bioSubType);
+	}
+
+	/**
+	 * Checks for any mandatory auth type.
+	 *
+	 * @return true, if any auth type is mandatory
+	 */
+	public boolean hasMandatoryAuthTypes() {
+		return !mandatoryAuthPolicies.isEmpty();
+	}
+
+	/**
+	 * Gets the mandatory auth policies of the known auth types, in the order of
+	 * the policies, so that they are checked in the order of the policy.
+	 *
+	 * @return the mandatory auth policies
+	 */
+	public List<MandatoryAuthPolicy> getMandatoryAuthPolicies() {
+		return mandatoryAuthPolicies;
+	}
+
+	/**
+	 * Gets the allowed KYC attribute names.
+	 *
+	 * @return the allowed kyc attributes
+	 */
+	public List<String> getAllowedKycAttributes() {
+		return allowedKycAttributes;
+	}
+
+}
@@ -1,10 +1,12 @@
 package io.mosip.authentication.core.spi.authtxn.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
 import io.mosip.authentication.core.autntxn.dto.AutnTxnDto;
+import io.mosip.authentication.core.autntxn.dto.AutnTxnPageDto;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 
@@ -14,4 +16,26 @@ public interface AuthTxnService {
 	public List<AutnTxnDto> fetchAuthTxnDetails(AutnTxnRequestDto authtxnrequestdto)
 			throws IdAuthenticationBusinessException;
 
+	/**
+	 * Fetch the page of the auth transactions following the cursor of the request,
+	 * or the first page if the cursor is empty.
+	 *
+	 * @param authtxnrequestdto the authtxnrequestdto
+	 * @return the page of auth transactions
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public AutnTxnPageDto fetchAuthTxnPage(AutnTxnRequestDto authtxnrequestdto)
+			throws IdAuthenticationBusinessException;
+
+	/**
+	 * Stream all the auth transactions to the consumer, reading them from the
+	 * database by keyset pages as they are consumed.
+	 *
+	 * @param authtxnrequestdto the authtxnrequestdto
+	 * @param consumer          the consumer
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public void streamAuthTxnDetails(AutnTxnRequestDto authtxnrequestdto, Consumer<AutnTxnDto> consumer)
+			throws IdAuthenticationBusinessException;
+
 }
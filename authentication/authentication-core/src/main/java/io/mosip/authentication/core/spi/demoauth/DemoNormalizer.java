@@ -33,4 +33,25 @@ public interface DemoNormalizer {
 	 * @return the string
 	 */
 	public String normalizeAddress(String address, String language);
+
+	/**
+	 * Gets the version of the name normalization of the language, which changes
+	 * when the normalization rules or the titles of the language change.
+	 *
+	 * @param language the language
+	 * @param titleFetcher the title fetcher
+	 * @return the version
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public String getNameNormalizationVersion(String language, MasterDataFetcher titleFetcher)
+			throws IdAuthenticationBusinessException;
+
+	/**
+	 * Gets the version of the address normalization of the language, which
+	 * changes when the normalization rules of the language change.
+	 *
+	 * @param language the language
+	 * @return the version
+	 */
+	public String getAddressNormalizationVersion(String language);
 }
@@ -2,6 +2,7 @@ package io.mosip.authentication.core.spi.id.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
@@ -51,6 +52,37 @@ public interface IdService<T> {
 	public Map<String, Object> processIdType(String idvIdType, String idvId, boolean isBio)
 			throws IdAuthenticationBusinessException;
 
+	/**
+	 * Process the IdType and validates the Idtype, decoding only the filtered
+	 * demographic attributes of the identity.
+	 *
+	 * @param idvIdType idType
+	 * @param idvId     id-number
+	 * @param isBio the is bio
+	 * @param filterAttributes the demographic attributes needed, or null for all
+	 * @return map
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, Object> processIdType(String idvIdType, String idvId, boolean isBio,
+			Set<String> filterAttributes) throws IdAuthenticationBusinessException;
+
+	/**
+	 * Process the IdType and validates the Idtype, consuming the temporary VID in
+	 * the same operation that reads its identity, in place of
+	 * {@link #processIdType(String, String, boolean)} followed by
+	 * {@link #updateVIDstatus(String)}.
+	 *
+	 * @param idvIdType idType
+	 * @param idvId     id-number
+	 * @param isBio the is bio
+	 * @return map
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, Object> processIdTypeAndUpdateVIDstatus(String idvIdType, String idvId, boolean isBio)
+			throws IdAuthenticationBusinessException;
+
 	/**
 	 * Store entry in Auth_txn table for all authentications.
 	 *
@@ -76,6 +76,20 @@ public interface IdInfoFetcher {
 	public Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValues(Map<String, List<IdentityInfoDTO>> idEntity,
 			CbeffDocType[] cbeffDocTypes, MatchType matchType) throws IdAuthenticationBusinessException;
 
+	/**
+	 * To fetch cbeff values, reusing the BDBs memoized in the match context.
+	 *
+	 * @param idEntity the id entity
+	 * @param cbeffDocTypes the cbeff doc types
+	 * @param matchType the match type
+	 * @param matchContext the match context
+	 * @return the cbeff values
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public Map<String, Entry<String, List<IdentityInfoDTO>>> getCbeffValues(Map<String, List<IdentityInfoDTO>> idEntity,
+			CbeffDocType[] cbeffDocTypes, MatchType matchType, MatchContext matchContext)
+			throws IdAuthenticationBusinessException;
+
 	/**
 	 * To get Environment.
 	 *
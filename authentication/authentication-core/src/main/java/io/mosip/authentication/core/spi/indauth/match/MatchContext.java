@@ -0,0 +1,259 @@
+package io.mosip.authentication.core.spi.indauth.match;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
+
+/**
+ * The Class MatchContext - the memo of the id mappings, entity info and
+ * request info resolved while matching the match inputs of a request. It is
+ * attached to the auth request, so that it is shared by the auth services
+ * matching the same request.
+ * <p>
+ * The entity info is memoized for the identity it was resolved from, and is
+ * discarded when a different identity is matched. The context counts the
+ * lookups and loads of each kind, the difference being the work saved. The
+ * context is used by the request thread and is not thread safe.
+ *
+ * @author Loganathan Sekar
+ */
+public final class MatchContext {
+
+	/**
+	 * The kinds of the memoized values.
+	 */
+	public enum Kind {
+
+		/** The resolved id mapping values. */
+		ID_MAPPING(false),
+
+		/** The identity mapped by the match type. */
+		MAPPED_ENTITY_INFO(true),
+
+		/** The entity info of the match type and language. */
+		ENTITY_INFO(true),
+
+		/** The request info of the match type and language. */
+		REQUEST_INFO(false),
+
+		/** The BDBs of the CBEFF type. */
+		BDB(true);
+
+		/** The flag to indicate that the value is resolved from the identity. */
+		private final boolean identityBased;
+
+		/**
+		 * Instantiates a new kind.
+		 *
+		 * @param identityBased the identity based
+		 */
+		private Kind(boolean identityBased) {
+			this.identityBased = identityBased;
+		}
+	}
+
+	/** The memoized values by kind and key. */
+	private final Map<Kind, Map<List<Object>, Object>> values = new EnumMap<>(Kind.class);
+
+	/** The lookups by kind. */
+	private final long[] lookups = new long[Kind.values().length];
+
+	/** The loads by kind. */
+	private final long[] loads = new long[Kind.values().length];
+
+	/** The identity the identity based values are resolved from. */
+	private Map<String, List<IdentityInfoDTO>> identity;
+
+	/**
+	 * Gets the match context of the auth request, attaching a new one if not
+	 * present.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @return the match context
+	 */
+	public static MatchContext of(AuthRequestDTO authRequestDTO) {
+		MatchContext matchContext = authRequestDTO.getMatchContext();
+		if (matchContext == null) {
+			matchContext = new MatchContext();
+			authRequestDTO.setMatchContext(matchContext);
+		}
+		return matchContext;
+	}
+
+	/**
+	 * Gets the id mapping values of the match type.
+	 *
+	 * @param idMapping the id mapping
+	 * @param matchType the match type
+	 * @param loader    the loader
+	 * @return the id mapping values
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public List<String> getIdMappingValue(IdMapping idMapping, MatchType matchType,
+			SupplierWithException<List<String>, IdAuthenticationBusinessException> loader)
+			throws IdAuthenticationBusinessException {
+		return get(Kind.ID_MAPPING, null, loader, idMapping, matchType);
+	}
+
+	/**
+	 * Gets the identity mapped by the match type.
+	 *
+	 * @param matchType the match type
+	 * @param idEntity  the id entity
+	 * @param loader    the loader
+	 * @return the mapped entity info
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, Entry<String, List<IdentityInfoDTO>>> getMappedEntityInfo(MatchType matchType,
+			Map<String, List<IdentityInfoDTO>> idEntity,
+			SupplierWithException<Map<String, Entry<String, List<IdentityInfoDTO>>>, IdAuthenticationBusinessException> loader)
+			throws IdAuthenticationBusinessException {
+		return get(Kind.MAPPED_ENTITY_INFO, idEntity, loader, matchType);
+	}
+
+	/**
+	 * Gets the entity info of the match type and language.
+	 *
+	 * @param matchType the match type
+	 * @param language  the language
+	 * @param idEntity  the id entity
+	 * @param loader    the loader
+	 * @return the entity info
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, String> getEntityInfo(MatchType matchType, String language,
+			Map<String, List<IdentityInfoDTO>> idEntity,
+			SupplierWithException<Map<String, String>, IdAuthenticationBusinessException> loader)
+			throws IdAuthenticationBusinessException {
+		return get(Kind.ENTITY_INFO, idEntity, loader, matchType, language);
+	}
+
+	/**
+	 * Gets the request info of the match type and language.
+	 *
+	 * @param matchType the match type
+	 * @param language  the language
+	 * @param loader    the loader
+	 * @return the request info
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, String> getRequestInfo(MatchType matchType, String language,
+			SupplierWithException<Map<String, String>, IdAuthenticationBusinessException> loader)
+			throws IdAuthenticationBusinessException {
+		return get(Kind.REQUEST_INFO, null, loader, matchType, language);
+	}
+
+	/**
+	 * Gets the BDBs of the CBEFF type by their CBEFF names.
+	 *
+	 * @param type     the type
+	 * @param idEntity the id entity
+	 * @param loader   the loader
+	 * @return the BDBs
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, String> getBdbs(CbeffDocType type, Map<String, List<IdentityInfoDTO>> idEntity,
+			SupplierWithException<Map<String, String>, IdAuthenticationBusinessException> loader)
+			throws IdAuthenticationBusinessException {
+		return get(Kind.BDB, idEntity, loader, type);
+	}
+
+	/**
+	 * Gets the number of lookups of the kind.
+	 *
+	 * @param kind the kind
+	 * @return the lookup count
+	 */
+	public long getLookupCount(Kind kind) {
+		return lookups[kind.ordinal()];
+	}
+
+	/**
+	 * Gets the number of loads of the kind.
+	 *
+	 * @param kind the kind
+	 * @return the load count
+	 */
+	public long getLoadCount(Kind kind) {
+		return loads[kind.ordinal()];
+	}
+
+	/**
+	 * Gets the number of loads saved by the memo of all kinds.
+	 *
+	 * @return the saved count
+	 */
+	public long getSavedCount() {
+		long saved = 0;
+		for (Kind kind : Kind.values()) {
+			saved += getLookupCount(kind) - getLoadCount(kind);
+		}
+		return saved;
+	}
+
+	/**
+	 * Gets the memoized value, loading it if not present.
+	 *
+	 * @param <T>      the generic type
+	 * @param kind     the kind
+	 * @param idEntity the identity the value is resolved from, for the identity
+	 *                 based kinds
+	 * @param loader   the loader
+	 * @param keys     the keys
+	 * @return the value
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T get(Kind kind, Map<String, List<IdentityInfoDTO>> idEntity,
+			SupplierWithException<T, IdAuthenticationBusinessException> loader, Object... keys)
+			throws IdAuthenticationBusinessException {
+		if (kind.identityBased && idEntity != identity) {
+			for (Kind identityBasedKind : Kind.values()) {
+				if (identityBasedKind.identityBased) {
+					values.remove(identityBasedKind);
+				}
+			}
+			identity = idEntity;
+		}
+		lookups[kind.ordinal()]++;
+		Map<List<Object>, Object> valuesOfKind = values.computeIfAbsent(kind, k -> new HashMap<>());
+		List<Object> key = Arrays.asList(keys);
+		if (valuesOfKind.containsKey(key)) {
+			return (T) valuesOfKind.get(key);
+		}
+		loads[kind.ordinal()]++;
+		T value = loader.get();
+		valuesOfKind.put(key, value);
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MatchContext [");
+		for (Kind kind : Kind.values()) {
+			builder.append(kind).append('=').append(getLoadCount(kind)).append('/').append(getLookupCount(kind))
+					.append(", ");
+		}
+		return builder.append("saved=").append(getSavedCount()).append(']').toString();
+	}
+
+}
@@ -182,6 +182,21 @@ public interface MatchType {
 				.collect(Collectors.toMap(Entry::getKey, entry -> new SimpleEntry<>(entry.getKey(), entry.getValue())));
 	}
 
+	/**
+	 * To fetch Map Entity Info, reusing the values memoized in the match context.
+	 *
+	 * @param idEntity the id entity
+	 * @param idInfoHelper the id info helper
+	 * @param matchContext the match context
+	 * @return the map
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public default Map<String, Entry<String, List<IdentityInfoDTO>>> mapEntityInfo(
+			Map<String, List<IdentityInfoDTO>> idEntity, IdInfoFetcher idInfoHelper, MatchContext matchContext)
+			throws IdAuthenticationBusinessException {
+		return mapEntityInfo(idEntity, idInfoHelper);
+	}
+
 	/**
 	 * Check if the mapped property is of multi-language type.
 	 *
@@ -0,0 +1,21 @@
+package io.mosip.authentication.core.spi.indauth.match;
+
+/**
+ * Supplier Functional interface to throw Exception.
+ *
+ * @author Loganathan Sekar
+ * @param <T> the generic type
+ * @param <E> the exception type
+ */
+@FunctionalInterface
+public interface SupplierWithException<T, E extends Exception> {
+
+	/**
+	 * Gets the result.
+	 *
+	 * @return the result
+	 * @throws E the exception
+	 */
+	T get() throws E;
+
+}
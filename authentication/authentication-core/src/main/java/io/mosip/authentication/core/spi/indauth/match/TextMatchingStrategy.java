@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+import io.mosip.authentication.core.dto.DemoMatcherUtil;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.spi.demoauth.DemoNormalizer;
 
@@ -13,6 +14,12 @@ import io.mosip.authentication.core.spi.demoauth.DemoNormalizer;
  */
 public interface TextMatchingStrategy extends MatchingStrategy {
 
+	/** The match property of the entity info normalized when the identity was stored. */
+	public static final String NORMALIZED_ENTITY_INFO = "normalizedEntityInfo";
+
+	/** The match property of the phonetic value of the normalized entity info. */
+	public static final String PHONETIC_ENTITY_INFO = "phoneticEntityInfo";
+
 	public default int match(Map<String, String> reqValues, Map<String, String> entityValues, Map<String, Object> matchProperties) throws IdAuthenticationBusinessException {
 		String reqInfo = reqValues.values().stream().collect(Collectors.joining(" "));
 		String entityInfo = entityValues.values().stream().collect(Collectors.joining(" "));
@@ -31,7 +38,9 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 				DemoNormalizer demoNormalizer=(DemoNormalizer)demoNormalizerObject;
 			    String langCode=(String)langObject;
 				String refInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) reqInfo, langCode, props);
-				String entityInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
+				Object normalizedEntityInfo = props.get(NORMALIZED_ENTITY_INFO);
+				String entityInfoText = normalizedEntityInfo instanceof String ? (String) normalizedEntityInfo
+						: normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
 				return matchFunction.apply(refInfoText, entityInfoText);
 			} else {
 				return 0;
@@ -40,7 +49,24 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 			return 0;
 		}
 	}
-	
+
+	/**
+	 * Does the phonetic match of the normalized texts, using the phonetic value
+	 * of the entity info stored with the identity if present.
+	 *
+	 * @param refInfoText    the normalized ref info
+	 * @param entityInfoText the normalized entity info
+	 * @param props          the match properties
+	 * @return the match value
+	 */
+	public static int phoneticsMatch(String refInfoText, String entityInfoText, Map<String, Object> props) {
+		String language = (String) props.get("language");
+		Object phoneticEntityInfo = props.get(PHONETIC_ENTITY_INFO);
+		if (phoneticEntityInfo instanceof String) {
+			return DemoMatcherUtil.doPhoneticsMatchEncoded(refInfoText, (String) phoneticEntityInfo, language);
+		}
+		return DemoMatcherUtil.doPhoneticsMatch(refInfoText, entityInfoText, language);
+	}
 
 	@FunctionalInterface
 	public static interface NormalizeFunction {
@@ -7,6 +7,7 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.AuthResponseDTO;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.indauth.dto.NotificationType;
 import io.mosip.authentication.core.indauth.dto.SenderType;
 
 /***
@@ -23,4 +24,18 @@ public interface NotificationService {
 	public void sendNotification(Map<String, Object> values, String emailId, String phoneNumber, SenderType sender,
 			String notificationProperty) throws IdAuthenticationBusinessException;
 
+	/**
+	 * Delivers a notification to the notifier of the channel, waiting for the
+	 * notifier to accept it.
+	 *
+	 * @param channel   the channel
+	 * @param sender    the sender
+	 * @param recipient the phone number or email id
+	 * @param values    the template values
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public void deliverNotification(NotificationType channel, SenderType sender, String recipient,
+			Map<String, Object> values) throws IdAuthenticationBusinessException;
+
 }
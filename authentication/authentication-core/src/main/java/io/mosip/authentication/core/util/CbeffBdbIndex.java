@@ -0,0 +1,185 @@
+package io.mosip.authentication.core.util;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
+
+/**
+ * The Class CbeffBdbIndex - the compact form of the BDBs of one CBEFF type,
+ * split from the individual biometrics CBEFF when the credential is stored, so
+ * that the authentication need not parse the CBEFF XML.
+ * <p>
+ * The BDBs, which are base64 text already, are stored as they are after an
+ * index of the format version, the entry count and, for each entry, the name
+ * length, the name and the value length, each number followed by a separator.
+ *
+ * @author Loganathan Sekar
+ */
+public final class CbeffBdbIndex {
+
+	/** The Constant VERSION. */
+	private static final String VERSION = "2";
+
+	/** The Constant SEPARATOR. */
+	private static final String SEPARATOR = "_";
+
+	/** The Constant INDEX_SEPARATOR. */
+	private static final char INDEX_SEPARATOR = '|';
+
+	/**
+	 * Instantiates a new CBEFF BDB index.
+	 */
+	private CbeffBdbIndex() {
+	}
+
+	/**
+	 * Gets the name of the identity attribute holding the BDBs of the type.
+	 *
+	 * @param type the type
+	 * @return the attribute name
+	 */
+	public static String getAttributeName(CbeffDocType type) {
+		return IdAuthCommonConstants.INDIVIDUAL_BIOMETRICS + SEPARATOR + type.getName();
+	}
+
+	/**
+	 * Encodes the BDBs by their CBEFF names.
+	 *
+	 * @param bdbs the BDBs
+	 * @return the encoded BDBs
+	 */
+	public static String encode(Map<String, String> bdbs) {
+		StringBuilder index = new StringBuilder().append(VERSION).append(INDEX_SEPARATOR).append(bdbs.size())
+				.append(INDEX_SEPARATOR);
+		int valuesLength = 0;
+		for (Entry<String, String> bdb : bdbs.entrySet()) {
+			index.append(bdb.getKey().length()).append(INDEX_SEPARATOR).append(bdb.getKey())
+					.append(bdb.getValue().length()).append(INDEX_SEPARATOR);
+			valuesLength += bdb.getValue().length();
+		}
+		StringBuilder encoded = new StringBuilder(index.length() + valuesLength).append(index);
+		for (String value : bdbs.values()) {
+			encoded.append(value);
+		}
+		return encoded.toString();
+	}
+
+	/**
+	 * Decodes the BDBs.
+	 *
+	 * @param encodedBdbs the encoded BDBs
+	 * @return the BDBs by their CBEFF names, in the encoded order
+	 * @throws IOException if the encoded BDBs are invalid
+	 */
+	public static Map<String, String> decode(String encodedBdbs) throws IOException {
+		IndexReader reader = new IndexReader(encodedBdbs);
+		String version = reader.readToken();
+		if (!VERSION.equals(version)) {
+			throw new IOException("Unsupported BDB index version: " + version);
+		}
+		int count = reader.readLength();
+		if (count > encodedBdbs.length()) {
+			throw new IOException("Invalid BDB index count: " + count);
+		}
+		String[] names = new String[count];
+		int[] lengths = new int[count];
+		for (int i = 0; i < count; i++) {
+			names[i] = reader.read(reader.readLength());
+			lengths[i] = reader.readLength();
+		}
+		Map<String, String> bdbs = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			bdbs.put(names[i], reader.read(lengths[i]));
+		}
+		if (!reader.isAtEnd()) {
+			throw new IOException("Invalid BDB index length");
+		}
+		return bdbs;
+	}
+
+	/**
+	 * The reader of the encoded BDBs.
+	 */
+	private static final class IndexReader {
+
+		/** The encoded BDBs. */
+		private final String encodedBdbs;
+
+		/** The position. */
+		private int position;
+
+		/**
+		 * Instantiates a new index reader.
+		 *
+		 * @param encodedBdbs the encoded BDBs
+		 */
+		private IndexReader(String encodedBdbs) {
+			this.encodedBdbs = encodedBdbs;
+		}
+
+		/**
+		 * Reads the text up to the next separator.
+		 *
+		 * @return the token
+		 * @throws IOException if there is no separator
+		 */
+		private String readToken() throws IOException {
+			int end = encodedBdbs.indexOf(INDEX_SEPARATOR, position);
+			if (end < 0) {
+				throw new IOException("Truncated BDB index");
+			}
+			String token = encodedBdbs.substring(position, end);
+			position = end + 1;
+			return token;
+		}
+
+		/**
+		 * Reads a length up to the next separator.
+		 *
+		 * @return the length
+		 * @throws IOException if the length is invalid
+		 */
+		private int readLength() throws IOException {
+			String token = readToken();
+			try {
+				int length = Integer.parseInt(token);
+				if (length < 0) {
+					throw new IOException("Invalid BDB index length: " + token);
+				}
+				return length;
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid BDB index length: " + token, e);
+			}
+		}
+
+		/**
+		 * Reads the text of the length.
+		 *
+		 * @param length the length
+		 * @return the text
+		 * @throws IOException if the encoded BDBs are truncated
+		 */
+		private String read(int length) throws IOException {
+			if (length > encodedBdbs.length() - position) {
+				throw new IOException("Truncated BDB index");
+			}
+			String text = encodedBdbs.substring(position, position + length);
+			position += length;
+			return text;
+		}
+
+		/**
+		 * Checks if all the encoded BDBs are read.
+		 *
+		 * @return true, if is at end
+		 */
+		private boolean isAtEnd() {
+			return position == encodedBdbs.length();
+		}
+	}
+
+}
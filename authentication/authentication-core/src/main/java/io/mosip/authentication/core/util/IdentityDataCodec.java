@@ -0,0 +1,307 @@
+package io.mosip.authentication.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The Class IdentityDataCodec - the binary record format of the identity data
+ * stored in the identity cache table, replacing the JSON map of the attributes.
+ * <p>
+ * The record starts with a marker byte, that cannot start a JSON document, and
+ * the format version, followed by the attribute count, the index of the
+ * attribute names, value types and value lengths, and the values. The index is
+ * read without decoding the values, so that the readers decode only the
+ * attributes they need. The values holding a JSON array or object are flagged
+ * in the index, so that the readers need not inspect the values to parse them.
+ * The base64 values of the binary attributes, such as the biometrics, are
+ * stored as raw bytes and encoded again, in the same base64 variant, when read.
+ *
+ * @author Loganathan Sekar
+ */
+public final class IdentityDataCodec {
+
+	/** The Constant MARKER. */
+	private static final byte MARKER = 0;
+
+	/** The Constant VERSION. */
+	private static final byte VERSION = 1;
+
+	/** The Constant HEADER_LENGTH. */
+	private static final int HEADER_LENGTH = 2;
+
+	/** The Constant TYPE_STRING. */
+	private static final byte TYPE_STRING = 0;
+
+	/** The Constant TYPE_JSON. */
+	private static final byte TYPE_JSON = 1;
+
+	/** The Constant TYPE_NULL. */
+	private static final byte TYPE_NULL = 2;
+
+	/** The Constant TYPE_BASE64, the first of the base64 variant types. */
+	private static final byte TYPE_BASE64 = 3;
+
+	/** The base64 encoders by the variant, in the order of the types. */
+	private static final Base64.Encoder[] BASE64_ENCODERS = { Base64.getEncoder(),
+			Base64.getEncoder().withoutPadding(), Base64.getUrlEncoder(), Base64.getUrlEncoder().withoutPadding() };
+
+	/**
+	 * Instantiates a new identity data codec.
+	 */
+	private IdentityDataCodec() {
+	}
+
+	/**
+	 * Checks if the data is in the binary record format, rather than JSON.
+	 *
+	 * @param data the data
+	 * @return true, if is encoded
+	 */
+	public static boolean isEncoded(byte[] data) {
+		return data != null && data.length >= HEADER_LENGTH && data[0] == MARKER;
+	}
+
+	/**
+	 * Encodes the attributes.
+	 *
+	 * @param attributes the attributes by name
+	 * @return the encoded attributes
+	 */
+	public static byte[] encode(Map<String, String> attributes) {
+		return encode(attributes, name -> false);
+	}
+
+	/**
+	 * Encodes the attributes, storing the base64 values of the binary attributes
+	 * as raw bytes.
+	 *
+	 * @param attributes       the attributes by name
+	 * @param binaryAttributes the filter of the binary attribute names
+	 * @return the encoded attributes
+	 */
+	public static byte[] encode(Map<String, String> attributes, Predicate<String> binaryAttributes) {
+		List<byte[]> values = new ArrayList<>(attributes.size());
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(MARKER);
+			out.writeByte(VERSION);
+			out.writeInt(attributes.size());
+			for (Entry<String, String> attribute : attributes.entrySet()) {
+				String value = attribute.getValue();
+				byte[] valueBytes = value != null && binaryAttributes.test(attribute.getKey())
+						? decodeBase64(value)
+						: null;
+				byte type = valueBytes != null ? getBase64Type(value) : getType(value);
+				if (valueBytes == null) {
+					valueBytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+				}
+				out.writeUTF(attribute.getKey());
+				out.writeByte(type);
+				out.writeInt(valueBytes.length);
+				values.add(valueBytes);
+			}
+			for (byte[] value : values) {
+				out.write(value);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Gets the value type.
+	 *
+	 * @param value the value
+	 * @return the type
+	 */
+	private static byte getType(String value) {
+		if (value == null) {
+			return TYPE_NULL;
+		}
+		String trimmed = value.trim();
+		return trimmed.startsWith("[") || trimmed.startsWith("{") ? TYPE_JSON : TYPE_STRING;
+	}
+
+	/**
+	 * Gets the base64 variant type of the value.
+	 *
+	 * @param value the value
+	 * @return the type
+	 */
+	private static byte getBase64Type(String value) {
+		boolean url = value.indexOf('-') >= 0 || value.indexOf('_') >= 0;
+		boolean padded = value.endsWith("=");
+		return (byte) (TYPE_BASE64 + (url ? 2 : 0) + (padded ? 0 : 1));
+	}
+
+	/**
+	 * Decodes the base64 value, if it is encoded again to the same value in its
+	 * base64 variant.
+	 *
+	 * @param value the value
+	 * @return the decoded bytes, or null if not a base64 value
+	 */
+	private static byte[] decodeBase64(String value) {
+		byte type = getBase64Type(value);
+		boolean url = type >= TYPE_BASE64 + 2;
+		byte[] bytes;
+		try {
+			bytes = (url ? Base64.getUrlDecoder() : Base64.getDecoder()).decode(value);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		return BASE64_ENCODERS[type - TYPE_BASE64].encodeToString(bytes).equals(value) ? bytes : null;
+	}
+
+	/**
+	 * Reads the index of the encoded attributes, without decoding the values.
+	 *
+	 * @param data the encoded attributes
+	 * @return the record
+	 * @throws IOException if the data is not a valid record
+	 */
+	public static Record read(byte[] data) throws IOException {
+		if (!isEncoded(data)) {
+			throw new IOException("Not an identity data record");
+		}
+		if (data[1] != VERSION) {
+			throw new IOException("Unsupported identity data record version: " + data[1]);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, HEADER_LENGTH,
+				data.length - HEADER_LENGTH))) {
+			int count = in.readInt();
+			if (count < 0 || count > data.length) {
+				throw new IOException("Invalid identity data attribute count: " + count);
+			}
+			Map<String, int[]> index = new LinkedHashMap<>(count * 2);
+			List<int[]> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				int type = in.readByte();
+				if (type < TYPE_STRING || type >= TYPE_BASE64 + BASE64_ENCODERS.length) {
+					throw new IOException("Invalid identity data value type: " + type);
+				}
+				int length = in.readInt();
+				if (length < 0) {
+					throw new IOException("Invalid identity data value length: " + length);
+				}
+				int[] entry = { type, 0, length };
+				index.put(name, entry);
+				entries.add(entry);
+			}
+			long offset = data.length - (long) in.available();
+			for (int[] entry : entries) {
+				entry[1] = (int) offset;
+				offset += entry[2];
+			}
+			if (offset > data.length) {
+				throw new IOException("Truncated identity data record");
+			}
+			return new Record(data, index);
+		}
+	}
+
+	/**
+	 * The Class Record - the encoded attributes with their index.
+	 */
+	public static final class Record {
+
+		/** The data. */
+		private final byte[] data;
+
+		/** The type, offset and length of the values by attribute name. */
+		private final Map<String, int[]> index;
+
+		/**
+		 * Instantiates a new record.
+		 *
+		 * @param data  the data
+		 * @param index the index
+		 */
+		private Record(byte[] data, Map<String, int[]> index) {
+			this.data = data;
+			this.index = index;
+		}
+
+		/**
+		 * Gets the attribute names.
+		 *
+		 * @return the names, in the encoded order
+		 */
+		public Set<String> getNames() {
+			return Collections.unmodifiableSet(index.keySet());
+		}
+
+		/**
+		 * Checks if the attribute is present.
+		 *
+		 * @param name the name
+		 * @return true, if present
+		 */
+		public boolean contains(String name) {
+			return index.containsKey(name);
+		}
+
+		/**
+		 * Checks if the attribute value is a JSON array or object.
+		 *
+		 * @param name the name
+		 * @return true, if is JSON
+		 */
+		public boolean isJson(String name) {
+			int[] entry = index.get(name);
+			return entry != null && entry[0] == TYPE_JSON;
+		}
+
+		/**
+		 * Decodes the attribute value.
+		 *
+		 * @param name the name
+		 * @return the value, or null if not present
+		 */
+		public String getValue(String name) {
+			int[] entry = index.get(name);
+			if (entry == null || entry[0] == TYPE_NULL) {
+				return null;
+			}
+			if (entry[0] >= TYPE_BASE64) {
+				return BASE64_ENCODERS[entry[0] - TYPE_BASE64]
+						.encodeToString(Arrays.copyOfRange(data, entry[1], entry[1] + entry[2]));
+			}
+			return new String(data, entry[1], entry[2], StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Decodes the values of the attributes accepted by the filter.
+		 *
+		 * @param filter the filter of the attribute names
+		 * @return the values by name, in the encoded order
+		 */
+		public Map<String, String> getValues(Predicate<String> filter) {
+			Map<String, String> values = new LinkedHashMap<>();
+			for (String name : index.keySet()) {
+				if (filter.test(name)) {
+					values.put(name, getValue(name));
+				}
+			}
+			return values;
+		}
+	}
+
+}
@@ -0,0 +1,174 @@
+package io.mosip.authentication.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The Class IdentityDataCompression - the compression of the identity data
+ * stored in the identity cache table.
+ * <p>
+ * The compressed data starts with a marker byte, that cannot start a JSON
+ * document or an identity data record, the codec and the uncompressed length,
+ * followed by the compressed data, so that the codec is recorded with each row.
+ * The data that is not compressed is read as is, so that the rows written
+ * before the compression, or with the compression disabled, remain readable.
+ *
+ * @author Loganathan Sekar
+ */
+public final class IdentityDataCompression {
+
+	/** The Constant MARKER. */
+	private static final byte MARKER = 1;
+
+	/** The Constant HEADER_LENGTH. */
+	private static final int HEADER_LENGTH = 6;
+
+	/**
+	 * The compression codecs.
+	 */
+	public enum Codec {
+
+		/** No compression. */
+		NONE(0),
+
+		/** The deflate compression. */
+		DEFLATE(1);
+
+		/** The id recorded in the compressed data. */
+		private final byte id;
+
+		/**
+		 * Instantiates a new codec.
+		 *
+		 * @param id the id
+		 */
+		private Codec(int id) {
+			this.id = (byte) id;
+		}
+	}
+
+	/**
+	 * Instantiates a new identity data compression.
+	 */
+	private IdentityDataCompression() {
+	}
+
+	/**
+	 * Compresses the data with the codec. The data is returned as is if the
+	 * codec is NONE or if the compressed data is not smaller.
+	 *
+	 * @param data  the data
+	 * @param codec the codec
+	 * @param level the compression level
+	 * @return the compressed data
+	 */
+	public static byte[] compress(byte[] data, Codec codec, int level) {
+		if (codec == Codec.NONE || data.length == 0) {
+			return data;
+		}
+		Deflater deflater = new Deflater(level);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + data.length / 2);
+			out.write(MARKER);
+			out.write(codec.id);
+			out.write(ByteBuffer.allocate(Integer.BYTES).putInt(data.length).array(), 0, Integer.BYTES);
+			byte[] buffer = new byte[Math.min(data.length, 64 * 1024)];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+				if (out.size() >= data.length) {
+					return data;
+				}
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Checks if the data is compressed.
+	 *
+	 * @param data the data
+	 * @return true, if is compressed
+	 */
+	public static boolean isCompressed(byte[] data) {
+		return data != null && data.length >= HEADER_LENGTH && data[0] == MARKER;
+	}
+
+	/**
+	 * Gets the codec the data is compressed with.
+	 *
+	 * @param data the data
+	 * @return the codec, NONE if not compressed
+	 * @throws IOException if the codec is not supported
+	 */
+	public static Codec getCodec(byte[] data) throws IOException {
+		if (!isCompressed(data)) {
+			return Codec.NONE;
+		}
+		for (Codec codec : Codec.values()) {
+			if (codec.id == data[1]) {
+				return codec;
+			}
+		}
+		throw new IOException("Unsupported identity data compression: " + data[1]);
+	}
+
+	/**
+	 * Gets the uncompressed length of the data, without decompressing it.
+	 *
+	 * @param data the data
+	 * @return the uncompressed length
+	 */
+	public static int getUncompressedLength(byte[] data) {
+		return isCompressed(data) ? ByteBuffer.wrap(data, 2, Integer.BYTES).getInt() : data.length;
+	}
+
+	/**
+	 * Decompresses the data. The data is returned as is if not compressed.
+	 *
+	 * @param data the data
+	 * @return the decompressed data
+	 * @throws IOException if the compressed data is invalid
+	 */
+	public static byte[] decompress(byte[] data) throws IOException {
+		if (getCodec(data) == Codec.NONE) {
+			return data;
+		}
+		int length = getUncompressedLength(data);
+		if (length < 0) {
+			throw new IOException("Invalid identity data length: " + length);
+		}
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+			byte[] decompressed = new byte[length];
+			int read = 0;
+			while (read < length && !inflater.finished()) {
+				int count = inflater.inflate(decompressed, read, length - read);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				read += count;
+			}
+			if (read == length && !inflater.finished() && inflater.inflate(new byte[1]) > 0) {
+				throw new IOException("Invalid identity data length: " + length);
+			}
+			if (read != length || !inflater.finished()) {
+				throw new IOException("Truncated compressed identity data");
+			}
+			return decompressed;
+		} catch (DataFormatException e) {
+			throw new IOException(e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,182 @@
+package io.mosip.authentication.core.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The Class SlidingWindowCounter - counts the events of each key in a sliding
+ * time window, without locking.
+ * <p>
+ * The window of a key is split into time buckets, kept in a ring. Each slot of
+ * the ring holds the bucket number and the count of the bucket packed in a
+ * long, so that a slot is moved to a new bucket and counted with a single
+ * compare and set. The count of the window is the sum of the slots of the
+ * buckets in the window, so the window slides by one bucket at a time. The
+ * keys without events in the window are evicted, at most once per window
+ * length, by the thread counting an event.
+ *
+ * @author Loganathan Sekar
+ */
+public final class SlidingWindowCounter {
+
+	/** The Constant COUNT_BITS. */
+	private static final int COUNT_BITS = 20;
+
+	/** The Constant COUNT_MASK. */
+	private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+	/** The bucket length in millis. */
+	private final long bucketMillis;
+
+	/** The number of buckets in the window. */
+	private final int buckets;
+
+	/** The windows by key. */
+	private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+	/** The time of the last eviction of the idle keys. */
+	private final AtomicLong lastEvictionMillis = new AtomicLong();
+
+	/**
+	 * Instantiates a new sliding window counter.
+	 *
+	 * @param windowMillis the window length in millis
+	 * @param buckets      the number of buckets the window is split into
+	 */
+	public SlidingWindowCounter(long windowMillis, int buckets) {
+		if (windowMillis < 1 || buckets < 1) {
+			throw new IllegalArgumentException("Invalid window: " + windowMillis + " ms, " + buckets + " buckets");
+		}
+		this.buckets = buckets;
+		this.bucketMillis = Math.max(1, windowMillis / buckets);
+	}
+
+	/**
+	 * Counts an event of the key.
+	 *
+	 * @param key         the key
+	 * @param nowMillis the current time in millis
+	 * @return the number of events of the key in the window, including this one
+	 */
+	public int increment(String key, long nowMillis) {
+		long bucket = nowMillis / bucketMillis;
+		evictIdleKeys(bucket, nowMillis);
+		Window window = windows.computeIfAbsent(key, k -> new Window(buckets));
+		window.increment(bucket);
+		int count = window.count(bucket);
+		if (window.lastBucket < bucket) {
+			window.lastBucket = bucket;
+		}
+		// The window evicted by another thread since it was read is put back
+		if (windows.get(key) != window) {
+			windows.merge(key, window, (current, evicted) -> {
+				current.increment(bucket);
+				return current;
+			});
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the number of events of the key in the window.
+	 *
+	 * @param key         the key
+	 * @param nowMillis the current time in millis
+	 * @return the count
+	 */
+	public int count(String key, long nowMillis) {
+		Window window = windows.get(key);
+		return window == null ? 0 : window.count(nowMillis / bucketMillis);
+	}
+
+	/**
+	 * Gets the number of keys counted.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return windows.size();
+	}
+
+	/**
+	 * Evicts the keys without events in the window, if not done in the last
+	 * window length.
+	 *
+	 * @param bucket    the current bucket
+	 * @param nowMillis the current time in millis
+	 */
+	private void evictIdleKeys(long bucket, long nowMillis) {
+		long lastEviction = lastEvictionMillis.get();
+		if (nowMillis - lastEviction >= bucketMillis * buckets
+				&& lastEvictionMillis.compareAndSet(lastEviction, nowMillis)) {
+			windows.values().removeIf(window -> window.lastBucket <= bucket - buckets);
+		}
+	}
+
+	/**
+	 * The ring of the buckets of a key.
+	 */
+	private static final class Window {
+
+		/** The slots, each holding a bucket number and its count. */
+		private final AtomicLongArray slots;
+
+		/** The last bucket counted. */
+		private volatile long lastBucket;
+
+		/**
+		 * Instantiates a new window.
+		 *
+		 * @param buckets the number of buckets
+		 */
+		private Window(int buckets) {
+			this.slots = new AtomicLongArray(buckets);
+		}
+
+		/**
+		 * Counts an event in the bucket.
+		 *
+		 * @param bucket the bucket
+		 */
+		private void increment(long bucket) {
+			int index = (int) (bucket % slots.length());
+			while (true) {
+				long slot = slots.get(index);
+				long next;
+				if (slot >>> COUNT_BITS == bucket) {
+					next = (slot & COUNT_MASK) == COUNT_MASK ? slot : slot + 1;
+				} else if (slot >>> COUNT_BITS < bucket) {
+					next = (bucket << COUNT_BITS) | 1;
+				} else {
+					// The slot is already moved to a later bucket
+					return;
+				}
+				if (slots.compareAndSet(index, slot, next)) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Gets the number of events in the buckets of the window ending with the
+		 * bucket.
+		 *
+		 * @param bucket the bucket
+		 * @return the count
+		 */
+		private int count(long bucket) {
+			int count = 0;
+			for (int i = 0; i < slots.length(); i++) {
+				long slot = slots.get(i);
+				long slotBucket = slot >>> COUNT_BITS;
+				if (slotBucket > bucket - slots.length() && slotBucket <= bucket) {
+					count += (int) (slot & COUNT_MASK);
+				}
+			}
+			return count;
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package io.mosip.authentication.core.partner.policy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.dto.KYCAttributes;
+import io.mosip.authentication.core.partner.dto.Policies;
+import io.mosip.authentication.core.partner.dto.PolicyDTO;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.MandatoryAuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.PolicyAuthType;
+
+public class PolicyEvaluatorTest {
+
+	@Test
+	public void testCompile() {
+		PolicyEvaluator policyEvaluator = PolicyEvaluator.compile(getPolicy());
+		assertTrue(policyEvaluator.isAllowed(PolicyAuthType.OTP));
+		assertTrue(policyEvaluator.isAllowed(PolicyAuthType.BIO));
+		assertTrue(policyEvaluator.isAllowed("Demo"));
+		assertTrue(policyEvaluator.isAllowed("static-pin"));
+		assertFalse(policyEvaluator.isAllowed(PolicyAuthType.PIN));
+		assertFalse(policyEvaluator.isAllowed(PolicyAuthType.KYC));
+		assertTrue(policyEvaluator.isBioSubTypeAllowed("FINGER"));
+		assertTrue(policyEvaluator.isBioSubTypeAllowed("face"));
+		assertFalse(policyEvaluator.isBioSubTypeAllowed("IRIS"));
+		assertTrue(policyEvaluator.hasMandatoryAuthTypes());
+		assertEquals(1, policyEvaluator.getMandatoryAuthPolicies().size());
+		assertEquals(PolicyAuthType.BIO, policyEvaluator.getMandatoryAuthPolicies().get(0).getAuthType());
+		assertEquals("FACE", policyEvaluator.getMandatoryAuthPolicies().get(0).getAuthSubType());
+		assertEquals(Arrays.asList("fullName", "gender"), policyEvaluator.getAllowedKycAttributes());
+	}
+
+	@Test
+	public void testMandatoryAuthPoliciesInPolicyOrder() {
+		PolicyDTO policy = getPolicy();
+		policy.getPolicies().setAuthPolicies(Arrays.asList(authPolicy("pin", null, true),
+				authPolicy("bio", "IRIS", true), authPolicy("otp", null, true), authPolicy("demo", null, false)));
+		List<MandatoryAuthPolicy> mandatoryAuthPolicies = PolicyEvaluator.compile(policy).getMandatoryAuthPolicies();
+		assertEquals(Arrays.asList(PolicyAuthType.PIN, PolicyAuthType.BIO, PolicyAuthType.OTP),
+				mandatoryAuthPolicies.stream().map(MandatoryAuthPolicy::getAuthType).collect(Collectors.toList()));
+		assertEquals("IRIS", mandatoryAuthPolicies.get(1).getAuthSubType());
+	}
+
+	@Test
+	public void testCompileWithoutPolicies() {
+		PolicyEvaluator policyEvaluator = PolicyEvaluator.compile(new PolicyDTO());
+		assertFalse(policyEvaluator.isAllowed(PolicyAuthType.OTP));
+		assertFalse(policyEvaluator.isAllowed("otp"));
+		assertFalse(policyEvaluator.hasMandatoryAuthTypes());
+		assertTrue(policyEvaluator.getAllowedKycAttributes().isEmpty());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAllowedKycAttributesAreImmutable() {
+		PolicyEvaluator.compile(getPolicy()).getAllowedKycAttributes().add("phone");
+	}
+
+	private static PolicyDTO getPolicy() {
+		Policies policies = new Policies();
+		policies.setAuthPolicies(Arrays.asList(authPolicy("otp", null, false), authPolicy("DEMO", null, false),
+				authPolicy("bio", "FINGER", false), authPolicy("bio", "FACE", true),
+				authPolicy("static-pin", null, false)));
+		policies.setAllowedKycAttributes(Arrays.asList(kycAttribute("fullName"), kycAttribute("gender")));
+		PolicyDTO policy = new PolicyDTO();
+		policy.setPolicies(policies);
+		return policy;
+	}
+
+	private static AuthPolicy authPolicy(String authType, String authSubType, boolean mandatory) {
+		AuthPolicy authPolicy = new AuthPolicy();
+		authPolicy.setAuthType(authType);
+		authPolicy.setAuthSubType(authSubType);
+		authPolicy.setMandatory(mandatory);
+		return authPolicy;
+	}
+
+	private static KYCAttributes kycAttribute(String attributeName) {
+		KYCAttributes kycAttribute = new KYCAttributes();
+		kycAttribute.setAttributeName(attributeName);
+		return kycAttribute;
+	}
+
+}
@@ -0,0 +1,128 @@
+package io.mosip.authentication.core.spi.indauth.match;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.indauth.dto.RequestDTO;
+import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
+import io.mosip.authentication.core.spi.indauth.match.MatchContext.Kind;
+
+public class MatchContextTest {
+
+	private static final MatchType NAME = new TestMatchType();
+
+	private static final MatchType PHONE = new TestMatchType();
+
+	@Test
+	public void testOfAttachesContextToRequest() {
+		AuthRequestDTO authRequestDTO = new AuthRequestDTO();
+		MatchContext matchContext = MatchContext.of(authRequestDTO);
+		assertSame(matchContext, authRequestDTO.getMatchContext());
+		assertSame(matchContext, MatchContext.of(authRequestDTO));
+	}
+
+	@Test
+	public void testRequestInfoMemoizedByMatchTypeAndLanguage() throws IdAuthenticationBusinessException {
+		MatchContext matchContext = new MatchContext();
+		AtomicInteger loads = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			matchContext.getRequestInfo(NAME, "eng", () -> Map.of("name", "eng" + loads.incrementAndGet()));
+			matchContext.getRequestInfo(NAME, "ara", () -> Map.of("name", "ara" + loads.incrementAndGet()));
+			matchContext.getRequestInfo(PHONE, null, () -> Map.of("phone", "" + loads.incrementAndGet()));
+		}
+		assertEquals(Map.of("name", "eng1"), matchContext.getRequestInfo(NAME, "eng", () -> null));
+		assertEquals(3, loads.get());
+		assertEquals(10, matchContext.getLookupCount(Kind.REQUEST_INFO));
+		assertEquals(3, matchContext.getLoadCount(Kind.REQUEST_INFO));
+		assertEquals(7, matchContext.getSavedCount());
+	}
+
+	@Test
+	public void testNullValueMemoized() throws IdAuthenticationBusinessException {
+		MatchContext matchContext = new MatchContext();
+		AtomicInteger loads = new AtomicInteger();
+		SupplierWithException<List<String>, IdAuthenticationBusinessException> loader = () -> {
+			loads.incrementAndGet();
+			return null;
+		};
+		assertNull(matchContext.getIdMappingValue(null, NAME, loader));
+		assertNull(matchContext.getIdMappingValue(null, NAME, loader));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testIdentityBasedValuesDiscardedForOtherIdentity() throws IdAuthenticationBusinessException {
+		MatchContext matchContext = new MatchContext();
+		Map<String, List<IdentityInfoDTO>> identity = new HashMap<>();
+		Map<String, List<IdentityInfoDTO>> otherIdentity = new HashMap<>();
+		Map<String, String> bdbs = Map.of("FACE", "face");
+		Map<String, String> otherBdbs = Map.of("FACE", "other face");
+
+		assertSame(bdbs, matchContext.getBdbs(CbeffDocType.FACE, identity, () -> bdbs));
+		assertSame(bdbs, matchContext.getBdbs(CbeffDocType.FACE, identity, () -> otherBdbs));
+		matchContext.getRequestInfo(NAME, null, Collections::emptyMap);
+		assertSame(otherBdbs, matchContext.getBdbs(CbeffDocType.FACE, otherIdentity, () -> otherBdbs));
+		matchContext.getRequestInfo(NAME, null, Collections::emptyMap);
+		assertEquals(2, matchContext.getLoadCount(Kind.BDB));
+		assertEquals(1, matchContext.getLoadCount(Kind.REQUEST_INFO));
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testLoadFailureNotMemoized() throws IdAuthenticationBusinessException {
+		MatchContext matchContext = new MatchContext();
+		try {
+			matchContext.getEntityInfo(NAME, null, Collections.emptyMap(), () -> {
+				throw new IdAuthenticationBusinessException();
+			});
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(Collections.emptyMap(),
+					matchContext.getEntityInfo(NAME, null, Collections.emptyMap(), Collections::emptyMap));
+			matchContext.getEntityInfo(PHONE, null, Collections.emptyMap(), () -> {
+				throw new IdAuthenticationBusinessException();
+			});
+		}
+	}
+
+	private static class TestMatchType implements MatchType {
+
+		@Override
+		public IdMapping getIdMapping() {
+			return null;
+		}
+
+		@Override
+		public Optional<MatchingStrategy> getAllowedMatchingStrategy(MatchingStrategyType matchStrategyType) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Function<RequestDTO, Map<String, List<IdentityInfoDTO>>> getIdentityInfoFunction() {
+			return request -> Collections.emptyMap();
+		}
+
+		@Override
+		public Function<Map<String, String>, Map<String, String>> getEntityInfoMapper() {
+			return Function.identity();
+		}
+
+		@Override
+		public Category getCategory() {
+			return Category.DEMO;
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
+
+public class CbeffBdbIndexTest {
+
+	@Test
+	public void testEncodeDecode() throws IOException {
+		Map<String, String> bdbs = new LinkedHashMap<>();
+		bdbs.put("FINGER_Left Thumb", "bGVmdCB0aHVtYg");
+		bdbs.put("FINGER_Right|IndexFinger", "cmlnaHQgaW5kZXg");
+		bdbs.put("FINGER_UNKNOWN", "");
+		String encoded = CbeffBdbIndex.encode(bdbs);
+		assertEquals(bdbs, CbeffBdbIndex.decode(encoded));
+		assertTrue(encoded.endsWith("bGVmdCB0aHVtYgcmlnaHQgaW5kZXg"));
+	}
+
+	@Test
+	public void testEncodeDecodeEmpty() throws IOException {
+		assertTrue(CbeffBdbIndex.decode(CbeffBdbIndex.encode(Collections.emptyMap())).isEmpty());
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeUnsupportedVersion() throws IOException {
+		CbeffBdbIndex.decode("AQAAAAA=");
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeInvalidLength() throws IOException {
+		CbeffBdbIndex.decode("2|1|x|FACE4|ZmFj");
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeTruncated() throws IOException {
+		String encoded = CbeffBdbIndex.encode(Collections.singletonMap("FACE", "ZmFjZQ"));
+		CbeffBdbIndex.decode(encoded.substring(0, encoded.length() - 2));
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeTrailingData() throws IOException {
+		CbeffBdbIndex.decode(CbeffBdbIndex.encode(Collections.singletonMap("FACE", "ZmFjZQ")) + "x");
+	}
+
+	@Test
+	public void testGetAttributeName() {
+		assertEquals("individualBiometrics_FACE", CbeffBdbIndex.getAttributeName(CbeffDocType.FACE));
+	}
+
+}
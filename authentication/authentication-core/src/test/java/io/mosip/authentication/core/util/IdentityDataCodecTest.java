@@ -0,0 +1,95 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.util.IdentityDataCodec.Record;
+
+public class IdentityDataCodecTest {
+
+	@Test
+	public void testEncodeRead() throws IOException {
+		Map<String, String> attributes = new LinkedHashMap<>();
+		attributes.put("fullName", "[{\"language\":\"eng\",\"value\":\"Ibrahim\"}]");
+		attributes.put("dateOfBirth", "1990/01/01");
+		attributes.put("email", "");
+		attributes.put("phone", null);
+		attributes.put("address", " {\"line1\":\"\u00e0 la rue\"}");
+		Record record = IdentityDataCodec.read(IdentityDataCodec.encode(attributes));
+
+		assertEquals(attributes.keySet(), record.getNames());
+		assertEquals(attributes, record.getValues(name -> true));
+		assertTrue(record.isJson("fullName"));
+		assertTrue(record.isJson("address"));
+		assertFalse(record.isJson("dateOfBirth"));
+		assertFalse(record.isJson("phone"));
+		assertEquals("1990/01/01", record.getValue("dateOfBirth"));
+		assertNull(record.getValue("phone"));
+		assertTrue(record.contains("phone"));
+		assertNull(record.getValue("gender"));
+		assertFalse(record.contains("gender"));
+	}
+
+	@Test
+	public void testReadFiltered() throws IOException {
+		Map<String, String> attributes = new LinkedHashMap<>();
+		attributes.put("fullName", "Ibrahim");
+		attributes.put("email", "ibrahim@mosip.io");
+		attributes.put("phone", "9876543210");
+		Set<String> filter = Set.of("email", "phone", "gender");
+		Map<String, String> values = IdentityDataCodec.read(IdentityDataCodec.encode(attributes))
+				.getValues(filter::contains);
+		assertEquals(Map.of("email", "ibrahim@mosip.io", "phone", "9876543210"), values);
+	}
+
+	@Test
+	public void testEncodeBinaryAttributes() throws IOException {
+		byte[] bytes = new byte[300];
+		new Random(1).nextBytes(bytes);
+		Map<String, String> attributes = new LinkedHashMap<>();
+		attributes.put("base64", Base64.getEncoder().encodeToString(bytes));
+		attributes.put("base64NoPadding", Base64.getEncoder().withoutPadding().encodeToString(bytes));
+		attributes.put("base64Url", Base64.getUrlEncoder().encodeToString(bytes));
+		attributes.put("base64UrlNoPadding", Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+		attributes.put("text", "not base64!");
+		attributes.put("name", "Ibrahim");
+		byte[] encoded = IdentityDataCodec.encode(attributes, name -> !name.equals("name"));
+		Record record = IdentityDataCodec.read(encoded);
+
+		assertEquals(attributes, record.getValues(name -> true));
+		assertTrue(encoded.length < IdentityDataCodec.encode(attributes).length - 4 * 90);
+	}
+
+	@Test
+	public void testIsEncoded() {
+		assertTrue(IdentityDataCodec.isEncoded(IdentityDataCodec.encode(Map.of())));
+		assertFalse(IdentityDataCodec.isEncoded("{\"fullName\":\"Ibrahim\"}".getBytes(StandardCharsets.UTF_8)));
+		assertFalse(IdentityDataCodec.isEncoded(new byte[0]));
+		assertFalse(IdentityDataCodec.isEncoded(null));
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadJson() throws IOException {
+		IdentityDataCodec.read("{}".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadTruncated() throws IOException {
+		byte[] encoded = IdentityDataCodec.encode(Map.of("fullName", "Ibrahim"));
+		IdentityDataCodec.read(Arrays.copyOf(encoded, encoded.length - 1));
+	}
+
+}
@@ -0,0 +1,64 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.util.IdentityDataCompression.Codec;
+
+public class IdentityDataCompressionTest {
+
+	private static final byte[] XML = "<BIR><BDBInfo><Type>Finger</Type></BDBInfo></BIR>".repeat(100)
+			.getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void testCompressDecompress() throws IOException {
+		byte[] compressed = IdentityDataCompression.compress(XML, Codec.DEFLATE, Deflater.DEFAULT_COMPRESSION);
+		assertTrue(IdentityDataCompression.isCompressed(compressed));
+		assertEquals(Codec.DEFLATE, IdentityDataCompression.getCodec(compressed));
+		assertEquals(XML.length, IdentityDataCompression.getUncompressedLength(compressed));
+		assertTrue(compressed.length < XML.length / 10);
+		assertArrayEquals(XML, IdentityDataCompression.decompress(compressed));
+	}
+
+	@Test
+	public void testNotCompressed() throws IOException {
+		assertSame(XML, IdentityDataCompression.compress(XML, Codec.NONE, Deflater.DEFAULT_COMPRESSION));
+		byte[] random = new byte[1000];
+		new Random(1).nextBytes(random);
+		assertSame(random, IdentityDataCompression.compress(random, Codec.DEFLATE, Deflater.BEST_SPEED));
+
+		byte[] json = "{\"fullName\":\"Ibrahim\"}".getBytes(StandardCharsets.UTF_8);
+		assertFalse(IdentityDataCompression.isCompressed(json));
+		assertEquals(Codec.NONE, IdentityDataCompression.getCodec(json));
+		assertEquals(json.length, IdentityDataCompression.getUncompressedLength(json));
+		assertSame(json, IdentityDataCompression.decompress(json));
+		byte[] record = IdentityDataCodec.encode(Map.of("fullName", "Ibrahim"));
+		assertSame(record, IdentityDataCompression.decompress(record));
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressTruncated() throws IOException {
+		byte[] compressed = IdentityDataCompression.compress(XML, Codec.DEFLATE, Deflater.DEFAULT_COMPRESSION);
+		IdentityDataCompression.decompress(Arrays.copyOf(compressed, compressed.length - 4));
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressUnsupportedCodec() throws IOException {
+		byte[] compressed = IdentityDataCompression.compress(XML, Codec.DEFLATE, Deflater.DEFAULT_COMPRESSION);
+		compressed[1] = 9;
+		IdentityDataCompression.decompress(compressed);
+	}
+
+}
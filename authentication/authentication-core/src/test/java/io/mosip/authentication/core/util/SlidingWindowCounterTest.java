@@ -0,0 +1,62 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class SlidingWindowCounterTest {
+
+	@Test
+	public void testCountInWindow() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 6);
+		assertEquals(1, counter.increment("token", 0));
+		assertEquals(2, counter.increment("token", 15_000));
+		assertEquals(3, counter.increment("token", 59_999));
+		assertEquals(1, counter.increment("other", 59_999));
+		assertEquals(3, counter.count("token", 59_999));
+	}
+
+	@Test
+	public void testWindowSlides() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 6);
+		counter.increment("token", 0);
+		counter.increment("token", 30_000);
+		assertEquals(1, counter.count("token", 60_000));
+		assertEquals(2, counter.increment("token", 89_999));
+		assertEquals(1, counter.count("token", 90_000));
+		assertEquals(0, counter.count("token", 150_000));
+	}
+
+	@Test
+	public void testIdleKeysEvicted() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 6);
+		counter.increment("token", 60_000);
+		counter.increment("other", 90_000);
+		counter.increment("other", 125_000);
+		assertEquals(1, counter.size());
+		assertEquals(0, counter.count("token", 125_000));
+		assertEquals(2, counter.count("other", 125_000));
+	}
+
+	@Test
+	public void testConcurrentIncrements() throws InterruptedException {
+		SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 6);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 8000; i++) {
+			executor.execute(() -> counter.increment("token", 1_000));
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		assertEquals(8000, counter.count("token", 1_000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWindow() {
+		new SlidingWindowCounter(0, 6);
+	}
+
+}
@@ -1,5 +1,7 @@
 package io.mosip.authentication.core.util;
 
+import static org.junit.Assert.assertEquals;
+
 import org.apache.commons.codec.EncoderException;
 import org.junit.Test;
 
@@ -17,4 +19,12 @@ public class TextMatcherUtilTest {
 		TextMatcherUtil.phoneticsMatch("dinesh", "esh", "english");
 	}
 
+	@Test
+	public void TestEncodedTextMatcher() throws EncoderException {
+		assertEquals(TextMatcherUtil.phoneticsMatch("dinesh", "esh", "english"), TextMatcherUtil
+				.phoneticsMatchEncoded("dinesh", TextMatcherUtil.phoneticsEncode("esh", "english"), "english"));
+		assertEquals(TextMatcherUtil.phoneticsMatch("dinesh", "dinesh", "english"), TextMatcherUtil
+				.phoneticsMatchEncoded("dinesh", TextMatcherUtil.phoneticsEncode("dinesh", "english"), "english"));
+	}
+
 }
@@ -8,14 +8,24 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import io.mosip.authentication.common.service.builder.MatchInputBuilder;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.common.service.config.RequestBodyResolverConfig;
 import io.mosip.authentication.common.service.config.SwaggerConfig;
 import io.mosip.authentication.common.service.exception.IdAuthExceptionHandler;
 import io.mosip.authentication.common.service.facade.AuthFacadeImpl;
 import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.AuthTransactionWriter;
+import io.mosip.authentication.common.service.helper.BioDecipherExecutor;
+import io.mosip.authentication.common.service.helper.JwsSignatureVerifier;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.IdentityCache;
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
+import io.mosip.authentication.common.service.helper.LocalOtpGenerator;
+import io.mosip.authentication.common.service.helper.OtpFloodLimiter;
+import io.mosip.authentication.common.service.helper.UinSaltTable;
 import io.mosip.authentication.common.service.helper.RestHelperImpl;
+import io.mosip.authentication.common.service.impl.AuthTransactionPartitionJob;
 import io.mosip.authentication.common.service.impl.AuthTxnServiceImpl;
 import io.mosip.authentication.common.service.impl.AuthtypeStatusImpl;
 import io.mosip.authentication.common.service.impl.BioAuthServiceImpl;
@@ -26,7 +36,11 @@ import io.mosip.authentication.common.service.impl.OTPAuthServiceImpl;
 import io.mosip.authentication.common.service.impl.OTPServiceImpl;
 import io.mosip.authentication.common.service.impl.PinAuthServiceImpl;
 import io.mosip.authentication.common.service.impl.idevent.IdChangeEventHandlerServiceImpl;
+import io.mosip.authentication.common.service.impl.idevent.IdentityCacheReEncodingJob;
 import io.mosip.authentication.common.service.impl.match.DemoNormalizerImpl;
+import io.mosip.authentication.common.service.impl.match.DerivedDemoAttributes;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutboxWorker;
 import io.mosip.authentication.common.service.impl.notification.NotificationServiceImpl;
 import io.mosip.authentication.common.service.impl.patrner.PartnerServiceImpl;
 import io.mosip.authentication.common.service.integration.IdRepoManager;
@@ -68,20 +82,20 @@ import io.mosip.kernel.zkcryptoservice.service.impl.ZKCryptoManagerServiceImpl;
  * @author Dinesh Karuppiah
  */
 @SpringBootApplication(exclude = HibernateDaoConfig.class)
-@Import(value = { UinValidatorImpl.class, VidValidatorImpl.class, IDAMappingConfig.class, KeyManager.class,
-		RestHelperImpl.class, RestRequestFactory.class, IdInfoFetcherImpl.class, OTPManager.class,
+@Import(value = { UinValidatorImpl.class, VidValidatorImpl.class, IDAMappingConfig.class, RequestBodyResolverConfig.class, KeyManager.class,
+		RestHelperImpl.class, RestRequestFactory.class, IdInfoFetcherImpl.class, OTPManager.class, LocalOtpGenerator.class,
 		MasterDataManager.class, MatchInputBuilder.class, IdRepoManager.class, NotificationManager.class,
-		NotificationServiceImpl.class, IdTemplateManager.class, TemplateManagerBuilderImpl.class,
+		NotificationServiceImpl.class, NotificationOutbox.class, NotificationOutboxWorker.class, IdTemplateManager.class, TemplateManagerBuilderImpl.class,
 		IdAuthExceptionHandler.class, AuthFacadeImpl.class, OTPAuthServiceImpl.class, IdInfoHelper.class,
-		CbeffImpl.class, IdServiceImpl.class, AuditRequestFactory.class, DemoAuthServiceImpl.class,
+		CbeffImpl.class, IdServiceImpl.class, IdentityCache.class, IdentityCacheDataEncoder.class, UinSaltTable.class, AuthTransactionWriter.class, AuditRequestFactory.class, DemoAuthServiceImpl.class,
 		BioAuthServiceImpl.class, TokenIdManager.class, SwaggerConfig.class, AuditHelper.class,
-		PinAuthServiceImpl.class, PinValidatorImpl.class, BioMatcherUtil.class, BioAPIFactory.class, 
+		PinAuthServiceImpl.class, PinValidatorImpl.class, BioMatcherUtil.class, BioDecipherExecutor.class, JwsSignatureVerifier.class, BioAPIFactory.class, 
 		BioProviderImpl_V_0_8.class, BioProviderImpl_V_0_9.class,
-		DemoNormalizerImpl.class, OTPServiceImpl.class, OTPRequestValidator.class,
+		DemoNormalizerImpl.class, DerivedDemoAttributes.class, OTPServiceImpl.class, OtpFloodLimiter.class, OTPRequestValidator.class,
 		InternalAuthSecurityManager.class, AuthTxnServiceImpl.class,
 		AuthtypeStatusImpl.class, CryptoCore.class, PartnerServiceImpl.class, CryptomanagerServiceImpl.class,
 		KeyGenerator.class, CryptomanagerUtils.class, KeymanagerServiceImpl.class, KeymanagerUtil.class,
-		IdChangeEventHandlerServiceImpl.class,SignatureServiceImpl.class, 
+		IdChangeEventHandlerServiceImpl.class, IdentityCacheReEncodingJob.class, AuthTransactionPartitionJob.class,SignatureServiceImpl.class, 
 		KeyStoreImpl.class, KeymanagerDBHelper.class, ZKCryptoManagerServiceImpl.class, 
 		PartnerServiceManager.class, DataShareManager.class, TokenIDGenerator.class})
 @ComponentScan({ "io.mosip.authentication.internal.service.*", "io.mosip.kernel.auth.defaultadapter.*",
@@ -1,11 +1,16 @@
 package io.mosip.authentication.internal.service.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
@@ -21,8 +26,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnDto;
+import io.mosip.authentication.core.autntxn.dto.AutnTxnPageDto;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnRequestDto;
 import io.mosip.authentication.core.autntxn.dto.AutnTxnResponseDto;
 import io.mosip.authentication.core.constant.AuditEvents;
@@ -65,6 +73,9 @@ public class InternalAuthTxnController {
 	@Autowired
 	private AuditHelper auditHelper;
 
+	@Autowired
+	private ObjectMapper mapper;
+
 	@InitBinder
 	public void initBinder(WebDataBinder binder) {
 		binder.setValidator(authTxnValidator);
@@ -80,6 +91,8 @@ public class InternalAuthTxnController {
 	 * @param errors        associate error
 	 * @param partnerId     the partner id
 	 * @param mispLK        the misp LK
+	 * @param cursor        the cursor of the page to fetch with the keyset
+	 *                      pagination, empty for the first page
 	 * @return otpResponseDTO
 	 * @throws IdAuthenticationAppException the id authentication app exception
 	 * @throws IDDataValidationException    the ID data validation exception
@@ -92,7 +105,8 @@ public class InternalAuthTxnController {
 	public ResponseEntity<AutnTxnResponseDto> getAuthTxnDetails(@PathVariable("IDType") String individualIdType,
 			@PathVariable("ID") String individualId,
 			@RequestParam(name = "pageStart", required = false) Integer pageStart,
-			@RequestParam(name = "pageFetch", required = false) Integer pageFetch)
+			@RequestParam(name = "pageFetch", required = false) Integer pageFetch,
+			@RequestParam(name = "cursor", required = false) String cursor)
 			throws IdAuthenticationAppException, IDDataValidationException {
 		AutnTxnResponseDto autnTxnResponseDto = new AutnTxnResponseDto();
 		AutnTxnRequestDto authtxnrequestdto = new AutnTxnRequestDto();
@@ -100,15 +114,24 @@ public class InternalAuthTxnController {
 		authtxnrequestdto.setIndividualIdType(individualIdType);
 		authtxnrequestdto.setPageStart(pageStart);
 		authtxnrequestdto.setPageFetch(pageFetch);
+		authtxnrequestdto.setCursor(cursor);
 		
 		try {
 			
 			Errors errors = new BindException(authtxnrequestdto, "authtxnrequestdto");
 			authTxnValidator.validate(authtxnrequestdto, errors);
 			DataValidationUtil.validate(errors);
-			List<AutnTxnDto> authTxnList = authTxnService.fetchAuthTxnDetails(authtxnrequestdto);
 			Map<String, List<AutnTxnDto>> authTxnMap = new HashMap<>();
-			authTxnMap.put("authTransactions", authTxnList);
+			if (cursor == null) {
+				List<AutnTxnDto> authTxnList = authTxnService.fetchAuthTxnDetails(authtxnrequestdto);
+				authTxnMap.put(IdAuthCommonConstants.AUTH_TRANSACTIONS, authTxnList);
+			} else {
+				AutnTxnPageDto authTxnPage = authTxnService.fetchAuthTxnPage(authtxnrequestdto);
+				authTxnMap.put(IdAuthCommonConstants.AUTH_TRANSACTIONS, authTxnPage.getAuthTransactions());
+				if (authTxnPage.getNextCursor() != null) {
+					autnTxnResponseDto.setNextCursor(authTxnPage.getNextCursor());
+				}
+			}
 			autnTxnResponseDto.setResponse(authTxnMap);
 			autnTxnResponseDto.setResponseTime(getResponseTime());
 			
@@ -133,6 +156,79 @@ public class InternalAuthTxnController {
 
 	}
 
+	/**
+	 * To stream all the Auth Transactions of the Individual as newline delimited
+	 * JSON, one transaction per line, reading them from the database as they are
+	 * written. The errors found before the streaming are returned in the JSON
+	 * response as in {@link #getAuthTxnDetails}, if the request accepts JSON,
+	 * and are signed by the filter as usual. The streamed lines are written as
+	 * they are produced and are not signed; the clients that need a signed
+	 * response use {@link #getAuthTxnDetails} instead.
+	 *
+	 * @param individualIdType the individual id type
+	 * @param individualId     the individual id
+	 * @param response         the response
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 * @throws IDDataValidationException    the ID data validation exception
+	 * @throws IOException                  Signals that an I/O exception has
+	 *                                      occurred.
+	 */
+	@PreAuthorize("hasAnyRole('RESIDENT')")
+	@ApiOperation(value = "Auth Transaction Stream Request", response = IdAuthenticationAppException.class)
+	@GetMapping(path = "/authTransactions/individualIdType/{IDType}/individualId/{ID}", produces = IdAuthCommonConstants.NDJSON_MEDIA_TYPE)
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "Request authenticated successfully"),
+			@ApiResponse(code = 400, message = "No Records Found") })
+	public void streamAuthTxnDetails(@PathVariable("IDType") String individualIdType,
+			@PathVariable("ID") String individualId, HttpServletResponse response)
+			throws IdAuthenticationAppException, IDDataValidationException, IOException {
+		AutnTxnRequestDto authtxnrequestdto = new AutnTxnRequestDto();
+		authtxnrequestdto.setIndividualId(individualId);
+		authtxnrequestdto.setIndividualIdType(individualIdType);
+
+		try {
+			Errors errors = new BindException(authtxnrequestdto, "authtxnrequestdto");
+			authTxnValidator.validate(authtxnrequestdto, errors);
+			DataValidationUtil.validate(errors);
+			response.setContentType(IdAuthCommonConstants.NDJSON_MEDIA_TYPE);
+			OutputStream out = response.getOutputStream();
+			authTxnService.streamAuthTxnDetails(authtxnrequestdto, autnTxnDto -> writeLine(out, autnTxnDto));
+			out.flush();
+
+			auditHelper.audit(AuditModules.AUTH_TRANSACTION_HISTORY, AuditEvents.RETRIEVE_AUTH_TRANSACTION_HISTORY_REQUEST_RESPONSE, authtxnrequestdto.getIndividualId(),
+					IdType.getIDTypeOrDefault(authtxnrequestdto.getIndividualIdType()), "auth transaction history status : " + true );
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} catch (IDDataValidationException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), AUTH_TXN_DETAILS,
+					e.getErrorText());
+
+			auditHelper.audit(AuditModules.AUTH_TRANSACTION_HISTORY, AuditEvents.RETRIEVE_AUTH_TRANSACTION_HISTORY_REQUEST_RESPONSE, authtxnrequestdto.getIndividualId(),
+					IdType.getIDTypeOrDefault(authtxnrequestdto.getIndividualIdType()), e );
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.DATA_VALIDATION_FAILED, e);
+		} catch (IdAuthenticationBusinessException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, e.getClass().toString(), e.getErrorCode(), e.getErrorText());
+
+			auditHelper.audit(AuditModules.AUTH_TRANSACTION_HISTORY, AuditEvents.RETRIEVE_AUTH_TRANSACTION_HISTORY_REQUEST_RESPONSE, authtxnrequestdto.getIndividualId(),
+					IdType.getIDTypeOrDefault(authtxnrequestdto.getIndividualIdType()), e );
+			throw new IdAuthenticationAppException(e.getErrorCode(), e.getErrorText(), e);
+		}
+	}
+
+	/**
+	 * Writes the auth transaction as a line of JSON.
+	 *
+	 * @param out        the output stream
+	 * @param autnTxnDto the auth transaction
+	 */
+	private void writeLine(OutputStream out, AutnTxnDto autnTxnDto) {
+		try {
+			out.write(mapper.writeValueAsBytes(autnTxnDto));
+			out.write('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	private String getResponseTime() {
 		return DateUtils.formatDate(
 				DateUtils.parseToDate(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()),
@@ -108,12 +108,12 @@ public class InternalAuthTransactionTest {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, 10);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, 10, null);
 	}
 
 	@Test
@@ -122,12 +122,12 @@ public class InternalAuthTransactionTest {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, null);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, null, null);
 	}
 
 	@Test
@@ -136,23 +136,23 @@ public class InternalAuthTransactionTest {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null, null);
 	}
 
 	@Test
 	public void TestIdrepoListisNull() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null, null);
 	}
 
 	@Test
@@ -160,11 +160,11 @@ public class InternalAuthTransactionTest {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
 		value.put("invalid", "invalidvalue");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null, null);
 	}
 
 	@Test
@@ -172,28 +172,28 @@ public class InternalAuthTransactionTest {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(true);
 		Map<String, Object> value = new HashMap<>();
 		value.put("uin", "9172985031");
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(value);
 		List<AutnTxn> valueList = getAuthTxnList();
 		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyLong())).thenReturn("1234");
 		Mockito.when(authtxnRepo.findByToken(Mockito.anyString(), Mockito.any())).thenReturn(valueList);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", null, null, null);
 	}
 
 	@Test(expected = IdAuthenticationAppException.class)
 	public void TestIdAppException() throws IDDataValidationException, IdAuthenticationAppException {
 		Mockito.when(uinValidator.validateId(Mockito.anyString())).thenReturn(false);
-		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "", 1, 10);
+		internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "", 1, 10, null);
 	}
 
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void TestBusinessException() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
-		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean()))
+		Mockito.when(idService.processIdType(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
 				.thenThrow(new IdAuthenticationBusinessException(
 						IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
 						IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage()));
 		try {
-			internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, 10);
+			internalAuthTxnController.getAuthTxnDetails(IdType.UIN.getType(), "9172985031", 1, 10, null);
 		} catch (IdAuthenticationAppException e) {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE, e);
 		}
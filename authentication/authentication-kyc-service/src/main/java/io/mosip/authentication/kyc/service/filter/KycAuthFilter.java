@@ -14,7 +14,8 @@ import io.mosip.authentication.common.service.filter.IdAuthFilter;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
-import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.PolicyAuthType;
 
 /**
  * The Class KycAuthFilter - used to authenticate the request and manipulate
@@ -25,9 +26,6 @@ import io.mosip.authentication.core.partner.dto.AuthPolicy;
 @Component
 public class KycAuthFilter extends IdAuthFilter {
 
-	/** The Constant KYC. */
-	private static final String KYC = "kyc";
-
 	/** The Constant IDENTITY. */
 	private static final String IDENTITY = "identity";
 
@@ -54,6 +52,16 @@ public class KycAuthFilter extends IdAuthFilter {
 		}
 	}
 
+	/**
+	 * The KYC response is built and enciphered on the response map.
+	 *
+	 * @return true
+	 */
+	@Override
+	protected boolean isResponseMapped() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -128,17 +136,17 @@ public class KycAuthFilter extends IdAuthFilter {
 	 * (non-Javadoc)
 	 * 
 	 * @see io.mosip.authentication.service.filter.IdAuthFilter#
-	 * checkAllowedAuthTypeBasedOnPolicy(java.util.Map, java.util.List)
+	 * checkAllowedAuthTypeBasedOnPolicy(java.util.Map, io.mosip.authentication.core.partner.policy.PolicyEvaluator)
 	 */
 	@Override
-	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
+	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, PolicyEvaluator policyEvaluator)
 			throws IdAuthenticationAppException {
-		if (!isAllowedAuthType(KYC, authPolicies)) {
+		if (!policyEvaluator.isAllowed(PolicyAuthType.KYC)) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNAUTHORISED_PARTNER.getErrorCode(),
 					IdAuthenticationErrorConstants.UNAUTHORISED_PARTNER.getErrorMessage());
 
 		}
-		super.checkAllowedAuthTypeBasedOnPolicy(requestBody, authPolicies);
+		super.checkAllowedAuthTypeBasedOnPolicy(requestBody, policyEvaluator);
 	}
 
 }
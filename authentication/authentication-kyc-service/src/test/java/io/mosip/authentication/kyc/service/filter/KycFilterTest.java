@@ -40,6 +40,7 @@ import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
 import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
 @RunWith(SpringRunner.class)
 @WebMvcTest
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
@@ -238,7 +239,7 @@ public class KycFilterTest {
 		authPolicy.setAuthType("demo");
 		authPolicy.setMandatory(true);
 		try {
-			ReflectionTestUtils.invokeMethod(kycAuthFilter, "checkAllowedAuthTypeBasedOnPolicy", new HashMap<>(), Collections.singletonList(authPolicy));
+			ReflectionTestUtils.invokeMethod(kycAuthFilter, "checkAllowedAuthTypeBasedOnPolicy", new HashMap<>(), PolicyEvaluator.compile(Collections.singletonList(authPolicy), null));
 		} catch (UndeclaredThrowableException e) {
 			String detailMessage = e.getUndeclaredThrowable().getMessage();
 			String[] error = detailMessage.split("-->");
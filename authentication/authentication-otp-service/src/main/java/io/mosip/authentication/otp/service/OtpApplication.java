@@ -8,13 +8,20 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import io.mosip.authentication.common.service.builder.MatchInputBuilder;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.common.service.config.RequestBodyResolverConfig;
 import io.mosip.authentication.common.service.config.SwaggerConfig;
 import io.mosip.authentication.common.service.exception.IdAuthExceptionHandler;
 import io.mosip.authentication.common.service.facade.AuthFacadeImpl;
 import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.AuthTransactionWriter;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.IdentityCache;
+import io.mosip.authentication.common.service.helper.IdentityCacheDataEncoder;
+import io.mosip.authentication.common.service.helper.LocalOtpGenerator;
+import io.mosip.authentication.common.service.helper.OtpFloodLimiter;
+import io.mosip.authentication.common.service.helper.UinSaltTable;
 import io.mosip.authentication.common.service.helper.RestHelperImpl;
 import io.mosip.authentication.common.service.impl.AuthtypeStatusImpl;
 import io.mosip.authentication.common.service.impl.BioAuthServiceImpl;
@@ -25,6 +32,9 @@ import io.mosip.authentication.common.service.impl.OTPAuthServiceImpl;
 import io.mosip.authentication.common.service.impl.OTPServiceImpl;
 import io.mosip.authentication.common.service.impl.PinAuthServiceImpl;
 import io.mosip.authentication.common.service.impl.match.DemoNormalizerImpl;
+import io.mosip.authentication.common.service.impl.match.DerivedDemoAttributes;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutbox;
+import io.mosip.authentication.common.service.impl.notification.NotificationOutboxWorker;
 import io.mosip.authentication.common.service.impl.notification.NotificationServiceImpl;
 import io.mosip.authentication.common.service.impl.patrner.PartnerServiceImpl;
 import io.mosip.authentication.common.service.integration.IdRepoManager;
@@ -63,15 +73,15 @@ import io.mosip.kernel.zkcryptoservice.service.impl.ZKCryptoManagerServiceImpl;
  * @author Dinesh Karuppiah
  */
 @SpringBootApplication(exclude = HibernateDaoConfig.class)
-@Import(value = { UinValidatorImpl.class, VidValidatorImpl.class, IDAMappingConfig.class, KeyManager.class,
-		RestHelperImpl.class, RestRequestFactory.class, IdInfoFetcherImpl.class, OTPManager.class,
+@Import(value = { UinValidatorImpl.class, VidValidatorImpl.class, IDAMappingConfig.class, RequestBodyResolverConfig.class, KeyManager.class,
+		RestHelperImpl.class, RestRequestFactory.class, IdInfoFetcherImpl.class, OTPManager.class, LocalOtpGenerator.class,
 		MasterDataManager.class, MatchInputBuilder.class, IdRepoManager.class, NotificationManager.class,
-		NotificationServiceImpl.class, IdTemplateManager.class, TemplateManagerBuilderImpl.class,
+		NotificationServiceImpl.class, NotificationOutbox.class, NotificationOutboxWorker.class, IdTemplateManager.class, TemplateManagerBuilderImpl.class,
 		IdAuthExceptionHandler.class, AuthFacadeImpl.class, OTPAuthServiceImpl.class, IdInfoHelper.class,
-		CbeffImpl.class, IdServiceImpl.class, AuditRequestFactory.class, DemoAuthServiceImpl.class,
+		CbeffImpl.class, IdServiceImpl.class, IdentityCache.class, IdentityCacheDataEncoder.class, UinSaltTable.class, AuthTransactionWriter.class, AuditRequestFactory.class, DemoAuthServiceImpl.class,
 		BioAuthServiceImpl.class, TokenIdManager.class, SwaggerConfig.class, AuditHelper.class,
-		PinAuthServiceImpl.class, IdAuthExceptionHandler.class, AuthRequestValidator.class, PinValidatorImpl.class, DemoNormalizerImpl.class,
-		OTPServiceImpl.class, OTPRequestValidator.class, IdAuthSecurityManager.class,
+		PinAuthServiceImpl.class, IdAuthExceptionHandler.class, AuthRequestValidator.class, PinValidatorImpl.class, DemoNormalizerImpl.class, DerivedDemoAttributes.class,
+		OTPServiceImpl.class, OtpFloodLimiter.class, OTPRequestValidator.class, IdAuthSecurityManager.class,
 		AuthtypeStatusImpl.class, CryptoCore.class, PartnerServiceImpl.class, CryptomanagerServiceImpl.class,
 		KeyGenerator.class, CryptomanagerUtils.class, KeymanagerServiceImpl.class, KeymanagerUtil.class,
 	  TokenIDGeneratorServiceImpl.class,TokenIDGenerator.class,PartnerServiceManager.class, 
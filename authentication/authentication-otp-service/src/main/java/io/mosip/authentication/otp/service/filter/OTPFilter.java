@@ -13,7 +13,8 @@ import org.springframework.stereotype.Component;
 import io.mosip.authentication.common.service.filter.IdAuthFilter;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
-import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator;
+import io.mosip.authentication.core.partner.policy.PolicyEvaluator.PolicyAuthType;
 
 /**
  * The Class OTPFilter.
@@ -23,16 +24,13 @@ import io.mosip.authentication.core.partner.dto.AuthPolicy;
 @Component
 public class OTPFilter extends IdAuthFilter {
 
-	/** The Constant OTP_REQUEST. */
-	private static final String OTP_REQUEST = "otp-request";
-
 	/* (non-Javadoc)
-	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#checkAllowedAuthTypeBasedOnPolicy(java.util.Map, java.util.List)
+	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#checkAllowedAuthTypeBasedOnPolicy(java.util.Map, io.mosip.authentication.core.partner.policy.PolicyEvaluator)
 	 */
 	@Override
-	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
+	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, PolicyEvaluator policyEvaluator)
 			throws IdAuthenticationAppException {
-		if (!isAllowedAuthType(OTP_REQUEST, authPolicies)) {
+		if (!policyEvaluator.isAllowed(PolicyAuthType.OTP_REQUEST)) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.OTPREQUEST_NOT_ALLOWED);
 		}
 	}
@@ -61,11 +59,11 @@ public class OTPFilter extends IdAuthFilter {
 	}
 
 	/* (non-Javadoc)
-	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#checkMandatoryAuthTypeBasedOnPolicy(java.util.Map, java.util.List)
+	 * @see io.mosip.authentication.common.service.filter.IdAuthFilter#checkMandatoryAuthTypeBasedOnPolicy(java.util.Map, io.mosip.authentication.core.partner.policy.PolicyEvaluator)
 	 */
 	@Override
 	protected void checkMandatoryAuthTypeBasedOnPolicy(Map<String, Object> requestBody,
-			List<AuthPolicy> mandatoryAuthPolicies) throws IdAuthenticationAppException {
+			PolicyEvaluator policyEvaluator) throws IdAuthenticationAppException {
 		// Nothing to do
 	}
 	
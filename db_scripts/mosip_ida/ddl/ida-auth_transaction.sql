@@ -9,6 +9,10 @@
 -- Modified Date        Modified By         Comments / Remarks
 -- ------------------------------------------------------------------------------------------
 -- Sep-2020             Sadanandegowda DM   Removed uin and uin_hash attribute and added token_id
+-- Oct-2026             Loganathan Sekar    Partitioned by month on cr_dtimes, added token_id and request_trn_id indexes.
+--                                          The monthly partitions are created by ida.create_auth_transaction_partitions
+--                                          (ida-auth_transaction_partition.sql). Requires PostgreSQL 11 or later.
+-- Oct-2026             Loganathan Sekar    Added token_id, cr_dtimes, id index for the keyset pagination of auth history.
 -- ------------------------------------------------------------------------------------------
 
 -- object: ida.auth_transaction | type: TABLE --
@@ -35,9 +39,29 @@ CREATE TABLE ida.auth_transaction(
 	upd_dtimes timestamp,
 	is_deleted boolean,
 	del_dtimes timestamp,
-	CONSTRAINT pk_authtrn_id PRIMARY KEY (id)
+	CONSTRAINT pk_authtrn_id PRIMARY KEY (id,cr_dtimes)
 
-);
+) PARTITION BY RANGE (cr_dtimes);
+-- ddl-end --
+
+-- object: ida.auth_transaction_default | type: TABLE --
+-- DROP TABLE IF EXISTS ida.auth_transaction_default CASCADE;
+CREATE TABLE ida.auth_transaction_default PARTITION OF ida.auth_transaction DEFAULT;
+-- ddl-end --
+
+-- object: ida.idx_authtrn_token_reqdtimes | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_authtrn_token_reqdtimes CASCADE;
+CREATE INDEX idx_authtrn_token_reqdtimes ON ida.auth_transaction USING btree (token_id,request_dtimes);
+-- ddl-end --
+
+-- object: ida.idx_authtrn_reqtrnid_authtype | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_authtrn_reqtrnid_authtype CASCADE;
+CREATE INDEX idx_authtrn_reqtrnid_authtype ON ida.auth_transaction USING btree (request_trn_id,auth_type_code);
+-- ddl-end --
+
+-- object: ida.idx_authtrn_token_crdtimes_id | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_authtrn_token_crdtimes_id CASCADE;
+CREATE INDEX idx_authtrn_token_crdtimes_id ON ida.auth_transaction USING btree (token_id,cr_dtimes,id);
 -- ddl-end --
 COMMENT ON TABLE ida.auth_transaction IS 'Authentication Transaction : To track all authentication transactions steps / stages in the process flow.';
 -- ddl-end --
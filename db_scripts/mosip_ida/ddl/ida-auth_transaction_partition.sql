@@ -0,0 +1,101 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Function Name : ida.create_auth_transaction_partitions, ida.drop_auth_transaction_partitions
+-- Purpose    	: Auth Transaction Partitions : To create the monthly partitions of ida.auth_transaction ahead of time
+--                and to detach or drop the partitions past the retention period.
+--
+-- Create By   	: Loganathan Sekar
+-- Created Date	: Oct-2026
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+--
+-- ------------------------------------------------------------------------------------------
+
+-- object: ida.create_auth_transaction_partitions | type: FUNCTION --
+-- DROP FUNCTION IF EXISTS ida.create_auth_transaction_partitions(integer) CASCADE;
+CREATE OR REPLACE FUNCTION ida.create_auth_transaction_partitions(p_months_ahead integer)
+	RETURNS integer
+	LANGUAGE plpgsql
+	SECURITY DEFINER
+	SET search_path = ida, pg_catalog
+AS $$
+DECLARE
+	v_month date := date_trunc('month', now() AT TIME ZONE 'UTC')::date;
+	v_last_month date := (date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => p_months_ahead))::date;
+	v_next_month date;
+	v_partition text;
+	v_created integer := 0;
+BEGIN
+	-- Partitions are created by one instance at a time
+	IF NOT pg_try_advisory_xact_lock(hashtext('ida.auth_transaction_partitions')) THEN
+		RETURN 0;
+	END IF;
+	WHILE v_month <= v_last_month LOOP
+		v_next_month := (v_month + interval '1 month')::date;
+		v_partition := 'auth_transaction_p' || to_char(v_month, 'YYYYMM');
+		IF to_regclass('ida.' || v_partition) IS NULL THEN
+			-- The rows of the month written to the default partition are moved to the new partition
+			EXECUTE format('CREATE TABLE ida.%I (LIKE ida.auth_transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_partition);
+			EXECUTE format('WITH moved AS (DELETE FROM ida.auth_transaction_default WHERE cr_dtimes >= %L AND cr_dtimes < %L RETURNING *) '
+				|| 'INSERT INTO ida.%I SELECT * FROM moved', v_month, v_next_month, v_partition);
+			EXECUTE format('ALTER TABLE ida.auth_transaction ATTACH PARTITION ida.%I FOR VALUES FROM (%L) TO (%L)',
+				v_partition, v_month, v_next_month);
+			v_created := v_created + 1;
+		END IF;
+		v_month := v_next_month;
+	END LOOP;
+	RETURN v_created;
+END;
+$$;
+-- ddl-end --
+COMMENT ON FUNCTION ida.create_auth_transaction_partitions(integer) IS 'Create Auth Transaction Partitions : Creates the monthly partitions of auth_transaction from the current month to the given number of months ahead, moving the rows of the month from the default partition. Returns the number of partitions created.';
+-- ddl-end --
+
+-- object: ida.drop_auth_transaction_partitions | type: FUNCTION --
+-- DROP FUNCTION IF EXISTS ida.drop_auth_transaction_partitions(timestamp,boolean) CASCADE;
+CREATE OR REPLACE FUNCTION ida.drop_auth_transaction_partitions(p_before timestamp, p_detach_only boolean)
+	RETURNS integer
+	LANGUAGE plpgsql
+	SECURITY DEFINER
+	SET search_path = ida, pg_catalog
+AS $$
+DECLARE
+	v_partition text;
+	v_removed integer := 0;
+BEGIN
+	IF NOT pg_try_advisory_xact_lock(hashtext('ida.auth_transaction_partitions')) THEN
+		RETURN 0;
+	END IF;
+	FOR v_partition IN
+		SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+		WHERE i.inhparent = 'ida.auth_transaction'::regclass AND c.relname ~ '^auth_transaction_p[0-9]{6}$'
+		ORDER BY c.relname
+	LOOP
+		-- Only the partitions with all of their month before the given time are removed
+		IF to_date(right(v_partition, 6), 'YYYYMM') + interval '1 month' <= p_before THEN
+			EXECUTE format('ALTER TABLE ida.auth_transaction DETACH PARTITION ida.%I', v_partition);
+			IF NOT p_detach_only THEN
+				EXECUTE format('DROP TABLE ida.%I', v_partition);
+			END IF;
+			v_removed := v_removed + 1;
+		END IF;
+	END LOOP;
+	RETURN v_removed;
+END;
+$$;
+-- ddl-end --
+COMMENT ON FUNCTION ida.drop_auth_transaction_partitions(timestamp,boolean) IS 'Drop Auth Transaction Partitions : Detaches the monthly partitions of auth_transaction ending on or before the given time, and drops them unless detach only is requested. Returns the number of partitions removed.';
+-- ddl-end --
+
+REVOKE ALL ON FUNCTION ida.create_auth_transaction_partitions(integer) FROM PUBLIC;
+GRANT EXECUTE ON FUNCTION ida.create_auth_transaction_partitions(integer) TO idauser;
+REVOKE ALL ON FUNCTION ida.drop_auth_transaction_partitions(timestamp,boolean) FROM PUBLIC;
+GRANT EXECUTE ON FUNCTION ida.drop_auth_transaction_partitions(timestamp,boolean) TO idauser;
+-- ddl-end --
+
+-- The partitions of the later months are created by the partition maintenance job
+-- of the internal authentication service (ida.auth-transaction.partition-maintenance.enabled).
+-- Without it, the transactions after these months go to the default partition.
+SELECT ida.create_auth_transaction_partitions(3);
+-- ddl-end --
@@ -0,0 +1,67 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Table Name 	: ida.notification_outbox
+-- Purpose    	: Notification Outbox: SMS and email notifications of ID Authentication waiting to be delivered to the
+--                notifiers, with their delivery attempts.
+--
+-- Create By   	: Loganathan Sekar
+-- Created Date	: Oct-2026
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+--
+-- ------------------------------------------------------------------------------------------
+-- object: ida.notification_outbox | type: TABLE --
+-- DROP TABLE IF EXISTS ida.notification_outbox CASCADE;
+CREATE TABLE ida.notification_outbox(
+	id character varying(36) NOT NULL,
+	channel character varying(16) NOT NULL,
+	sender character varying(16) NOT NULL,
+	payload text,
+	status_code character varying(36) NOT NULL,
+	attempt_count smallint NOT NULL DEFAULT 0,
+	next_attempt_dtimes timestamp NOT NULL,
+	expiry_dtimes timestamp,
+	last_error character varying(1024),
+	cr_dtimes timestamp NOT NULL,
+	upd_dtimes timestamp,
+	CONSTRAINT pk_ntfout_id PRIMARY KEY (id)
+
+);
+-- ddl-end --
+-- object: idx_ntfout_pending_next_attempt | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_ntfout_pending_next_attempt CASCADE;
+CREATE INDEX idx_ntfout_pending_next_attempt ON ida.notification_outbox (next_attempt_dtimes) WHERE status_code = 'PENDING';
+-- ddl-end --
+-- object: idx_ntfout_pending_expiry | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_ntfout_pending_expiry CASCADE;
+CREATE INDEX idx_ntfout_pending_expiry ON ida.notification_outbox (expiry_dtimes) WHERE status_code = 'PENDING' AND expiry_dtimes IS NOT NULL;
+-- ddl-end --
+-- object: idx_ntfout_failed_upd | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_ntfout_failed_upd CASCADE;
+CREATE INDEX idx_ntfout_failed_upd ON ida.notification_outbox (upd_dtimes) WHERE status_code = 'FAILED';
+-- ddl-end --
+COMMENT ON TABLE ida.notification_outbox IS 'Notification Outbox: SMS and email notifications waiting to be delivered to the notifiers. The delivered notifications are deleted, and the notifications failed in all the attempts are kept with the FAILED status until they are purged after the failed retention time.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.id IS 'ID: Unique identifier (UUID) of the notification.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.channel IS 'Channel: Notification channel, SMS or EMAIL.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.sender IS 'Sender: Sender type of the notification, AUTH or OTP, which selects the templates.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.payload IS 'Payload: Phone number or email id the notification is sent to and the values of the notification templates, as JSON encrypted with the internal reference id. Cleared for the failed OTP notifications.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.status_code IS 'Status Code: PENDING until delivered or FAILED after all the delivery attempts failed.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.attempt_count IS 'Attempt Count: Number of delivery attempts made.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.next_attempt_dtimes IS 'Next Attempt DateTimestamp : Date and Timestamp (UTC) of the next delivery attempt, also the end of the lease of the attempt in progress.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.expiry_dtimes IS 'Expiry DateTimestamp : Date and Timestamp (UTC) after which the notification is deleted instead of being delivered, the OTP expiry for the OTP notifications. Null if the notification does not expire.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.last_error IS 'Last Error: Error of the last failed delivery attempt.';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+-- ddl-end --
+COMMENT ON COLUMN ida.notification_outbox.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
+-- ddl-end --
@@ -0,0 +1,35 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Table Name 	: ida.otp_request_counter
+-- Purpose    	: OTP Request Counter: Count of the OTP requests of each token in time buckets, shared by the ID Authentication
+--                instances to enforce the OTP request flooding limit across the instances.
+--
+-- Create By   	: Loganathan Sekar
+-- Created Date	: Oct-2026
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+--
+-- ------------------------------------------------------------------------------------------
+-- object: ida.otp_request_counter | type: TABLE --
+-- DROP TABLE IF EXISTS ida.otp_request_counter CASCADE;
+CREATE TABLE ida.otp_request_counter(
+	token_id character varying(128) NOT NULL,
+	bucket_dtimes timestamp NOT NULL,
+	request_count integer NOT NULL,
+	CONSTRAINT pk_otpreqcnt_id PRIMARY KEY (token_id,bucket_dtimes)
+
+);
+-- ddl-end --
+-- object: idx_otpreqcnt_bucket_dtimes | type: INDEX --
+-- DROP INDEX IF EXISTS ida.idx_otpreqcnt_bucket_dtimes CASCADE;
+CREATE INDEX idx_otpreqcnt_bucket_dtimes ON ida.otp_request_counter (bucket_dtimes);
+-- ddl-end --
+COMMENT ON TABLE ida.otp_request_counter IS 'OTP Request Counter: Count of the OTP requests of each token in time buckets, used to check the OTP request flooding across the ID Authentication instances. The buckets older than the flooding duration are deleted periodically.';
+-- ddl-end --
+COMMENT ON COLUMN ida.otp_request_counter.token_id IS 'Token ID : Token ID of the individual the OTP is requested for.';
+-- ddl-end --
+COMMENT ON COLUMN ida.otp_request_counter.bucket_dtimes IS 'Bucket DateTimestamp : Start of the time bucket (UTC) the OTP requests are counted in.';
+-- ddl-end --
+COMMENT ON COLUMN ida.otp_request_counter.request_count IS 'Request Count : Number of OTP requests of the token in the time bucket.';
+-- ddl-end --
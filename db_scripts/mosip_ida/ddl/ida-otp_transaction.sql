@@ -8,7 +8,7 @@
 -- 
 -- Modified Date        Modified By         Comments / Remarks
 -- ------------------------------------------------------------------------------------------
--- 
+-- Oct-2026             Loganathan Sekar    Added the unique index of the active otp_hash and ref_id.
 -- ------------------------------------------------------------------------------------------
 -- object: ida.otp_transaction | type: TABLE --
 -- DROP TABLE IF EXISTS ida.otp_transaction CASCADE;
@@ -31,6 +31,10 @@ CREATE TABLE ida.otp_transaction(
 
 );
 -- ddl-end --
+-- object: uk_otpt_active_otp_hash | type: INDEX --
+-- DROP INDEX IF EXISTS ida.uk_otpt_active_otp_hash CASCADE;
+CREATE UNIQUE INDEX uk_otpt_active_otp_hash ON ida.otp_transaction (otp_hash, ref_id) WHERE status_code = 'active';
+-- ddl-end --
 COMMENT ON TABLE ida.otp_transaction IS 'OTP Transaction: All OTP related data and validation details are maintained here for ID Authentication module.';
 -- ddl-end --
 COMMENT ON COLUMN ida.otp_transaction.id IS 'ID: Key alias id is a unique identifier (UUID) used as an alias of the encryption key stored in keystore like HSM (hardware security module).';
@@ -10,6 +10,10 @@
 \ir ddl/ida-identity_cache.sql
 \ir ddl/ida-data_encrypt_keystore.sql
 \ir ddl/ida-otp_transaction.sql
+\ir ddl/ida-otp_request_counter.sql
+\ir ddl/ida-notification_outbox.sql
 
 \ir ddl/ida-fk.sql
 
+\ir ddl/ida-auth_transaction_partition.sql
+
@@ -0,0 +1,60 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Table Name 	: ida.auth_transaction
+-- Purpose    	: Upgrade script to move the existing ida.auth_transaction table to the table partitioned by month on
+--                cr_dtimes. The existing rows are copied to the monthly partitions and the existing table is kept
+--                as ida.auth_transaction_unpartitioned until it is dropped after verification.
+--                To be run with the application stopped. Requires PostgreSQL 11 or later.
+--
+-- Create By   	: Loganathan Sekar
+-- Created Date	: Oct-2026
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+--
+-- ------------------------------------------------------------------------------------------
+
+\c mosip_ida sysadmin
+
+BEGIN;
+
+ALTER TABLE ida.auth_transaction RENAME TO auth_transaction_unpartitioned;
+ALTER TABLE ida.auth_transaction_unpartitioned RENAME CONSTRAINT pk_authtrn_id TO pk_authtrn_unpartitioned_id;
+
+\ir ../ddl/ida-auth_transaction.sql
+\ir ../ddl/ida-auth_transaction_partition.sql
+
+-- Partitions for the months of the existing rows
+DO $$
+DECLARE
+	v_month date;
+	v_partition text;
+BEGIN
+	FOR v_month IN
+		SELECT DISTINCT date_trunc('month', cr_dtimes)::date FROM ida.auth_transaction_unpartitioned
+	LOOP
+		v_partition := 'auth_transaction_p' || to_char(v_month, 'YYYYMM');
+		IF to_regclass('ida.' || v_partition) IS NULL THEN
+			EXECUTE format('CREATE TABLE ida.%I PARTITION OF ida.auth_transaction FOR VALUES FROM (%L) TO (%L)',
+				v_partition, v_month, (v_month + interval '1 month')::date);
+		END IF;
+	END LOOP;
+END;
+$$;
+
+INSERT INTO ida.auth_transaction SELECT * FROM ida.auth_transaction_unpartitioned;
+
+GRANT SELECT,INSERT,UPDATE,DELETE,TRUNCATE,REFERENCES
+   ON ALL TABLES IN SCHEMA ida
+   TO idauser;
+
+GRANT SELECT,INSERT,UPDATE,DELETE,TRUNCATE,REFERENCES
+   ON ALL TABLES IN SCHEMA ida
+   TO appadmin;
+
+COMMIT;
+
+ANALYZE ida.auth_transaction;
+
+-- After verifying the row counts of ida.auth_transaction and ida.auth_transaction_unpartitioned:
+-- DROP TABLE ida.auth_transaction_unpartitioned;
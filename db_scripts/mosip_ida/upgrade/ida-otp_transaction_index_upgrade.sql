@@ -0,0 +1,26 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Table Name 	: ida.otp_transaction
+-- Purpose    	: Upgrade script to add the unique index of the active otp_hash and ref_id of
+--                ida.otp_transaction. The existing rows are not changed. The index cannot be created,
+--                and the script is rolled back, if an OTP hash is active more than once for a ref_id,
+--                which the following query lists:
+--                SELECT otp_hash, ref_id, count(*) FROM ida.otp_transaction WHERE status_code = 'active'
+--                GROUP BY otp_hash, ref_id HAVING count(*) > 1;
+--                To be run with the application stopped.
+--
+-- Create By   	: Loganathan Sekar
+-- Created Date	: Oct-2026
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+--
+-- ------------------------------------------------------------------------------------------
+
+\c mosip_ida sysadmin
+
+BEGIN;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_otpt_active_otp_hash ON ida.otp_transaction (otp_hash, ref_id) WHERE status_code = 'active';
+
+COMMIT;